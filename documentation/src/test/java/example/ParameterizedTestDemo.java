@@ -34,6 +34,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.EnumSet;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -62,8 +63,10 @@ import org.junit.jupiter.params.converter.JavaTimeConversionPattern;
 import org.junit.jupiter.params.converter.SimpleArgumentConverter;
 import org.junit.jupiter.params.converter.TypedArgumentConverter;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsDimension;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
+import org.junit.jupiter.params.provider.CartesianProductSource;
 import org.junit.jupiter.params.provider.CsvFileSource;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.EmptySource;
@@ -72,6 +75,7 @@ import org.junit.jupiter.params.provider.FieldSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.PairwiseSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.junit.jupiter.params.support.ParameterDeclarations;
 
@@ -349,6 +353,36 @@ class ParameterizedTestDemo {
 	}
 	// end::CsvFileSource_example[]
 
+	// @formatter:off
+	// tag::CartesianProductSource_example[]
+	@ParameterizedTest
+	@CartesianProductSource({
+		@ArgumentsDimension(ints = { 1, 2, 3 }),
+		@ArgumentsDimension(enums = TimeUnit.class)
+	})
+	void testWithCartesianProductSource(int amount, TimeUnit unit) {
+		assertTrue(unit.toNanos(amount) > 0);
+	}
+	// end::CartesianProductSource_example[]
+	// @formatter:on
+
+	// @formatter:off
+	// tag::PairwiseSource_example[]
+	@ParameterizedTest
+	@PairwiseSource({
+		@ArgumentsDimension(strings = { "chrome", "firefox", "safari" }),
+		@ArgumentsDimension(strings = { "linux", "macos", "windows" }),
+		@ArgumentsDimension(ints = { 1024, 1920, 2560 }),
+		@ArgumentsDimension(booleans = { true, false })
+	})
+	void testWithPairwiseSource(String browser, String os, int width, boolean darkMode) {
+		assertNotNull(browser);
+		assertNotNull(os);
+		assertTrue(width > 0);
+	}
+	// end::PairwiseSource_example[]
+	// @formatter:on
+
 	// tag::ArgumentsSource_example[]
 	@ParameterizedTest
 	@ArgumentsSource(MyArgumentsProvider.class)
@@ -14,6 +14,7 @@ import static org.junit.jupiter.api.extension.ConditionEvaluationResult.enabled;
 import static org.junit.platform.commons.support.AnnotationSupport.findAnnotation;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
 
 import org.junit.jupiter.api.extension.ConditionEvaluationResult;
 import org.junit.jupiter.api.extension.ExecutionCondition;
@@ -42,6 +43,15 @@ abstract class AbstractOsBasedExecutionCondition<A extends Annotation> implement
 				.orElseGet(this::enabledByDefault);
 	}
 
+	/**
+	 * The result depends only on annotations present on the supplied element
+	 * and on the current operating system and architecture.
+	 */
+	@Override
+	public final boolean isInvariantFor(AnnotatedElement element) {
+		return true;
+	}
+
 	abstract ConditionEvaluationResult evaluateExecutionCondition(A annotation);
 
 	String createReason(boolean enabled, boolean osSpecified, boolean archSpecified) {
@@ -60,6 +60,16 @@ abstract class AbstractRepeatableAnnotationCondition<A extends Annotation> imple
 		return getNoDisabledConditionsEncounteredResult();
 	}
 
+	/**
+	 * The result depends only on annotations present on the supplied element
+	 * and on system properties or environment variables, which are not
+	 * expected to change during a test run.
+	 */
+	@Override
+	public final boolean isInvariantFor(AnnotatedElement element) {
+		return true;
+	}
+
 	protected abstract ConditionEvaluationResult evaluate(A annotation);
 
 	protected abstract ConditionEvaluationResult getNoDisabledConditionsEncounteredResult();
@@ -15,6 +15,7 @@ import static org.junit.jupiter.api.extension.ConditionEvaluationResult.enabled;
 import static org.junit.platform.commons.support.AnnotationSupport.findAnnotation;
 
 import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
 import java.util.function.Function;
 
 import org.junit.jupiter.api.extension.ConditionEvaluationResult;
@@ -45,6 +46,15 @@ abstract class BooleanExecutionCondition<A extends Annotation> implements Execut
 				.orElseGet(this::enabledByDefault);
 	}
 
+	/**
+	 * The result depends only on annotations present on the supplied element
+	 * and on the current runtime environment.
+	 */
+	@Override
+	public final boolean isInvariantFor(AnnotatedElement element) {
+		return true;
+	}
+
 	abstract boolean isEnabled(A annotation);
 
 	private ConditionEvaluationResult enabledByDefault() {
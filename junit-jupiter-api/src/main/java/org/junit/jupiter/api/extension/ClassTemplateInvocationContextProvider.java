@@ -12,6 +12,8 @@ package org.junit.jupiter.api.extension;
 
 import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import org.apiguardian.api.API;
@@ -117,4 +119,41 @@ public interface ClassTemplateInvocationContextProvider extends Extension {
 		return false;
 	}
 
+	/**
+	 * Provide random access to the
+	 * {@linkplain ClassTemplateInvocationContext invocation contexts} for the
+	 * class template represented by the supplied {@code context}, if
+	 * supported.
+	 *
+	 * <p>This method is only called by the framework if
+	 * {@link #supportsClassTemplate} previously returned {@code true} for the
+	 * same {@link ExtensionContext} and only specific invocations of the class
+	 * template have been selected &mdash; for example, when rerunning a single
+	 * invocation by its unique ID. If the returned {@code Optional} contains a
+	 * {@link List}, the framework only calls {@link List#get(int)} for the
+	 * indices of the selected invocations instead of calling
+	 * {@link #provideClassTemplateInvocationContexts}. The list should
+	 * therefore create the invocation context for an index only when it is
+	 * requested.
+	 *
+	 * <p>The default implementation returns an empty {@code Optional} so that
+	 * {@link #provideClassTemplateInvocationContexts} is used instead.
+	 *
+	 * @param context the extension context for the class template about to be
+	 * invoked; never {@code null}
+	 * @return an {@code Optional} containing a {@code List} of the same
+	 * {@code ClassTemplateInvocationContext} instances in the same order as the
+	 * {@code Stream} returned by {@link #provideClassTemplateInvocationContexts};
+	 * never {@code null}
+	 * @throws TemplateInvocationValidationException if a validation fails
+	 * while providing the {@link List}
+	 * @since 6.0
+	 * @see #provideClassTemplateInvocationContexts
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	default Optional<List<ClassTemplateInvocationContext>> provideRandomAccessClassTemplateInvocationContexts(
+			ExtensionContext context) {
+		return Optional.empty();
+	}
+
 }
@@ -10,8 +10,11 @@
 
 package org.junit.jupiter.api.extension;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
+import java.lang.reflect.AnnotatedElement;
+
 import org.apiguardian.api.API;
 
 /**
@@ -31,6 +34,15 @@ import org.apiguardian.api.API;
  * the execution of class-level lifecycle callbacks such as {@code @BeforeAll}
  * methods, {@code @AfterAll} methods, and corresponding extension APIs.
  *
+ * <h2>Invariant Conditions</h2>
+ *
+ * <p>A condition whose result depends solely on the {@link AnnotatedElement}
+ * of the supplied {@link ExtensionContext} and on state that does not change
+ * during a test run may declare itself {@linkplain #isInvariantFor invariant}.
+ * The result of an invariant condition may then be reused for subsequent
+ * evaluations for the same element &mdash; for example, for each invocation of
+ * a {@link org.junit.jupiter.api.TestTemplate @TestTemplate} method.
+ *
  * <h2>Constructor Requirements</h2>
  *
  * <p>Consult the documentation in {@link Extension} for details on
@@ -70,4 +82,35 @@ public interface ExecutionCondition extends Extension {
 	 */
 	ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context);
 
+	/**
+	 * Determine if the result of this condition is <em>invariant</em> for the
+	 * supplied {@link AnnotatedElement}.
+	 *
+	 * <p>If this method returns {@code true}, the engine may evaluate this
+	 * condition only once for the supplied element and reuse the result for
+	 * all subsequent evaluations for the same element during the current test
+	 * run. Conditions whose result depends on other state of the
+	 * {@link ExtensionContext} &mdash; for example, the test instance or
+	 * configuration parameters &mdash; or on state that is expected to change
+	 * during a test run must not declare themselves invariant.
+	 *
+	 * <p>Since a subclass that overrides
+	 * {@link #evaluateExecutionCondition(ExtensionContext)} may break this
+	 * contract, conditions that declare themselves invariant should either
+	 * be {@code final} or declare this method {@code final} and require
+	 * subclasses to only depend on the supplied element.
+	 *
+	 * <p>The default implementation returns {@code false}.
+	 *
+	 * @param element the element that the condition is evaluated for; never
+	 * {@code null}
+	 * @return {@code true} if the result of this condition may be reused for
+	 * the supplied element
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	default boolean isInvariantFor(AnnotatedElement element) {
+		return false;
+	}
+
 }
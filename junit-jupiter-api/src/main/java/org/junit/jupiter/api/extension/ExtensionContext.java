@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 import org.apiguardian.api.API;
@@ -35,6 +36,7 @@ import org.junit.jupiter.api.parallel.ExecutionMode;
 import org.junit.platform.commons.PreconditionViolationException;
 import org.junit.platform.commons.support.ReflectionSupport;
 import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.commons.util.UnrecoverableExceptions;
 
 /**
  * {@code ExtensionContext} encapsulates the <em>context</em> in which the
@@ -519,6 +521,51 @@ public interface ExtensionContext {
 
 		}
 
+		/**
+		 * {@code AutoCloseable} resource that does not depend on other
+		 * resources stored in the same {@link Store Store} and may therefore
+		 * be closed concurrently with them when the enclosing store is closed.
+		 *
+		 * <p>By default, each {@code IndependentlyCloseable} forms its own
+		 * close group. Resources that depend on each other may share a close
+		 * group by returning the same object from {@link #getCloseGroup()};
+		 * resources within the same group are closed sequentially in the
+		 * inverse order they were added in, while different groups are closed
+		 * concurrently.
+		 *
+		 * <p>Stored values that do not implement this interface are closed
+		 * sequentially as before: they are closed only after all values that
+		 * were added after them have been closed and before any value that was
+		 * added before them is closed.
+		 *
+		 * <p>Note that this interface is only honored if closing of stored
+		 * {@code AutoCloseable} values is enabled via the
+		 * {@code junit.jupiter.extensions.store.close.autocloseable.enabled}
+		 * configuration parameter, which is the default.
+		 *
+		 * @since 6.0
+		 */
+		@API(status = EXPERIMENTAL, since = "6.0")
+		interface IndependentlyCloseable extends AutoCloseable {
+
+			/**
+			 * Get the close group of this resource.
+			 *
+			 * <p>Resources whose close groups are {@linkplain Object#equals
+			 * equal} are closed sequentially; resources of different close
+			 * groups may be closed concurrently.
+			 *
+			 * <p>Defaults to this resource itself so that it may be closed
+			 * concurrently with all other independent resources.
+			 *
+			 * @return the close group; never {@code null}
+			 */
+			default Object getCloseGroup() {
+				return this;
+			}
+
+		}
+
 		/**
 		 * Get the value that is stored under the supplied {@code key}.
 		 *
@@ -685,6 +732,69 @@ public interface ExtensionContext {
 		<K, V extends @Nullable Object> @Nullable V getOrComputeIfAbsent(K key,
 				Function<? super K, ? extends V> defaultCreator, Class<V> requiredType);
 
+		/**
+		 * Get the value of the specified required type that is stored under the
+		 * supplied {@code key}, or asynchronously compute it in the background.
+		 *
+		 * <p>If no value is stored in the current {@link ExtensionContext}
+		 * for the supplied {@code key}, ancestors of the context will be queried
+		 * for a value with the same {@code key} in the {@code Namespace} used
+		 * to create this store. If no value is found for the supplied {@code key},
+		 * a future that will be completed with the value computed by the
+		 * {@code defaultCreator} (given the {@code key} as input) in a separate
+		 * thread is stored and returned. Subsequent calls for the same
+		 * {@code key} return the same future, so the {@code defaultCreator} is
+		 * called at most once; callers only block when they
+		 * {@linkplain CompletableFuture#join() join} the future before the
+		 * computation has finished.
+		 *
+		 * <p>Values may also be computed asynchronously via the
+		 * {@code NamespacedHierarchicalStore} of a {@code LauncherSession}, for
+		 * example, to start warming up expensive resources as soon as the
+		 * session is opened; such values are accessible via a store with the
+		 * {@link StoreScope#LAUNCHER_SESSION LAUNCHER_SESSION} scope. If a
+		 * value that is not a {@link CompletableFuture} is already stored for
+		 * the supplied {@code key}, a completed future holding that value is
+		 * returned. If the value cannot be cast to the required type, the
+		 * returned future is completed exceptionally.
+		 *
+		 * <p>If the computed value is an instance of {@link AutoCloseable}
+		 * (unless the
+		 * {@code junit.jupiter.extensions.store.close.autocloseable.enabled}
+		 * configuration parameter is set to {@code false}), then its
+		 * {@code close()} method will be invoked when the store is closed. If
+		 * the computation has not finished by then, it is cancelled and the
+		 * value is closed as soon as it has been computed. Once computed, the
+		 * value is also returned by {@link #get(Object)} and
+		 * {@link #getOrComputeIfAbsent(Object, Function)}.
+		 *
+		 * <p>The default implementation computes the value synchronously via
+		 * {@link #getOrComputeIfAbsent(Object, Function, Class)} and returns a
+		 * future that is already completed with it or, if that fails,
+		 * completed exceptionally with the thrown exception.
+		 *
+		 * @param key the key; never {@code null}
+		 * @param defaultCreator the function called with the supplied {@code key}
+		 * to create a new value; never {@code null} but may return {@code null}
+		 * @param requiredType the required type of the value; never {@code null}
+		 * @param <K> the key type
+		 * @param <V> the value type
+		 * @return a future for the value; never {@code null}
+		 * @since 6.0
+		 * @see #getOrComputeIfAbsent(Object, Function, Class)
+		 */
+		@API(status = EXPERIMENTAL, since = "6.0")
+		default <K, V extends @Nullable Object> CompletableFuture<@Nullable V> getOrComputeIfAbsentAsync(K key,
+				Function<? super K, ? extends V> defaultCreator, Class<V> requiredType) {
+			try {
+				return CompletableFuture.completedFuture(getOrComputeIfAbsent(key, defaultCreator, requiredType));
+			}
+			catch (Throwable t) {
+				UnrecoverableExceptions.rethrowIfUnrecoverable(t);
+				return CompletableFuture.failedFuture(t);
+			}
+		}
+
 		/**
 		 * Store a {@code value} for later retrieval under the supplied {@code key}.
 		 *
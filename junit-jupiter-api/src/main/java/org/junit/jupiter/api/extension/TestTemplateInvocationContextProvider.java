@@ -10,9 +10,12 @@
 
 package org.junit.jupiter.api.extension;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 import static org.apiguardian.api.API.Status.STABLE;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.stream.Stream;
 
 import org.apiguardian.api.API;
@@ -116,4 +119,40 @@ public interface TestTemplateInvocationContextProvider extends Extension {
 		return false;
 	}
 
+	/**
+	 * Provide random access to the
+	 * {@linkplain TestTemplateInvocationContext invocation contexts} for the
+	 * test template method represented by the supplied {@code context}, if
+	 * supported.
+	 *
+	 * <p>This method is only called by the framework if {@link #supportsTestTemplate}
+	 * previously returned {@code true} for the same {@link ExtensionContext}
+	 * and only specific invocations of the test template have been selected
+	 * &mdash; for example, when rerunning a single invocation by its unique ID.
+	 * If the returned {@code Optional} contains a {@link List}, the framework
+	 * only calls {@link List#get(int)} for the indices of the selected
+	 * invocations instead of calling {@link #provideTestTemplateInvocationContexts}.
+	 * The list should therefore create the invocation context for an index
+	 * only when it is requested.
+	 *
+	 * <p>The default implementation returns an empty {@code Optional} so that
+	 * {@link #provideTestTemplateInvocationContexts} is used instead.
+	 *
+	 * @param context the extension context for the test template method about
+	 * to be invoked; never {@code null}
+	 * @return an {@code Optional} containing a {@code List} of the same
+	 * {@code TestTemplateInvocationContext} instances in the same order as the
+	 * {@code Stream} returned by {@link #provideTestTemplateInvocationContexts};
+	 * never {@code null}
+	 * @throws TemplateInvocationValidationException if a validation fails
+	 * while providing the {@link List}
+	 * @since 6.0
+	 * @see #provideTestTemplateInvocationContexts
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	default Optional<List<TestTemplateInvocationContext>> provideRandomAccessTestTemplateInvocationContexts(
+			ExtensionContext context) {
+		return Optional.empty();
+	}
+
 }
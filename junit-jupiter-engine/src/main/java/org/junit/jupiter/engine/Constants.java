@@ -18,6 +18,7 @@ import static org.junit.platform.engine.support.hierarchical.DefaultParallelExec
 import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_FIXED_MAX_POOL_SIZE_PROPERTY_NAME;
 import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_FIXED_PARALLELISM_PROPERTY_NAME;
 import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_FIXED_SATURATE_PROPERTY_NAME;
+import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_MAX_UNFINISHED_DYNAMIC_TASKS_PROPERTY_NAME;
 import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_STRATEGY_PROPERTY_NAME;
 
 import org.apiguardian.api.API;
@@ -220,6 +221,49 @@ public final class Constants {
 	@API(status = EXPERIMENTAL, since = "6.0")
 	public static final String CLOSING_STORED_AUTO_CLOSEABLE_ENABLED_PROPERTY_NAME = JupiterConfiguration.CLOSING_STORED_AUTO_CLOSEABLE_ENABLED_PROPERTY_NAME;
 
+	/**
+	 * Property name used to set the number of invocations of a
+	 * {@link org.junit.jupiter.api.TestTemplate @TestTemplate} method or
+	 * {@link org.junit.jupiter.api.ClassTemplate @ClassTemplate} class that
+	 * may be prepared in advance: {@value}
+	 *
+	 * <p>If set to a positive integer, the invocation contexts supplied by
+	 * each provider &mdash; for example, the arguments of a
+	 * {@code @ParameterizedTest} method &mdash; are produced in a separate
+	 * thread and buffered in a queue of the configured capacity while
+	 * previous invocations are being executed. The invocations themselves
+	 * are still registered and executed in the order in which they were
+	 * provided.
+	 *
+	 * <p>By default, prefetching is disabled and invocation contexts are
+	 * produced in the thread that executes the template.
+	 *
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String TEMPLATE_INVOCATIONS_PREFETCH_SIZE_PROPERTY_NAME = JupiterConfiguration.TEMPLATE_INVOCATIONS_PREFETCH_SIZE_PROPERTY_NAME;
+
+	/**
+	 * Property name used to enable lazy computation of the display names of
+	 * {@link org.junit.jupiter.api.TestTemplate @TestTemplate} method
+	 * invocations: {@value}
+	 *
+	 * <p>If enabled, the display name of each invocation &mdash; for example,
+	 * of a {@code @ParameterizedTest} method, which includes the string
+	 * representations of its arguments &mdash; is computed when it is first
+	 * requested, for example, by a {@code TestExecutionListener}, rather than
+	 * when the invocation is registered. If no one requests it, it is never
+	 * computed. Please note that arguments that are modified by the test
+	 * before the display name is first requested are then reflected in the
+	 * display name.
+	 *
+	 * <p>Lazy computation of display names is disabled by default.
+	 *
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String TEMPLATE_INVOCATIONS_LAZY_DISPLAY_NAMES_ENABLED_PROPERTY_NAME = JupiterConfiguration.TEMPLATE_INVOCATIONS_LAZY_DISPLAY_NAMES_ENABLED_PROPERTY_NAME;
+
 	/**
 	 * Property name used to set the default test execution mode: {@value}
 	 *
@@ -311,6 +355,24 @@ public final class Constants {
 	public static final String PARALLEL_CONFIG_DYNAMIC_FACTOR_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
 			+ CONFIG_DYNAMIC_FACTOR_PROPERTY_NAME;
 
+	/**
+	 * Property name used to configure the maximum number of dynamic tests or
+	 * containers registered by a single test factory, test template, or class
+	 * template that may be unfinished at the same time for the {@code fixed}
+	 * and {@code dynamic} configuration strategies: {@value}
+	 *
+	 * <p>Once the limit has been reached, registering further dynamic tests or
+	 * invocations blocks until one of them has finished.
+	 *
+	 * <p>Value must be a positive integer; defaults to {@code 256} plus the
+	 * desired parallelism.
+	 *
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String PARALLEL_CONFIG_MAX_UNFINISHED_DYNAMIC_TASKS_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
+			+ CONFIG_MAX_UNFINISHED_DYNAMIC_TASKS_PROPERTY_NAME;
+
 	/**
 	 * Property name used to specify the fully qualified class name of the
 	 * {@link ParallelExecutionConfigurationStrategy} to be used for the
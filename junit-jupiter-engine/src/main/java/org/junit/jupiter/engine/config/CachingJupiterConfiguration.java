@@ -87,6 +87,18 @@ public class CachingJupiterConfiguration implements JupiterConfiguration {
 			__ -> delegate.isThreadDumpOnTimeoutEnabled());
 	}
 
+	@Override
+	public int getTemplateInvocationsPrefetchSize() {
+		return (int) cache.computeIfAbsent(TEMPLATE_INVOCATIONS_PREFETCH_SIZE_PROPERTY_NAME,
+			__ -> delegate.getTemplateInvocationsPrefetchSize());
+	}
+
+	@Override
+	public boolean isTemplateInvocationsLazyDisplayNamesEnabled() {
+		return (boolean) cache.computeIfAbsent(TEMPLATE_INVOCATIONS_LAZY_DISPLAY_NAMES_ENABLED_PROPERTY_NAME,
+			__ -> delegate.isTemplateInvocationsLazyDisplayNamesEnabled());
+	}
+
 	@Override
 	public ExecutionMode getDefaultExecutionMode() {
 		return (ExecutionMode) cache.computeIfAbsent(DEFAULT_EXECUTION_MODE_PROPERTY_NAME,
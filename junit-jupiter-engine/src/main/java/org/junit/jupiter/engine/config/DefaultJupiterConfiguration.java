@@ -144,6 +144,19 @@ public class DefaultJupiterConfiguration implements JupiterConfiguration {
 		return configurationParameters.getBoolean(EXTENSIONS_TIMEOUT_THREAD_DUMP_ENABLED_PROPERTY_NAME).orElse(false);
 	}
 
+	@Override
+	public int getTemplateInvocationsPrefetchSize() {
+		return configurationParameters.get(TEMPLATE_INVOCATIONS_PREFETCH_SIZE_PROPERTY_NAME, Integer::parseInt) //
+				.filter(size -> size > 0) //
+				.orElse(0);
+	}
+
+	@Override
+	public boolean isTemplateInvocationsLazyDisplayNamesEnabled() {
+		return configurationParameters.getBoolean(TEMPLATE_INVOCATIONS_LAZY_DISPLAY_NAMES_ENABLED_PROPERTY_NAME) //
+				.orElse(false);
+	}
+
 	@Override
 	public ExecutionMode getDefaultExecutionMode() {
 		return executionModeConverter.get(configurationParameters, DEFAULT_EXECUTION_MODE_PROPERTY_NAME,
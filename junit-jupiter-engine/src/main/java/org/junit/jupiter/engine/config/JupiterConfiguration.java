@@ -43,6 +43,8 @@ public interface JupiterConfiguration {
 	String DEACTIVATE_CONDITIONS_PATTERN_PROPERTY_NAME = "junit.jupiter.conditions.deactivate";
 	String PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME = "junit.jupiter.execution.parallel.enabled";
 	String CLOSING_STORED_AUTO_CLOSEABLE_ENABLED_PROPERTY_NAME = "junit.jupiter.extensions.store.close.autocloseable.enabled";
+	String TEMPLATE_INVOCATIONS_PREFETCH_SIZE_PROPERTY_NAME = "junit.jupiter.execution.template.invocations.prefetch.size";
+	String TEMPLATE_INVOCATIONS_LAZY_DISPLAY_NAMES_ENABLED_PROPERTY_NAME = "junit.jupiter.displayname.template.invocations.lazy.enabled";
 	String DEFAULT_EXECUTION_MODE_PROPERTY_NAME = Execution.DEFAULT_EXECUTION_MODE_PROPERTY_NAME;
 	String DEFAULT_CLASSES_EXECUTION_MODE_PROPERTY_NAME = Execution.DEFAULT_CLASSES_EXECUTION_MODE_PROPERTY_NAME;
 	String EXTENSIONS_AUTODETECTION_ENABLED_PROPERTY_NAME = "junit.jupiter.extensions.autodetection.enabled";
@@ -67,6 +69,10 @@ public interface JupiterConfiguration {
 
 	boolean isThreadDumpOnTimeoutEnabled();
 
+	int getTemplateInvocationsPrefetchSize();
+
+	boolean isTemplateInvocationsLazyDisplayNamesEnabled();
+
 	ExecutionMode getDefaultExecutionMode();
 
 	ExecutionMode getDefaultClassesExecutionMode();
@@ -10,13 +10,11 @@
 
 package org.junit.jupiter.engine.descriptor;
 
-import static java.util.stream.Collectors.collectingAndThen;
 import static java.util.stream.Collectors.toCollection;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -33,6 +31,7 @@ import org.junit.jupiter.api.function.ThrowingConsumer;
 import org.junit.jupiter.api.parallel.ExecutionMode;
 import org.junit.jupiter.engine.config.JupiterConfiguration;
 import org.junit.jupiter.engine.execution.DefaultExecutableInvoker;
+import org.junit.jupiter.engine.execution.NamespaceAwareStore;
 import org.junit.jupiter.engine.extension.ExtensionContextInternal;
 import org.junit.jupiter.engine.extension.ExtensionRegistry;
 import org.junit.platform.commons.JUnitException;
@@ -49,6 +48,12 @@ import org.junit.platform.engine.support.hierarchical.Node;
 import org.junit.platform.engine.support.store.NamespacedHierarchicalStore;
 
 /**
+ * Base class for {@link ExtensionContext} implementations.
+ *
+ * <p>Since an extension context is created for every container and test,
+ * state that is not needed by most of them &mdash; most notably, the
+ * {@linkplain #getStore(Namespace) values store} &mdash; is created lazily.
+ *
  * @since 5.0
  */
 abstract class AbstractExtensionContext<T extends TestDescriptor> implements ExtensionContextInternal, AutoCloseable {
@@ -58,12 +63,16 @@ abstract class AbstractExtensionContext<T extends TestDescriptor> implements Ext
 	private final @Nullable ExtensionContext parent;
 	private final EngineExecutionListener engineExecutionListener;
 	private final T testDescriptor;
-	private final Set<String> tags;
 	private final JupiterConfiguration configuration;
-	private final ExecutableInvoker executableInvoker;
 	private final ExtensionRegistry extensionRegistry;
 	private final LauncherStoreFacade launcherStoreFacade;
-	private final NamespacedHierarchicalStore<org.junit.platform.engine.support.store.Namespace> valuesStore;
+
+	private @Nullable ExecutableInvoker executableInvoker;
+
+	@Nullable
+	private volatile NamespacedHierarchicalStore<org.junit.platform.engine.support.store.Namespace> valuesStore;
+
+	private volatile boolean closed;
 
 	AbstractExtensionContext(@Nullable ExtensionContext parent, EngineExecutionListener engineExecutionListener,
 			T testDescriptor, JupiterConfiguration configuration, ExtensionRegistry extensionRegistry,
@@ -72,59 +81,112 @@ abstract class AbstractExtensionContext<T extends TestDescriptor> implements Ext
 		Preconditions.notNull(testDescriptor, "TestDescriptor must not be null");
 		Preconditions.notNull(configuration, "JupiterConfiguration must not be null");
 		Preconditions.notNull(extensionRegistry, "ExtensionRegistry must not be null");
-		this.executableInvoker = new DefaultExecutableInvoker(this, extensionRegistry);
 		this.parent = parent;
 		this.engineExecutionListener = engineExecutionListener;
 		this.testDescriptor = testDescriptor;
 		this.configuration = configuration;
 		this.extensionRegistry = extensionRegistry;
 		this.launcherStoreFacade = launcherStoreFacade;
-
-		// @formatter:off
-		this.tags = testDescriptor.getTags().stream()
-				.map(TestTag::getName)
-				.collect(collectingAndThen(toCollection(LinkedHashSet::new), Collections::unmodifiableSet));
-		// @formatter:on
-
-		this.valuesStore = createStore(parent, launcherStoreFacade, createCloseAction());
 	}
 
-	@SuppressWarnings("deprecation")
 	private NamespacedHierarchicalStore.CloseAction<org.junit.platform.engine.support.store.Namespace> createCloseAction() {
-		return (__, ___, value) -> {
-			boolean isAutoCloseEnabled = this.configuration.isClosingStoredAutoCloseablesEnabled();
+		return new NamespacedHierarchicalStore.GroupingCloseAction<>() {
 
-			if (value instanceof @SuppressWarnings("resource") AutoCloseable closeable && isAutoCloseEnabled) {
-				closeable.close();
-				return;
+			@SuppressWarnings("deprecation")
+			@Override
+			public void close(org.junit.platform.engine.support.store.Namespace namespace, Object key, Object value)
+					throws Throwable {
+
+				boolean isAutoCloseEnabled = configuration.isClosingStoredAutoCloseablesEnabled();
+
+				if (value instanceof @SuppressWarnings("resource") AutoCloseable closeable && isAutoCloseEnabled) {
+					closeable.close();
+					return;
+				}
+
+				if (value instanceof Store.CloseableResource resource) {
+					if (isAutoCloseEnabled) {
+						LOGGER.warn(() -> "Type implements CloseableResource but not AutoCloseable: "
+								+ value.getClass().getName());
+					}
+					resource.close();
+				}
 			}
 
-			if (value instanceof Store.CloseableResource resource) {
-				if (isAutoCloseEnabled) {
-					LOGGER.warn(
-						() -> "Type implements CloseableResource but not AutoCloseable: " + value.getClass().getName());
+			@Override
+			public @Nullable Object getCloseGroup(org.junit.platform.engine.support.store.Namespace namespace,
+					Object key, Object value) {
+
+				if (value instanceof Store.IndependentlyCloseable closeable
+						&& configuration.isClosingStoredAutoCloseablesEnabled()) {
+					return closeable.getCloseGroup();
 				}
-				resource.close();
+				return null;
 			}
 		};
 	}
 
-	private static NamespacedHierarchicalStore<org.junit.platform.engine.support.store.Namespace> createStore(
-			@Nullable ExtensionContext parent, LauncherStoreFacade launcherStoreFacade,
-			NamespacedHierarchicalStore.CloseAction<org.junit.platform.engine.support.store.Namespace> closeAction) {
-		NamespacedHierarchicalStore<org.junit.platform.engine.support.store.Namespace> parentStore;
-		if (parent == null) {
-			parentStore = launcherStoreFacade.getRequestLevelStore();
+	/**
+	 * Get the values store of this context, creating it and, transitively,
+	 * the values stores of its ancestors if necessary.
+	 *
+	 * <p>If this context has already been closed, the newly created store is
+	 * closed as well so that it rejects modifications just like it would have
+	 * if it had been created eagerly.
+	 */
+	private NamespacedHierarchicalStore<org.junit.platform.engine.support.store.Namespace> getValuesStore() {
+		NamespacedHierarchicalStore<org.junit.platform.engine.support.store.Namespace> store = this.valuesStore;
+		if (store == null) {
+			synchronized (this) {
+				store = this.valuesStore;
+				if (store == null) {
+					store = new NamespacedHierarchicalStore<>(getParentValuesStore(), createCloseAction());
+					if (this.closed) {
+						store.close();
+					}
+					this.valuesStore = store;
+				}
+			}
 		}
-		else {
-			parentStore = ((AbstractExtensionContext<?>) parent).valuesStore;
+		return store;
+	}
+
+	/**
+	 * Get the values store to use for read-only lookups without creating
+	 * the values store of this context if it does not exist yet.
+	 *
+	 * <p>A values store that has not been created yet is empty and would
+	 * delegate all lookups to its parent, so using the closest existing
+	 * ancestor yields the same results.
+	 */
+	private NamespacedHierarchicalStore<org.junit.platform.engine.support.store.Namespace> getValuesStoreForReading() {
+		NamespacedHierarchicalStore<org.junit.platform.engine.support.store.Namespace> store = this.valuesStore;
+		if (store != null) {
+			return store;
 		}
-		return new NamespacedHierarchicalStore<>(parentStore, closeAction);
+		if (this.parent == null) {
+			return this.launcherStoreFacade.getRequestLevelStore();
+		}
+		return ((AbstractExtensionContext<?>) this.parent).getValuesStoreForReading();
+	}
+
+	private NamespacedHierarchicalStore<org.junit.platform.engine.support.store.Namespace> getParentValuesStore() {
+		if (this.parent == null) {
+			return this.launcherStoreFacade.getRequestLevelStore();
+		}
+		return ((AbstractExtensionContext<?>) this.parent).getValuesStore();
 	}
 
 	@Override
 	public void close() {
-		this.valuesStore.close();
+		NamespacedHierarchicalStore<org.junit.platform.engine.support.store.Namespace> store;
+		synchronized (this) {
+			this.closed = true;
+			store = this.valuesStore;
+		}
+		if (store != null) {
+			store.close();
+		}
 	}
 
 	@Override
@@ -217,7 +279,8 @@ abstract class AbstractExtensionContext<T extends TestDescriptor> implements Ext
 
 	@Override
 	public Store getStore(Namespace namespace) {
-		return launcherStoreFacade.getStoreAdapter(this.valuesStore, namespace);
+		Preconditions.notNull(namespace, "Namespace must not be null");
+		return new LazyValuesStoreAdapter(LauncherStoreFacade.convert(namespace));
 	}
 
 	@Override
@@ -232,7 +295,11 @@ abstract class AbstractExtensionContext<T extends TestDescriptor> implements Ext
 	@Override
 	public Set<String> getTags() {
 		// return modifiable copy
-		return new LinkedHashSet<>(this.tags);
+		// @formatter:off
+		return this.testDescriptor.getTags().stream()
+				.map(TestTag::getName)
+				.collect(toCollection(LinkedHashSet::new));
+		// @formatter:on
 	}
 
 	@Override
@@ -253,6 +320,12 @@ abstract class AbstractExtensionContext<T extends TestDescriptor> implements Ext
 
 	@Override
 	public ExecutableInvoker getExecutableInvoker() {
+		ExecutableInvoker executableInvoker = this.executableInvoker;
+		if (executableInvoker == null) {
+			// benign race: DefaultExecutableInvoker is stateless
+			executableInvoker = new DefaultExecutableInvoker(this, this.extensionRegistry);
+			this.executableInvoker = executableInvoker;
+		}
 		return executableInvoker;
 	}
 
@@ -269,4 +342,26 @@ abstract class AbstractExtensionContext<T extends TestDescriptor> implements Ext
 			case SAME_THREAD -> ExecutionMode.SAME_THREAD;
 		};
 	}
+
+	/**
+	 * {@link Store} adapter that only creates the values store of the
+	 * enclosing context once a value is stored or computed.
+	 */
+	private final class LazyValuesStoreAdapter extends NamespaceAwareStore {
+
+		LazyValuesStoreAdapter(org.junit.platform.engine.support.store.Namespace namespace) {
+			super(namespace);
+		}
+
+		@Override
+		protected NamespacedHierarchicalStore<org.junit.platform.engine.support.store.Namespace> getValuesStore() {
+			return AbstractExtensionContext.this.getValuesStore();
+		}
+
+		@Override
+		protected NamespacedHierarchicalStore<org.junit.platform.engine.support.store.Namespace> getValuesStoreForReading() {
+			return AbstractExtensionContext.this.getValuesStoreForReading();
+		}
+	}
+
 }
@@ -22,6 +22,7 @@ import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.function.Function;
 import java.util.function.UnaryOperator;
@@ -231,6 +232,12 @@ public class ClassTemplateTestDescriptor extends ClassBasedTestDescriptor implem
 			return provider.provideClassTemplateInvocationContexts(extensionContext);
 		}
 
+		@Override
+		Optional<List<ClassTemplateInvocationContext>> provideRandomAccessContexts(
+				ClassTemplateInvocationContextProvider provider, ExtensionContext extensionContext) {
+			return provider.provideRandomAccessClassTemplateInvocationContexts(extensionContext);
+		}
+
 		@Override
 		boolean mayReturnZeroContexts(ClassTemplateInvocationContextProvider provider,
 				ExtensionContext extensionContext) {
@@ -13,8 +13,12 @@ package org.junit.jupiter.engine.descriptor;
 import static org.apiguardian.api.API.Status.INTERNAL;
 
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
 import java.util.function.BiPredicate;
+import java.util.function.Function;
 import java.util.function.UnaryOperator;
 
 import org.apiguardian.api.API;
@@ -66,6 +70,65 @@ public class DynamicDescendantFilter implements BiPredicate<UniqueId, Integer> {
 				|| allowedIndices.contains(index);
 	}
 
+	/**
+	 * Determine the indices of all direct dynamic descendants of the supplied
+	 * parent that may be allowed by this filter.
+	 *
+	 * @param parentUniqueId the unique ID of the parent of the dynamic
+	 * descendants
+	 * @param indexResolver function that resolves the index of a direct
+	 * dynamic descendant from the last segment of its unique ID; returns an
+	 * empty {@code Optional} if the segment does not identify a descendant
+	 * by its index
+	 * @return the allowed indices in ascending order; or an empty
+	 * {@code Optional} if all or an unknown number of descendants may be
+	 * allowed
+	 * @since 6.0
+	 */
+	public Optional<SortedSet<Integer>> findAllowedIndices(UniqueId parentUniqueId,
+			Function<UniqueId.Segment, Optional<Integer>> indexResolver) {
+
+		if (isEverythingAllowed()) {
+			return Optional.empty();
+		}
+		SortedSet<Integer> indices = new TreeSet<>();
+		if (isIndexFilteringEnabled()) {
+			indices.addAll(this.allowedIndices);
+		}
+		int depth = parentUniqueId.getSegments().size();
+		for (UniqueId allowedUniqueId : this.allowedUniqueIds) {
+			if (parentUniqueId.hasPrefix(allowedUniqueId)) {
+				return Optional.empty();
+			}
+			if (allowedUniqueId.hasPrefix(parentUniqueId)) {
+				Optional<Integer> index = indexResolver.apply(getSegment(allowedUniqueId, depth));
+				if (index.isEmpty()) {
+					return Optional.empty();
+				}
+				indices.add(index.get());
+			}
+		}
+		return Optional.of(indices);
+	}
+
+	/**
+	 * {@return the segment of the supplied unique ID at the supplied index}
+	 *
+	 * <p>Walks up from its last segment rather than collecting all of its
+	 * segments into a list.
+	 */
+	private static UniqueId.Segment getSegment(UniqueId uniqueId, int index) {
+		UniqueId current = uniqueId;
+		for (int i = uniqueId.getSegments().size() - 1; i > index; i--) {
+			current = current.removeLastSegment();
+		}
+		return current.getLastSegment();
+	}
+
+	boolean isIndexFilteringEnabled() {
+		return true;
+	}
+
 	private boolean isEverythingAllowed() {
 		return allowedUniqueIds.isEmpty() && allowedIndices.isEmpty();
 	}
@@ -105,6 +168,11 @@ public class DynamicDescendantFilter implements BiPredicate<UniqueId, Integer> {
 			return isEverythingAllowed() || isUniqueIdAllowed(uniqueId);
 		}
 
+		@Override
+		boolean isIndexFilteringEnabled() {
+			return false;
+		}
+
 		@Override
 		public DynamicDescendantFilter withoutIndexFiltering() {
 			return this;
@@ -75,6 +75,12 @@ public abstract class JupiterTestDescriptor extends AbstractTestDescriptor
 		this.configuration = configuration;
 	}
 
+	JupiterTestDescriptor(UniqueId uniqueId, Supplier<String> displayNameSupplier, @Nullable TestSource source,
+			JupiterConfiguration configuration) {
+		super(uniqueId, displayNameSupplier, source);
+		this.configuration = configuration;
+	}
+
 	// --- TestDescriptor ------------------------------------------------------
 
 	static Set<TestTag> getTags(AnnotatedElement element, Supplier<String> elementDescription,
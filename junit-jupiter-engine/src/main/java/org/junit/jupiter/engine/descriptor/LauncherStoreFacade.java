@@ -50,7 +50,7 @@ public class LauncherStoreFacade {
 		return new NamespaceAwareStore(valuesStore, convert(namespace));
 	}
 
-	private Namespace convert(ExtensionContext.Namespace namespace) {
+	static Namespace convert(ExtensionContext.Namespace namespace) {
 		return namespace.equals(ExtensionContext.Namespace.GLOBAL) //
 				? Namespace.GLOBAL //
 				: Namespace.create(namespace.getParts());
@@ -72,6 +72,12 @@ public abstract class MethodBasedTestDescriptor extends JupiterTestDescriptor
 		this.methodInfo = new MethodInfo(testClass, testMethod);
 	}
 
+	MethodBasedTestDescriptor(UniqueId uniqueId, Supplier<String> displayNameSupplier, Class<?> testClass,
+			Method testMethod, JupiterConfiguration configuration) {
+		super(uniqueId, displayNameSupplier, MethodSource.from(testClass, testMethod), configuration);
+		this.methodInfo = new MethodInfo(testClass, testMethod);
+	}
+
 	public final Method getTestMethod() {
 		return this.methodInfo.testMethod;
 	}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.descriptor;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.util.ExceptionUtils;
+
+/**
+ * {@link Iterator} that consumes a {@link Stream} in a separate thread and
+ * buffers up to a configured number of its elements in a bounded queue.
+ *
+ * <p>Elements are returned in encounter order. If consuming the stream
+ * fails, the exception is rethrown by {@link #hasNext()} once all elements
+ * produced before the failure have been returned.
+ *
+ * <p>{@linkplain #close() Closing} this iterator stops the producing thread
+ * and waits for it to terminate so that the stream may safely be closed
+ * afterward.
+ *
+ * @since 6.0
+ */
+final class PrefetchingIterator<T> implements Iterator<T>, AutoCloseable {
+
+	private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+
+	private static final Object END = new Object();
+
+	private static final Object NULL = new Object();
+
+	private final BlockingQueue<Object> queue;
+
+	private final Thread producer;
+
+	private volatile boolean closed;
+
+	private @Nullable Object next;
+
+	PrefetchingIterator(Stream<? extends T> stream, int capacity) {
+		this.queue = new ArrayBlockingQueue<>(capacity);
+		this.producer = new Thread(() -> produce(stream),
+			"junit-jupiter-template-invocation-prefetcher-" + THREAD_NUMBER.incrementAndGet());
+		this.producer.setDaemon(true);
+		this.producer.start();
+	}
+
+	private void produce(Stream<? extends T> stream) {
+		try {
+			// forEach() instead of iterator() so that elements of flat-mapped
+			// streams are produced one at a time rather than being buffered
+			stream.forEach(element -> put(element == null ? NULL : element));
+			put(END);
+		}
+		catch (ProducerStoppedException ignore) {
+			// closed while producing
+		}
+		catch (Throwable t) {
+			try {
+				put(new Failure(t));
+			}
+			catch (ProducerStoppedException ignore) {
+				// closed while reporting the failure
+			}
+		}
+	}
+
+	private void put(Object element) {
+		if (this.closed) {
+			throw new ProducerStoppedException();
+		}
+		try {
+			this.queue.put(element);
+		}
+		catch (InterruptedException e) {
+			throw new ProducerStoppedException();
+		}
+	}
+
+	@Override
+	public boolean hasNext() {
+		if (this.next == null) {
+			this.next = take();
+		}
+		if (this.next instanceof Failure failure) {
+			throw ExceptionUtils.throwAsUncheckedException(failure.throwable);
+		}
+		return this.next != END;
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public T next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		Object element = this.next;
+		this.next = null;
+		return (T) (element == NULL ? null : element);
+	}
+
+	private Object take() {
+		try {
+			return this.queue.take();
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw ExceptionUtils.throwAsUncheckedException(e);
+		}
+	}
+
+	@Override
+	public void close() {
+		this.closed = true;
+		this.producer.interrupt();
+		this.queue.clear();
+		boolean interrupted = false;
+		while (this.producer.isAlive()) {
+			try {
+				this.producer.join();
+			}
+			catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private record Failure(Throwable throwable) {
+	}
+
+	private static final class ProducerStoppedException extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		ProducerStoppedException() {
+			super(null, null, false, false);
+		}
+
+	}
+
+}
@@ -12,7 +12,9 @@ package org.junit.jupiter.engine.descriptor;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.SortedSet;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.extension.Extension;
@@ -41,20 +43,61 @@ abstract class TemplateExecutor<P extends Extension, C> {
 	void execute(JupiterEngineExecutionContext context, Node.DynamicTestExecutor dynamicTestExecutor) {
 		ExtensionContext extensionContext = context.getExtensionContext();
 		List<P> providers = validateProviders(extensionContext, context.getExtensionRegistry());
+		int prefetchSize = context.getConfiguration().getTemplateInvocationsPrefetchSize();
+		Optional<SortedSet<Integer>> allowedIndices = this.dynamicDescendantFilter.findAllowedIndices(
+			parent.getUniqueId(), this::resolveInvocationIndex);
 		AtomicInteger invocationIndex = new AtomicInteger();
 		for (P provider : providers) {
-			executeForProvider(provider, invocationIndex, dynamicTestExecutor, extensionContext);
+			executeForProvider(provider, invocationIndex, dynamicTestExecutor, extensionContext, prefetchSize,
+				allowedIndices);
 		}
 	}
 
 	private void executeForProvider(P provider, AtomicInteger invocationIndex,
-			Node.DynamicTestExecutor dynamicTestExecutor, ExtensionContext extensionContext) {
+			Node.DynamicTestExecutor dynamicTestExecutor, ExtensionContext extensionContext, int prefetchSize,
+			Optional<SortedSet<Integer>> allowedIndices) {
 
 		int initialValue = invocationIndex.get();
 
+		Optional<List<C>> randomAccessContexts = allowedIndices.isPresent() //
+				? provideRandomAccessContexts(provider, extensionContext) //
+				: Optional.empty();
+		if (randomAccessContexts.isPresent()) {
+			executeAllowedIndices(randomAccessContexts.get(), allowedIndices.get(), invocationIndex,
+				dynamicTestExecutor);
+		}
+		else {
+			executeAll(provider, invocationIndex, dynamicTestExecutor, extensionContext, prefetchSize);
+		}
+
+		Preconditions.condition(
+			invocationIndex.get() != initialValue || mayReturnZeroContexts(provider, extensionContext),
+			getZeroContextsProvidedErrorMessage(provider));
+	}
+
+	/**
+	 * Execute only the invocations at the allowed indices without creating
+	 * the invocation contexts of all other invocations.
+	 */
+	private void executeAllowedIndices(List<? extends C> contexts, SortedSet<Integer> allowedIndices,
+			AtomicInteger invocationIndex, Node.DynamicTestExecutor dynamicTestExecutor) {
+
+		int offset = invocationIndex.get();
+		int size = contexts.size();
+		int end = (int) Math.min((long) offset + size, Integer.MAX_VALUE);
+		for (int index : allowedIndices.subSet(offset, end)) {
+			createInvocationTestDescriptor(contexts.get(index - offset), index + 1) //
+					.ifPresent(testDescriptor -> execute(dynamicTestExecutor, testDescriptor));
+		}
+		invocationIndex.set(end);
+	}
+
+	private void executeAll(P provider, AtomicInteger invocationIndex, Node.DynamicTestExecutor dynamicTestExecutor,
+			ExtensionContext extensionContext, int prefetchSize) {
+
 		Stream<? extends C> stream = provideContexts(provider, extensionContext);
 		try {
-			stream.forEach(invocationContext -> createInvocationTestDescriptor(invocationContext,
+			forEach(stream, prefetchSize, invocationContext -> createInvocationTestDescriptor(invocationContext,
 				invocationIndex.incrementAndGet()) //
 						.ifPresent(testDescriptor -> execute(dynamicTestExecutor, testDescriptor)));
 		}
@@ -70,10 +113,41 @@ abstract class TemplateExecutor<P extends Extension, C> {
 		finally {
 			stream.close();
 		}
+	}
+
+	private Optional<Integer> resolveInvocationIndex(UniqueId.Segment segment) {
+		String value = segment.getValue();
+		if (!value.startsWith("#")) {
+			return Optional.empty();
+		}
+		int index;
+		try {
+			index = Integer.parseInt(value.substring(1));
+		}
+		catch (NumberFormatException e) {
+			return Optional.empty();
+		}
+		if (index < 1 || !createInvocationUniqueId(parent.getUniqueId(), index).getLastSegment().equals(segment)) {
+			return Optional.empty();
+		}
+		return Optional.of(index - 1);
+	}
 
-		Preconditions.condition(
-			invocationIndex.get() != initialValue || mayReturnZeroContexts(provider, extensionContext),
-			getZeroContextsProvidedErrorMessage(provider));
+	/**
+	 * Consume the supplied stream either in the current thread or, if the
+	 * {@code prefetchSize} is positive, in a separate thread that produces
+	 * elements ahead of the current thread. In both cases, the action is
+	 * called in the current thread and in encounter order so that unique IDs
+	 * and events are the same regardless of the prefetch size.
+	 */
+	private static <C> void forEach(Stream<? extends C> stream, int prefetchSize, Consumer<? super C> action) {
+		if (prefetchSize <= 0) {
+			stream.forEach(action);
+			return;
+		}
+		try (PrefetchingIterator<C> iterator = new PrefetchingIterator<>(stream, prefetchSize)) {
+			iterator.forEachRemaining(action);
+		}
 	}
 
 	private List<P> validateProviders(ExtensionContext extensionContext, ExtensionRegistry extensionRegistry) {
@@ -102,6 +176,8 @@ abstract class TemplateExecutor<P extends Extension, C> {
 
 	abstract Stream<? extends C> provideContexts(P provider, ExtensionContext extensionContext);
 
+	abstract Optional<List<C>> provideRandomAccessContexts(P provider, ExtensionContext extensionContext);
+
 	abstract boolean mayReturnZeroContexts(P provider, ExtensionContext extensionContext);
 
 	protected abstract String getZeroContextsProvidedErrorMessage(P provider);
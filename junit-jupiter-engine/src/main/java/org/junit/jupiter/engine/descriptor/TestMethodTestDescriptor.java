@@ -92,6 +92,12 @@ public class TestMethodTestDescriptor extends MethodBasedTestDescriptor {
 		this.interceptorCall = interceptorCall;
 	}
 
+	TestMethodTestDescriptor(UniqueId uniqueId, Supplier<String> displayNameSupplier, Class<?> testClass,
+			Method testMethod, JupiterConfiguration configuration, VoidMethodInterceptorCall interceptorCall) {
+		super(uniqueId, displayNameSupplier, testClass, testMethod, configuration);
+		this.interceptorCall = interceptorCall;
+	}
+
 	// --- JupiterTestDescriptor -----------------------------------------------
 
 	@Override
@@ -16,6 +16,7 @@ import static org.apiguardian.api.API.Status.INTERNAL;
 
 import java.lang.reflect.Method;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 
 import org.apiguardian.api.API;
@@ -55,12 +56,33 @@ public class TestTemplateInvocationTestDescriptor extends TestMethodTestDescript
 		this.index = index;
 	}
 
+	/**
+	 * Create a descriptor whose display name is computed lazily by the
+	 * supplied {@code displayNameSupplier}.
+	 *
+	 * @since 6.0
+	 * @see JupiterConfiguration#isTemplateInvocationsLazyDisplayNamesEnabled()
+	 */
+	TestTemplateInvocationTestDescriptor(UniqueId uniqueId, Supplier<String> displayNameSupplier,
+			Class<?> testClass, Method templateMethod, TestTemplateInvocationContext invocationContext, int index,
+			JupiterConfiguration configuration) {
+		super(uniqueId, displayNameSupplier, testClass, templateMethod, configuration, interceptorCall);
+		this.invocationContext = invocationContext;
+		this.index = index;
+	}
+
 	// --- JupiterTestDescriptor -----------------------------------------------
 
 	@Override
 	protected TestTemplateInvocationTestDescriptor withUniqueId(UnaryOperator<UniqueId> uniqueIdTransformer) {
-		return new TestTemplateInvocationTestDescriptor(uniqueIdTransformer.apply(getUniqueId()), getTestClass(),
-			getTestMethod(), requiredInvocationContext(), this.index, this.configuration);
+		UniqueId uniqueId = uniqueIdTransformer.apply(getUniqueId());
+		// @formatter:off
+		return getDeferredDisplayName()
+				.map(displayNameSupplier -> new TestTemplateInvocationTestDescriptor(uniqueId, displayNameSupplier,
+						getTestClass(), getTestMethod(), requiredInvocationContext(), this.index, this.configuration))
+				.orElseGet(() -> new TestTemplateInvocationTestDescriptor(uniqueId, getTestClass(), getTestMethod(),
+						requiredInvocationContext(), this.index, this.configuration));
+		// @formatter:on
 	}
 
 	// --- TestDescriptor ------------------------------------------------------
@@ -15,6 +15,7 @@ import static org.junit.jupiter.engine.descriptor.ExtensionUtils.populateNewExte
 
 import java.lang.reflect.Method;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.stream.Stream;
@@ -138,6 +139,12 @@ public class TestTemplateTestDescriptor extends MethodBasedTestDescriptor implem
 			return provider.provideTestTemplateInvocationContexts(extensionContext);
 		}
 
+		@Override
+		Optional<List<TestTemplateInvocationContext>> provideRandomAccessContexts(
+				TestTemplateInvocationContextProvider provider, ExtensionContext extensionContext) {
+			return provider.provideRandomAccessTestTemplateInvocationContexts(extensionContext);
+		}
+
 		@Override
 		boolean mayReturnZeroContexts(TestTemplateInvocationContextProvider provider,
 				ExtensionContext extensionContext) {
@@ -160,8 +167,14 @@ public class TestTemplateTestDescriptor extends MethodBasedTestDescriptor implem
 		@Override
 		TestDescriptor createInvocationTestDescriptor(UniqueId uniqueId,
 				TestTemplateInvocationContext invocationContext, int index) {
+			JupiterConfiguration configuration = TestTemplateTestDescriptor.this.configuration;
+			if (configuration.isTemplateInvocationsLazyDisplayNamesEnabled()) {
+				return new TestTemplateInvocationTestDescriptor(uniqueId,
+					() -> invocationContext.getDisplayName(index), getTestClass(), getTestMethod(), invocationContext,
+					index, configuration);
+			}
 			return new TestTemplateInvocationTestDescriptor(uniqueId, getTestClass(), getTestMethod(),
-				invocationContext, index, TestTemplateTestDescriptor.this.configuration);
+				invocationContext, index, configuration);
 		}
 	}
 }
@@ -12,10 +12,14 @@ package org.junit.jupiter.engine.execution;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
 
+import java.lang.reflect.AnnotatedElement;
+
 import org.apiguardian.api.API;
 import org.junit.jupiter.api.extension.ConditionEvaluationResult;
 import org.junit.jupiter.api.extension.ExecutionCondition;
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ExtensionContext.Store;
 import org.junit.jupiter.engine.config.JupiterConfiguration;
 import org.junit.jupiter.engine.extension.ExtensionRegistry;
 import org.junit.platform.commons.logging.Logger;
@@ -25,6 +29,13 @@ import org.junit.platform.commons.util.StringUtils;
 /**
  * {@code ConditionEvaluator} evaluates {@link ExecutionCondition} extensions.
  *
+ * <p>The results of conditions that are
+ * {@linkplain ExecutionCondition#isInvariantFor(AnnotatedElement) invariant}
+ * for the current element are memoized in the store of the parent
+ * {@link ExtensionContext} so that they are not re-evaluated, for example, for
+ * each invocation of a test template, and are discarded once the parent
+ * container, such as the test class, has finished.
+ *
  * @since 5.0
  * @see ExecutionCondition
  */
@@ -33,6 +44,8 @@ public class ConditionEvaluator {
 
 	private static final Logger logger = LoggerFactory.getLogger(ConditionEvaluator.class);
 
+	private static final Namespace NAMESPACE = Namespace.create(ConditionEvaluator.class);
+
 	private static final ConditionEvaluationResult ENABLED = ConditionEvaluationResult.enabled(
 		"No 'disabled' conditions encountered");
 
@@ -51,13 +64,33 @@ public class ConditionEvaluator {
 		// @formatter:off
 		return extensionRegistry.stream(ExecutionCondition.class)
 				.filter(configuration.getExecutionConditionFilter())
-				.map(condition -> evaluate(condition, context))
+				.map(condition -> evaluateOrReuse(condition, context))
 				.filter(ConditionEvaluationResult::isDisabled)
 				.findFirst()
 				.orElse(ENABLED);
 		// @formatter:on
 	}
 
+	private ConditionEvaluationResult evaluateOrReuse(ExecutionCondition condition, ExtensionContext context) {
+		AnnotatedElement element = context.getElement().orElse(null);
+		ExtensionContext parent = context.getParent().orElse(null);
+		if (element == null || parent == null || !condition.isInvariantFor(element)) {
+			return evaluate(condition, context);
+		}
+		// Failures are intentionally not memoized, and concurrent evaluations
+		// for the same element are harmless since the result is invariant.
+		// Since lookups consult ancestor stores, the result memoized for a
+		// test template in its parent's store is found by its invocations.
+		Store store = parent.getStore(NAMESPACE);
+		InvariantConditionKey key = new InvariantConditionKey(condition, element);
+		ConditionEvaluationResult result = store.get(key, ConditionEvaluationResult.class);
+		if (result == null) {
+			result = evaluate(condition, context);
+			store.put(key, result);
+		}
+		return result;
+	}
+
 	private ConditionEvaluationResult evaluate(ExecutionCondition condition, ExtensionContext context) {
 		try {
 			ConditionEvaluationResult result = condition.evaluateExecutionCondition(context);
@@ -80,4 +113,7 @@ public class ConditionEvaluator {
 			"Failed to evaluate condition [%s]%s".formatted(conditionType.getName(), cause), ex);
 	}
 
+	private record InvariantConditionKey(ExecutionCondition condition, AnnotatedElement element) {
+	}
+
 }
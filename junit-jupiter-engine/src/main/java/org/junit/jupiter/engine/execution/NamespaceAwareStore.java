@@ -10,8 +10,15 @@
 
 package org.junit.jupiter.engine.execution;
 
+import static java.util.Objects.requireNonNull;
 import static org.apiguardian.api.API.Status.INTERNAL;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -30,7 +37,29 @@ import org.junit.platform.engine.support.store.NamespacedHierarchicalStoreExcept
 @API(status = INTERNAL, since = "5.0")
 public class NamespaceAwareStore implements Store {
 
-	private final NamespacedHierarchicalStore<Namespace> valuesStore;
+	private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+
+	/**
+	 * Values computed asynchronously are typically expensive resources whose
+	 * creation blocks, so they are computed by a shared pool of daemon threads
+	 * rather than by the common pool. The number of threads is bounded by the
+	 * number of available processors and idle threads are terminated.
+	 */
+	private static final Executor ASYNC_EXECUTOR = createAsyncExecutor();
+
+	private static Executor createAsyncExecutor() {
+		int maxThreads = Math.max(2, Runtime.getRuntime().availableProcessors());
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(maxThreads, maxThreads, 30, TimeUnit.SECONDS,
+			new LinkedBlockingQueue<>(), runnable -> {
+				Thread thread = new Thread(runnable, "junit-jupiter-store-async-" + THREAD_NUMBER.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	private final @Nullable NamespacedHierarchicalStore<Namespace> valuesStore;
 	private final Namespace namespace;
 
 	public NamespaceAwareStore(NamespacedHierarchicalStore<Namespace> valuesStore, Namespace namespace) {
@@ -38,10 +67,44 @@ public class NamespaceAwareStore implements Store {
 		this.namespace = namespace;
 	}
 
+	/**
+	 * Create a store adapter whose values store is resolved on each access
+	 * via {@link #getValuesStore()} and {@link #getValuesStoreForReading()},
+	 * which subclasses must override.
+	 *
+	 * @since 6.0
+	 */
+	protected NamespaceAwareStore(Namespace namespace) {
+		this.valuesStore = null;
+		this.namespace = namespace;
+	}
+
+	/**
+	 * {@return the values store to use for operations that may modify it}
+	 *
+	 * @since 6.0
+	 */
+	protected NamespacedHierarchicalStore<Namespace> getValuesStore() {
+		return requireNonNull(this.valuesStore);
+	}
+
+	/**
+	 * {@return the values store to use for read-only lookups}
+	 *
+	 * <p>Defaults to {@link #getValuesStore()}. Subclasses may return an
+	 * ancestor of the values store as long as the values store does not
+	 * exist yet and is therefore known to be empty.
+	 *
+	 * @since 6.0
+	 */
+	protected NamespacedHierarchicalStore<Namespace> getValuesStoreForReading() {
+		return getValuesStore();
+	}
+
 	@Override
 	public @Nullable Object get(Object key) {
 		Preconditions.notNull(key, "key must not be null");
-		Supplier<@Nullable Object> action = () -> this.valuesStore.get(this.namespace, key);
+		Supplier<@Nullable Object> action = () -> getValuesStoreForReading().get(this.namespace, key);
 		return accessStore(action);
 	}
 
@@ -49,7 +112,7 @@ public class NamespaceAwareStore implements Store {
 	public <T> @Nullable T get(Object key, Class<T> requiredType) {
 		Preconditions.notNull(key, "key must not be null");
 		Preconditions.notNull(requiredType, "requiredType must not be null");
-		Supplier<@Nullable T> action = () -> this.valuesStore.get(this.namespace, key, requiredType);
+		Supplier<@Nullable T> action = () -> getValuesStoreForReading().get(this.namespace, key, requiredType);
 		return accessStore(action);
 	}
 
@@ -58,7 +121,7 @@ public class NamespaceAwareStore implements Store {
 			Function<? super K, ? extends V> defaultCreator) {
 		Preconditions.notNull(key, "key must not be null");
 		Preconditions.notNull(defaultCreator, "defaultCreator function must not be null");
-		Supplier<@Nullable Object> action = () -> this.valuesStore.getOrComputeIfAbsent(this.namespace, key,
+		Supplier<@Nullable Object> action = () -> getValuesStore().getOrComputeIfAbsent(this.namespace, key,
 			defaultCreator);
 		return accessStore(action);
 	}
@@ -69,22 +132,33 @@ public class NamespaceAwareStore implements Store {
 		Preconditions.notNull(key, "key must not be null");
 		Preconditions.notNull(defaultCreator, "defaultCreator function must not be null");
 		Preconditions.notNull(requiredType, "requiredType must not be null");
-		Supplier<@Nullable V> action = () -> this.valuesStore.getOrComputeIfAbsent(this.namespace, key, defaultCreator,
+		Supplier<@Nullable V> action = () -> getValuesStore().getOrComputeIfAbsent(this.namespace, key, defaultCreator,
 			requiredType);
 		return accessStore(action);
 	}
 
+	@Override
+	public <K, V extends @Nullable Object> CompletableFuture<@Nullable V> getOrComputeIfAbsentAsync(K key,
+			Function<? super K, ? extends V> defaultCreator, Class<V> requiredType) {
+		Preconditions.notNull(key, "key must not be null");
+		Preconditions.notNull(defaultCreator, "defaultCreator function must not be null");
+		Preconditions.notNull(requiredType, "requiredType must not be null");
+		Supplier<CompletableFuture<@Nullable V>> action = () -> getValuesStore().getOrComputeIfAbsentAsync(
+			this.namespace, key, defaultCreator, requiredType, ASYNC_EXECUTOR);
+		return requireNonNull(accessStore(action));
+	}
+
 	@Override
 	public void put(Object key, @Nullable Object value) {
 		Preconditions.notNull(key, "key must not be null");
-		Supplier<@Nullable Object> action = () -> this.valuesStore.put(this.namespace, key, value);
+		Supplier<@Nullable Object> action = () -> getValuesStore().put(this.namespace, key, value);
 		accessStore(action);
 	}
 
 	@Override
 	public @Nullable Object remove(Object key) {
 		Preconditions.notNull(key, "key must not be null");
-		Supplier<@Nullable Object> action = () -> this.valuesStore.remove(this.namespace, key);
+		Supplier<@Nullable Object> action = () -> getValuesStore().remove(this.namespace, key);
 		return accessStore(action);
 	}
 
@@ -92,7 +166,7 @@ public class NamespaceAwareStore implements Store {
 	public <T> @Nullable T remove(Object key, Class<T> requiredType) {
 		Preconditions.notNull(key, "key must not be null");
 		Preconditions.notNull(requiredType, "requiredType must not be null");
-		Supplier<@Nullable T> action = () -> this.valuesStore.remove(this.namespace, key, requiredType);
+		Supplier<@Nullable T> action = () -> getValuesStore().remove(this.namespace, key, requiredType);
 		return accessStore(action);
 	}
 
@@ -45,6 +45,15 @@ class DisabledCondition implements ExecutionCondition {
 				.orElse(ENABLED);
 	}
 
+	/**
+	 * The result depends only on the presence of {@code @Disabled} on the
+	 * supplied element.
+	 */
+	@Override
+	public boolean isInvariantFor(AnnotatedElement element) {
+		return true;
+	}
+
 	private ConditionEvaluationResult toResult(@Nullable AnnotatedElement element, Disabled annotation) {
 		String value = annotation.value();
 		String reason = StringUtils.isNotBlank(value) ? value : element + " is @Disabled";
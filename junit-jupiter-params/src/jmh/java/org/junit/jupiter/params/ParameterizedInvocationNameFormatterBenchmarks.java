@@ -25,6 +25,7 @@ import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
 import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.infra.Blackhole;
 
@@ -39,27 +40,47 @@ public class ParameterizedInvocationNameFormatterBenchmarks {
 
 	List<? extends Arguments> argumentsList;
 
+	ParameterizedInvocationNameFormatter sharedFormatter;
+
 	@Setup
-	public void setUp() {
+	public void setUp() throws Exception {
 		argumentsList = IntStream.range(0, numberOfParameters) //
 				.mapToObj(i -> Arguments.argumentSet(String.valueOf(i), i)) //
 				.toList();
+		sharedFormatter = createFormatter(DISPLAY_NAME_PLACEHOLDER + " [{index}] {0,number,#.##}");
 	}
 
 	@Benchmark
 	public void formatTestNames(Blackhole blackhole) throws Exception {
-		var method = TestCase.class.getDeclaredMethod("parameterizedTest", int.class);
-		var formatter = new ParameterizedInvocationNameFormatter(
-			DISPLAY_NAME_PLACEHOLDER + " " + DEFAULT_DISPLAY_NAME + " ({0})", "displayName",
-			new ParameterizedTestContext(TestCase.class, method,
-				requireNonNull(method.getAnnotation(ParameterizedTest.class))),
-			512);
+		var formatter = createFormatter(DISPLAY_NAME_PLACEHOLDER + " " + DEFAULT_DISPLAY_NAME + " ({0})");
 		for (int i = 0; i < argumentsList.size(); i++) {
 			Arguments arguments = argumentsList.get(i);
 			blackhole.consume(formatter.format(i, EvaluatedArgumentSet.allOf(arguments)));
 		}
 	}
 
+	/**
+	 * Formats the names of invocations of the same parameterized test in
+	 * multiple threads as is the case when its invocations are executed
+	 * concurrently.
+	 */
+	@Benchmark
+	@Threads(Threads.MAX)
+	public void formatTestNamesConcurrently(Blackhole blackhole) {
+		for (int i = 0; i < argumentsList.size(); i++) {
+			Arguments arguments = argumentsList.get(i);
+			blackhole.consume(sharedFormatter.format(i, EvaluatedArgumentSet.allOf(arguments)));
+		}
+	}
+
+	private static ParameterizedInvocationNameFormatter createFormatter(String pattern) throws Exception {
+		var method = TestCase.class.getDeclaredMethod("parameterizedTest", int.class);
+		return new ParameterizedInvocationNameFormatter(pattern, "displayName",
+			new ParameterizedTestContext(TestCase.class, method,
+				requireNonNull(method.getAnnotation(ParameterizedTest.class))),
+			512);
+	}
+
 	@SuppressWarnings("JUnitMalformedDeclaration")
 	static class TestCase {
 		@SuppressWarnings("unused")
@@ -38,9 +38,15 @@ class EvaluatedArgumentSet {
 		return create(all, all, arguments);
 	}
 
-	static EvaluatedArgumentSet of(Arguments arguments, IntUnaryOperator consumedLengthComputer) {
+	static EvaluatedArgumentSet of(Arguments arguments, IntUnaryOperator consumedLengthComputer,
+			boolean snapshot) {
 		@Nullable
 		Object[] all = arguments.get();
+		if (snapshot) {
+			// Shallow copy so that the display name, which is computed lazily,
+			// is not affected if the provider reuses or modifies the array later.
+			all = Arrays.copyOf(all, all.length, Object[].class);
+		}
 		@Nullable
 		Object[] consumed = dropSurplus(all, consumedLengthComputer.applyAsInt(all.length));
 		return create(all, consumed, arguments);
@@ -107,11 +113,26 @@ class EvaluatedArgumentSet {
 		return Optional.empty();
 	}
 
+	/**
+	 * Extract the names or payloads of all {@link Named} arguments.
+	 *
+	 * <p>Since most arguments are not {@code Named}, the supplied array is
+	 * returned as is if none of its elements need to be extracted. Callers
+	 * must therefore not modify the returned array.
+	 */
 	private static @Nullable Object[] extractFromNamed(@Nullable Object[] arguments,
 			Function<Named<?>, @Nullable Object> mapper) {
-		return Arrays.stream(arguments) //
-				.map(argument -> extractFromNamed(argument, mapper)) //
-				.toArray();
+		@Nullable
+		Object[] result = arguments;
+		for (int i = 0; i < arguments.length; i++) {
+			if (arguments[i] instanceof Named<?> named) {
+				if (result == arguments) {
+					result = Arrays.copyOf(arguments, arguments.length, Object[].class);
+				}
+				result[i] = mapper.apply(named);
+			}
+		}
+		return result;
 	}
 
 	private static @Nullable Object extractFromNamed(@Nullable Object argument,
@@ -17,6 +17,7 @@ import static org.junit.platform.commons.support.AnnotationSupport.findAnnotatio
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -76,6 +77,13 @@ class ParameterizedClassExtension extends ParameterizedInvocationContextProvider
 		return provideInvocationContexts(extensionContext, getDeclarationContext(extensionContext));
 	}
 
+	@Override
+	public Optional<List<ClassTemplateInvocationContext>> provideRandomAccessClassTemplateInvocationContexts(
+			ExtensionContext extensionContext) {
+
+		return provideRandomAccessInvocationContexts(extensionContext, getDeclarationContext(extensionContext));
+	}
+
 	@Override
 	public boolean mayReturnZeroClassTemplateInvocationContexts(ExtensionContext extensionContext) {
 		return getDeclarationContext(extensionContext).isAllowingZeroInvocations();
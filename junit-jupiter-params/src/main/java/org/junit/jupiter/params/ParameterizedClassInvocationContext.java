@@ -30,7 +30,8 @@ class ParameterizedClassInvocationContext extends ParameterizedInvocationContext
 
 	ParameterizedClassInvocationContext(ParameterizedClassContext classContext,
 			ParameterizedInvocationNameFormatter formatter, Arguments arguments, int invocationIndex) {
-		super(classContext, formatter, arguments, invocationIndex);
+		// Display names of class template invocations are always computed eagerly
+		super(classContext, formatter, arguments, invocationIndex, false);
 	}
 
 	@Override
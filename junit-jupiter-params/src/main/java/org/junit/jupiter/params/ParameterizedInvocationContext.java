@@ -33,12 +33,13 @@ class ParameterizedInvocationContext<T extends ParameterizedDeclarationContext<?
 	protected final int invocationIndex;
 
 	ParameterizedInvocationContext(T declarationContext, ParameterizedInvocationNameFormatter formatter,
-			Arguments arguments, int invocationIndex) {
+			Arguments arguments, int invocationIndex, boolean lazyDisplayName) {
 
 		this.declarationContext = declarationContext;
 		this.formatter = formatter;
 		ResolverFacade resolverFacade = this.declarationContext.getResolverFacade();
-		this.arguments = EvaluatedArgumentSet.of(arguments, resolverFacade::determineConsumedArgumentLength);
+		this.arguments = EvaluatedArgumentSet.of(arguments, resolverFacade::determineConsumedArgumentLength,
+			lazyDisplayName);
 		this.invocationIndex = invocationIndex;
 	}
 
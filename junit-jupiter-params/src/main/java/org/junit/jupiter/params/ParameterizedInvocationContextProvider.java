@@ -12,37 +12,44 @@ package org.junit.jupiter.params;
 
 import static org.junit.platform.commons.support.AnnotationSupport.findRepeatableAnnotations;
 
+import java.lang.reflect.AnnotatedElement;
+import java.util.AbstractList;
 import java.util.List;
+import java.util.Optional;
+import java.util.RandomAccess;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ExtensionContext.Store;
 import org.junit.jupiter.api.extension.TemplateInvocationValidationException;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
+import org.junit.jupiter.params.provider.RandomAccessArgumentsProvider;
 import org.junit.jupiter.params.support.AnnotationConsumerInitializer;
 import org.junit.jupiter.params.support.ParameterDeclarations;
+import org.junit.platform.commons.util.CollectionUtils;
 import org.junit.platform.commons.util.ExceptionUtils;
 import org.junit.platform.commons.util.Preconditions;
 
 class ParameterizedInvocationContextProvider<T> {
 
+	private static final String ARGUMENTS_PROVIDERS_KEY = "argumentsProviders";
+
 	protected Stream<T> provideInvocationContexts(ExtensionContext extensionContext,
 			ParameterizedDeclarationContext<T> declarationContext) {
 
-		List<ArgumentsSource> argumentsSources = collectArgumentSources(declarationContext);
+		List<ArgumentsProvider> providers = getArgumentsProviders(extensionContext, declarationContext);
 		ParameterDeclarations parameters = declarationContext.getResolverFacade().getIndexedParameterDeclarations();
 		ParameterizedInvocationNameFormatter formatter = ParameterizedInvocationNameFormatter.create(extensionContext,
 			declarationContext);
 		AtomicLong invocationCount = new AtomicLong(0);
 
 		// @formatter:off
-		return argumentsSources
+		return providers
 				.stream()
-				.map(ArgumentsSource::value)
-				.map(clazz -> ParameterizedTestSpiInstantiator.instantiate(ArgumentsProvider.class, clazz, extensionContext))
-				.map(provider -> AnnotationConsumerInitializer.initialize(declarationContext.getAnnotatedElement(), provider))
 				.flatMap(provider -> arguments(provider, parameters, extensionContext))
 				.map(arguments -> {
 					invocationCount.incrementAndGet();
@@ -52,6 +59,64 @@ class ParameterizedInvocationContextProvider<T> {
 		// @formatter:on
 	}
 
+	/**
+	 * Provide random access to the invocation contexts if all arguments
+	 * providers support {@linkplain RandomAccessArgumentsProvider random access}.
+	 */
+	protected Optional<List<T>> provideRandomAccessInvocationContexts(ExtensionContext extensionContext,
+			ParameterizedDeclarationContext<T> declarationContext) {
+
+		List<ArgumentsProvider> providers = getArgumentsProviders(extensionContext, declarationContext);
+		ParameterDeclarations parameters = declarationContext.getResolverFacade().getIndexedParameterDeclarations();
+
+		if (!providers.stream().allMatch(provider -> supportsRandomAccess(provider, parameters, extensionContext))) {
+			return Optional.empty();
+		}
+
+		List<Arguments> arguments = CollectionUtils.concatenatedView(providers.stream() //
+				.map(RandomAccessArgumentsProvider.class::cast) //
+				.map(provider -> argumentsList(provider, parameters, extensionContext)) //
+				.toList());
+		validateInvokedAtLeastOnce(arguments.size(), declarationContext);
+
+		ParameterizedInvocationNameFormatter formatter = ParameterizedInvocationNameFormatter.create(extensionContext,
+			declarationContext);
+		return Optional.of(new RandomAccessInvocationContexts<>(arguments, declarationContext, formatter));
+	}
+
+	/**
+	 * Get the initialized arguments providers for the supplied declaration
+	 * context, creating them on first access.
+	 *
+	 * <p>The providers are stored in the supplied {@link ExtensionContext} so
+	 * that {@link #provideInvocationContexts} reuses the providers created by
+	 * a preceding call of {@link #provideRandomAccessInvocationContexts} that
+	 * found that not all of them support random access.
+	 */
+	@SuppressWarnings("unchecked")
+	private static List<ArgumentsProvider> getArgumentsProviders(ExtensionContext extensionContext,
+			ParameterizedDeclarationContext<?> declarationContext) {
+
+		AnnotatedElement annotatedElement = declarationContext.getAnnotatedElement();
+		Store store = extensionContext.getStore(
+			Namespace.create(ParameterizedInvocationContextProvider.class, annotatedElement));
+		return store.getOrComputeIfAbsent(ARGUMENTS_PROVIDERS_KEY,
+			__ -> createArgumentsProviders(extensionContext, declarationContext), List.class);
+	}
+
+	private static List<ArgumentsProvider> createArgumentsProviders(ExtensionContext extensionContext,
+			ParameterizedDeclarationContext<?> declarationContext) {
+
+		// @formatter:off
+		return collectArgumentSources(declarationContext)
+				.stream()
+				.map(ArgumentsSource::value)
+				.map(clazz -> ParameterizedTestSpiInstantiator.instantiate(ArgumentsProvider.class, clazz, extensionContext))
+				.map(provider -> AnnotationConsumerInitializer.initialize(declarationContext.getAnnotatedElement(), provider))
+				.toList();
+		// @formatter:on
+	}
+
 	private static <T> void validateInvokedAtLeastOnce(long invocationCount,
 			ParameterizedDeclarationContext<T> declarationContext) {
 		if (invocationCount == 0 && !declarationContext.isAllowingZeroInvocations()) {
@@ -72,6 +137,27 @@ class ParameterizedInvocationContextProvider<T> {
 		return argumentsSources;
 	}
 
+	private static boolean supportsRandomAccess(ArgumentsProvider provider, ParameterDeclarations parameters,
+			ExtensionContext context) {
+		try {
+			return provider instanceof RandomAccessArgumentsProvider randomAccessProvider
+					&& randomAccessProvider.supportsRandomAccess(parameters, context);
+		}
+		catch (Exception e) {
+			throw ExceptionUtils.throwAsUncheckedException(e);
+		}
+	}
+
+	private static List<? extends Arguments> argumentsList(RandomAccessArgumentsProvider provider,
+			ParameterDeclarations parameters, ExtensionContext context) {
+		try {
+			return provider.provideArgumentsList(parameters, context);
+		}
+		catch (Exception e) {
+			throw ExceptionUtils.throwAsUncheckedException(e);
+		}
+	}
+
 	protected static Stream<? extends Arguments> arguments(ArgumentsProvider provider, ParameterDeclarations parameters,
 			ExtensionContext context) {
 		try {
@@ -82,4 +168,30 @@ class ParameterizedInvocationContextProvider<T> {
 		}
 	}
 
+	private static final class RandomAccessInvocationContexts<T> extends AbstractList<T> implements RandomAccess {
+
+		private final List<Arguments> arguments;
+		private final ParameterizedDeclarationContext<T> declarationContext;
+		private final ParameterizedInvocationNameFormatter formatter;
+
+		RandomAccessInvocationContexts(List<Arguments> arguments, ParameterizedDeclarationContext<T> declarationContext,
+				ParameterizedInvocationNameFormatter formatter) {
+			this.arguments = arguments;
+			this.declarationContext = declarationContext;
+			this.formatter = formatter;
+		}
+
+		@Override
+		public T get(int index) {
+			return this.declarationContext.createInvocationContext(this.formatter, this.arguments.get(index),
+				index + 1);
+		}
+
+		@Override
+		public int size() {
+			return this.arguments.size();
+		}
+
+	}
+
 }
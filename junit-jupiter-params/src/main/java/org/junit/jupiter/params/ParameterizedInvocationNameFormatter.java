@@ -20,7 +20,6 @@ import static org.junit.jupiter.params.ParameterizedInvocationConstants.DISPLAY_
 import static org.junit.jupiter.params.ParameterizedInvocationConstants.INDEX_PLACEHOLDER;
 import static org.junit.platform.commons.util.StringUtils.isNotBlank;
 
-import java.text.FieldPosition;
 import java.text.Format;
 import java.text.MessageFormat;
 import java.util.ArrayList;
@@ -52,6 +51,7 @@ class ParameterizedInvocationNameFormatter {
 			+ ARGUMENT_SET_NAME_OR_ARGUMENTS_WITH_NAMES_PLACEHOLDER;
 	static final String DISPLAY_NAME_PATTERN_KEY = "junit.jupiter.params.displayname.default";
 	static final String ARGUMENT_MAX_LENGTH_KEY = "junit.jupiter.params.displayname.argument.maxlength";
+	static final String LAZY_DISPLAY_NAMES_KEY = "junit.jupiter.displayname.template.invocations.lazy.enabled";
 
 	static ParameterizedInvocationNameFormatter create(ExtensionContext extensionContext,
 			ParameterizedDeclarationContext<?> declarationContext) {
@@ -69,14 +69,24 @@ class ParameterizedInvocationNameFormatter {
 		int argumentMaxLength = extensionContext.getConfigurationParameter(ARGUMENT_MAX_LENGTH_KEY, Integer::parseInt) //
 				.orElse(512);
 
+		boolean lazyDisplayNames = extensionContext.getConfigurationParameter(LAZY_DISPLAY_NAMES_KEY,
+			Boolean::parseBoolean).orElse(false);
+
 		return new ParameterizedInvocationNameFormatter(pattern, extensionContext.getDisplayName(), declarationContext,
-			argumentMaxLength);
+			argumentMaxLength, lazyDisplayNames);
 	}
 
 	private final PartialFormatter[] partialFormatters;
+	private final boolean lazyDisplayNames;
 
 	ParameterizedInvocationNameFormatter(String pattern, String displayName,
 			ParameterizedDeclarationContext<?> declarationContext, int argumentMaxLength) {
+		this(pattern, displayName, declarationContext, argumentMaxLength, false);
+	}
+
+	ParameterizedInvocationNameFormatter(String pattern, String displayName,
+			ParameterizedDeclarationContext<?> declarationContext, int argumentMaxLength, boolean lazyDisplayNames) {
+		this.lazyDisplayNames = lazyDisplayNames;
 		try {
 			this.partialFormatters = parse(pattern, displayName, declarationContext, argumentMaxLength);
 		}
@@ -87,6 +97,14 @@ class ParameterizedInvocationNameFormatter {
 		}
 	}
 
+	/**
+	 * {@return whether the display names of test template invocations are
+	 * computed lazily, i.e. not until they are first requested}
+	 */
+	boolean isLazyDisplayNamesEnabled() {
+		return this.lazyDisplayNames;
+	}
+
 	String format(int invocationIndex, EvaluatedArgumentSet arguments) {
 		try {
 			return formatSafely(invocationIndex, arguments);
@@ -101,7 +119,7 @@ class ParameterizedInvocationNameFormatter {
 	private String formatSafely(int invocationIndex, EvaluatedArgumentSet arguments) {
 		ArgumentsContext context = new ArgumentsContext(invocationIndex, arguments.getConsumedNames(),
 			arguments.getName());
-		StringBuffer result = new StringBuffer(); // used instead of StringBuilder so MessageFormat can append directly
+		StringBuilder result = new StringBuilder();
 		for (PartialFormatter partialFormatter : this.partialFormatters) {
 			partialFormatter.append(context, result);
 		}
@@ -209,14 +227,14 @@ class ParameterizedInvocationNameFormatter {
 
 		PartialFormatter INDEX = (context, result) -> result.append(context.invocationIndex);
 
-		void append(ArgumentsContext context, StringBuffer result);
+		void append(ArgumentsContext context, StringBuilder result);
 
 	}
 
 	private record ArgumentSetNameFormatter(String annotationName) implements PartialFormatter {
 
 		@Override
-		public void append(ArgumentsContext context, StringBuffer result) {
+		public void append(ArgumentsContext context, StringBuilder result) {
 			if (context.argumentSetName.isPresent()) {
 				result.append(context.argumentSetName.get());
 				return;
@@ -227,43 +245,203 @@ class ParameterizedInvocationNameFormatter {
 		}
 	}
 
+	/**
+	 * {@link PartialFormatter} for a {@link MessageFormat} pattern that is
+	 * compiled into immutable segments so that formatting does not require
+	 * synchronization.
+	 *
+	 * <p>Literal text and arguments without a format type are appended
+	 * directly. Arguments with a format type or style &mdash; for example,
+	 * {@code {0,number,#.##}} &mdash; are formatted by a thread-confined copy
+	 * of a {@code MessageFormat} for the respective format element.
+	 */
 	private static class MessageFormatPartialFormatter implements PartialFormatter {
 
 		@SuppressWarnings("UnnecessaryUnicodeEscape")
 		private static final char ELLIPSIS = '\u2026';
 
-		private final MessageFormat messageFormat;
+		private final Segment[] segments;
+		private final boolean[] readableArgumentIndexes;
+		private final boolean containsFormatElements;
 		private final int argumentMaxLength;
 
 		MessageFormatPartialFormatter(String pattern, int argumentMaxLength) {
-			this.messageFormat = new MessageFormat(pattern);
+			// validates the pattern and determines the formats used for each argument
+			@Nullable
+			Format[] formats = new MessageFormat(pattern).getFormatsByArgumentIndex();
+			this.readableArgumentIndexes = new boolean[formats.length];
+			for (int i = 0; i < formats.length; i++) {
+				this.readableArgumentIndexes[i] = formats[i] == null;
+			}
 			this.argumentMaxLength = argumentMaxLength;
+			this.segments = compile(pattern);
+			this.containsFormatElements = Arrays.stream(this.segments).anyMatch(FormatElement.class::isInstance);
 		}
 
-		// synchronized because MessageFormat is not thread-safe
 		@Override
-		public synchronized void append(ArgumentsContext context, StringBuffer result) {
-			this.messageFormat.format(makeReadable(context.consumedArguments), result, new FieldPosition(0));
+		public void append(ArgumentsContext context, StringBuilder result) {
+			@Nullable
+			Object[] arguments = context.consumedArguments;
+			@Nullable
+			Object[] readableArguments = this.containsFormatElements ? makeReadable(arguments) : arguments;
+			for (Segment segment : this.segments) {
+				segment.append(arguments, readableArguments, result);
+			}
+		}
+
+		/**
+		 * Split the supplied pattern into literal text and format elements
+		 * following the same quoting rules as {@link MessageFormat}.
+		 */
+		private Segment[] compile(String pattern) {
+			List<Segment> result = new ArrayList<>();
+			StringBuilder literal = new StringBuilder();
+			boolean inQuote = false;
+			for (int i = 0; i < pattern.length(); i++) {
+				char ch = pattern.charAt(i);
+				if (ch == '\'') {
+					if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '\'') {
+						literal.append(ch);
+						i++;
+					}
+					else {
+						inQuote = !inQuote;
+					}
+				}
+				else if (ch == '{' && !inQuote) {
+					int end = findEndOfFormatElement(pattern, i + 1);
+					if (!literal.isEmpty()) {
+						result.add(new Literal(literal.toString()));
+						literal.setLength(0);
+					}
+					result.add(createFormatElementSegment(pattern.substring(i + 1, end)));
+					i = end;
+				}
+				else {
+					literal.append(ch);
+				}
+			}
+			if (!literal.isEmpty()) {
+				result.add(new Literal(literal.toString()));
+			}
+			return result.toArray(new Segment[0]);
+		}
+
+		private static int findEndOfFormatElement(String pattern, int start) {
+			boolean inQuote = false;
+			int braceStack = 0;
+			for (int i = start; i < pattern.length(); i++) {
+				char ch = pattern.charAt(i);
+				if (inQuote) {
+					inQuote = ch != '\'';
+				}
+				else if (ch == '\'') {
+					inQuote = true;
+				}
+				else if (ch == '{') {
+					braceStack++;
+				}
+				else if (ch == '}') {
+					if (braceStack == 0) {
+						return i;
+					}
+					braceStack--;
+				}
+			}
+			throw new IllegalArgumentException("Unmatched braces in the pattern.");
+		}
+
+		private Segment createFormatElementSegment(String formatElement) {
+			if (!formatElement.isEmpty() && formatElement.chars().allMatch(ch -> ch >= '0' && ch <= '9')) {
+				int argumentIndex = Integer.parseInt(formatElement);
+				if (this.readableArgumentIndexes[argumentIndex]) {
+					return new Argument(argumentIndex, formatElement);
+				}
+			}
+			return new FormatElement(new MessageFormat("{" + formatElement + "}"));
 		}
 
 		private @Nullable Object[] makeReadable(@Nullable Object[] arguments) {
 			@Nullable
-			Format[] formats = messageFormat.getFormatsByArgumentIndex();
-			@Nullable
-			Object[] result = Arrays.copyOf(arguments, Math.min(arguments.length, formats.length), Object[].class);
+			Object[] result = Arrays.copyOf(arguments, Math.min(arguments.length, readableArgumentIndexes.length),
+				Object[].class);
 			for (int i = 0; i < result.length; i++) {
-				if (formats[i] == null) {
-					result[i] = truncateIfExceedsMaxLength(StringUtils.nullSafeToString(arguments[i]));
+				if (readableArgumentIndexes[i]) {
+					result[i] = toReadableString(arguments[i]);
 				}
 			}
 			return result;
 		}
 
-		private @Nullable String truncateIfExceedsMaxLength(@Nullable String argument) {
-			if (argument != null && argument.length() > this.argumentMaxLength) {
-				return argument.substring(0, this.argumentMaxLength - 1) + ELLIPSIS;
+		private @Nullable String toReadableString(@Nullable Object argument) {
+			String string = StringUtils.nullSafeToString(argument);
+			if (string != null && string.length() > this.argumentMaxLength) {
+				return string.substring(0, this.argumentMaxLength - 1) + ELLIPSIS;
+			}
+			return string;
+		}
+
+		@FunctionalInterface
+		private interface Segment {
+
+			void append(@Nullable Object[] arguments, @Nullable Object[] readableArguments, StringBuilder result);
+
+		}
+
+		private record Literal(String text) implements Segment {
+
+			@Override
+			public void append(@Nullable Object[] arguments, @Nullable Object[] readableArguments,
+					StringBuilder result) {
+				result.append(this.text);
+			}
+		}
+
+		/**
+		 * Argument without a format type that is converted to a readable
+		 * {@code String} directly.
+		 */
+		private class Argument implements Segment {
+
+			private final int index;
+			private final String placeholder;
+
+			Argument(int index, String formatElement) {
+				this.index = index;
+				this.placeholder = "{" + formatElement + "}";
+			}
+
+			@Override
+			public void append(@Nullable Object[] arguments, @Nullable Object[] readableArguments,
+					StringBuilder result) {
+				if (this.index < arguments.length) {
+					result.append(toReadableString(arguments[this.index]));
+				}
+				else {
+					// same as MessageFormat
+					result.append(this.placeholder);
+				}
+			}
+		}
+
+		/**
+		 * Format element with a format type or style that is formatted by a
+		 * {@link MessageFormat} confined to the current thread since neither
+		 * {@code MessageFormat} nor its subformats are thread-safe.
+		 */
+		private static class FormatElement implements Segment {
+
+			private final ThreadLocal<MessageFormat> messageFormat;
+
+			FormatElement(MessageFormat prototype) {
+				this.messageFormat = ThreadLocal.withInitial(() -> (MessageFormat) prototype.clone());
+			}
+
+			@Override
+			public void append(@Nullable Object[] arguments, @Nullable Object[] readableArguments,
+					StringBuilder result) {
+				result.append(this.messageFormat.get().format(readableArguments));
 			}
-			return argument;
 		}
 	}
 
@@ -277,7 +455,7 @@ class ParameterizedInvocationNameFormatter {
 		}
 
 		@Override
-		public void append(ArgumentsContext context, StringBuffer result) {
+		public void append(ArgumentsContext context, StringBuilder result) {
 			cache.computeIfAbsent(context.consumedArguments.length, factory).append(context, result);
 		}
 	}
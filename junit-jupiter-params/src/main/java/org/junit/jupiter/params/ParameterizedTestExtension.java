@@ -13,6 +13,7 @@ package org.junit.jupiter.params;
 import static java.util.Objects.requireNonNull;
 import static org.junit.platform.commons.support.AnnotationSupport.findAnnotation;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -51,6 +52,13 @@ class ParameterizedTestExtension extends ParameterizedInvocationContextProvider<
 		return provideInvocationContexts(extensionContext, getDeclarationContext(extensionContext));
 	}
 
+	@Override
+	public Optional<List<TestTemplateInvocationContext>> provideRandomAccessTestTemplateInvocationContexts(
+			ExtensionContext extensionContext) {
+
+		return provideRandomAccessInvocationContexts(extensionContext, getDeclarationContext(extensionContext));
+	}
+
 	@Override
 	public boolean mayReturnZeroTestTemplateInvocationContexts(ExtensionContext extensionContext) {
 		return getDeclarationContext(extensionContext).isAllowingZeroInvocations();
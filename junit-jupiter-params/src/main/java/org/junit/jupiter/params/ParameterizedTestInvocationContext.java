@@ -27,7 +27,7 @@ class ParameterizedTestInvocationContext extends ParameterizedInvocationContext<
 
 	ParameterizedTestInvocationContext(ParameterizedTestContext methodContext,
 			ParameterizedInvocationNameFormatter formatter, Arguments arguments, int invocationIndex) {
-		super(methodContext, formatter, arguments, invocationIndex);
+		super(methodContext, formatter, arguments, invocationIndex, formatter.isLazyDisplayNamesEnabled());
 	}
 
 	@Override
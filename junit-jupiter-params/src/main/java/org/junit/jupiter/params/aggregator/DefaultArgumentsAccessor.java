@@ -72,6 +72,9 @@ public class DefaultArgumentsAccessor implements ArgumentsAccessor {
 	public <T> @Nullable T get(int index, Class<T> requiredType) {
 		Preconditions.notNull(requiredType, "requiredType must not be null");
 		Object value = get(index);
+		if (requiredType.isInstance(value)) {
+			return requiredType.cast(value);
+		}
 		try {
 			Object convertedValue = converter.apply(value, requiredType);
 			return requiredType.cast(convertedValue);
@@ -136,7 +139,7 @@ public class DefaultArgumentsAccessor implements ArgumentsAccessor {
 
 	@Override
 	public @Nullable Object[] toArray() {
-		return Arrays.copyOf(this.arguments, this.arguments.length);
+		return Arrays.copyOf(this.arguments, this.arguments.length, Object[].class);
 	}
 
 	@Override
@@ -53,6 +53,10 @@ public abstract class AnnotationBasedArgumentsProvider<A extends Annotation>
 		annotations.add(annotation);
 	}
 
+	final List<A> getAnnotations() {
+		return this.annotations;
+	}
+
 	@Override
 	public Stream<? extends Arguments> provideArguments(ParameterDeclarations parameters, ExtensionContext context) {
 		return annotations.stream().flatMap(annotation -> provideArguments(parameters, context, annotation));
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.params.provider;
+
+import java.lang.annotation.Annotation;
+import java.util.List;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.support.ParameterDeclarations;
+import org.junit.platform.commons.util.CollectionUtils;
+
+/**
+ * Base class for built-in {@link AnnotationBasedArgumentsProvider} implementations
+ * that support {@linkplain RandomAccessArgumentsProvider random access} to
+ * the arguments provided for each consumed annotation.
+ *
+ * @since 6.0
+ */
+abstract class AnnotationBasedRandomAccessArgumentsProvider<A extends Annotation>
+		extends AnnotationBasedArgumentsProvider<A> implements RandomAccessArgumentsProvider {
+
+	@Override
+	public final boolean supportsRandomAccess(ParameterDeclarations parameters, ExtensionContext context) {
+		return getAnnotations().stream().allMatch(annotation -> supportsRandomAccess(parameters, context, annotation));
+	}
+
+	@Override
+	public final List<? extends Arguments> provideArgumentsList(ParameterDeclarations parameters,
+			ExtensionContext context) {
+		return CollectionUtils.concatenatedView(getAnnotations().stream() //
+				.map(annotation -> provideArgumentsList(parameters, context, annotation)) //
+				.toList());
+	}
+
+	/**
+	 * @see RandomAccessArgumentsProvider#supportsRandomAccess
+	 */
+	boolean supportsRandomAccess(ParameterDeclarations parameters, ExtensionContext context, A annotation) {
+		return true;
+	}
+
+	/**
+	 * @see RandomAccessArgumentsProvider#provideArgumentsList
+	 */
+	abstract List<? extends Arguments> provideArgumentsList(ParameterDeclarations parameters,
+			ExtensionContext context, A annotation);
+
+}
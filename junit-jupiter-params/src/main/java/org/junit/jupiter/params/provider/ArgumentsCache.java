@@ -0,0 +1,79 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.params.provider;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.reflect.Member;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.platform.commons.support.ModifierSupport;
+import org.junit.platform.commons.util.CollectionUtils;
+
+/**
+ * Cache for the elements provided by {@link MethodSource @MethodSource}
+ * factory methods and {@link FieldSource @FieldSource} fields whose
+ * arguments are {@linkplain MethodSource#cacheArguments() cached}.
+ *
+ * <p>The elements of {@code static} sources are stored in the
+ * {@link ExtensionContext.Store Store} of the root extension context. The
+ * elements of all other sources are stored in the outermost extension context
+ * that shares the test instance so that they are not retained longer than
+ * the test instance itself.
+ *
+ * @since 6.0
+ */
+final class ArgumentsCache {
+
+	private static final Namespace NAMESPACE = Namespace.create(ArgumentsCache.class);
+
+	private ArgumentsCache() {
+		/* no-op */
+	}
+
+	/**
+	 * Get the cached elements for the supplied source or materialize the
+	 * "stream" returned by the supplied factory into a list and cache it.
+	 */
+	static List<?> getOrCompute(ExtensionContext context, Member source, @Nullable Object testInstance,
+			Supplier<?> factory) {
+
+		ExtensionContext cacheContext = ModifierSupport.isStatic(source) //
+				? context.getRoot() //
+				: findOutermostContextWithSameTestInstance(context, testInstance);
+		return requireNonNull(cacheContext.getStore(NAMESPACE) //
+				.getOrComputeIfAbsent(source, __ -> materialize(factory.get()), List.class));
+	}
+
+	private static ExtensionContext findOutermostContextWithSameTestInstance(ExtensionContext context,
+			@Nullable Object testInstance) {
+		ExtensionContext current = context;
+		Optional<ExtensionContext> parent = current.getParent();
+		while (parent.isPresent() && parent.get().getTestInstance().orElse(null) == testInstance) {
+			current = parent.get();
+			parent = current.getParent();
+		}
+		return current;
+	}
+
+	private static List<?> materialize(Object elements) {
+		try (Stream<?> stream = CollectionUtils.toStream(elements)) {
+			return stream.toList();
+		}
+	}
+
+}
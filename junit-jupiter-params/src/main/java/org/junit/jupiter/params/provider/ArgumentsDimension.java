@@ -0,0 +1,100 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.params.provider;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.apiguardian.api.API;
+
+/**
+ * {@code @ArgumentsDimension} declares the values of a single dimension, or
+ * parameter, of a {@link CartesianProductSource @CartesianProductSource} or
+ * a {@link PairwiseSource @PairwiseSource}.
+ *
+ * <p>Supported types include {@link #shorts}, {@link #bytes}, {@link #ints},
+ * {@link #longs}, {@link #floats}, {@link #doubles}, {@link #chars},
+ * {@link #booleans}, {@link #strings}, {@link #classes}, and the constants of
+ * an {@link #enums enum}. Note, however, that only one of the supported
+ * types may be specified per {@code @ArgumentsDimension} declaration.
+ *
+ * @since 6.0
+ * @see CartesianProductSource
+ * @see PairwiseSource
+ */
+@Target({})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@API(status = EXPERIMENTAL, since = "6.0")
+public @interface ArgumentsDimension {
+
+	/**
+	 * The {@code short} values of this dimension.
+	 */
+	short[] shorts() default {};
+
+	/**
+	 * The {@code byte} values of this dimension.
+	 */
+	byte[] bytes() default {};
+
+	/**
+	 * The {@code int} values of this dimension.
+	 */
+	int[] ints() default {};
+
+	/**
+	 * The {@code long} values of this dimension.
+	 */
+	long[] longs() default {};
+
+	/**
+	 * The {@code float} values of this dimension.
+	 */
+	float[] floats() default {};
+
+	/**
+	 * The {@code double} values of this dimension.
+	 */
+	double[] doubles() default {};
+
+	/**
+	 * The {@code char} values of this dimension.
+	 */
+	char[] chars() default {};
+
+	/**
+	 * The {@code boolean} values of this dimension.
+	 */
+	boolean[] booleans() default {};
+
+	/**
+	 * The {@link String} values of this dimension.
+	 */
+	String[] strings() default {};
+
+	/**
+	 * The {@link Class} values of this dimension.
+	 */
+	Class<?>[] classes() default {};
+
+	/**
+	 * The enum type whose constants are the values of this dimension.
+	 *
+	 * <p>The constants are used in the order in which they are declared.
+	 */
+	Class<? extends Enum<?>> enums() default NullEnum.class;
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.params.provider;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.platform.commons.util.Preconditions;
+
+/**
+ * Utilities for extracting the values of {@link ArgumentsDimension}
+ * declarations.
+ *
+ * @since 6.0
+ */
+final class ArgumentsDimensions {
+
+	private ArgumentsDimensions() {
+		/* no-op */
+	}
+
+	static List<List<Object>> valuesOf(ArgumentsDimension[] dimensions,
+			Class<? extends Annotation> sourceAnnotationType) {
+
+		Preconditions.condition(dimensions.length > 0, () -> "At least one @"
+				+ ArgumentsDimension.class.getSimpleName() + " must be declared in the @"
+				+ sourceAnnotationType.getSimpleName() + " annotation");
+		return Arrays.stream(dimensions).map(ArgumentsDimensions::valuesOf).toList();
+	}
+
+	private static List<Object> valuesOf(ArgumentsDimension dimension) {
+		Object enumConstants = dimension.enums() == NullEnum.class ? new Object[0]
+				: dimension.enums().getEnumConstants();
+
+		// @formatter:off
+		List<?> arrays =
+			Stream.of(
+				dimension.shorts(),
+				dimension.bytes(),
+				dimension.ints(),
+				dimension.longs(),
+				dimension.floats(),
+				dimension.doubles(),
+				dimension.chars(),
+				dimension.booleans(),
+				dimension.strings(),
+				dimension.classes(),
+				enumConstants
+			)
+			.filter(array -> Array.getLength(array) > 0)
+			.toList();
+		// @formatter:on
+
+		Preconditions.condition(arrays.size() == 1, () -> "Exactly one type of input must be provided in each @"
+				+ ArgumentsDimension.class.getSimpleName() + " annotation, but there were " + arrays.size());
+
+		Object array = arrays.get(0);
+		return IntStream.range(0, Array.getLength(array)) //
+				.mapToObj(index -> Array.get(array, index)) //
+				.toList();
+	}
+
+}
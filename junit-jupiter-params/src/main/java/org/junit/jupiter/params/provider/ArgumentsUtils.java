@@ -12,6 +12,13 @@ package org.junit.jupiter.params.provider;
 
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
+import java.lang.reflect.Array;
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+
+import org.junit.platform.commons.util.CollectionUtils;
+import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.commons.util.ReflectionUtils;
 
 /**
@@ -50,4 +57,38 @@ final class ArgumentsUtils {
 		return arguments(item);
 	}
 
+	/**
+	 * Create a view of the supplied {@link List} or array whose elements are
+	 * {@linkplain #toArguments(Object) converted} into {@link Arguments} when
+	 * they are accessed.
+	 */
+	static List<Arguments> toArgumentsList(Object listOrArray) {
+		if (listOrArray instanceof List<?> list) {
+			return CollectionUtils.transformedView(list, ArgumentsUtils::toArguments);
+		}
+		Preconditions.condition(listOrArray.getClass().isArray(),
+			() -> "Cannot convert instance of %s into a List".formatted(listOrArray.getClass().getName()));
+		return new ArrayArgumentsList(listOrArray);
+	}
+
+	private static final class ArrayArgumentsList extends AbstractList<Arguments> implements RandomAccess {
+
+		private final Object array;
+
+		ArrayArgumentsList(Object array) {
+			this.array = array;
+		}
+
+		@Override
+		public Arguments get(int index) {
+			return toArguments(Array.get(this.array, index));
+		}
+
+		@Override
+		public int size() {
+			return Array.getLength(this.array);
+		}
+
+	}
+
 }
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.params.provider;
+
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.junit.platform.commons.PreconditionViolationException;
+
+/**
+ * Cartesian product of a list of dimensions whose combinations are computed
+ * from their index rather than materialized.
+ *
+ * <p>Combinations are ordered lexicographically, i.e., the values of the
+ * last dimension vary fastest.
+ *
+ * @since 6.0
+ * @see CartesianProductArgumentsProvider
+ */
+final class CartesianProduct {
+
+	private final List<List<Object>> dimensions;
+
+	private final long size;
+
+	CartesianProduct(List<List<Object>> dimensions) {
+		this.dimensions = dimensions;
+		this.size = computeSize(dimensions);
+	}
+
+	private static long computeSize(List<List<Object>> dimensions) {
+		long size = 1;
+		try {
+			for (List<Object> dimension : dimensions) {
+				size = Math.multiplyExact(size, dimension.size());
+			}
+		}
+		catch (ArithmeticException e) {
+			throw new PreconditionViolationException(
+				"The Cartesian product of the declared dimensions must not have more than " + Long.MAX_VALUE
+						+ " combinations");
+		}
+		return size;
+	}
+
+	long size() {
+		return this.size;
+	}
+
+	Object[] get(long index) {
+		Object[] combination = new Object[this.dimensions.size()];
+		long remainder = index;
+		for (int i = combination.length - 1; i >= 0; i--) {
+			List<Object> dimension = this.dimensions.get(i);
+			combination[i] = dimension.get((int) (remainder % dimension.size()));
+			remainder /= dimension.size();
+		}
+		return combination;
+	}
+
+	Stream<Object[]> stream() {
+		return LongStream.range(0, this.size).mapToObj(this::get);
+	}
+
+}
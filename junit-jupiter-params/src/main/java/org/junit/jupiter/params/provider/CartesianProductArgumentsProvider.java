@@ -0,0 +1,72 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.params.provider;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.support.ParameterDeclarations;
+
+/**
+ * @since 6.0
+ */
+class CartesianProductArgumentsProvider extends AnnotationBasedRandomAccessArgumentsProvider<CartesianProductSource> {
+
+	@Override
+	protected Stream<? extends Arguments> provideArguments(ParameterDeclarations parameters, ExtensionContext context,
+			CartesianProductSource cartesianProductSource) {
+		return createProduct(cartesianProductSource).stream().map(Arguments::of);
+	}
+
+	@Override
+	boolean supportsRandomAccess(ParameterDeclarations parameters, ExtensionContext context,
+			CartesianProductSource cartesianProductSource) {
+		return createProduct(cartesianProductSource).size() <= Integer.MAX_VALUE;
+	}
+
+	@Override
+	List<Arguments> provideArgumentsList(ParameterDeclarations parameters, ExtensionContext context,
+			CartesianProductSource cartesianProductSource) {
+		return new CombinationsList(createProduct(cartesianProductSource));
+	}
+
+	private static CartesianProduct createProduct(CartesianProductSource cartesianProductSource) {
+		return new CartesianProduct(
+			ArgumentsDimensions.valuesOf(cartesianProductSource.value(), CartesianProductSource.class));
+	}
+
+	private static final class CombinationsList extends AbstractList<Arguments> implements RandomAccess {
+
+		private final CartesianProduct product;
+
+		CombinationsList(CartesianProduct product) {
+			this.product = product;
+		}
+
+		@Override
+		public Arguments get(int index) {
+			if (index < 0 || index >= size()) {
+				throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size());
+			}
+			return Arguments.of(this.product.get(index));
+		}
+
+		@Override
+		public int size() {
+			return (int) this.product.size();
+		}
+
+	}
+
+}
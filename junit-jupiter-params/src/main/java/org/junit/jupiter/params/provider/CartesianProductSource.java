@@ -0,0 +1,65 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.params.provider;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.apiguardian.api.API;
+
+/**
+ * {@code @CartesianProductSource} is an {@link ArgumentsSource} which provides
+ * all combinations of the values of its {@linkplain #value() dimensions}.
+ *
+ * <p>Each combination is provided as one set of arguments that contains one
+ * value of each dimension in the order in which the dimensions are declared.
+ * Combinations are provided in lexicographic order, i.e., the values of the
+ * last dimension vary fastest, as if iterating over the dimensions in nested
+ * loops.
+ *
+ * <p>The combinations are computed from their index when they are consumed.
+ * Thus, the Cartesian product is never materialized, regardless of its size.
+ *
+ * <p>The combinations will be provided as arguments to the annotated
+ * {@code @ParameterizedClass} or {@code @ParameterizedTest}.
+ *
+ * <h2>Inheritance</h2>
+ *
+ * <p>This annotation is inherited to subclasses.
+ *
+ * @since 6.0
+ * @see ArgumentsDimension
+ * @see PairwiseSource
+ * @see org.junit.jupiter.params.provider.ArgumentsSource
+ * @see org.junit.jupiter.params.ParameterizedClass
+ * @see org.junit.jupiter.params.ParameterizedTest
+ */
+@Target({ ElementType.ANNOTATION_TYPE, ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@API(status = EXPERIMENTAL, since = "6.0")
+@ArgumentsSource(CartesianProductArgumentsProvider.class)
+@SuppressWarnings("exports")
+public @interface CartesianProductSource {
+
+	/**
+	 * The dimensions to combine; must not be empty.
+	 */
+	ArgumentsDimension[] value();
+
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.params.provider;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.junit.platform.commons.PreconditionViolationException;
+import org.junit.platform.commons.util.Preconditions;
+
+/**
+ * Generates the combinations of a covering array of a given strength for a
+ * list of dimensions, one combination at a time.
+ *
+ * <p>An <em>interaction</em> is a set of {@code strength} dimensions. A
+ * covering array contains every combination of values of the dimensions of
+ * every interaction in at least one of its combinations. This generator
+ * keeps track of the value combinations of each interaction that are not
+ * covered yet. It constructs each combination greedily by starting with the
+ * first uncovered value combination of the interaction with the most
+ * uncovered value combinations and then choosing the value of each
+ * remaining dimension that covers the most uncovered value combinations,
+ * preferring values that have been used less often.
+ * Thus, each generated combination covers at least one value combination
+ * that was not covered before, and the generated combinations are
+ * deterministic.
+ *
+ * @since 6.0
+ * @see PairwiseArgumentsProvider
+ */
+final class CoveringArrayGenerator implements Iterator<Object[]> {
+
+	private final List<List<Object>> dimensions;
+
+	private final int[] sizes;
+
+	private final Interaction[] interactions;
+
+	private final Interaction[][] interactionsByDimension;
+
+	private final int[][] usages;
+
+	private long uncovered;
+
+	CoveringArrayGenerator(List<List<Object>> dimensions, int strength) {
+		Preconditions.condition(strength > 0, () -> "strength must be positive, but was " + strength);
+		this.dimensions = dimensions;
+		this.sizes = dimensions.stream().mapToInt(List::size).toArray();
+		this.interactions = createInteractions(this.sizes, Math.min(strength, dimensions.size()));
+		this.interactionsByDimension = groupByDimension(this.interactions, this.sizes.length);
+		this.usages = Arrays.stream(this.sizes).mapToObj(int[]::new).toArray(int[][]::new);
+		this.uncovered = Arrays.stream(this.interactions).mapToLong(interaction -> interaction.uncovered).sum();
+	}
+
+	private static Interaction[] createInteractions(int[] sizes, int strength) {
+		List<Interaction> interactions = new ArrayList<>();
+		int[] dimensions = new int[strength];
+		for (int i = 0; i < strength; i++) {
+			dimensions[i] = i;
+		}
+		while (true) {
+			interactions.add(new Interaction(dimensions.clone(), sizes));
+			// advance to the next combination of dimensions in lexicographic order
+			int i = strength - 1;
+			while (i >= 0 && dimensions[i] == sizes.length - strength + i) {
+				i--;
+			}
+			if (i < 0) {
+				return interactions.toArray(new Interaction[0]);
+			}
+			dimensions[i]++;
+			for (int j = i + 1; j < strength; j++) {
+				dimensions[j] = dimensions[j - 1] + 1;
+			}
+		}
+	}
+
+	private static Interaction[][] groupByDimension(Interaction[] interactions, int numberOfDimensions) {
+		Interaction[][] result = new Interaction[numberOfDimensions][];
+		for (int dimension = 0; dimension < numberOfDimensions; dimension++) {
+			int current = dimension;
+			result[dimension] = Arrays.stream(interactions) //
+					.filter(interaction -> interaction.contains(current)) //
+					.toArray(Interaction[]::new);
+		}
+		return result;
+	}
+
+	@Override
+	public boolean hasNext() {
+		return this.uncovered > 0;
+	}
+
+	@Override
+	public Object[] next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		int[] row = new int[this.sizes.length];
+		Arrays.fill(row, -1);
+		leastCoveredInteraction().assignFirstUncovered(row);
+		for (int dimension = 0; dimension < row.length; dimension++) {
+			if (row[dimension] == -1) {
+				row[dimension] = selectValue(row, dimension);
+			}
+		}
+		for (Interaction interaction : this.interactions) {
+			if (interaction.cover(row)) {
+				this.uncovered--;
+			}
+		}
+		Object[] combination = new Object[row.length];
+		for (int dimension = 0; dimension < row.length; dimension++) {
+			this.usages[dimension][row[dimension]]++;
+			combination[dimension] = this.dimensions.get(dimension).get(row[dimension]);
+		}
+		return combination;
+	}
+
+	private Interaction leastCoveredInteraction() {
+		Interaction best = this.interactions[0];
+		for (Interaction interaction : this.interactions) {
+			if (interaction.uncovered > best.uncovered) {
+				best = interaction;
+			}
+		}
+		return best;
+	}
+
+	private int selectValue(int[] row, int dimension) {
+		int bestValue = 0;
+		int bestGain = -1;
+		for (int value = 0; value < this.sizes[dimension]; value++) {
+			row[dimension] = value;
+			int gain = 0;
+			for (Interaction interaction : this.interactionsByDimension[dimension]) {
+				if (interaction.isUncovered(row)) {
+					gain++;
+				}
+			}
+			// prefer values that have been used less often to break ties
+			if (gain > bestGain
+					|| (gain == bestGain && this.usages[dimension][value] < this.usages[dimension][bestValue])) {
+				bestValue = value;
+				bestGain = gain;
+			}
+		}
+		return bestValue;
+	}
+
+	private static final class Interaction {
+
+		private final int[] dimensions;
+
+		private final int[] sizes;
+
+		private final BitSet covered = new BitSet();
+
+		private int uncovered;
+
+		Interaction(int[] dimensions, int[] sizes) {
+			this.dimensions = dimensions;
+			this.sizes = sizes;
+			int count = 1;
+			try {
+				for (int dimension : dimensions) {
+					count = Math.multiplyExact(count, sizes[dimension]);
+				}
+			}
+			catch (ArithmeticException e) {
+				throw new PreconditionViolationException(
+					"The number of value combinations of " + dimensions.length + " dimensions must not exceed "
+							+ Integer.MAX_VALUE);
+			}
+			this.uncovered = count;
+		}
+
+		boolean contains(int dimension) {
+			for (int candidate : this.dimensions) {
+				if (candidate == dimension) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		void assignFirstUncovered(int[] row) {
+			int index = this.covered.nextClearBit(0);
+			for (int i = this.dimensions.length - 1; i >= 0; i--) {
+				int size = this.sizes[this.dimensions[i]];
+				row[this.dimensions[i]] = index % size;
+				index /= size;
+			}
+		}
+
+		/**
+		 * Determine whether all dimensions of this interaction are assigned in
+		 * the supplied row and their values are not covered yet.
+		 */
+		boolean isUncovered(int[] row) {
+			int index = indexOf(row);
+			return index >= 0 && !this.covered.get(index);
+		}
+
+		/**
+		 * Mark the values of the supplied, fully assigned row as covered.
+		 *
+		 * @return {@code true} if they were not covered before
+		 */
+		boolean cover(int[] row) {
+			int index = indexOf(row);
+			if (this.covered.get(index)) {
+				return false;
+			}
+			this.covered.set(index);
+			this.uncovered--;
+			return true;
+		}
+
+		private int indexOf(int[] row) {
+			int index = 0;
+			for (int dimension : this.dimensions) {
+				if (row[dimension] < 0) {
+					return -1;
+				}
+				index = index * this.sizes[dimension] + row[dimension];
+			}
+			return index;
+		}
+
+	}
+
+}
@@ -29,11 +29,17 @@ import org.junit.platform.commons.util.UnrecoverableExceptions;
 /**
  * @since 5.0
  */
-class CsvArgumentsProvider extends AnnotationBasedArgumentsProvider<CsvSource> {
+class CsvArgumentsProvider extends AnnotationBasedRandomAccessArgumentsProvider<CsvSource> {
 
 	@Override
 	protected Stream<? extends Arguments> provideArguments(ParameterDeclarations parameters, ExtensionContext context,
 			CsvSource csvSource) {
+		return provideArgumentsList(parameters, context, csvSource).stream();
+	}
+
+	@Override
+	List<Arguments> provideArgumentsList(ParameterDeclarations parameters, ExtensionContext context,
+			CsvSource csvSource) {
 
 		CsvReaderFactory.validate(csvSource);
 
@@ -49,7 +55,7 @@ class CsvArgumentsProvider extends AnnotationBasedArgumentsProvider<CsvSource> {
 			throw handleCsvException(throwable, csvSource);
 		}
 
-		return arguments.stream();
+		return arguments;
 	}
 
 	private static String getData(CsvSource csvSource) {
@@ -18,6 +18,7 @@ import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
@@ -36,14 +37,26 @@ import org.junit.platform.commons.util.Preconditions;
  */
 class CsvFileArgumentsProvider extends AnnotationBasedArgumentsProvider<CsvFileSource> {
 
+	static final String PARALLEL_PARSING_ENABLED_KEY = "junit.jupiter.params.csv.file.parallel.enabled";
+
 	private final InputStreamProvider inputStreamProvider;
+	private final int parallelParsingChunkSize;
 
 	CsvFileArgumentsProvider() {
 		this(DefaultInputStreamProvider.INSTANCE);
 	}
 
 	CsvFileArgumentsProvider(InputStreamProvider inputStreamProvider) {
+		this(inputStreamProvider, ParallelCsvFileReader.DEFAULT_CHUNK_SIZE);
+	}
+
+	CsvFileArgumentsProvider(int parallelParsingChunkSize) {
+		this(DefaultInputStreamProvider.INSTANCE, parallelParsingChunkSize);
+	}
+
+	private CsvFileArgumentsProvider(InputStreamProvider inputStreamProvider, int parallelParsingChunkSize) {
 		this.inputStreamProvider = inputStreamProvider;
+		this.parallelParsingChunkSize = parallelParsingChunkSize;
 	}
 
 	@Override
@@ -54,19 +67,43 @@ class CsvFileArgumentsProvider extends AnnotationBasedArgumentsProvider<CsvFileS
 
 		CsvReaderFactory.validate(csvFileSource);
 
+		boolean parallelParsing = context.getConfigurationParameter(PARALLEL_PARSING_ENABLED_KEY) //
+				.map(Boolean::parseBoolean) //
+				.orElse(false);
+
 		Stream<Source> resources = Arrays.stream(csvFileSource.resources()).map(inputStreamProvider::classpathResource);
-		Stream<Source> files = Arrays.stream(csvFileSource.files()).map(inputStreamProvider::file);
+		Stream<Source> files = Arrays.stream(csvFileSource.files()) //
+				.map(path -> parallelParsing ? parallelFile(path) : inputStreamProvider.file(path));
 		List<Source> sources = Stream.concat(resources, files).toList();
 
 		// @formatter:off
 		return Preconditions.notEmpty(sources, "Resources or files must not be empty")
 				.stream()
-				.map(source -> source.open(context))
-				.map(inputStream -> CsvReaderFactory.createReaderFor(csvFileSource, inputStream, charset))
-				.flatMap(reader -> toStream(reader, csvFileSource));
+				.flatMap(source -> source.read(context, csvFileSource, charset));
 		// @formatter:on
 	}
 
+	private Source parallelFile(String path) {
+		Source fallback = inputStreamProvider.file(path);
+		return new Source() {
+
+			@Override
+			public InputStream open(ExtensionContext context) {
+				return fallback.open(context);
+			}
+
+			@Override
+			public Stream<Arguments> read(ExtensionContext context, CsvFileSource csvFileSource, Charset charset) {
+				Preconditions.notBlank(path, () -> "File [" + path + "] must not be null or blank");
+				// @formatter:off
+				return ParallelCsvFileReader.tryOpen(Path.of(path), csvFileSource, charset, parallelParsingChunkSize)
+						.map(reader -> toStream(reader, csvFileSource))
+						.orElseGet(() -> Source.super.read(context, csvFileSource, charset));
+				// @formatter:on
+			}
+		};
+	}
+
 	private static Charset getCharsetFrom(CsvFileSource csvFileSource) {
 		try {
 			return Charset.forName(csvFileSource.encoding());
@@ -77,7 +114,17 @@ class CsvFileArgumentsProvider extends AnnotationBasedArgumentsProvider<CsvFileS
 	}
 
 	private static Stream<Arguments> toStream(CsvReader<? extends CsvRecord> reader, CsvFileSource csvFileSource) {
-		var spliterator = CsvExceptionHandlingSpliterator.delegatingTo(reader.spliterator(), csvFileSource);
+		return toStream(reader.spliterator(), reader, csvFileSource);
+	}
+
+	private static Stream<Arguments> toStream(ParallelCsvFileReader reader, CsvFileSource csvFileSource) {
+		return toStream(Spliterators.spliteratorUnknownSize(reader, Spliterator.ORDERED | Spliterator.NONNULL), reader,
+			csvFileSource);
+	}
+
+	private static Stream<Arguments> toStream(Spliterator<? extends CsvRecord> records, AutoCloseable reader,
+			CsvFileSource csvFileSource) {
+		var spliterator = CsvExceptionHandlingSpliterator.delegatingTo(records, csvFileSource);
 		boolean useHeadersInDisplayName = csvFileSource.useHeadersInDisplayName();
 		// @formatter:off
 		return StreamSupport.stream(spliterator, false)
@@ -136,6 +183,11 @@ class CsvFileArgumentsProvider extends AnnotationBasedArgumentsProvider<CsvFileS
 
 		InputStream open(ExtensionContext context);
 
+		default Stream<Arguments> read(ExtensionContext context, CsvFileSource csvFileSource, Charset charset) {
+			InputStream inputStream = open(context);
+			return toStream(CsvReaderFactory.createReaderFor(csvFileSource, inputStream, charset), csvFileSource);
+		}
+
 	}
 
 	interface InputStreamProvider {
@@ -89,9 +89,18 @@ class CsvReaderFactory {
 	static CsvReader<? extends CsvRecord> createReaderFor(CsvFileSource csvFileSource, InputStream inputStream,
 			Charset charset) {
 
+		return createReaderBuilderFor(csvFileSource).build(createCallbackHandlerFor(csvFileSource), inputStream,
+			charset);
+	}
+
+	static CsvReader<? extends CsvRecord> createReaderFor(CsvFileSource csvFileSource, String data) {
+		return createReaderBuilderFor(csvFileSource).build(createCallbackHandlerFor(csvFileSource), data);
+	}
+
+	private static CsvReader.CsvReaderBuilder createReaderBuilderFor(CsvFileSource csvFileSource) {
 		String delimiter = selectDelimiter(csvFileSource.delimiter(), csvFileSource.delimiterString());
 		// @formatter:off
-		var builder = CsvReader.builder()
+		return CsvReader.builder()
 				.skipEmptyLines(SKIP_EMPTY_LINES)
 				.trimWhitespacesAroundQuotes(TRIM_WHITESPACES_AROUND_QUOTES)
 				.allowExtraFields(ALLOW_EXTRA_FIELDS)
@@ -99,8 +108,12 @@ class CsvReaderFactory {
 				.fieldSeparator(delimiter)
 				.quoteCharacter(csvFileSource.quoteCharacter())
 				.commentStrategy(SKIP);
+		// @formatter:on
+	}
 
-		var callbackHandler = createCallbackHandler(
+	private static CsvCallbackHandler<? extends CsvRecord> createCallbackHandlerFor(CsvFileSource csvFileSource) {
+		// @formatter:off
+		return createCallbackHandler(
 				csvFileSource.emptyValue(),
 				Set.of(csvFileSource.nullValues()),
 				csvFileSource.ignoreLeadingAndTrailingWhitespace(),
@@ -108,7 +121,10 @@ class CsvReaderFactory {
 				csvFileSource.useHeadersInDisplayName()
 		);
 		// @formatter:on
-		return builder.build(callbackHandler, inputStream, charset);
+	}
+
+	static String selectDelimiter(CsvFileSource csvFileSource) {
+		return selectDelimiter(csvFileSource.delimiter(), csvFileSource.delimiterString());
 	}
 
 	private static String selectDelimiter(char delimiter, String delimiterString) {
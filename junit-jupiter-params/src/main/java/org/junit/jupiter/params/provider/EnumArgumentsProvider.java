@@ -13,7 +13,9 @@ package org.junit.jupiter.params.provider;
 import static java.util.Arrays.stream;
 import static java.util.stream.Collectors.toSet;
 
+import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Stream;
 
@@ -21,16 +23,23 @@ import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.params.support.ParameterDeclaration;
 import org.junit.jupiter.params.support.ParameterDeclarations;
 import org.junit.platform.commons.PreconditionViolationException;
+import org.junit.platform.commons.util.CollectionUtils;
 import org.junit.platform.commons.util.Preconditions;
 
 /**
  * @since 5.0
  */
-class EnumArgumentsProvider extends AnnotationBasedArgumentsProvider<EnumSource> {
+class EnumArgumentsProvider extends AnnotationBasedRandomAccessArgumentsProvider<EnumSource> {
 
 	@Override
 	protected Stream<? extends Arguments> provideArguments(ParameterDeclarations parameters, ExtensionContext context,
 			EnumSource enumSource) {
+		return provideArgumentsList(parameters, context, enumSource).stream();
+	}
+
+	@Override
+	List<Arguments> provideArgumentsList(ParameterDeclarations parameters, ExtensionContext context,
+			EnumSource enumSource) {
 		Set<? extends Enum<?>> constants = getEnumConstants(parameters, enumSource);
 		EnumSource.Mode mode = enumSource.mode();
 		String[] declaredConstantNames = enumSource.names();
@@ -41,7 +50,7 @@ class EnumArgumentsProvider extends AnnotationBasedArgumentsProvider<EnumSource>
 			mode.validate(enumSource, constants, uniqueNames);
 			constants.removeIf(constant -> !mode.select(constant, uniqueNames));
 		}
-		return constants.stream().map(Arguments::of);
+		return CollectionUtils.transformedView(new ArrayList<>(constants), Arguments::of);
 	}
 
 	private <E extends Enum<E>> Set<? extends E> getEnumConstants(ParameterDeclarations parameters,
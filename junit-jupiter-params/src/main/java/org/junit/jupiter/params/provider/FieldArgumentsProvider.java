@@ -18,6 +18,7 @@ import java.lang.reflect.Method;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
@@ -41,13 +42,52 @@ import org.junit.platform.commons.util.ReflectionUtils.HierarchyTraversalMode;
  *
  * @since 5.11
  */
-class FieldArgumentsProvider extends AnnotationBasedArgumentsProvider<FieldSource> {
+class FieldArgumentsProvider extends AnnotationBasedRandomAccessArgumentsProvider<FieldSource> {
 
 	@Override
 	protected Stream<? extends Arguments> provideArguments(ParameterDeclarations parameters, ExtensionContext context,
 			FieldSource fieldSource) {
-		Class<?> testClass = context.getRequiredTestClass();
 		Object testInstance = context.getTestInstance().orElse(null);
+		// @formatter:off
+		return findFields(context, fieldSource, testInstance)
+				.map(field -> readFieldValue(field, testInstance, context, fieldSource))
+				.flatMap(CollectionUtils::toStream)
+				.map(ArgumentsUtils::toArguments);
+		// @formatter:on
+	}
+
+	/**
+	 * Random access is only supported if arguments are cached or the values of
+	 * all fields are lists or arrays, i.e., if no {@link Supplier} has to be
+	 * called to determine it.
+	 */
+	@Override
+	boolean supportsRandomAccess(ParameterDeclarations parameters, ExtensionContext context,
+			FieldSource fieldSource) {
+		Object testInstance = context.getTestInstance().orElse(null);
+		// @formatter:off
+		return fieldSource.cacheArguments()
+				|| findFields(context, fieldSource, testInstance)
+					.map(field -> readField(field, testInstance))
+					.allMatch(fieldValue -> fieldValue instanceof List || fieldValue.getClass().isArray());
+		// @formatter:on
+	}
+
+	@Override
+	List<? extends Arguments> provideArgumentsList(ParameterDeclarations parameters, ExtensionContext context,
+			FieldSource fieldSource) {
+		Object testInstance = context.getTestInstance().orElse(null);
+		// @formatter:off
+		return CollectionUtils.concatenatedView(findFields(context, fieldSource, testInstance)
+				.map(field -> readFieldValue(field, testInstance, context, fieldSource))
+				.map(ArgumentsUtils::toArgumentsList)
+				.toList());
+		// @formatter:on
+	}
+
+	private static Stream<Field> findFields(ExtensionContext context, FieldSource fieldSource,
+			@Nullable Object testInstance) {
+		Class<?> testClass = context.getRequiredTestClass();
 		String[] fieldNames = fieldSource.value();
 		if (fieldNames.length == 0) {
 			Optional<Method> testMethod = context.getTestMethod();
@@ -58,18 +98,26 @@ class FieldArgumentsProvider extends AnnotationBasedArgumentsProvider<FieldSourc
 		// @formatter:off
 		return stream(fieldNames)
 				.map(fieldName -> findField(testClass, fieldName))
-				.map(field -> validateField(field, testInstance))
-				.map(field -> readField(field, testInstance))
-				.flatMap(fieldValue -> {
-					if (fieldValue instanceof Supplier<?> supplier) {
-						fieldValue = supplier.get();
-					}
-					return CollectionUtils.toStream(fieldValue);
-				})
-				.map(ArgumentsUtils::toArguments);
+				.map(field -> validateField(field, testInstance));
 		// @formatter:on
 	}
 
+	/**
+	 * Read the value of the supplied field and call it if it is a
+	 * {@link Supplier} or retrieve its cached result if arguments are
+	 * {@linkplain FieldSource#cacheArguments() cached}.
+	 */
+	private static Object readFieldValue(Field field, @Nullable Object testInstance, ExtensionContext context,
+			FieldSource fieldSource) {
+		Object fieldValue = readField(field, testInstance);
+		if (fieldValue instanceof Supplier<?> supplier) {
+			return fieldSource.cacheArguments() //
+					? ArgumentsCache.getOrCompute(context, field, testInstance, supplier) //
+					: supplier.get();
+		}
+		return fieldValue;
+	}
+
 	// package-private for testing
 	static Field findField(Class<?> testClass, String fieldName) {
 		Preconditions.notBlank(fieldName, "Field name must not be blank");
@@ -10,6 +10,7 @@
 
 package org.junit.jupiter.params.provider;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 
 import java.lang.annotation.Documented;
@@ -159,4 +160,31 @@ public @interface FieldSource {
 	 */
 	String[] value() default {};
 
+	/**
+	 * Whether the arguments provided by fields of type
+	 * {@link java.util.function.Supplier Supplier} should be cached and reused
+	 * by all parameterized classes and tests that reference the same field
+	 * with this attribute set to {@code true}.
+	 *
+	 * <p>If set to {@code true}, the {@code Supplier} is only called once, and
+	 * the elements of the supplied "stream" are stored in the
+	 * {@link org.junit.jupiter.api.extension.ExtensionContext.Store Store} of
+	 * the root extension context for {@code static} fields and of the
+	 * outermost extension context that shares the test instance for all other
+	 * fields. Cached arguments are therefore retained until the corresponding
+	 * extension context is closed. The values of all other fields are not
+	 * affected by this attribute since they are not recomputed anyway.
+	 *
+	 * <p>Since the same argument instances are passed to all parameterized
+	 * classes and tests, they should be immutable and must not be
+	 * {@link AutoCloseable} unless closing them is disabled via
+	 * {@link org.junit.jupiter.params.ParameterizedTest#autoCloseArguments()}.
+	 *
+	 * <p>Defaults to {@code false}.
+	 *
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	boolean cacheArguments() default false;
+
 }
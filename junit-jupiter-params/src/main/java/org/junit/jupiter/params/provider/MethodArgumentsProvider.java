@@ -37,7 +37,7 @@ import org.junit.platform.commons.util.StringUtils;
 /**
  * @since 5.0
  */
-class MethodArgumentsProvider extends AnnotationBasedArgumentsProvider<MethodSource> {
+class MethodArgumentsProvider extends AnnotationBasedRandomAccessArgumentsProvider<MethodSource> {
 
 	private static final Predicate<Method> isFactoryMethod = //
 		method -> isConvertibleToStream(method.getReturnType()) && !isTestMethod(method);
@@ -45,20 +45,69 @@ class MethodArgumentsProvider extends AnnotationBasedArgumentsProvider<MethodSou
 	@Override
 	protected Stream<? extends Arguments> provideArguments(ParameterDeclarations parameters, ExtensionContext context,
 			MethodSource methodSource) {
-		Class<?> testClass = context.getRequiredTestClass();
-		Optional<Method> testMethod = context.getTestMethod();
-		Object testInstance = context.getTestInstance().orElse(null);
-		String[] methodNames = methodSource.value();
 		// @formatter:off
-		return stream(methodNames)
-				.map(factoryMethodName -> findFactoryMethod(testClass, testMethod, factoryMethodName))
-				.map(factoryMethod -> validateFactoryMethod(factoryMethod, testInstance))
-				.map(factoryMethod -> Preconditions.notNull(context.getExecutableInvoker().invoke(factoryMethod, testInstance), () -> "@MethodSource-referenced method [%s] must not return null".formatted(factoryMethod.toGenericString())))
+		return findFactoryMethods(context, methodSource)
+				.map(factoryMethod -> invokeFactoryMethod(factoryMethod, context, methodSource.cacheArguments()))
 				.flatMap(CollectionUtils::toStream)
 				.map(ArgumentsUtils::toArguments);
 		// @formatter:on
 	}
 
+	/**
+	 * Random access is only supported if arguments are cached or all factory
+	 * methods are declared to return a {@link List} or an array so that they
+	 * don't have to be invoked to determine it.
+	 */
+	@Override
+	boolean supportsRandomAccess(ParameterDeclarations parameters, ExtensionContext context,
+			MethodSource methodSource) {
+		return methodSource.cacheArguments()
+				|| findFactoryMethods(context, methodSource).allMatch(MethodArgumentsProvider::returnsListOrArray);
+	}
+
+	@Override
+	List<? extends Arguments> provideArgumentsList(ParameterDeclarations parameters, ExtensionContext context,
+			MethodSource methodSource) {
+		// @formatter:off
+		return CollectionUtils.concatenatedView(findFactoryMethods(context, methodSource)
+				.map(factoryMethod -> invokeFactoryMethod(factoryMethod, context, methodSource.cacheArguments()))
+				.map(ArgumentsUtils::toArgumentsList)
+				.toList());
+		// @formatter:on
+	}
+
+	private static Stream<Method> findFactoryMethods(ExtensionContext context, MethodSource methodSource) {
+		Class<?> testClass = context.getRequiredTestClass();
+		Optional<Method> testMethod = context.getTestMethod();
+		return stream(methodSource.value()) //
+				.map(factoryMethodName -> findFactoryMethod(testClass, testMethod, factoryMethodName));
+	}
+
+	private static Object invokeFactoryMethod(Method factoryMethod, ExtensionContext context,
+			boolean cacheArguments) {
+		Object testInstance = context.getTestInstance().orElse(null);
+		validateFactoryMethod(factoryMethod, testInstance);
+		if (cacheArguments) {
+			Preconditions.condition(factoryMethod.getParameterCount() == 0,
+				() -> "@MethodSource-referenced method [%s] must not declare parameters when arguments are cached".formatted(
+					factoryMethod.toGenericString()));
+			return ArgumentsCache.getOrCompute(context, factoryMethod, testInstance,
+				() -> invoke(factoryMethod, context, testInstance));
+		}
+		return invoke(factoryMethod, context, testInstance);
+	}
+
+	private static Object invoke(Method factoryMethod, ExtensionContext context, @Nullable Object testInstance) {
+		return Preconditions.notNull(context.getExecutableInvoker().invoke(factoryMethod, testInstance),
+			() -> "@MethodSource-referenced method [%s] must not return null".formatted(
+				factoryMethod.toGenericString()));
+	}
+
+	private static boolean returnsListOrArray(Method factoryMethod) {
+		Class<?> returnType = factoryMethod.getReturnType();
+		return List.class.isAssignableFrom(returnType) || returnType.isArray();
+	}
+
 	private static Method findFactoryMethod(Class<?> testClass, Optional<Method> testMethod, String factoryMethodName) {
 		String originalFactoryMethodName = factoryMethodName;
 
@@ -10,6 +10,7 @@
 
 package org.junit.jupiter.params.provider;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
 import java.lang.annotation.Documented;
@@ -157,4 +158,30 @@ public @interface MethodSource {
 	 */
 	String[] value() default "";
 
+	/**
+	 * Whether the arguments returned by the factory methods should be cached
+	 * and reused by all parameterized classes and tests that reference the
+	 * same factory method with this attribute set to {@code true}.
+	 *
+	 * <p>If set to {@code true}, each factory method is only invoked once, and
+	 * the elements of the returned "stream" are stored in the
+	 * {@link org.junit.jupiter.api.extension.ExtensionContext.Store Store} of
+	 * the root extension context for {@code static} factory methods and of the
+	 * outermost extension context that shares the test instance for all other
+	 * factory methods. Cached arguments are therefore retained until the
+	 * corresponding extension context is closed.
+	 *
+	 * <p>Since the same argument instances are passed to all parameterized
+	 * classes and tests, they should be immutable and must not be
+	 * {@link AutoCloseable} unless closing them is disabled via
+	 * {@link org.junit.jupiter.params.ParameterizedTest#autoCloseArguments()}.
+	 * Factory methods that declare parameters cannot be cached.
+	 *
+	 * <p>Defaults to {@code false}.
+	 *
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	boolean cacheArguments() default false;
+
 }
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.params.provider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.support.ParameterDeclarations;
+
+/**
+ * @since 6.0
+ */
+class PairwiseArgumentsProvider extends AnnotationBasedRandomAccessArgumentsProvider<PairwiseSource> {
+
+	@Override
+	protected Stream<? extends Arguments> provideArguments(ParameterDeclarations parameters, ExtensionContext context,
+			PairwiseSource pairwiseSource) {
+		return provideArgumentsList(parameters, context, pairwiseSource).stream();
+	}
+
+	@Override
+	List<Arguments> provideArgumentsList(ParameterDeclarations parameters, ExtensionContext context,
+			PairwiseSource pairwiseSource) {
+		CoveringArrayGenerator generator = new CoveringArrayGenerator(
+			ArgumentsDimensions.valuesOf(pairwiseSource.value(), PairwiseSource.class), pairwiseSource.strength());
+		List<Arguments> combinations = new ArrayList<>();
+		generator.forEachRemaining(combination -> combinations.add(Arguments.of(combination)));
+		return combinations;
+	}
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.params.provider;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.apiguardian.api.API;
+
+/**
+ * {@code @PairwiseSource} is an {@link ArgumentsSource} which provides
+ * combinations of the values of its {@linkplain #value() dimensions} such
+ * that every pair of values of any two dimensions is contained in at least
+ * one combination.
+ *
+ * <p>Each combination is provided as one set of arguments that contains one
+ * value of each dimension in the order in which the dimensions are declared.
+ * The combinations form a <em>covering array</em> of the configured
+ * {@linkplain #strength() strength} which is usually much smaller than the
+ * {@linkplain CartesianProductSource Cartesian product} of the dimensions.
+ * The covering array is computed up front, before the first combination
+ * is provided, by greedily generating one combination at a time. This
+ * allows the combinations to be accessed by index, for example, when only
+ * selected invocations are executed. The generated combinations are
+ * deterministic.
+ *
+ * <p>The combinations will be provided as arguments to the annotated
+ * {@code @ParameterizedClass} or {@code @ParameterizedTest}.
+ *
+ * <h2>Inheritance</h2>
+ *
+ * <p>This annotation is inherited to subclasses.
+ *
+ * @since 6.0
+ * @see ArgumentsDimension
+ * @see CartesianProductSource
+ * @see org.junit.jupiter.params.provider.ArgumentsSource
+ * @see org.junit.jupiter.params.ParameterizedClass
+ * @see org.junit.jupiter.params.ParameterizedTest
+ */
+@Target({ ElementType.ANNOTATION_TYPE, ElementType.METHOD, ElementType.TYPE })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@API(status = EXPERIMENTAL, since = "6.0")
+@ArgumentsSource(PairwiseArgumentsProvider.class)
+@SuppressWarnings("exports")
+public @interface PairwiseSource {
+
+	/**
+	 * The dimensions to combine; must not be empty.
+	 */
+	ArgumentsDimension[] value();
+
+	/**
+	 * The number of dimensions whose value combinations are covered; must
+	 * be positive.
+	 *
+	 * <p>Defaults to {@code 2}, i.e., all pairs of values are covered. A
+	 * strength of {@code 3} covers all triples of values, and so on. If the
+	 * strength is greater than or equal to the number of dimensions, the
+	 * full Cartesian product is provided.
+	 */
+	int strength() default 2;
+
+}
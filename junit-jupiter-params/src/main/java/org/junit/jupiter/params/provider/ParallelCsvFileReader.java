@@ -0,0 +1,368 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.params.provider;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static java.nio.charset.StandardCharsets.US_ASCII;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import de.siegmar.fastcsv.reader.CsvReader;
+import de.siegmar.fastcsv.reader.CsvRecord;
+
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.util.ExceptionUtils;
+
+/**
+ * Reads the records of a CSV file in chunks that end at record boundaries
+ * and parses a bounded number of chunks in parallel while the records are
+ * consumed in encounter order.
+ *
+ * <p>Chunks are read into heap buffers via positional reads from a
+ * {@link FileChannel} that remains open until the reader is
+ * {@linkplain #close() closed}.
+ *
+ * <p>Chunk boundaries are determined by scanning the bytes of the file for
+ * line separators that are neither part of a quoted field nor of a comment.
+ * Since that requires the quote character, the delimiter, line separators,
+ * and the comment character to be encoded as single ASCII bytes that cannot
+ * occur as part of other characters, only {@code UTF-8}, {@code US-ASCII},
+ * and {@code ISO-8859-1} encoded files are supported.
+ *
+ * <p>If {@linkplain CsvFileSource#useHeadersInDisplayName() headers} are
+ * used, the header record is prepended to each chunk that does not already
+ * contain it.
+ *
+ * @since 6.0
+ * @see CsvFileArgumentsProvider
+ */
+class ParallelCsvFileReader implements Iterator<CsvRecord>, AutoCloseable {
+
+	static final int DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024;
+
+	private static final Set<Charset> SUPPORTED_CHARSETS = Set.of(UTF_8, US_ASCII, ISO_8859_1);
+
+	private static final byte COMMENT_CHARACTER = '#';
+
+	private static final int READ_AHEAD_SIZE = 8 * 1024;
+
+	private static final int MAX_BUFFER_SIZE = Integer.MAX_VALUE - 8;
+
+	/**
+	 * Try to open the supplied file for reading in parallel.
+	 *
+	 * @return an empty {@code Optional} if the file is not larger than a
+	 * single chunk or cannot be read in parallel due to its encoding or the
+	 * configured delimiter or quote character
+	 */
+	static Optional<ParallelCsvFileReader> tryOpen(Path file, CsvFileSource csvFileSource, Charset charset,
+			int chunkSize) {
+
+		String delimiter = CsvReaderFactory.selectDelimiter(csvFileSource);
+		if (!SUPPORTED_CHARSETS.contains(charset) || !isAscii(delimiter)
+				|| !isAscii(String.valueOf(csvFileSource.quoteCharacter()))) {
+			return Optional.empty();
+		}
+		FileChannel channel = null;
+		try {
+			channel = FileChannel.open(file, StandardOpenOption.READ);
+			long size = channel.size();
+			if (size <= chunkSize) {
+				channel.close();
+				return Optional.empty();
+			}
+			return Optional.of(new ParallelCsvFileReader(file, channel, size, csvFileSource, charset,
+				delimiter.getBytes(charset), chunkSize, Runtime.getRuntime().availableProcessors()));
+		}
+		catch (IOException e) {
+			JUnitException exception = couldNotBeRead(file, e);
+			if (channel != null) {
+				try {
+					channel.close();
+				}
+				catch (IOException closeException) {
+					exception.addSuppressed(closeException);
+				}
+			}
+			throw exception;
+		}
+	}
+
+	private static JUnitException couldNotBeRead(Path file, IOException cause) {
+		return new JUnitException("File [" + file + "] could not be read", cause);
+	}
+
+	private static boolean isAscii(String value) {
+		return value.chars().allMatch(c -> c < 0x80);
+	}
+
+	private final Path file;
+	private final FileChannel channel;
+	private final long size;
+	private final CsvFileSource csvFileSource;
+	private final Charset charset;
+	private final byte[] delimiter;
+	private final byte quoteCharacter;
+	private final int chunkSize;
+	private final int maxChunksInFlight;
+	private final Deque<CompletableFuture<List<CsvRecord>>> chunks = new ArrayDeque<>();
+
+	private long headerEnd = -1;
+	private String header = "";
+	private long nextChunkStart;
+	private Iterator<CsvRecord> currentChunk = Collections.emptyIterator();
+
+	private ParallelCsvFileReader(Path file, FileChannel channel, long size, CsvFileSource csvFileSource,
+			Charset charset, byte[] delimiter, int chunkSize, int maxChunksInFlight) {
+		this.file = file;
+		this.channel = channel;
+		this.size = size;
+		this.csvFileSource = csvFileSource;
+		this.charset = charset;
+		this.delimiter = delimiter;
+		this.quoteCharacter = (byte) csvFileSource.quoteCharacter();
+		this.chunkSize = chunkSize;
+		this.maxChunksInFlight = Math.max(1, maxChunksInFlight);
+	}
+
+	@Override
+	public boolean hasNext() {
+		while (!this.currentChunk.hasNext()) {
+			submitChunks();
+			CompletableFuture<List<CsvRecord>> chunk = this.chunks.poll();
+			if (chunk == null) {
+				return false;
+			}
+			this.currentChunk = join(chunk).iterator();
+		}
+		return true;
+	}
+
+	@Override
+	public CsvRecord next() {
+		if (!hasNext()) {
+			throw new NoSuchElementException();
+		}
+		return this.currentChunk.next();
+	}
+
+	private void submitChunks() {
+		try {
+			if (this.headerEnd == -1) {
+				initializeHeader();
+			}
+			while (this.chunks.size() < this.maxChunksInFlight && this.nextChunkStart < this.size) {
+				long start = this.nextChunkStart;
+				ByteBuffer chunk = readRecords(start, this.chunkSize, false);
+				this.nextChunkStart = start + chunk.limit();
+				String prefix = start >= this.headerEnd ? this.header : "";
+				this.chunks.add(CompletableFuture.supplyAsync(() -> parse(prefix, chunk)));
+			}
+		}
+		catch (IOException e) {
+			throw couldNotBeRead(this.file, e);
+		}
+	}
+
+	private void initializeHeader() throws IOException {
+		if (this.csvFileSource.useHeadersInDisplayName()) {
+			ByteBuffer header = readRecords(0, 0, true);
+			this.headerEnd = header.limit();
+			this.header = this.charset.decode(header).toString();
+		}
+		else {
+			this.headerEnd = Long.MAX_VALUE;
+		}
+	}
+
+	private List<CsvRecord> parse(String prefix, ByteBuffer chunk) {
+		List<CsvRecord> records = new ArrayList<>();
+		try (CsvReader<? extends CsvRecord> reader = CsvReaderFactory.createReaderFor(this.csvFileSource,
+			prefix + this.charset.decode(chunk))) {
+			reader.forEach(records::add);
+		}
+		catch (IOException e) {
+			throw new CompletionException(e);
+		}
+		return records;
+	}
+
+	/**
+	 * Read the records starting at the supplied position of the file into a
+	 * heap buffer.
+	 *
+	 * <p>The buffer is grown and scanned again until it contains the end of
+	 * the requested records or the end of the file.
+	 *
+	 * @param start the position of the first byte of a record
+	 * @param minimumLength the minimum number of bytes to read
+	 * @param firstNonEmptyRecord whether to read only up to the end of the
+	 * first record that is neither empty nor a comment
+	 * @return a buffer containing the read records whose limit is their end
+	 */
+	private ByteBuffer readRecords(long start, int minimumLength, boolean firstNonEmptyRecord) throws IOException {
+		long remaining = this.size - start;
+		ByteBuffer buffer = ByteBuffer.allocate(
+			(int) Math.min(remaining, Math.min((long) minimumLength + READ_AHEAD_SIZE, MAX_BUFFER_SIZE)));
+		while (true) {
+			boolean endOfFile = fill(buffer, start) || buffer.limit() == remaining;
+			int end = scan(buffer, minimumLength, firstNonEmptyRecord);
+			if (end < buffer.limit() || endOfFile) {
+				return buffer.slice(0, end);
+			}
+			if (buffer.capacity() == MAX_BUFFER_SIZE) {
+				throw new IOException("Record starting at position " + start + " is too large");
+			}
+			ByteBuffer grownBuffer = ByteBuffer.allocate(
+				(int) Math.min(remaining, Math.min(2L * buffer.capacity(), MAX_BUFFER_SIZE)));
+			buffer = grownBuffer.put(buffer.flip());
+		}
+	}
+
+	/**
+	 * Fill the remaining space of the supplied buffer with the bytes of the
+	 * file that follow the bytes it already contains.
+	 *
+	 * @return {@code true} if the end of the file was reached before the
+	 * buffer was filled, in which case its limit is set to its position
+	 */
+	private boolean fill(ByteBuffer buffer, long start) throws IOException {
+		while (buffer.hasRemaining()) {
+			if (this.channel.read(buffer, start + buffer.position()) < 0) {
+				buffer.limit(buffer.position());
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static List<CsvRecord> join(CompletableFuture<List<CsvRecord>> chunk) {
+		try {
+			return chunk.join();
+		}
+		catch (CompletionException e) {
+			throw ExceptionUtils.throwAsUncheckedException(e.getCause() == null ? e : e.getCause());
+		}
+	}
+
+	/**
+	 * Scan the supplied buffer for the end of a record, starting at its
+	 * first byte which must be the beginning of a record.
+	 *
+	 * @param buffer the buffer to scan up to its limit
+	 * @param minimumEnd the minimum index of the record end to return
+	 * @param firstNonEmptyRecord whether to return the end of the first
+	 * record that is neither empty nor a comment regardless of
+	 * {@code minimumEnd}
+	 * @return the index after the line separator of the record end or the
+	 * limit of the buffer
+	 */
+	private int scan(ByteBuffer buffer, int minimumEnd, boolean firstNonEmptyRecord) {
+		int limit = buffer.limit();
+		boolean atRecordStart = true;
+		boolean atFieldStart = true;
+		boolean inQuotes = false;
+		boolean inComment = false;
+		boolean recordHasContent = false;
+		for (int i = 0; i < limit; i++) {
+			byte b = buffer.get(i);
+			if (inQuotes) {
+				if (b == this.quoteCharacter) {
+					if (i + 1 < limit && buffer.get(i + 1) == this.quoteCharacter) {
+						i++;
+					}
+					else {
+						inQuotes = false;
+					}
+				}
+			}
+			else if (b == '\n' || b == '\r') {
+				int end = (b == '\r' && i + 1 < limit && buffer.get(i + 1) == '\n') ? i + 2 : i + 1;
+				if (firstNonEmptyRecord ? recordHasContent : end >= minimumEnd) {
+					return end;
+				}
+				i = end - 1;
+				atRecordStart = true;
+				atFieldStart = true;
+				inComment = false;
+				recordHasContent = false;
+			}
+			else if (inComment) {
+				// ignore everything up to the end of the line
+			}
+			else if (atRecordStart && b == COMMENT_CHARACTER) {
+				inComment = true;
+				atRecordStart = false;
+			}
+			else if (matchesDelimiterAt(buffer, i)) {
+				i += this.delimiter.length - 1;
+				atRecordStart = false;
+				atFieldStart = true;
+				recordHasContent = true;
+			}
+			else if (atFieldStart && b == this.quoteCharacter) {
+				inQuotes = true;
+				atRecordStart = false;
+				atFieldStart = false;
+				recordHasContent = true;
+			}
+			else {
+				atRecordStart = false;
+				// whitespace in front of a quote character is trimmed
+				atFieldStart = atFieldStart && isWhitespace(b);
+				recordHasContent = true;
+			}
+		}
+		return limit;
+	}
+
+	private boolean matchesDelimiterAt(ByteBuffer buffer, int index) {
+		if (index + this.delimiter.length > buffer.limit()) {
+			return false;
+		}
+		for (int i = 0; i < this.delimiter.length; i++) {
+			if (buffer.get(index + i) != this.delimiter[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isWhitespace(byte b) {
+		return b == ' ' || b == '\t' || b == '\f' || b == 0x0B;
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.chunks.forEach(chunk -> chunk.cancel(false));
+		this.chunks.clear();
+		this.currentChunk = Collections.emptyIterator();
+		this.channel.close();
+	}
+
+}
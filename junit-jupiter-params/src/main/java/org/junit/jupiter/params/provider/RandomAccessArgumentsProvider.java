@@ -0,0 +1,81 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.params.provider;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.util.List;
+
+import org.apiguardian.api.API;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.params.support.ParameterDeclarations;
+
+/**
+ * {@code RandomAccessArgumentsProvider} is an {@link ArgumentsProvider} that
+ * additionally supports accessing its {@link Arguments} by index.
+ *
+ * <p>When only specific invocations of a
+ * {@link org.junit.jupiter.params.ParameterizedClass @ParameterizedClass} or
+ * {@link org.junit.jupiter.params.ParameterizedTest @ParameterizedTest} are
+ * selected &mdash; for example, when rerunning a single invocation by its
+ * unique ID &mdash; and all of its arguments providers support random access,
+ * the framework retrieves the arguments of the selected invocations via
+ * {@link List#get(int)} instead of consuming the stream returned by
+ * {@link #provideArguments(ParameterDeclarations, ExtensionContext)} up to
+ * the last selected invocation.
+ *
+ * @since 6.0
+ * @see ArgumentsProvider
+ * @see ArgumentsSource
+ */
+@API(status = EXPERIMENTAL, since = "6.0")
+public interface RandomAccessArgumentsProvider extends ArgumentsProvider {
+
+	/**
+	 * Determine whether this provider supports random access to its arguments
+	 * for the supplied parameter declarations and extension context.
+	 *
+	 * <p>Since the framework falls back to calling
+	 * {@link #provideArguments(ParameterDeclarations, ExtensionContext)} if
+	 * this or any other provider of the same parameterized class or test does
+	 * not support random access, implementations must not have any side effects
+	 * such as invoking user code that would be repeated by the latter.
+	 *
+	 * <p>The default implementation returns {@code true}.
+	 *
+	 * @param parameters the parameter declarations for the parameterized
+	 * class or test; never {@code null}
+	 * @param context the current extension context; never {@code null}
+	 * @return {@code true} if {@link #provideArgumentsList} may be called
+	 */
+	default boolean supportsRandomAccess(ParameterDeclarations parameters, ExtensionContext context) throws Exception {
+		return true;
+	}
+
+	/**
+	 * Provide a {@link List} of the {@link Arguments} that
+	 * {@link #provideArguments(ParameterDeclarations, ExtensionContext)} would
+	 * provide, in the same order.
+	 *
+	 * <p>This method is only called if {@link #supportsRandomAccess} previously
+	 * returned {@code true}. The returned list should efficiently support
+	 * {@link List#size()} and {@link List#get(int)} and should create the
+	 * {@code Arguments} for an index only when they are requested.
+	 *
+	 * @param parameters the parameter declarations for the parameterized
+	 * class or test; never {@code null}
+	 * @param context the current extension context; never {@code null}
+	 * @return a list of arguments; never {@code null}
+	 */
+	List<? extends Arguments> provideArgumentsList(ParameterDeclarations parameters, ExtensionContext context)
+			throws Exception;
+
+}
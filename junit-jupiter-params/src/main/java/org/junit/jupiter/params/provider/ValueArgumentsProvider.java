@@ -11,9 +11,7 @@
 package org.junit.jupiter.params.provider;
 
 import java.lang.reflect.Array;
-import java.util.Arrays;
 import java.util.List;
-import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.extension.ExtensionContext;
@@ -23,16 +21,21 @@ import org.junit.platform.commons.util.Preconditions;
 /**
  * @since 5.0
  */
-class ValueArgumentsProvider extends AnnotationBasedArgumentsProvider<ValueSource> {
+class ValueArgumentsProvider extends AnnotationBasedRandomAccessArgumentsProvider<ValueSource> {
 
 	@Override
 	protected Stream<? extends Arguments> provideArguments(ParameterDeclarations parameters, ExtensionContext context,
 			ValueSource valueSource) {
-		Object[] arguments = getArgumentsFromSource(valueSource);
-		return Arrays.stream(arguments).map(Arguments::of);
+		return provideArgumentsList(parameters, context, valueSource).stream();
 	}
 
-	private Object[] getArgumentsFromSource(ValueSource valueSource) {
+	@Override
+	List<Arguments> provideArgumentsList(ParameterDeclarations parameters, ExtensionContext context,
+			ValueSource valueSource) {
+		return ArgumentsUtils.toArgumentsList(getArrayFromSource(valueSource));
+	}
+
+	private Object getArrayFromSource(ValueSource valueSource) {
 		// @formatter:off
 		List<?> arrays =
 			Stream.of(
@@ -54,10 +57,7 @@ class ValueArgumentsProvider extends AnnotationBasedArgumentsProvider<ValueSourc
 		Preconditions.condition(arrays.size() == 1, () -> "Exactly one type of input must be provided in the @"
 				+ ValueSource.class.getSimpleName() + " annotation, but there were " + arrays.size());
 
-		Object originalArray = arrays.get(0);
-		return IntStream.range(0, Array.getLength(originalArray)) //
-				.mapToObj(index -> Array.get(originalArray, index)) //
-				.toArray();
+		return arrays.get(0);
 	}
 
 }
@@ -40,6 +40,25 @@ public final class ConversionSupport {
 		new FallbackStringToObjectConverter() //
 	);
 
+	/**
+	 * Cache of the converter to use for each target type.
+	 *
+	 * <p>Since the applicability of all converters only depends on the target
+	 * type, the list of converters only has to be searched once per target
+	 * type. A {@link ClassValue} is used so that caching does not prevent
+	 * target types from being unloaded.
+	 */
+	private static final ClassValue<Optional<ResolvedConverter>> resolvedConverters = new ClassValue<>() {
+		@Override
+		protected Optional<ResolvedConverter> computeValue(Class<?> targetType) {
+			Class<?> targetTypeToUse = toWrapperType(targetType);
+			return stringToObjectConverters.stream() //
+					.filter(candidate -> candidate.canConvertTo(targetTypeToUse)) //
+					.findFirst() //
+					.map(converter -> new ResolvedConverter(converter, targetTypeToUse));
+		}
+	};
+
 	private ConversionSupport() {
 		/* no-op */
 	}
@@ -112,14 +131,12 @@ public final class ConversionSupport {
 			return (T) source;
 		}
 
-		Class<?> targetTypeToUse = toWrapperType(targetType);
-		Optional<StringToObjectConverter> converter = stringToObjectConverters.stream().filter(
-			candidate -> candidate.canConvertTo(targetTypeToUse)).findFirst();
+		Optional<ResolvedConverter> converter = resolvedConverters.get(targetType);
 		if (converter.isPresent()) {
 			try {
 				ClassLoader classLoaderToUse = classLoader != null ? classLoader
 						: ClassLoaderUtils.getDefaultClassLoader();
-				return (T) converter.get().convert(source, targetTypeToUse, classLoaderToUse);
+				return (T) converter.get().convert(source, classLoaderToUse);
 			}
 			catch (Exception ex) {
 				if (ex instanceof ConversionException conversionException) {
@@ -141,4 +158,13 @@ public final class ConversionSupport {
 		return wrapperType != null ? wrapperType : targetType;
 	}
 
+	private record ResolvedConverter(StringToObjectConverter converter, Class<?> targetType) {
+
+		@Nullable
+		Object convert(String source, ClassLoader classLoader) throws Exception {
+			return converter.convert(source, targetType, classLoader);
+		}
+
+	}
+
 }
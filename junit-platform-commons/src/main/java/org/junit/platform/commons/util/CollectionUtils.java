@@ -18,13 +18,16 @@ import static org.junit.platform.commons.support.ReflectionSupport.invokeMethod;
 
 import java.lang.reflect.Array;
 import java.lang.reflect.Method;
+import java.util.AbstractList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Optional;
+import java.util.RandomAccess;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
@@ -215,4 +218,107 @@ public final class CollectionUtils {
 		}
 	}
 
+
+	/**
+	 * Create an unmodifiable view of the supplied {@link List} whose elements
+	 * are computed by applying the supplied mapper to the element at the same
+	 * index each time they are accessed.
+	 *
+	 * <p>In contrast to mapping a {@link Stream}, accessing an element of the
+	 * view only applies the mapper to that element.
+	 *
+	 * @since 6.0
+	 */
+	@API(status = INTERNAL, since = "6.0")
+	public static <T extends @Nullable Object, R extends @Nullable Object> List<R> transformedView(
+			List<? extends T> list, Function<? super T, ? extends R> mapper) {
+		Preconditions.notNull(list, "list must not be null");
+		Preconditions.notNull(mapper, "mapper must not be null");
+		return new TransformedList<>(list, mapper);
+	}
+
+	/**
+	 * Create an unmodifiable view of the concatenation of the supplied
+	 * {@link List Lists}.
+	 *
+	 * <p>Accessing an element of the view only accesses the element at the
+	 * corresponding index of the list that contains it.
+	 *
+	 * @since 6.0
+	 */
+	@API(status = INTERNAL, since = "6.0")
+	public static <T extends @Nullable Object> List<T> concatenatedView(List<? extends List<? extends T>> lists) {
+		Preconditions.notNull(lists, "lists must not be null");
+		if (lists.size() == 1) {
+			return transformedView(lists.get(0), Function.identity());
+		}
+		return new ConcatenatedList<>(lists);
+	}
+
+	private static final class TransformedList<T extends @Nullable Object, R extends @Nullable Object>
+			extends AbstractList<R> implements RandomAccess {
+
+		private final List<? extends T> list;
+		private final Function<? super T, ? extends R> mapper;
+
+		TransformedList(List<? extends T> list, Function<? super T, ? extends R> mapper) {
+			this.list = list;
+			this.mapper = mapper;
+		}
+
+		@Override
+		public R get(int index) {
+			return this.mapper.apply(this.list.get(index));
+		}
+
+		@Override
+		public int size() {
+			return this.list.size();
+		}
+
+	}
+
+	private static final class ConcatenatedList<T extends @Nullable Object> extends AbstractList<T>
+			implements RandomAccess {
+
+		private final List<? extends List<? extends T>> lists;
+		private final int[] offsets;
+		private final int size;
+
+		ConcatenatedList(List<? extends List<? extends T>> lists) {
+			this.lists = List.copyOf(lists);
+			this.offsets = new int[this.lists.size()];
+			int size = 0;
+			for (int i = 0; i < this.offsets.length; i++) {
+				this.offsets[i] = size;
+				size = Math.addExact(size, this.lists.get(i).size());
+			}
+			this.size = size;
+		}
+
+		@Override
+		public T get(int index) {
+			if (index < 0 || index >= this.size) {
+				throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + this.size);
+			}
+			int position = Arrays.binarySearch(this.offsets, index);
+			if (position < 0) {
+				position = -position - 2;
+			}
+			else {
+				// skip empty lists that share the same offset
+				while (position + 1 < this.offsets.length && this.offsets[position + 1] == index) {
+					position++;
+				}
+			}
+			return this.lists.get(position).get(index - this.offsets[position]);
+		}
+
+		@Override
+		public int size() {
+			return this.size;
+		}
+
+	}
+
 }
@@ -20,6 +20,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 
 import org.apiguardian.api.API;
@@ -61,6 +62,29 @@ public interface TestDescriptor {
 	 */
 	String getDisplayName();
 
+	/**
+	 * Get a {@link Supplier} for the display name of this descriptor if it
+	 * is computed lazily and has not been computed yet.
+	 *
+	 * <p>Descriptors whose display name is expensive to compute may defer
+	 * computing it until {@link #getDisplayName()} is called for the first
+	 * time. Such descriptors should override this method to return a
+	 * supplier that computes the display name at most once and that does not
+	 * retain this descriptor. That allows callers, such as the
+	 * {@code Launcher}, to defer computing the display name as well.
+	 *
+	 * <p>The default implementation returns an empty {@code Optional}.
+	 *
+	 * @return an {@code Optional} containing a supplier of the display name
+	 * if it has not been computed yet; never {@code null}
+	 * @since 6.0
+	 * @see #getDisplayName()
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	default Optional<Supplier<String>> getDeferredDisplayName() {
+		return Optional.empty();
+	}
+
 	/**
 	 * Get the name of this descriptor in a format that is suitable for legacy
 	 * reporting infrastructure &mdash; for example, for reporting systems built
@@ -10,15 +10,23 @@
 
 package org.junit.platform.engine;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamField;
 import java.io.Serial;
 import java.io.Serializable;
 import java.lang.ref.SoftReference;
-import java.util.ArrayList;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.RandomAccess;
 
 import org.apiguardian.api.API;
 import org.jspecify.annotations.Nullable;
@@ -32,6 +40,10 @@ import org.junit.platform.commons.util.ToStringBuilder;
  *
  * <p>Instances of this class have value semantics and are immutable.
  *
+ * <p>Each instance only stores its last {@link Segment} and a reference to
+ * the {@code UniqueId} it was {@linkplain #append(Segment) appended} to, so
+ * that unique IDs derived from the same parent share their common prefix.
+ *
  * @since 1.0
  */
 @API(status = STABLE, since = "1.0")
@@ -40,6 +52,13 @@ public class UniqueId implements Cloneable, Serializable {
 	@Serial
 	private static final long serialVersionUID = 1L;
 
+	// Serialized form of the original list-based implementation
+	@Serial
+	private static final ObjectStreamField[] serialPersistentFields = { //
+			new ObjectStreamField("uniqueIdFormat", UniqueIdFormat.class), //
+			new ObjectStreamField("segments", List.class) //
+	};
+
 	private static final String ENGINE_SEGMENT_TYPE = "engine";
 
 	/**
@@ -79,38 +98,62 @@ public class UniqueId implements Cloneable, Serializable {
 	 * @see #forEngine(String)
 	 */
 	public static UniqueId root(String segmentType, String value) {
-		return new UniqueId(UniqueIdFormat.getDefault(), new Segment(segmentType, value));
+		return new UniqueId(UniqueIdFormat.getDefault(), null, new Segment(segmentType, value));
 	}
 
-	private final UniqueIdFormat uniqueIdFormat;
-
-	@SuppressWarnings({ "serial", "RedundantSuppression" }) // always used with serializable implementation (singletonList() or ArrayList)
-	private final List<Segment> segments;
-
-	// lazily computed
-	private transient int hashCode;
+	// These are effectively final but not technically due to late initialization when deserializing
+	private /* final */ UniqueIdFormat uniqueIdFormat;
+	private /* final */ @Nullable UniqueId parent;
+	private /* final */ Segment lastSegment;
+	private /* final */ int size;
+	private /* final */ int hashCode;
 
 	// lazily computed
 	private transient @Nullable SoftReference<String> toString;
 
-	private UniqueId(UniqueIdFormat uniqueIdFormat, Segment segment) {
-		this(uniqueIdFormat, List.of(segment));
+	private UniqueId(UniqueIdFormat uniqueIdFormat, @Nullable UniqueId parent, Segment lastSegment) {
+		this.uniqueIdFormat = uniqueIdFormat;
+		this.parent = parent;
+		this.lastSegment = lastSegment;
+		this.size = parent == null ? 1 : parent.size + 1;
+		// same as List#hashCode() of all segments
+		this.hashCode = 31 * (parent == null ? 1 : parent.hashCode) + lastSegment.hashCode();
 	}
 
 	/**
-	 * Initialize a {@code UniqueId} instance.
-	 *
-	 * @implNote A defensive copy of the segment list is <b>not</b> created by
-	 * this implementation. All callers should immediately drop the reference
-	 * to the list instance that they pass into this constructor.
+	 * Initialize a {@code UniqueId} instance from the supplied non-empty list
+	 * of segments.
 	 */
 	UniqueId(UniqueIdFormat uniqueIdFormat, List<Segment> segments) {
-		this.uniqueIdFormat = uniqueIdFormat;
-		this.segments = List.copyOf(segments);
+		this(uniqueIdFormat, prefix(uniqueIdFormat, segments), segments.get(segments.size() - 1));
+	}
+
+	private static @Nullable UniqueId prefix(UniqueIdFormat uniqueIdFormat, List<Segment> segments) {
+		Preconditions.notEmpty(segments, "segments must not be empty");
+		UniqueId prefix = null;
+		for (int i = 0; i < segments.size() - 1; i++) {
+			prefix = new UniqueId(uniqueIdFormat, prefix, segments.get(i));
+		}
+		return prefix;
 	}
 
-	final Optional<Segment> getRoot() {
-		return this.segments.isEmpty() ? Optional.empty() : Optional.of(this.segments.get(0));
+	/**
+	 * Get the first {@link Segment} of this {@code UniqueId}.
+	 *
+	 * <p>In contrast to {@code getSegments().get(0)}, this method does not
+	 * need to materialize all segments.
+	 *
+	 * @return an {@code Optional} containing the first {@code Segment}; never
+	 * {@code null} or empty
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public final Optional<Segment> getRoot() {
+		UniqueId current = this;
+		while (current.parent != null) {
+			current = current.parent;
+		}
+		return Optional.of(current.lastSegment);
 	}
 
 	/**
@@ -125,9 +168,13 @@ public class UniqueId implements Cloneable, Serializable {
 	/**
 	 * Get the immutable list of {@linkplain Segment segments} that make up this
 	 * {@code UniqueId}.
+	 *
+	 * <p>The returned list is a view that collects the segments into an array
+	 * on first access to one of its elements. Its {@link List#size() size} is
+	 * available without doing so.
 	 */
 	public final List<Segment> getSegments() {
-		return this.segments;
+		return new SegmentList(this);
 	}
 
 	/**
@@ -161,10 +208,7 @@ public class UniqueId implements Cloneable, Serializable {
 	@API(status = STABLE, since = "1.1")
 	public final UniqueId append(Segment segment) {
 		Preconditions.notNull(segment, "segment must not be null");
-		List<Segment> baseSegments = new ArrayList<>(this.segments.size() + 1);
-		baseSegments.addAll(this.segments);
-		baseSegments.add(segment);
-		return new UniqueId(this.uniqueIdFormat, baseSegments);
+		return new UniqueId(this.uniqueIdFormat, this, segment);
 	}
 
 	/**
@@ -196,9 +240,10 @@ public class UniqueId implements Cloneable, Serializable {
 	@API(status = STABLE, since = "1.1")
 	public boolean hasPrefix(UniqueId potentialPrefix) {
 		Preconditions.notNull(potentialPrefix, "potentialPrefix must not be null");
-		int size = this.segments.size();
-		int prefixSize = potentialPrefix.segments.size();
-		return size >= prefixSize && this.segments.subList(0, prefixSize).equals(potentialPrefix.segments);
+		if (this.size < potentialPrefix.size) {
+			return false;
+		}
+		return potentialPrefix.equals(ancestor(this.size - potentialPrefix.size));
 	}
 
 	/**
@@ -214,8 +259,21 @@ public class UniqueId implements Cloneable, Serializable {
 	 */
 	@API(status = STABLE, since = "1.5")
 	public UniqueId removeLastSegment() {
-		Preconditions.condition(this.segments.size() > 1, "Cannot remove last remaining segment");
-		return new UniqueId(uniqueIdFormat, List.copyOf(this.segments.subList(0, this.segments.size() - 1)));
+		UniqueId parent = this.parent;
+		Preconditions.condition(parent != null, "Cannot remove last remaining segment");
+		return parent;
+	}
+
+	/**
+	 * {@return the unique ID that is the supplied number of segments shorter
+	 * than this one}
+	 */
+	private UniqueId ancestor(int distance) {
+		UniqueId current = this;
+		for (int i = 0; i < distance; i++) {
+			current = Objects.requireNonNull(current.parent);
+		}
+		return current;
 	}
 
 	/**
@@ -226,7 +284,7 @@ public class UniqueId implements Cloneable, Serializable {
 	 */
 	@API(status = STABLE, since = "1.5")
 	public Segment getLastSegment() {
-		return this.segments.get(this.segments.size() - 1);
+		return this.lastSegment;
 	}
 
 	@Override
@@ -244,28 +302,25 @@ public class UniqueId implements Cloneable, Serializable {
 		}
 
 		UniqueId that = (UniqueId) o;
-		return this.segments.equals(that.segments);
+		if (this.size != that.size || this.hashCode != that.hashCode) {
+			return false;
+		}
+		// compare segments until reaching a shared prefix
+		UniqueId left = this;
+		UniqueId right = that;
+		while (left != right) {
+			if (left == null || right == null || !left.lastSegment.equals(right.lastSegment)) {
+				return false;
+			}
+			left = left.parent;
+			right = right.parent;
+		}
+		return true;
 	}
 
 	@Override
 	public int hashCode() {
-		int value = this.hashCode;
-		if (value == 0) {
-			value = this.segments.hashCode();
-			if (value == 0) {
-				// handle the edge case of the computed hashCode being 0
-				value = 1;
-			}
-			// this is a benign race like String#hash
-			// we potentially read and write values from multiple threads
-			// without a happens-before relationship
-			// however the JMM guarantees us that we only ever see values
-			// that were valid at one point, either 0 or the hash code
-			// so we might end up not seeing a value that a different thread
-			// has computed or multiple threads writing the same value
-			this.hashCode = value;
-		}
-		return value;
+		return this.hashCode;
 	}
 
 	/**
@@ -277,7 +332,10 @@ public class UniqueId implements Cloneable, Serializable {
 		SoftReference<String> s = this.toString;
 		String value = s == null ? null : s.get();
 		if (value == null) {
-			value = this.uniqueIdFormat.format(this);
+			UniqueId parent = this.parent;
+			value = parent == null //
+					? this.uniqueIdFormat.format(this) //
+					: this.uniqueIdFormat.format(parent.toString(), this.lastSegment);
 			// this is a benign race like String#hash
 			// we potentially read and write values from multiple threads
 			// without a happens-before relationship
@@ -290,6 +348,83 @@ public class UniqueId implements Cloneable, Serializable {
 		return value;
 	}
 
+	@Serial
+	private void writeObject(ObjectOutputStream s) throws IOException {
+		ObjectOutputStream.PutField fields = s.putFields();
+		fields.put("uniqueIdFormat", this.uniqueIdFormat);
+		fields.put("segments", List.copyOf(getSegments()));
+		s.writeFields();
+	}
+
+	@Serial
+	@SuppressWarnings("unchecked")
+	private void readObject(ObjectInputStream s) throws IOException, ClassNotFoundException {
+		ObjectInputStream.GetField fields = s.readFields();
+		UniqueIdFormat uniqueIdFormat = (UniqueIdFormat) fields.get("uniqueIdFormat", null);
+		List<Segment> segments = (List<Segment>) fields.get("segments", null);
+		UniqueId uniqueId = new UniqueId(uniqueIdFormat, segments);
+		this.uniqueIdFormat = uniqueIdFormat;
+		this.parent = uniqueId.parent;
+		this.lastSegment = uniqueId.lastSegment;
+		this.size = uniqueId.size;
+		this.hashCode = uniqueId.hashCode;
+	}
+
+	/**
+	 * Unmodifiable list view of the segments of a {@link UniqueId} that are
+	 * collected into an array on first access.
+	 */
+	private static final class SegmentList extends AbstractList<Segment> implements RandomAccess {
+
+		private final UniqueId uniqueId;
+
+		// lazily computed
+		private Segment @Nullable [] segments;
+
+		SegmentList(UniqueId uniqueId) {
+			this.uniqueId = uniqueId;
+		}
+
+		@Override
+		public Segment get(int index) {
+			return segments()[index];
+		}
+
+		@Override
+		public int size() {
+			return this.uniqueId.size;
+		}
+
+		@Override
+		public Iterator<Segment> iterator() {
+			return Arrays.asList(segments()).iterator();
+		}
+
+		@Override
+		public Object[] toArray() {
+			return segments().clone();
+		}
+
+		private Segment[] segments() {
+			Segment[] segments = this.segments;
+			if (segments == null) {
+				segments = new Segment[this.uniqueId.size];
+				UniqueId current = this.uniqueId;
+				for (int i = segments.length - 1; i >= 0; i--) {
+					segments[i] = current.lastSegment;
+					current = current.parent;
+				}
+				this.segments = segments;
+			}
+			return segments;
+		}
+
+		@Override
+		public int hashCode() {
+			return this.uniqueId.hashCode;
+		}
+	}
+
 	/**
 	 * A segment of a {@link UniqueId} comprises a <em>type</em> and a
 	 * <em>value</em>.
@@ -303,6 +438,9 @@ public class UniqueId implements Cloneable, Serializable {
 		private final String type;
 		private final String value;
 
+		// lazily computed
+		private transient int hashCode;
+
 		/**
 		 * Create a new {@code Segment} using the supplied {@code type} and
 		 * {@code value}.
@@ -313,7 +451,8 @@ public class UniqueId implements Cloneable, Serializable {
 		Segment(String type, String value) {
 			Preconditions.notBlank(type, "type must not be null or blank");
 			Preconditions.notBlank(value, "value must not be null or blank");
-			this.type = type;
+			// there are only a few distinct types so interning them is cheap
+			this.type = type.intern();
 			this.value = value;
 		}
 
@@ -333,7 +472,13 @@ public class UniqueId implements Cloneable, Serializable {
 
 		@Override
 		public int hashCode() {
-			return Objects.hash(this.type, this.value);
+			int value = this.hashCode;
+			if (value == 0) {
+				// benign race, see UniqueId#toString()
+				value = Objects.hash(this.type, this.value);
+				this.hashCode = value;
+			}
+			return value;
 		}
 
 		@Override
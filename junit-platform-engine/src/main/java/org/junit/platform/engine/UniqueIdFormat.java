@@ -125,6 +125,15 @@ class UniqueIdFormat implements Serializable {
 		// @formatter:on
 	}
 
+	/**
+	 * Format and return the string representation of a {@code UniqueId} that
+	 * consists of the supplied formatted prefix followed by the supplied
+	 * segment.
+	 */
+	String format(String formattedPrefix, Segment lastSegment) {
+		return formattedPrefix + this.segmentDelimiter + describe(lastSegment);
+	}
+
 	private String describe(Segment segment) {
 		String body = encode(segment.getType()) + typeValueSeparator + encode(segment.getValue());
 		return openSegment + body + closeSegment;
@@ -11,6 +11,8 @@
 package org.junit.platform.engine.support.descriptor;
 
 import static java.util.Collections.emptySet;
+import static java.util.Objects.requireNonNull;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
 import java.util.ArrayList;
@@ -19,6 +21,8 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 
 import org.apiguardian.api.API;
@@ -43,7 +47,9 @@ public abstract class AbstractTestDescriptor implements TestDescriptor {
 
 	private final UniqueId uniqueId;
 
-	private final String displayName;
+	private final @Nullable String displayName;
+
+	private final @Nullable DeferredDisplayName deferredDisplayName;
 
 	private final @Nullable TestSource source;
 
@@ -91,6 +97,42 @@ public abstract class AbstractTestDescriptor implements TestDescriptor {
 	protected AbstractTestDescriptor(UniqueId uniqueId, String displayName, @Nullable TestSource source) {
 		this.uniqueId = Preconditions.notNull(uniqueId, "UniqueId must not be null");
 		this.displayName = Preconditions.notBlank(displayName, "displayName must not be null or blank");
+		this.deferredDisplayName = null;
+		this.source = source;
+	}
+
+	/**
+	 * Create a new {@code AbstractTestDescriptor} with the supplied
+	 * {@link UniqueId}, display name supplier, and source.
+	 *
+	 * <p>The display name is computed by the supplier when it is first
+	 * requested, either via {@link #getDisplayName()} or via the supplier
+	 * returned by {@link #getDeferredDisplayName()}, and memoized afterward.
+	 * The supplier is invoked at most once and is released once it has
+	 * returned the display name.
+	 *
+	 * <p>Since the default implementation of {@link #getLegacyReportingName()}
+	 * delegates to {@link #getDisplayName()}, subclasses should override it
+	 * so that requesting the legacy reporting name does not compute the
+	 * display name.
+	 *
+	 * @param uniqueId the unique ID of this {@code TestDescriptor}; never
+	 * {@code null}
+	 * @param displayNameSupplier the supplier of the display name for this
+	 * {@code TestDescriptor}; never {@code null} and must not return
+	 * {@code null} or a blank string
+	 * @param source the source of the test or container described by this
+	 * {@code TestDescriptor}; can be {@code null}
+	 * @since 6.0
+	 * @see #AbstractTestDescriptor(UniqueId, String, TestSource)
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	protected AbstractTestDescriptor(UniqueId uniqueId, Supplier<String> displayNameSupplier,
+			@Nullable TestSource source) {
+		this.uniqueId = Preconditions.notNull(uniqueId, "UniqueId must not be null");
+		this.displayName = null;
+		this.deferredDisplayName = new DeferredDisplayName(
+			Preconditions.notNull(displayNameSupplier, "displayNameSupplier must not be null"));
 		this.source = source;
 	}
 
@@ -101,7 +143,24 @@ public abstract class AbstractTestDescriptor implements TestDescriptor {
 
 	@Override
 	public final String getDisplayName() {
-		return this.displayName;
+		String displayName = this.displayName;
+		return displayName != null ? displayName : requireNonNull(this.deferredDisplayName).get();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @since 6.0
+	 * @see #AbstractTestDescriptor(UniqueId, Supplier, TestSource)
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	@Override
+	public final Optional<Supplier<String>> getDeferredDisplayName() {
+		DeferredDisplayName deferredDisplayName = this.deferredDisplayName;
+		if (deferredDisplayName == null || deferredDisplayName.isComputed()) {
+			return Optional.empty();
+		}
+		return Optional.of(deferredDisplayName);
 	}
 
 	@Override
@@ -206,4 +265,49 @@ public abstract class AbstractTestDescriptor implements TestDescriptor {
 		return getClass().getSimpleName() + ": " + getUniqueId();
 	}
 
+	/**
+	 * Memoizing display name supplier that does not retain the descriptor.
+	 */
+	private static final class DeferredDisplayName implements Supplier<String> {
+
+		private final ReentrantLock lock = new ReentrantLock();
+
+		private @Nullable Supplier<String> supplier;
+
+		private volatile @Nullable String value;
+
+		DeferredDisplayName(Supplier<String> supplier) {
+			this.supplier = supplier;
+		}
+
+		boolean isComputed() {
+			return this.value != null;
+		}
+
+		@Override
+		public String get() {
+			String value = this.value;
+			return value != null ? value : compute();
+		}
+
+		private String compute() {
+			// a lock rather than a monitor so that virtual threads are not pinned
+			this.lock.lock();
+			try {
+				String value = this.value;
+				if (value == null) {
+					value = Preconditions.notBlank(requireNonNull(this.supplier).get(),
+						"displayName must not be null or blank");
+					this.value = value;
+					this.supplier = null;
+				}
+				return value;
+			}
+			finally {
+				this.lock.unlock();
+			}
+		}
+
+	}
+
 }
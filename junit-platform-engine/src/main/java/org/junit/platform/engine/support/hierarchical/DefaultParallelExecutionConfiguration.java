@@ -24,15 +24,22 @@ class DefaultParallelExecutionConfiguration implements ParallelExecutionConfigur
 	private final int corePoolSize;
 	private final int keepAliveSeconds;
 	private final Predicate<? super ForkJoinPool> saturate;
+	private final int maxUnfinishedDynamicTasks;
 
 	DefaultParallelExecutionConfiguration(int parallelism, int minimumRunnable, int maxPoolSize, int corePoolSize,
 			int keepAliveSeconds, Predicate<? super ForkJoinPool> saturate) {
+		this(parallelism, minimumRunnable, maxPoolSize, corePoolSize, keepAliveSeconds, saturate, Integer.MAX_VALUE);
+	}
+
+	DefaultParallelExecutionConfiguration(int parallelism, int minimumRunnable, int maxPoolSize, int corePoolSize,
+			int keepAliveSeconds, Predicate<? super ForkJoinPool> saturate, int maxUnfinishedDynamicTasks) {
 		this.parallelism = parallelism;
 		this.minimumRunnable = minimumRunnable;
 		this.maxPoolSize = maxPoolSize;
 		this.corePoolSize = corePoolSize;
 		this.keepAliveSeconds = keepAliveSeconds;
 		this.saturate = saturate;
+		this.maxUnfinishedDynamicTasks = maxUnfinishedDynamicTasks;
 	}
 
 	@Override
@@ -64,4 +71,9 @@ class DefaultParallelExecutionConfiguration implements ParallelExecutionConfigur
 	public Predicate<? super ForkJoinPool> getSaturatePredicate() {
 		return saturate;
 	}
+
+	@Override
+	public int getMaxUnfinishedDynamicTasks() {
+		return maxUnfinishedDynamicTasks;
+	}
 }
@@ -11,6 +11,7 @@
 package org.junit.platform.engine.support.hierarchical;
 
 import static java.util.Objects.requireNonNull;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 import static org.apiguardian.api.API.Status.STABLE;
 
@@ -50,8 +51,10 @@ public enum DefaultParallelExecutionConfigurationStrategy implements ParallelExe
 			boolean saturate = configurationParameters.get(CONFIG_FIXED_SATURATE_PROPERTY_NAME,
 				Boolean::valueOf).orElse(true);
 
+			int maxUnfinishedDynamicTasks = getMaxUnfinishedDynamicTasks(configurationParameters, parallelism);
+
 			return new DefaultParallelExecutionConfiguration(parallelism, parallelism, maxPoolSize, parallelism,
-				KEEP_ALIVE_SECONDS, __ -> saturate);
+				KEEP_ALIVE_SECONDS, __ -> saturate, maxUnfinishedDynamicTasks);
 		}
 	},
 
@@ -84,8 +87,10 @@ public enum DefaultParallelExecutionConfigurationStrategy implements ParallelExe
 			boolean saturate = configurationParameters.get(CONFIG_DYNAMIC_SATURATE_PROPERTY_NAME,
 				Boolean::valueOf).orElse(true);
 
+			int maxUnfinishedDynamicTasks = getMaxUnfinishedDynamicTasks(configurationParameters, parallelism);
+
 			return new DefaultParallelExecutionConfiguration(parallelism, parallelism, maxPoolSize, parallelism,
-				KEEP_ALIVE_SECONDS, __ -> saturate);
+				KEEP_ALIVE_SECONDS, __ -> saturate, maxUnfinishedDynamicTasks);
 		}
 	},
 
@@ -207,6 +212,24 @@ public enum DefaultParallelExecutionConfigurationStrategy implements ParallelExe
 	@API(status = MAINTAINED, since = "1.13.3")
 	public static final String CONFIG_DYNAMIC_SATURATE_PROPERTY_NAME = "dynamic.saturate";
 
+	/**
+	 * Property name used to configure the maximum number of dynamic tests or
+	 * containers registered by a single node that may be unfinished at the
+	 * same time for the {@link #FIXED} and {@link #DYNAMIC} configuration
+	 * strategies.
+	 *
+	 * <p>Once the limit has been reached, registering further dynamic tests
+	 * or containers blocks until one of them has finished.
+	 *
+	 * <p>Value must be a positive integer; defaults to {@code 256} plus the
+	 * desired parallelism.
+	 *
+	 * @since 6.0
+	 * @see ParallelExecutionConfiguration#getMaxUnfinishedDynamicTasks()
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String CONFIG_MAX_UNFINISHED_DYNAMIC_TASKS_PROPERTY_NAME = "max-unfinished-dynamic-tasks";
+
 	/**
 	 * Property name used to specify the fully qualified class name of the
 	 * {@link ParallelExecutionConfigurationStrategy} to be used by the
@@ -216,6 +239,16 @@ public enum DefaultParallelExecutionConfigurationStrategy implements ParallelExe
 	 */
 	public static final String CONFIG_CUSTOM_CLASS_PROPERTY_NAME = "custom.class";
 
+	private static int getMaxUnfinishedDynamicTasks(ConfigurationParameters configurationParameters,
+			int parallelism) {
+		int maxUnfinishedDynamicTasks = configurationParameters.get(CONFIG_MAX_UNFINISHED_DYNAMIC_TASKS_PROPERTY_NAME,
+			Integer::valueOf).orElse(256 + parallelism);
+		Preconditions.condition(maxUnfinishedDynamicTasks > 0,
+			() -> "Value '%d' specified via configuration parameter '%s' must be greater than 0".formatted(
+				maxUnfinishedDynamicTasks, CONFIG_MAX_UNFINISHED_DYNAMIC_TASKS_PROPERTY_NAME));
+		return maxUnfinishedDynamicTasks;
+	}
+
 	static ParallelExecutionConfigurationStrategy getStrategy(ConfigurationParameters configurationParameters) {
 		return valueOf(
 			configurationParameters.get(CONFIG_STRATEGY_PROPERTY_NAME).orElse("dynamic").toUpperCase(Locale.ROOT));
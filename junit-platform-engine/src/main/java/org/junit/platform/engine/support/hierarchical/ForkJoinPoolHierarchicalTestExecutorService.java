@@ -40,6 +40,7 @@ import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.function.Try;
 import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.ConfigurationParameters;
 
 /**
@@ -59,6 +60,7 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 
 	private final TaskEventListener taskEventListener;
 	private final int parallelism;
+	private final int maxUnfinishedDynamicTasks;
 	private final ThreadLocal<ThreadLock> threadLocks = ThreadLocal.withInitial(ThreadLock::new);
 
 	/**
@@ -87,6 +89,9 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 		forkJoinPool = createForkJoinPool(configuration);
 		this.taskEventListener = taskEventListener;
 		parallelism = forkJoinPool.getParallelism();
+		maxUnfinishedDynamicTasks = configuration.getMaxUnfinishedDynamicTasks();
+		Preconditions.condition(maxUnfinishedDynamicTasks > 0,
+			() -> "maxUnfinishedDynamicTasks must be positive, but was " + maxUnfinishedDynamicTasks);
 		LoggerFactory.getLogger(getClass()).config(() -> "Using ForkJoinPool with parallelism of " + parallelism);
 	}
 
@@ -151,6 +156,19 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 		return completedFuture(null);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>Returns the value configured via
+	 * {@link ParallelExecutionConfiguration#getMaxUnfinishedDynamicTasks()}.
+	 *
+	 * @since 6.0
+	 */
+	@Override
+	public int getMaxUnfinishedDynamicTasks() {
+		return maxUnfinishedDynamicTasks;
+	}
+
 	private boolean isAlreadyRunningInForkJoinPool() {
 		return ForkJoinTask.getPool() == forkJoinPool;
 	}
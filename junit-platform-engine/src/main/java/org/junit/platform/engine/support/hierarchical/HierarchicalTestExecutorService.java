@@ -73,6 +73,29 @@ public interface HierarchicalTestExecutorService extends AutoCloseable {
 	 */
 	void invokeAll(List<? extends TestTask> testTasks);
 
+	/**
+	 * Get the maximum number of tasks for dynamic tests or containers
+	 * registered by a single {@linkplain Node.DynamicTestExecutor dynamic
+	 * test executor} that may be unfinished at the same time.
+	 *
+	 * <p>Once this limit has been reached, registering an additional dynamic
+	 * test or container blocks until at least one of the unfinished tasks has
+	 * finished. Implementations that {@linkplain #submit(TestTask) execute
+	 * submitted tasks} asynchronously without limiting the amount of queued
+	 * work themselves should override this method so that sources of a large
+	 * number of dynamic tests are consumed no faster than they are executed.
+	 *
+	 * <p>Defaults to {@link Integer#MAX_VALUE}, i.e. no limit.
+	 *
+	 * @return the maximum number of unfinished dynamic tasks; must be
+	 * positive
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	default int getMaxUnfinishedDynamicTasks() {
+		return Integer.MAX_VALUE;
+	}
+
 	/**
 	 * Close this service and let it perform any required cleanup work.
 	 *
@@ -17,6 +17,7 @@ import static java.util.stream.Collectors.toCollection;
 import static org.junit.platform.engine.TestExecutionResult.failed;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -250,6 +251,7 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 			Preconditions.notNull(testDescriptor, "testDescriptor must not be null");
 			Preconditions.notNull(executionListener, "executionListener must not be null");
 
+			awaitCapacity();
 			executionListener.dynamicTestRegistered(testDescriptor);
 			Set<ExclusiveResource> exclusiveResources = NodeUtils.asNode(testDescriptor).getExclusiveResources();
 			if (!exclusiveResources.isEmpty()) {
@@ -270,18 +272,42 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 			}
 		}
 
+		/**
+		 * Wait for unfinished tasks until fewer than the maximum number
+		 * of unfinished tasks allowed by the executor service remain so
+		 * that the source of dynamic tests is not consumed faster than
+		 * its tests are executed.
+		 */
+		private void awaitCapacity() {
+			int maxUnfinishedTasks = taskContext.executorService().getMaxUnfinishedDynamicTasks();
+			Iterator<DynamicTaskState> iterator = unfinishedTasks.values().iterator();
+			try {
+				while (unfinishedTasks.size() >= maxUnfinishedTasks && iterator.hasNext()) {
+					awaitFinished(iterator.next());
+				}
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw ExceptionUtils.throwAsUncheckedException(e);
+			}
+		}
+
 		@Override
 		public void awaitFinished() throws InterruptedException {
 			for (DynamicTaskState state : unfinishedTasks.values()) {
-				try {
-					state.awaitFinished();
-				}
-				catch (CancellationException ignore) {
-					// Futures returned by execute() may have been cancelled
-				}
-				catch (ExecutionException e) {
-					throw ExceptionUtils.throwAsUncheckedException(requireNonNullElse(e.getCause(), e));
-				}
+				awaitFinished(state);
+			}
+		}
+
+		private void awaitFinished(DynamicTaskState state) throws InterruptedException {
+			try {
+				state.awaitFinished();
+			}
+			catch (CancellationException ignore) {
+				// Futures returned by execute() may have been cancelled
+			}
+			catch (ExecutionException e) {
+				throw ExceptionUtils.throwAsUncheckedException(requireNonNullElse(e.getCause(), e));
 			}
 		}
 	}
@@ -10,6 +10,7 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
 import java.util.concurrent.ForkJoinPool;
@@ -74,4 +75,19 @@ public interface ParallelExecutionConfiguration {
 		return null;
 	}
 
+	/**
+	 * Get the maximum number of dynamic tests or containers registered by a
+	 * single node that may be unfinished at the same time.
+	 *
+	 * <p>Defaults to {@link Integer#MAX_VALUE}, i.e. no limit.
+	 *
+	 * @return the maximum number of unfinished dynamic tasks; must be positive
+	 * @since 6.0
+	 * @see HierarchicalTestExecutorService#getMaxUnfinishedDynamicTasks()
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	default int getMaxUnfinishedDynamicTasks() {
+		return Integer.MAX_VALUE;
+	}
+
 }
@@ -43,6 +43,19 @@ public class SameThreadHierarchicalTestExecutorService implements HierarchicalTe
 		tasks.forEach(TestTask::execute);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * <p>Returns {@code 1} since all submitted tasks have finished by the
+	 * time {@link #submit(TestTask)} returns.
+	 *
+	 * @since 6.0
+	 */
+	@Override
+	public int getMaxUnfinishedDynamicTasks() {
+		return 1;
+	}
+
 	@Override
 	public void close() {
 		// nothing to do
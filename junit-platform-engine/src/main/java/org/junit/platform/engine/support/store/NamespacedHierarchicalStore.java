@@ -17,11 +17,21 @@ import static org.apiguardian.api.API.Status.MAINTAINED;
 import static org.junit.platform.commons.util.ReflectionUtils.getWrapperType;
 import static org.junit.platform.commons.util.ReflectionUtils.isAssignableTo;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
@@ -43,6 +53,13 @@ import org.junit.platform.engine.support.hierarchical.ThrowableCollector;
  * <p>This class is thread-safe. Please note, however, that thread safety is
  * not guaranteed while the {@link #close()} method is being invoked.
  *
+ * <p>Values are kept in a separate map per namespace so that lookups &mdash;
+ * including those that have to consult ancestor stores &mdash; do not need
+ * to allocate composite keys, and so that concurrent access to different
+ * namespaces does not contend for the same map. Values computed via
+ * {@code getOrComputeIfAbsent()} are computed exactly once; once computed,
+ * reading them does not require any locking.
+ *
  * @param <N> Namespace type
  * @since 1.10
  */
@@ -51,7 +68,7 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 
 	private final AtomicInteger insertOrderSequence = new AtomicInteger();
 
-	private final ConcurrentMap<CompositeKey<N>, StoredValue> storedValues = new ConcurrentHashMap<>(4);
+	private final ConcurrentMap<N, ConcurrentMap<Object, StoredValue>> storedValues = new ConcurrentHashMap<>(4);
 
 	private final @Nullable NamespacedHierarchicalStore<N> parentStore;
 
@@ -118,6 +135,13 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 	 * If a {@link CloseAction} is configured, it will be called with all successfully
 	 * stored values in reverse insertion order.
 	 *
+	 * <p>If the {@code CloseAction} is a {@link GroupingCloseAction} that assigns
+	 * close groups to stored values, values belonging to different groups may
+	 * be closed concurrently. Values belonging to the same group are closed
+	 * sequentially in reverse insertion order. Values without a close group
+	 * are closed only after all values that were stored after them have been
+	 * closed and before any value that was stored before them is closed.
+	 *
 	 * <p>Closing a store does not close its parent or any of its children.
 	 *
 	 * <p>Invocations of this method after the store has already been closed will
@@ -131,11 +155,15 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 			try {
 				if (this.closeAction != null) {
 					ThrowableCollector throwableCollector = new ThrowableCollector(__ -> false);
-					this.storedValues.entrySet().stream() //
-							.map(e -> e.getValue().evaluateSafely(e.getKey())) //
-							.filter(it -> it != null && it.value != null) //
-							.sorted(EvaluatedValue.REVERSE_INSERT_ORDER) //
-							.forEach(it -> throwableCollector.execute(() -> it.close(this.closeAction)));
+					// @formatter:off
+					List<EvaluatedValue<N>> values = this.storedValues.entrySet().stream()
+							.flatMap(namespacedValues -> namespacedValues.getValue().entrySet().stream()
+									.map(e -> e.getValue().evaluateSafely(namespacedValues.getKey(), e.getKey())))
+							.filter(it -> it != null && it.value != null)
+							.sorted(EvaluatedValue.REVERSE_INSERT_ORDER)
+							.toList();
+					// @formatter:on
+					new CloseOperation<>(this.closeAction, throwableCollector).closeAll(values);
 					throwableCollector.assertEmpty();
 				}
 			}
@@ -149,6 +177,10 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 	 * Get the value stored for the supplied namespace and key in this store or
 	 * the parent store, if present.
 	 *
+	 * <p>If the value is being computed via {@code getOrComputeIfAbsentAsync()},
+	 * this method waits for the computation to finish and returns the computed
+	 * value or rethrows the exception the computation failed with.
+	 *
 	 * @param namespace the namespace; never {@code null}
 	 * @param key the key; never {@code null}
 	 * @return the stored value; may be {@code null}
@@ -156,8 +188,8 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 	 * closed
 	 */
 	public @Nullable Object get(N namespace, Object key) {
-		StoredValue storedValue = getStoredValue(new CompositeKey<>(namespace, key));
-		return StoredValue.evaluateIfNotNull(storedValue);
+		StoredValue storedValue = getStoredValue(namespace, key);
+		return AsyncValue.unwrap(StoredValue.evaluateIfNotNull(storedValue));
 	}
 
 	/**
@@ -181,6 +213,10 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 	 * Get the value stored for the supplied namespace and key in this store or
 	 * the parent store, if present, or call the supplied function to compute it.
 	 *
+	 * <p>If the value is being computed via {@code getOrComputeIfAbsentAsync()},
+	 * this method waits for the computation to finish and returns the computed
+	 * value or rethrows the exception the computation failed with.
+	 *
 	 * @param namespace the namespace; never {@code null}
 	 * @param key the key; never {@code null}
 	 * @param defaultCreator the function called with the supplied {@code key}
@@ -191,11 +227,15 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 	 */
 	public <K, V extends @Nullable Object> @Nullable Object getOrComputeIfAbsent(N namespace, K key,
 			Function<? super K, ? extends V> defaultCreator) {
+		return AsyncValue.unwrap(getOrComputeStoredValueIfAbsent(namespace, key, defaultCreator));
+	}
+
+	private <K, V extends @Nullable Object> @Nullable Object getOrComputeStoredValueIfAbsent(N namespace, K key,
+			Function<? super K, ? extends V> defaultCreator) {
 		Preconditions.notNull(defaultCreator, "defaultCreator must not be null");
-		CompositeKey<N> compositeKey = new CompositeKey<>(namespace, key);
-		StoredValue storedValue = getStoredValue(compositeKey);
+		StoredValue storedValue = getStoredValue(namespace, key);
 		if (storedValue == null) {
-			storedValue = this.storedValues.computeIfAbsent(compositeKey,
+			storedValue = getOrCreateValues(namespace).computeIfAbsent(key,
 				__ -> newStoredValue(new MemoizingSupplier(() -> {
 					rejectIfClosed();
 					return defaultCreator.apply(key);
@@ -226,6 +266,85 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 		return castToRequiredType(key, value, requiredType);
 	}
 
+	/**
+	 * Get the value stored for the supplied namespace and key in this store or
+	 * the parent store, if present, or asynchronously compute it using the
+	 * supplied executor.
+	 *
+	 * <p>If no value is present, a {@link CompletableFuture} that will be
+	 * completed with the result of calling the supplied function is stored.
+	 * Concurrent and subsequent calls for the same namespace and key &mdash;
+	 * including calls from child stores &mdash; share the stored future so
+	 * that the function is called at most once. Each call returns a
+	 * {@linkplain CompletableFuture#copy() copy} of the stored future so that
+	 * completing or cancelling the returned future does not affect the value
+	 * observed by other callers. If a value that is not a
+	 * {@code CompletableFuture} has already been stored, a completed future
+	 * holding that value is returned.
+	 *
+	 * <p>When this store is {@linkplain #close() closed}, the stored future is
+	 * passed to the {@link CloseAction} as an {@link AutoCloseable} which, when
+	 * closed, closes the computed value if it is an {@code AutoCloseable}
+	 * itself. If the computation has not finished by then, it is cancelled
+	 * instead and the value it eventually computes, if any, is closed as soon
+	 * as it is available.
+	 *
+	 * @param namespace the namespace; never {@code null}
+	 * @param key the key; never {@code null}
+	 * @param defaultCreator the function called with the supplied {@code key}
+	 * to create a new value; never {@code null} but may return {@code null}
+	 * @param executor the executor used to call {@code defaultCreator}; never
+	 * {@code null}
+	 * @return a future for the stored value; never {@code null}
+	 * @throws NamespacedHierarchicalStoreException if this store has already been
+	 * closed
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public <K, V extends @Nullable Object> CompletableFuture<@Nullable Object> getOrComputeIfAbsentAsync(N namespace,
+			K key, Function<? super K, ? extends V> defaultCreator, Executor executor) {
+		Preconditions.notNull(defaultCreator, "defaultCreator must not be null");
+		Preconditions.notNull(executor, "executor must not be null");
+		Object value = getOrComputeStoredValueIfAbsent(namespace, key,
+			__ -> AsyncValue.compute(() -> defaultCreator.apply(key), executor));
+		if (value instanceof CompletableFuture<?> future) {
+			@SuppressWarnings("unchecked")
+			CompletableFuture<@Nullable Object> result = (CompletableFuture<@Nullable Object>) future;
+			return result.copy();
+		}
+		return CompletableFuture.completedFuture(value);
+	}
+
+	/**
+	 * Get the value stored for the supplied namespace and key in this store or
+	 * the parent store, if present, or asynchronously compute it using the
+	 * supplied executor and, finally, cast it to the supplied required type.
+	 *
+	 * <p>See {@link #getOrComputeIfAbsentAsync(Object, Object, Function, Executor)}
+	 * for details. If the value cannot be cast to the required type, the
+	 * returned future is completed exceptionally with a
+	 * {@link NamespacedHierarchicalStoreException}.
+	 *
+	 * @param namespace the namespace; never {@code null}
+	 * @param key the key; never {@code null}
+	 * @param defaultCreator the function called with the supplied {@code key}
+	 * to create a new value; never {@code null} but may return {@code null}
+	 * @param requiredType the required type of the value; never {@code null}
+	 * @param executor the executor used to call {@code defaultCreator}; never
+	 * {@code null}
+	 * @return a future for the stored value; never {@code null}
+	 * @throws NamespacedHierarchicalStoreException if this store has already been
+	 * closed
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public <K, V extends @Nullable Object> CompletableFuture<@Nullable V> getOrComputeIfAbsentAsync(N namespace,
+			K key, Function<? super K, ? extends V> defaultCreator, Class<V> requiredType, Executor executor) {
+		Preconditions.notNull(requiredType, "requiredType must not be null");
+		return getOrComputeIfAbsentAsync(namespace, key, defaultCreator, executor) //
+				.thenApply(value -> castToRequiredType(key, value, requiredType));
+	}
+
 	/**
 	 * Put the supplied value for the supplied namespace and key into this
 	 * store and return the previously associated value in this store.
@@ -243,7 +362,8 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 	public @Nullable Object put(N namespace, Object key, @Nullable Object value)
 			throws NamespacedHierarchicalStoreException {
 		rejectIfClosed();
-		StoredValue oldValue = this.storedValues.put(new CompositeKey<>(namespace, key), newStoredValue(() -> value));
+		validate(namespace, key);
+		StoredValue oldValue = getOrCreateValues(namespace).put(key, newStoredValue(() -> value));
 		return StoredValue.evaluateIfNotNull(oldValue);
 	}
 
@@ -262,7 +382,9 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 	 */
 	public @Nullable Object remove(N namespace, Object key) {
 		rejectIfClosed();
-		StoredValue previous = this.storedValues.remove(new CompositeKey<>(namespace, key));
+		validate(namespace, key);
+		ConcurrentMap<Object, StoredValue> values = this.storedValues.get(namespace);
+		StoredValue previous = values == null ? null : values.remove(key);
 		return StoredValue.evaluateIfNotNull(previous);
 	}
 
@@ -291,17 +413,31 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 		return new StoredValue(this.insertOrderSequence.getAndIncrement(), value);
 	}
 
-	private @Nullable StoredValue getStoredValue(CompositeKey<N> compositeKey) {
-		StoredValue storedValue = this.storedValues.get(compositeKey);
-		if (storedValue != null) {
-			return storedValue;
-		}
-		if (this.parentStore != null) {
-			return this.parentStore.getStoredValue(compositeKey);
-		}
+	private ConcurrentMap<Object, StoredValue> getOrCreateValues(N namespace) {
+		return this.storedValues.computeIfAbsent(namespace, __ -> new ConcurrentHashMap<>(4));
+	}
+
+	private @Nullable StoredValue getStoredValue(N namespace, Object key) {
+		validate(namespace, key);
+		NamespacedHierarchicalStore<N> store = this;
+		do {
+			ConcurrentMap<Object, StoredValue> values = store.storedValues.get(namespace);
+			if (values != null) {
+				StoredValue storedValue = values.get(key);
+				if (storedValue != null) {
+					return storedValue;
+				}
+			}
+			store = store.parentStore;
+		} while (store != null);
 		return null;
 	}
 
+	private static void validate(Object namespace, Object key) {
+		Preconditions.notNull(namespace, "namespace must not be null");
+		Preconditions.notNull(key, "key must not be null");
+	}
+
 	@SuppressWarnings("unchecked")
 	private <T> @Nullable T castToRequiredType(Object key, @Nullable Object value, Class<T> requiredType) {
 		Preconditions.notNull(requiredType, "requiredType must not be null");
@@ -327,20 +463,11 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 		}
 	}
 
-	private record CompositeKey<N>(N namespace, Object key) {
-
-		CompositeKey {
-			Preconditions.notNull(namespace, "namespace must not be null");
-			Preconditions.notNull(key, "key must not be null");
-		}
-
-	}
-
 	private record StoredValue(int order, Supplier<@Nullable Object> supplier) {
 
-		private <N> @Nullable EvaluatedValue<N> evaluateSafely(CompositeKey<N> compositeKey) {
+		private <N> @Nullable EvaluatedValue<N> evaluateSafely(N namespace, Object key) {
 			try {
-				return new EvaluatedValue<>(compositeKey, this.order, evaluate());
+				return new EvaluatedValue<>(namespace, key, this.order, evaluate());
 			}
 			catch (Throwable t) {
 				UnrecoverableExceptions.rethrowIfUnrecoverable(t);
@@ -358,19 +485,181 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 
 	}
 
-	private record EvaluatedValue<N>(CompositeKey<N> compositeKey, int order, @Nullable Object value) {
+	private record EvaluatedValue<N>(N namespace, Object key, int order, @Nullable Object value) {
 
 		private static final Comparator<EvaluatedValue<?>> REVERSE_INSERT_ORDER = comparing(
 			(EvaluatedValue<?> it) -> it.order).reversed();
 
 		private void close(CloseAction<N> closeAction) throws Throwable {
 			if (this.value != null) {
-				closeAction.close(this.compositeKey.namespace, this.compositeKey.key, this.value);
+				closeAction.close(this.namespace, this.key, this.value);
 			}
 		}
 
 	}
 
+	/**
+	 * {@link CompletableFuture} for a value that is computed asynchronously
+	 * and stored via {@code getOrComputeIfAbsentAsync()}.
+	 *
+	 * <p>Closing it closes the computed value if it is an {@link AutoCloseable}.
+	 * Unfinished computations are cancelled rather than awaited so that closing
+	 * a store never blocks indefinitely; values they compute afterwards are
+	 * closed by the computing thread. Failed computations are ignored since
+	 * they have already been reported to callers of the future.
+	 */
+	private static final class AsyncValue extends CompletableFuture<@Nullable Object> implements AutoCloseable {
+
+		static AsyncValue compute(Supplier<@Nullable Object> supplier, Executor executor) {
+			AsyncValue asyncValue = new AsyncValue();
+			try {
+				executor.execute(() -> {
+					try {
+						Object value = supplier.get();
+						if (!asyncValue.complete(value) && value instanceof AutoCloseable closeable) {
+							closeable.close();
+						}
+					}
+					catch (Throwable t) {
+						asyncValue.completeExceptionally(t);
+						UnrecoverableExceptions.rethrowIfUnrecoverable(t);
+					}
+				});
+			}
+			catch (Throwable t) {
+				asyncValue.completeExceptionally(t);
+				UnrecoverableExceptions.rethrowIfUnrecoverable(t);
+			}
+			return asyncValue;
+		}
+
+		static @Nullable Object unwrap(@Nullable Object value) {
+			if (value instanceof AsyncValue asyncValue) {
+				try {
+					return asyncValue.join();
+				}
+				catch (CompletionException e) {
+					throw ExceptionUtils.throwAsUncheckedException(requireNonNull(e.getCause()));
+				}
+			}
+			return value;
+		}
+
+		@Override
+		public void close() throws Exception {
+			if (cancel(false) || isCompletedExceptionally()) {
+				return;
+			}
+			if (join() instanceof AutoCloseable closeable) {
+				closeable.close();
+			}
+		}
+
+	}
+
+	/**
+	 * Closes evaluated values in the order they are supplied while closing
+	 * values that belong to different {@linkplain GroupingCloseAction#getCloseGroup
+	 * close groups} concurrently.
+	 *
+	 * <p>Consecutive values that belong to a close group are collected until
+	 * a value without a close group is encountered. The collected groups are
+	 * then closed concurrently &mdash; each of them sequentially in the
+	 * supplied order &mdash; before the value without a close group is closed.
+	 * All but the first group are closed by the threads of an executor that
+	 * is shared by all stores and only created once it is first needed.
+	 */
+	private static class CloseOperation<N> {
+
+		private final CloseAction<N> closeAction;
+
+		private final ThrowableCollector throwableCollector;
+
+		private CloseOperation(CloseAction<N> closeAction, ThrowableCollector throwableCollector) {
+			this.closeAction = closeAction;
+			this.throwableCollector = throwableCollector;
+		}
+
+		private void closeAll(List<EvaluatedValue<N>> values) {
+			Map<Object, List<EvaluatedValue<N>>> pendingGroups = new LinkedHashMap<>();
+			for (EvaluatedValue<N> value : values) {
+				Object closeGroup = getCloseGroup(value);
+				if (closeGroup == null) {
+					closeConcurrently(pendingGroups.values());
+					pendingGroups.clear();
+					this.throwableCollector.execute(() -> value.close(this.closeAction));
+				}
+				else {
+					pendingGroups.computeIfAbsent(closeGroup, __ -> new ArrayList<>()).add(value);
+				}
+			}
+			closeConcurrently(pendingGroups.values());
+		}
+
+		private @Nullable Object getCloseGroup(EvaluatedValue<N> value) {
+			if (!(this.closeAction instanceof GroupingCloseAction<N> groupingCloseAction)) {
+				return null;
+			}
+			try {
+				return groupingCloseAction.getCloseGroup(value.namespace, value.key, requireNonNull(value.value));
+			}
+			catch (Throwable t) {
+				UnrecoverableExceptions.rethrowIfUnrecoverable(t);
+				this.throwableCollector.execute(() -> {
+					throw t;
+				});
+				return null;
+			}
+		}
+
+		private void closeConcurrently(Iterable<List<EvaluatedValue<N>>> groups) {
+			List<CompletableFuture<ThrowableCollector>> futures = new ArrayList<>();
+			List<EvaluatedValue<N>> firstGroup = null;
+			for (List<EvaluatedValue<N>> group : groups) {
+				if (firstGroup == null) {
+					firstGroup = group;
+				}
+				else {
+					futures.add(CompletableFuture.supplyAsync(() -> closeSequentially(group), CloseExecutor.INSTANCE));
+				}
+			}
+			if (firstGroup != null) {
+				ThrowableCollector collector = closeSequentially(firstGroup);
+				this.throwableCollector.execute(collector::assertEmpty);
+			}
+			futures.forEach(future -> this.throwableCollector.execute(() -> future.join().assertEmpty()));
+		}
+
+		private ThrowableCollector closeSequentially(List<EvaluatedValue<N>> group) {
+			ThrowableCollector collector = new ThrowableCollector(__ -> false);
+			group.forEach(value -> collector.execute(() -> value.close(this.closeAction)));
+			return collector;
+		}
+
+	}
+
+	/**
+	 * Holder of the executor used by {@link CloseOperation} so that it is only
+	 * created when values of different close groups are first closed.
+	 *
+	 * <p>Its daemon threads are reused across stores and terminate after
+	 * being idle for a while.
+	 */
+	private static final class CloseExecutor {
+
+		private static final ExecutorService INSTANCE = createExecutorService();
+
+		private static ExecutorService createExecutorService() {
+			AtomicInteger threadNumber = new AtomicInteger();
+			return Executors.newCachedThreadPool(runnable -> {
+				Thread thread = new Thread(runnable, "junit-store-closer-" + threadNumber.incrementAndGet());
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+
+	}
+
 	/**
 	 * Thread-safe {@link Supplier} that memoizes the result of calling its
 	 * delegate and ensures it is called at most once.
@@ -378,13 +667,22 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 	 * <p>If the delegate throws an exception, it is stored and rethrown every
 	 * time {@link #get()} is called.
 	 *
+	 * <p>Once the value has been computed, {@link #get()} only performs a
+	 * single volatile read. Threads that request the value while it is being
+	 * computed wait on a {@link ReentrantLock} rather than a monitor so that
+	 * virtual threads are not pinned to their carrier thread. The delegate
+	 * is released after it has been called so that it can be garbage
+	 * collected.
+	 *
 	 * @see StoredValue
 	 */
 	private static class MemoizingSupplier implements Supplier<@Nullable Object> {
 
 		private static final Object NO_VALUE_SET = new Object();
 
-		private final Supplier<@Nullable Object> delegate;
+		private final ReentrantLock lock = new ReentrantLock();
+
+		private @Nullable Supplier<@Nullable Object> delegate;
 
 		@Nullable
 		private volatile Object value = NO_VALUE_SET;
@@ -395,25 +693,33 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 
 		@Override
 		public @Nullable Object get() {
-			if (this.value == NO_VALUE_SET) {
-				computeValue();
+			Object value = this.value;
+			if (value == NO_VALUE_SET) {
+				value = computeValue();
 			}
-			if (this.value instanceof Failure failure) {
+			if (value instanceof Failure failure) {
 				throw ExceptionUtils.throwAsUncheckedException(failure.throwable);
 			}
-			return this.value;
+			return value;
 		}
 
-		private synchronized void computeValue() {
+		private @Nullable Object computeValue() {
+			this.lock.lock();
 			try {
 				if (this.value == NO_VALUE_SET) {
-					this.value = this.delegate.get();
+					this.value = requireNonNull(this.delegate).get();
+					this.delegate = null;
 				}
 			}
 			catch (Throwable t) {
 				this.value = new Failure(t);
+				this.delegate = null;
 				UnrecoverableExceptions.rethrowIfUnrecoverable(t);
 			}
+			finally {
+				this.lock.unlock();
+			}
+			return this.value;
 		}
 
 		private record Failure(Throwable throwable) {
@@ -425,6 +731,8 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 	 * Called for each successfully stored non-null value in the store when a
 	 * {@link NamespacedHierarchicalStore} is
 	 * {@linkplain NamespacedHierarchicalStore#close() closed}.
+	 *
+	 * @see GroupingCloseAction
 	 */
 	@FunctionalInterface
 	public interface CloseAction<N> {
@@ -449,4 +757,35 @@ public final class NamespacedHierarchicalStore<N> implements AutoCloseable {
 
 	}
 
+	/**
+	 * {@link CloseAction} that assigns close groups to stored values so that
+	 * values that do not depend on each other may be closed concurrently.
+	 *
+	 * <p>Values that belong to different close groups are considered
+	 * independent of each other and may be closed concurrently. Values that
+	 * belong to the same close group are closed sequentially in reverse
+	 * insertion order. Values without a close group are closed after all
+	 * values stored after them and before all values stored before them,
+	 * regardless of their close groups.
+	 *
+	 * @param <N> Namespace type
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public interface GroupingCloseAction<N> extends CloseAction<N> {
+
+		/**
+		 * Get the close group of the supplied {@code value}.
+		 *
+		 * @param namespace the namespace; never {@code null}
+		 * @param key the key; never {@code null}
+		 * @param value the value; never {@code null}
+		 * @return the close group of the value or {@code null} if it should be
+		 * closed sequentially with respect to all other values
+		 */
+		@Nullable
+		Object getCloseGroup(N namespace, Object key, Object value);
+
+	}
+
 }
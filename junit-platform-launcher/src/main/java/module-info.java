@@ -33,6 +33,7 @@ module org.junit.platform.launcher {
 
 	exports org.junit.platform.launcher;
 	exports org.junit.platform.launcher.core;
+	exports org.junit.platform.launcher.impact;
 	exports org.junit.platform.launcher.listeners;
 	exports org.junit.platform.launcher.listeners.discovery;
 
@@ -44,5 +45,6 @@ module org.junit.platform.launcher {
 	uses org.junit.platform.launcher.TestExecutionListener;
 
 	provides org.junit.platform.launcher.TestExecutionListener
-			with org.junit.platform.launcher.listeners.UniqueIdTrackingListener;
+			with org.junit.platform.launcher.impact.TestImpactTrackingListener,
+				org.junit.platform.launcher.listeners.UniqueIdTrackingListener;
 }
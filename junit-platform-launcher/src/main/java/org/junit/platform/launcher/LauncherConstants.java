@@ -16,6 +16,7 @@ import static org.apiguardian.api.API.Status.STABLE;
 
 import org.apiguardian.api.API;
 import org.junit.platform.commons.util.ClassNamePatternFilterUtils;
+import org.junit.platform.engine.reporting.FileEntry;
 import org.junit.platform.engine.reporting.ReportEntry;
 
 /**
@@ -80,6 +81,51 @@ public class LauncherConstants {
 	 */
 	public static final int CAPTURE_MAX_BUFFER_DEFAULT = 4 * 1024 * 1024;
 
+	/**
+	 * Property name used to configure the number of bytes per thread and
+	 * output type after which captured output is no longer buffered in memory
+	 * but written to a temporary file if output capturing is enabled:
+	 * {@value}
+	 *
+	 * <p>Value must be an integer; by default, captured output is always
+	 * buffered in memory.
+	 *
+	 * <p>If the output captured for a single test or container exceeds this
+	 * threshold, it is published as a {@link FileEntry} named
+	 * {@code stdout.txt} or {@code stderr.txt} in the output directory of the
+	 * test or container rather than as part of a {@link ReportEntry}. The
+	 * maximum number of captured bytes is still limited by
+	 * {@value #CAPTURE_MAX_BUFFER_PROPERTY_NAME}.
+	 *
+	 * @since 6.0
+	 * @see #CAPTURE_MAX_BUFFER_PROPERTY_NAME
+	 * @see TestExecutionListener#fileEntryPublished(TestIdentifier, FileEntry)
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String CAPTURE_SPILL_THRESHOLD_PROPERTY_NAME = "junit.platform.output.capture.spillThreshold";
+
+	/**
+	 * Property name used to enable attributing output of threads started by a
+	 * test or container to that test or container if output capturing is
+	 * enabled: {@value}
+	 *
+	 * <p>By default, output of threads other than the one executing a test or
+	 * container is attributed to the test or container that most recently
+	 * wrote captured output.
+	 *
+	 * <p>Output of tasks executed by threads that already existed, such as
+	 * those of thread pools, may be attributed to the submitting test or
+	 * container by wrapping the tasks or executors via
+	 * {@link org.junit.platform.launcher.core.OutputCapturePropagation}
+	 * regardless of this property.
+	 *
+	 * @since 6.0
+	 * @see #CAPTURE_STDOUT_PROPERTY_NAME
+	 * @see #CAPTURE_STDERR_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String CAPTURE_CHILD_THREADS_PROPERTY_NAME = "junit.platform.output.capture.childThreads";
+
 	/**
 	 * Key used to publish captured output to {@link System#out} as part of a
 	 * {@link ReportEntry}: {@value}
@@ -149,6 +195,79 @@ public class LauncherConstants {
 	 */
 	public static final String DEACTIVATE_ALL_LISTENERS_PATTERN = ClassNamePatternFilterUtils.ALL_PATTERN;
 
+	/**
+	 * Property name used to enable asynchronous dispatching of events to
+	 * registered {@linkplain TestExecutionListener listeners}: {@value}
+	 *
+	 * <p>If enabled, execution events are published into a bounded buffer and
+	 * listeners are notified of them in order by a dedicated thread so that
+	 * slow listeners do not delay the execution of tests. All remaining events
+	 * are dispatched before
+	 * {@link TestExecutionListener#testPlanExecutionFinished(TestPlan)} returns.
+	 * Since listeners are then called from a different thread than the one
+	 * executing the test, listeners that rely on thread-local state or that
+	 * inspect the current thread should not be used in this mode.
+	 *
+	 * <p>Value must be either {@code true} or {@code false}; defaults to {@code false}.
+	 *
+	 * @since 6.0
+	 * @see #ASYNC_LISTENER_DISPATCH_BUFFER_SIZE_PROPERTY_NAME
+	 * @see #ASYNC_LISTENER_DISPATCH_OVERFLOW_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String ASYNC_LISTENER_DISPATCH_ENABLED_PROPERTY_NAME = "junit.platform.execution.listeners.async.enabled";
+
+	/**
+	 * Property name used to configure the maximum number of events buffered
+	 * if {@linkplain #ASYNC_LISTENER_DISPATCH_ENABLED_PROPERTY_NAME asynchronous
+	 * listener dispatching} is enabled: {@value}
+	 *
+	 * <p>Value must be a positive integer; defaults to
+	 * {@value #ASYNC_LISTENER_DISPATCH_BUFFER_SIZE_DEFAULT}.
+	 *
+	 * @since 6.0
+	 * @see #ASYNC_LISTENER_DISPATCH_BUFFER_SIZE_DEFAULT
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String ASYNC_LISTENER_DISPATCH_BUFFER_SIZE_PROPERTY_NAME = "junit.platform.execution.listeners.async.bufferSize";
+
+	/**
+	 * Default maximum number of events buffered if
+	 * {@linkplain #ASYNC_LISTENER_DISPATCH_ENABLED_PROPERTY_NAME asynchronous
+	 * listener dispatching} is enabled.
+	 *
+	 * @since 6.0
+	 * @see #ASYNC_LISTENER_DISPATCH_BUFFER_SIZE_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final int ASYNC_LISTENER_DISPATCH_BUFFER_SIZE_DEFAULT = 1024;
+
+	/**
+	 * Property name used to configure what happens when an event is published
+	 * while the buffer is full if
+	 * {@linkplain #ASYNC_LISTENER_DISPATCH_ENABLED_PROPERTY_NAME asynchronous
+	 * listener dispatching} is enabled: {@value}
+	 *
+	 * <h4>Supported Values</h4>
+	 *
+	 * <ul>
+	 * <li>{@code block}: the publishing thread waits until the event can be
+	 * buffered</li>
+	 * <li>{@code drop}: reporting and file entries are discarded and the
+	 * number of discarded entries is logged at the end of the test run</li>
+	 * </ul>
+	 *
+	 * <p>Events that report the registration, start, skipping, or completion of
+	 * a test or container are never discarded since listeners depend on
+	 * receiving them. Publishing them always blocks while the buffer is full.
+	 *
+	 * <p>If not specified, the default is {@code block}.
+	 *
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String ASYNC_LISTENER_DISPATCH_OVERFLOW_PROPERTY_NAME = "junit.platform.execution.listeners.async.overflow";
+
 	/**
 	 * Property name used to enable support for
 	 * {@link LauncherInterceptor} instances to be registered via the
@@ -266,6 +385,76 @@ public class LauncherConstants {
 	@API(status = EXPERIMENTAL, since = "6.0")
 	public static final String DISCOVERY_ISSUE_FAILURE_PHASE_PROPERTY_NAME = "junit.platform.discovery.issue.failure.phase";
 
+	/**
+	 * Property name used to enable recording the unique IDs of failed tests
+	 * and containers: {@value}
+	 *
+	 * <p>If enabled, the {@code Launcher} stores the unique IDs of tests and
+	 * containers that failed in a file named
+	 * {@code junit-platform-failed-tests.txt} in the root directory configured
+	 * via {@link #OUTPUT_DIR_PROPERTY_NAME}. The unique IDs of tests and
+	 * containers that are executed and no longer fail are removed from it.
+	 *
+	 * <p>Recording is enabled implicitly if a mode other than "none" is
+	 * configured via {@link #FAILED_TESTS_MODE_PROPERTY_NAME}.
+	 *
+	 * <h4>Supported Values</h4>
+	 *
+	 * <p>Supported values include {@code true} and {@code false}.
+	 *
+	 * <p>If not specified, the default is {@code false}.
+	 *
+	 * @since 6.0
+	 * @see #FAILED_TESTS_MODE_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String FAILED_TESTS_TRACKING_ENABLED_PROPERTY_NAME = "junit.platform.execution.failedTests.tracking.enabled";
+
+	/**
+	 * Property name used to configure how tests and containers that failed
+	 * in previous test runs should be treated: {@value}
+	 *
+	 * <h4>Supported Values</h4>
+	 *
+	 * <ul>
+	 *   <li>{@code none}: execute all discovered tests in their regular order</li>
+	 *   <li>{@code only}: execute only the discovered tests that failed
+	 *       previously or are part of containers that failed previously</li>
+	 *   <li>{@code first}: execute all discovered tests, but execute those that
+	 *       failed previously before all others</li>
+	 * </ul>
+	 *
+	 * <p>If no tests failed previously, all discovered tests are executed in
+	 * their regular order regardless of the configured mode.
+	 *
+	 * <p>If not specified, the default is {@code none}.
+	 *
+	 * @since 6.0
+	 * @see #FAILED_TESTS_TRACKING_ENABLED_PROPERTY_NAME
+	 * @see #FAILED_TESTS_FAIL_FAST_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String FAILED_TESTS_MODE_PROPERTY_NAME = "junit.platform.execution.failedTests.mode";
+
+	/**
+	 * Property name used to enable cancelling test execution as soon as a
+	 * test or container that failed previously fails again: {@value}
+	 *
+	 * <p>This property is only taken into account if a mode other than
+	 * "none" is configured via {@link #FAILED_TESTS_MODE_PROPERTY_NAME}.
+	 *
+	 * <h4>Supported Values</h4>
+	 *
+	 * <p>Supported values include {@code true} and {@code false}.
+	 *
+	 * <p>If not specified, the default is {@code false}.
+	 *
+	 * @since 6.0
+	 * @see #FAILED_TESTS_MODE_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public static final String FAILED_TESTS_FAIL_FAST_PROPERTY_NAME = "junit.platform.execution.failedTests.failFast";
+
 	private LauncherConstants() {
 		/* no-op */
 	}
@@ -13,6 +13,7 @@ package org.junit.platform.launcher;
 import static java.util.Collections.emptySet;
 import static java.util.Collections.singleton;
 import static java.util.Collections.unmodifiableSet;
+import static java.util.Objects.requireNonNull;
 import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.apiguardian.api.API.Status.STABLE;
 import static org.junit.platform.commons.util.CollectionUtils.getOnlyElement;
@@ -28,6 +29,7 @@ import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Supplier;
 
 import org.apiguardian.api.API;
 import org.jspecify.annotations.Nullable;
@@ -60,7 +62,8 @@ public final class TestIdentifier implements Serializable {
 
 	private /* final */ @Nullable UniqueId parentId;
 
-	private /* final */ String displayName;
+	private /* final */ @Nullable String displayName;
+	private /* final */ @Nullable Supplier<String> deferredDisplayName;
 	private /* final */ String legacyReportingName;
 
 	private /* final */ @Nullable TestSource source;
@@ -74,21 +77,26 @@ public final class TestIdentifier implements Serializable {
 	public static TestIdentifier from(TestDescriptor testDescriptor) {
 		Preconditions.notNull(testDescriptor, "TestDescriptor must not be null");
 		UniqueId uniqueId = testDescriptor.getUniqueId();
-		String displayName = testDescriptor.getDisplayName();
+		// only compute the display name if it is not computed lazily by the descriptor
+		Supplier<String> deferredDisplayName = testDescriptor.getDeferredDisplayName().orElse(null);
+		String displayName = deferredDisplayName == null ? testDescriptor.getDisplayName() : null;
 		TestSource source = testDescriptor.getSource().orElse(null);
 		Set<TestTag> tags = testDescriptor.getTags();
 		Type type = testDescriptor.getType();
 		UniqueId parentId = testDescriptor.getParent().map(TestDescriptor::getUniqueId).orElse(null);
 		String legacyReportingName = testDescriptor.getLegacyReportingName();
-		return new TestIdentifier(uniqueId, displayName, source, tags, type, parentId, legacyReportingName);
+		return new TestIdentifier(uniqueId, displayName, deferredDisplayName, source, tags, type, parentId,
+			legacyReportingName);
 	}
 
-	private TestIdentifier(UniqueId uniqueId, String displayName, @Nullable TestSource source, Set<TestTag> tags,
-			Type type, @Nullable UniqueId parentId, String legacyReportingName) {
+	private TestIdentifier(UniqueId uniqueId, @Nullable String displayName,
+			@Nullable Supplier<String> deferredDisplayName, @Nullable TestSource source, Set<TestTag> tags, Type type,
+			@Nullable UniqueId parentId, String legacyReportingName) {
 		Preconditions.notNull(type, "TestDescriptor.Type must not be null");
 		this.uniqueId = uniqueId;
 		this.parentId = parentId;
 		this.displayName = displayName;
+		this.deferredDisplayName = deferredDisplayName;
 		this.source = source;
 		this.tags = copyOf(tags);
 		this.type = type;
@@ -172,12 +180,17 @@ public final class TestIdentifier implements Serializable {
 	 * names should never be parsed; rather, they should be used for display
 	 * purposes only.
 	 *
+	 * <p>If the represented {@link TestDescriptor} computes its display name
+	 * {@linkplain TestDescriptor#getDeferredDisplayName() lazily}, it is
+	 * computed when this method is called for the first time.
+	 *
 	 * @return the display name for this identifier; never {@code null} or blank
 	 * @see #getSource()
 	 * @see org.junit.platform.engine.TestDescriptor#getDisplayName()
 	 */
 	public String getDisplayName() {
-		return this.displayName;
+		String displayName = this.displayName;
+		return displayName != null ? displayName : requireNonNull(this.deferredDisplayName).get();
 	}
 
 	/**
@@ -263,7 +276,7 @@ public final class TestIdentifier implements Serializable {
 		return new ToStringBuilder(this)
 				.append("uniqueId", this.uniqueId)
 				.append("parentId", this.parentId)
-				.append("displayName", this.displayName)
+				.append("displayName", getDisplayName())
 				.append("legacyReportingName", this.legacyReportingName)
 				.append("source", this.source)
 				.append("tags", this.tags)
@@ -319,7 +332,7 @@ public final class TestIdentifier implements Serializable {
 			this.uniqueId = testIdentifier.uniqueId.toString();
 			UniqueId parentId = testIdentifier.parentId;
 			this.parentId = parentId == null ? null : parentId.toString();
-			this.displayName = testIdentifier.displayName;
+			this.displayName = testIdentifier.getDisplayName();
 			this.legacyReportingName = testIdentifier.legacyReportingName;
 			this.source = testIdentifier.source;
 			this.tags = testIdentifier.tags;
@@ -18,8 +18,13 @@ import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 import static org.apiguardian.api.API.Status.STABLE;
 
+import java.util.AbstractSet;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -27,6 +32,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
 import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
 import org.junit.platform.commons.PreconditionViolationException;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.ConfigurationParameters;
@@ -51,6 +57,11 @@ import org.junit.platform.engine.reporting.OutputDirectoryProvider;
  * test is registered at runtime, it is added to the original test plan and
  * reported to {@link TestExecutionListener} implementations.
  *
+ * <p>The identifiers discovered for a test plan created via
+ * {@link #from(boolean, Collection, ConfigurationParameters, OutputDirectoryProvider)}
+ * are stored in a compact, immutable, array-backed tree. Identifiers that are
+ * added later, such as dynamic tests, are stored in a mutable overlay.
+ *
  * <p>This class is not intended to be extended by clients.
  *
  * @since 1.0
@@ -61,9 +72,13 @@ import org.junit.platform.engine.reporting.OutputDirectoryProvider;
 public class TestPlan {
 
 	private final Set<TestIdentifier> roots = synchronizedSet(new LinkedHashSet<>(4));
+
+	// identifiers added after the test plan has been created, e.g. dynamic tests
 	private final Map<UniqueId, Set<TestIdentifier>> children = new ConcurrentHashMap<>(32);
 	private final Map<UniqueId, TestIdentifier> allIdentifiers = new ConcurrentHashMap<>(32);
 
+	private final TestPlanTree tree;
+
 	private final boolean containsTests;
 	private final ConfigurationParameters configurationParameters;
 	private final OutputDirectoryProvider outputDirectoryProvider;
@@ -89,18 +104,27 @@ public class TestPlan {
 			ConfigurationParameters configurationParameters, OutputDirectoryProvider outputDirectoryProvider) {
 		Preconditions.notNull(engineDescriptors, "Cannot create TestPlan from a null collection of TestDescriptors");
 		Preconditions.notNull(configurationParameters, "Cannot create TestPlan from null ConfigurationParameters");
-		TestPlan testPlan = new TestPlan(containsTests, configurationParameters, outputDirectoryProvider);
-		TestDescriptor.Visitor visitor = descriptor -> testPlan.addInternal(TestIdentifier.from(descriptor));
-		engineDescriptors.forEach(engineDescriptor -> engineDescriptor.accept(visitor));
-		return testPlan;
+		return new TestPlan(containsTests, configurationParameters, outputDirectoryProvider,
+			TestPlanTree.from(engineDescriptors));
 	}
 
 	@API(status = INTERNAL, since = "1.4")
 	protected TestPlan(boolean containsTests, ConfigurationParameters configurationParameters,
 			OutputDirectoryProvider outputDirectoryProvider) {
+		this(containsTests, configurationParameters, outputDirectoryProvider, TestPlanTree.EMPTY);
+	}
+
+	private TestPlan(boolean containsTests, ConfigurationParameters configurationParameters,
+			OutputDirectoryProvider outputDirectoryProvider, TestPlanTree tree) {
 		this.containsTests = containsTests;
 		this.configurationParameters = configurationParameters;
 		this.outputDirectoryProvider = outputDirectoryProvider;
+		this.tree = tree;
+		for (int i = 0; i < tree.size(); i++) {
+			if (tree.isRoot(i)) {
+				roots.add(tree.get(i));
+			}
+		}
 	}
 
 	@API(status = INTERNAL, since = "1.8")
@@ -117,7 +141,7 @@ public class TestPlan {
 		// Identifiers without a parent in this test plan. Could be a test
 		// engine that is used in a suite.
 		UniqueId parentId = testIdentifier.getParentIdObject().get();
-		if (!allIdentifiers.containsKey(parentId)) {
+		if (findTestIdentifier(parentId) == null) {
 			roots.add(testIdentifier);
 			return;
 		}
@@ -169,6 +193,10 @@ public class TestPlan {
 	 */
 	@API(status = MAINTAINED, since = "1.10")
 	public Set<TestIdentifier> getChildren(UniqueId parentId) {
+		int index = tree.indexOf(parentId);
+		if (index >= 0) {
+			return new ChildrenView(index, parentId);
+		}
 		return children.containsKey(parentId) ? unmodifiableSet(children.get(parentId)) : emptySet();
 	}
 
@@ -201,10 +229,15 @@ public class TestPlan {
 	@API(status = MAINTAINED, since = "1.10")
 	public TestIdentifier getTestIdentifier(UniqueId uniqueId) {
 		Preconditions.notNull(uniqueId, () -> "uniqueId must not be null");
-		return Preconditions.notNull(allIdentifiers.get(uniqueId),
+		return Preconditions.notNull(findTestIdentifier(uniqueId),
 			() -> "No TestIdentifier with unique ID [" + uniqueId + "] has been added to this TestPlan.");
 	}
 
+	private @Nullable TestIdentifier findTestIdentifier(UniqueId uniqueId) {
+		TestIdentifier testIdentifier = allIdentifiers.get(uniqueId);
+		return testIdentifier != null ? testIdentifier : tree.find(uniqueId);
+	}
+
 	/**
 	 * Count all {@link TestIdentifier TestIdentifiers} that satisfy the
 	 * given {@linkplain Predicate predicate}.
@@ -215,7 +248,14 @@ public class TestPlan {
 	 */
 	public long countTestIdentifiers(Predicate<? super TestIdentifier> predicate) {
 		Preconditions.notNull(predicate, "Predicate must not be null");
-		return allIdentifiers.values().stream().filter(predicate).count();
+		long count = 0;
+		for (int i = 0; i < tree.size(); i++) {
+			TestIdentifier testIdentifier = tree.get(i);
+			if (predicate.test(testIdentifier) && !allIdentifiers.containsKey(testIdentifier.getUniqueIdObject())) {
+				count++;
+			}
+		}
+		return count + allIdentifiers.values().stream().filter(predicate).count();
 	}
 
 	/**
@@ -227,6 +267,12 @@ public class TestPlan {
 	 */
 	public Set<TestIdentifier> getDescendants(TestIdentifier parent) {
 		Preconditions.notNull(parent, "parent must not be null");
+		if (allIdentifiers.isEmpty()) {
+			int index = tree.indexOf(parent.getUniqueIdObject());
+			if (index >= 0) {
+				return tree.descendants(index);
+			}
+		}
 		Set<TestIdentifier> result = new LinkedHashSet<>(16);
 		Set<TestIdentifier> children = getChildren(parent);
 		result.addAll(children);
@@ -295,6 +341,53 @@ public class TestPlan {
 		}
 	}
 
+	/**
+	 * Unmodifiable view of the children of an identifier in the tree followed
+	 * by those added to the overlay.
+	 */
+	private final class ChildrenView extends AbstractSet<TestIdentifier> {
+
+		private final int index;
+		private final UniqueId parentId;
+
+		ChildrenView(int index, UniqueId parentId) {
+			this.index = index;
+			this.parentId = parentId;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			if (!(o instanceof TestIdentifier testIdentifier)) {
+				return false;
+			}
+			if (tree.isChild(this.index, testIdentifier)) {
+				return true;
+			}
+			Set<TestIdentifier> addedChildren = children.get(this.parentId);
+			return addedChildren != null && addedChildren.contains(testIdentifier);
+		}
+
+		@Override
+		public Iterator<TestIdentifier> iterator() {
+			Set<TestIdentifier> addedChildren = children.get(this.parentId);
+			if (addedChildren == null) {
+				return tree.childrenIterator(this.index);
+			}
+			List<TestIdentifier> result = new ArrayList<>();
+			tree.childrenIterator(this.index).forEachRemaining(result::add);
+			synchronized (addedChildren) {
+				result.addAll(addedChildren);
+			}
+			return Collections.unmodifiableList(result).iterator();
+		}
+
+		@Override
+		public int size() {
+			Set<TestIdentifier> addedChildren = children.get(this.parentId);
+			return tree.countChildren(this.index) + (addedChildren == null ? 0 : addedChildren.size());
+		}
+	}
+
 	/**
 	 * Visitor for {@link TestIdentifier TestIdentifiers} in a {@link TestPlan}.
 	 *
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher;
+
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+
+/**
+ * Immutable, array-backed tree of the {@link TestIdentifier TestIdentifiers}
+ * discovered for a {@link TestPlan}.
+ *
+ * <p>Identifiers are stored in depth-first pre-order so that the descendants
+ * of each node occupy the contiguous range of indices up to the exclusive
+ * {@linkplain #subtreeEnds end of its subtree}. Thus, the children of a node
+ * can be enumerated by skipping from one sibling's subtree to the next, and
+ * no per-node collections are required. Identifiers are looked up by unique
+ * ID via an open-addressing hash table of node indices.
+ *
+ * @since 6.0
+ */
+final class TestPlanTree {
+
+	static final TestPlanTree EMPTY = new TestPlanTree(new TestIdentifier[0], new int[0], new int[0]);
+
+	private static final int NO_PARENT = -1;
+
+	static TestPlanTree from(Collection<TestDescriptor> rootDescriptors) {
+		int[] count = new int[1];
+		rootDescriptors.forEach(root -> root.accept(descriptor -> count[0]++));
+		if (count[0] == 0) {
+			return EMPTY;
+		}
+		Builder builder = new Builder(count[0]);
+		rootDescriptors.forEach(root -> builder.add(root, NO_PARENT));
+		return builder.build();
+	}
+
+	private final TestIdentifier[] nodes;
+	private final int[] parents;
+	private final int[] subtreeEnds;
+	private final int[] hashTable;
+
+	private TestPlanTree(TestIdentifier[] nodes, int[] parents, int[] subtreeEnds) {
+		this.nodes = nodes;
+		this.parents = parents;
+		this.subtreeEnds = subtreeEnds;
+		this.hashTable = new int[tableSizeFor(nodes.length)];
+		for (int i = 0; i < nodes.length; i++) {
+			insert(i);
+		}
+	}
+
+	private static int tableSizeFor(int size) {
+		int capacity = Integer.highestOneBit(Math.max(size, 1) * 2 - 1) << 1;
+		return Math.max(capacity, 2);
+	}
+
+	/**
+	 * Insert the supplied node index, replacing a previous node with the same
+	 * unique ID, if any.
+	 */
+	private void insert(int index) {
+		UniqueId uniqueId = this.nodes[index].getUniqueIdObject();
+		int mask = this.hashTable.length - 1;
+		for (int slot = spread(uniqueId.hashCode()) & mask;; slot = (slot + 1) & mask) {
+			int entry = this.hashTable[slot];
+			if (entry == 0 || this.nodes[entry - 1].getUniqueIdObject().equals(uniqueId)) {
+				this.hashTable[slot] = index + 1;
+				return;
+			}
+		}
+	}
+
+	private static int spread(int hashCode) {
+		return hashCode ^ (hashCode >>> 16);
+	}
+
+	/**
+	 * {@return the index of the node with the supplied unique ID or {@code -1}
+	 * if there is no such node}
+	 */
+	int indexOf(UniqueId uniqueId) {
+		if (this.nodes.length == 0) {
+			return -1;
+		}
+		int mask = this.hashTable.length - 1;
+		for (int slot = spread(uniqueId.hashCode()) & mask;; slot = (slot + 1) & mask) {
+			int entry = this.hashTable[slot];
+			if (entry == 0) {
+				return -1;
+			}
+			if (this.nodes[entry - 1].getUniqueIdObject().equals(uniqueId)) {
+				return entry - 1;
+			}
+		}
+	}
+
+	int size() {
+		return this.nodes.length;
+	}
+
+	TestIdentifier get(int index) {
+		return this.nodes[index];
+	}
+
+	@Nullable
+	TestIdentifier find(UniqueId uniqueId) {
+		int index = indexOf(uniqueId);
+		return index < 0 ? null : this.nodes[index];
+	}
+
+	boolean isRoot(int index) {
+		return this.parents[index] == NO_PARENT;
+	}
+
+	int countChildren(int index) {
+		int count = 0;
+		for (int child = index + 1; child < this.subtreeEnds[index]; child = this.subtreeEnds[child]) {
+			count++;
+		}
+		return count;
+	}
+
+	Iterator<TestIdentifier> childrenIterator(int index) {
+		int end = this.subtreeEnds[index];
+		return new Iterator<>() {
+
+			private int next = index + 1;
+
+			@Override
+			public boolean hasNext() {
+				return this.next < end;
+			}
+
+			@Override
+			public TestIdentifier next() {
+				if (!hasNext()) {
+					throw new NoSuchElementException();
+				}
+				int current = this.next;
+				this.next = subtreeEnds[current];
+				return nodes[current];
+			}
+		};
+	}
+
+	/**
+	 * {@return whether the supplied identifier is a child of the node with the
+	 * supplied index}
+	 */
+	boolean isChild(int parentIndex, TestIdentifier testIdentifier) {
+		int index = indexOf(testIdentifier.getUniqueIdObject());
+		return index >= 0 && this.parents[index] == parentIndex;
+	}
+
+	/**
+	 * {@return an unmodifiable view of all descendants of the node with the
+	 * supplied index}
+	 */
+	Set<TestIdentifier> descendants(int index) {
+		int start = index + 1;
+		int end = this.subtreeEnds[index];
+		return new AbstractSet<>() {
+
+			@Override
+			public boolean contains(Object o) {
+				if (o instanceof TestIdentifier testIdentifier) {
+					int candidate = indexOf(testIdentifier.getUniqueIdObject());
+					return candidate >= start && candidate < end;
+				}
+				return false;
+			}
+
+			@Override
+			public Iterator<TestIdentifier> iterator() {
+				return new Iterator<>() {
+
+					private int next = start;
+
+					@Override
+					public boolean hasNext() {
+						return this.next < end;
+					}
+
+					@Override
+					public TestIdentifier next() {
+						if (!hasNext()) {
+							throw new NoSuchElementException();
+						}
+						return nodes[this.next++];
+					}
+				};
+			}
+
+			@Override
+			public int size() {
+				return end - start;
+			}
+		};
+	}
+
+	private static final class Builder {
+
+		private final TestIdentifier[] nodes;
+		private final int[] parents;
+		private final int[] subtreeEnds;
+		private int size;
+
+		Builder(int capacity) {
+			this.nodes = new TestIdentifier[capacity];
+			this.parents = new int[capacity];
+			this.subtreeEnds = new int[capacity];
+		}
+
+		void add(TestDescriptor descriptor, int parent) {
+			int index = this.size++;
+			this.nodes[index] = TestIdentifier.from(descriptor);
+			this.parents[index] = parent;
+			for (TestDescriptor child : descriptor.getChildren()) {
+				add(child, index);
+			}
+			this.subtreeEnds[index] = this.size;
+		}
+
+		TestPlanTree build() {
+			return new TestPlanTree(this.nodes, this.parents, this.subtreeEnds);
+		}
+	}
+
+}
@@ -0,0 +1,416 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static java.util.Objects.requireNonNull;
+import static org.junit.platform.launcher.LauncherConstants.ASYNC_LISTENER_DISPATCH_BUFFER_SIZE_DEFAULT;
+import static org.junit.platform.launcher.LauncherConstants.ASYNC_LISTENER_DISPATCH_BUFFER_SIZE_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.ASYNC_LISTENER_DISPATCH_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.ASYNC_LISTENER_DISPATCH_OVERFLOW_PROPERTY_NAME;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.reporting.FileEntry;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * {@link TestExecutionListener} that publishes events into a bounded,
+ * preallocated ring buffer and notifies its delegate of them in order in a
+ * dedicated thread.
+ *
+ * <p>Events may be published concurrently by multiple threads. When the
+ * buffer is full, publishing threads wait for the dispatching thread to catch
+ * up unless the event is a reporting or file entry and the
+ * {@link OverflowStrategy#DROP DROP} strategy is configured.
+ *
+ * <p>{@link #testPlanExecutionFinished(TestPlan)} only returns once all
+ * events, including itself, have been dispatched. {@linkplain #close()
+ * Closing} this listener dispatches all remaining events and stops the
+ * dispatching thread.
+ *
+ * @since 6.0
+ * @see org.junit.platform.launcher.LauncherConstants#ASYNC_LISTENER_DISPATCH_ENABLED_PROPERTY_NAME
+ */
+final class AsyncDispatchingTestExecutionListener implements TestExecutionListener, AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(AsyncDispatchingTestExecutionListener.class);
+
+	private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+
+	static Optional<AsyncDispatchingTestExecutionListener> create(ConfigurationParameters configurationParameters,
+			TestExecutionListener delegate) {
+
+		boolean enabled = configurationParameters.getBoolean(ASYNC_LISTENER_DISPATCH_ENABLED_PROPERTY_NAME) //
+				.orElse(false);
+		if (!enabled) {
+			return Optional.empty();
+		}
+		int bufferSize = configurationParameters.get(ASYNC_LISTENER_DISPATCH_BUFFER_SIZE_PROPERTY_NAME,
+			Integer::valueOf) //
+				.orElse(ASYNC_LISTENER_DISPATCH_BUFFER_SIZE_DEFAULT);
+		OverflowStrategy overflowStrategy = configurationParameters.get(ASYNC_LISTENER_DISPATCH_OVERFLOW_PROPERTY_NAME,
+			OverflowStrategy::parse) //
+				.orElse(OverflowStrategy.BLOCK);
+		return Optional.of(new AsyncDispatchingTestExecutionListener(delegate, bufferSize, overflowStrategy));
+	}
+
+	private final TestExecutionListener delegate;
+	private final OverflowStrategy overflowStrategy;
+	private final Event[] events;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition notEmpty = this.lock.newCondition();
+	private final Condition notFull = this.lock.newCondition();
+	private final Condition dispatched = this.lock.newCondition();
+
+	private final Thread dispatcher;
+
+	// guarded by lock
+	private long publishedCount;
+	private long takenCount;
+	private long dispatchedCount;
+	private int droppedCount;
+	private boolean closed;
+	private @Nullable Throwable failure;
+
+	AsyncDispatchingTestExecutionListener(TestExecutionListener delegate, int bufferSize,
+			OverflowStrategy overflowStrategy) {
+		Preconditions.condition(bufferSize > 0,
+			() -> "%s must be a positive integer".formatted(ASYNC_LISTENER_DISPATCH_BUFFER_SIZE_PROPERTY_NAME));
+		this.delegate = delegate;
+		this.overflowStrategy = overflowStrategy;
+		this.events = new Event[bufferSize];
+		for (int i = 0; i < bufferSize; i++) {
+			this.events[i] = new Event();
+		}
+		this.dispatcher = new Thread(this::dispatchEvents,
+			"junit-platform-listener-dispatcher-" + THREAD_NUMBER.incrementAndGet());
+		this.dispatcher.setDaemon(true);
+		this.dispatcher.start();
+	}
+
+	@Override
+	public void testPlanExecutionStarted(TestPlan testPlan) {
+		publish(EventType.TEST_PLAN_EXECUTION_STARTED, null, testPlan);
+	}
+
+	@Override
+	public void testPlanExecutionFinished(TestPlan testPlan) {
+		publish(EventType.TEST_PLAN_EXECUTION_FINISHED, null, testPlan);
+		flush();
+	}
+
+	@Override
+	public void dynamicTestRegistered(TestIdentifier testIdentifier) {
+		publish(EventType.DYNAMIC_TEST_REGISTERED, testIdentifier, null);
+	}
+
+	@Override
+	public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+		publish(EventType.EXECUTION_SKIPPED, testIdentifier, reason);
+	}
+
+	@Override
+	public void executionStarted(TestIdentifier testIdentifier) {
+		publish(EventType.EXECUTION_STARTED, testIdentifier, null);
+	}
+
+	@Override
+	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+		publish(EventType.EXECUTION_FINISHED, testIdentifier, testExecutionResult);
+	}
+
+	@Override
+	public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+		publish(EventType.REPORTING_ENTRY_PUBLISHED, testIdentifier, entry);
+	}
+
+	@Override
+	public void fileEntryPublished(TestIdentifier testIdentifier, FileEntry file) {
+		publish(EventType.FILE_ENTRY_PUBLISHED, testIdentifier, file);
+	}
+
+	private void publish(EventType type, @Nullable TestIdentifier testIdentifier, @Nullable Object payload) {
+		this.lock.lock();
+		try {
+			Preconditions.condition(!this.closed, "Listener has already been closed");
+			while (this.publishedCount - this.takenCount == this.events.length) {
+				if (type.droppable && this.overflowStrategy == OverflowStrategy.DROP) {
+					this.droppedCount++;
+					return;
+				}
+				this.notFull.awaitUninterruptibly();
+			}
+			this.events[slot(this.publishedCount)].set(type, testIdentifier, payload);
+			this.publishedCount++;
+			this.notEmpty.signal();
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private void dispatchEvents() {
+		Event event = new Event();
+		while (take(event)) {
+			try {
+				event.dispatchTo(this.delegate);
+			}
+			catch (Throwable t) {
+				// CompositeTestExecutionListener only rethrows unrecoverable exceptions
+				recordFailure(t);
+			}
+			finally {
+				event.clear();
+				markDispatched();
+			}
+		}
+	}
+
+	/**
+	 * Copy the next event into the supplied one and free its slot.
+	 *
+	 * @return {@code false} if this listener has been closed and all events
+	 * have been taken
+	 */
+	private boolean take(Event target) {
+		this.lock.lock();
+		try {
+			while (this.takenCount == this.publishedCount) {
+				if (this.closed) {
+					return false;
+				}
+				this.notEmpty.awaitUninterruptibly();
+			}
+			Event source = this.events[slot(this.takenCount)];
+			target.set(source.type, source.testIdentifier, source.payload);
+			source.clear();
+			this.takenCount++;
+			this.notFull.signalAll();
+			return true;
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private void markDispatched() {
+		this.lock.lock();
+		try {
+			this.dispatchedCount++;
+			if (this.dispatchedCount == this.publishedCount) {
+				this.dispatched.signalAll();
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private void recordFailure(Throwable throwable) {
+		this.lock.lock();
+		try {
+			if (this.failure == null) {
+				this.failure = throwable;
+			}
+			else {
+				this.failure.addSuppressed(throwable);
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private int slot(long sequence) {
+		return (int) (sequence % this.events.length);
+	}
+
+	/**
+	 * Wait until all events published so far have been dispatched and rethrow
+	 * the failure recorded while dispatching them, if any.
+	 */
+	private void flush() {
+		Throwable failure = awaitDispatched();
+		if (failure != null) {
+			throw ExceptionUtils.throwAsUncheckedException(failure);
+		}
+	}
+
+	/**
+	 * Wait until all events published so far have been dispatched.
+	 *
+	 * @return the failure recorded while dispatching them, if any
+	 */
+	private @Nullable Throwable awaitDispatched() {
+		Throwable failure;
+		this.lock.lock();
+		try {
+			while (this.dispatchedCount != this.publishedCount) {
+				this.dispatched.awaitUninterruptibly();
+			}
+			failure = this.failure;
+			this.failure = null;
+		}
+		finally {
+			this.lock.unlock();
+		}
+		return failure;
+	}
+
+	/**
+	 * Dispatch all remaining events and stop the dispatching thread.
+	 *
+	 * <p>Since this method is usually called from a {@code finally} block, a
+	 * failure that occurred while dispatching the remaining events is logged
+	 * rather than thrown so that it does not mask the primary failure.
+	 */
+	@Override
+	public void close() {
+		this.lock.lock();
+		try {
+			if (this.closed) {
+				return;
+			}
+			this.closed = true;
+			this.notEmpty.signal();
+		}
+		finally {
+			this.lock.unlock();
+		}
+		joinDispatcher();
+		if (this.droppedCount > 0) {
+			logger.warn(() -> ("Dropped %d reporting or file entries because the buffer of %d events was full. "
+					+ "Consider increasing the '%s' configuration parameter.").formatted(this.droppedCount,
+						this.events.length, ASYNC_LISTENER_DISPATCH_BUFFER_SIZE_PROPERTY_NAME));
+		}
+		Throwable failure = awaitDispatched();
+		if (failure != null) {
+			logger.error(failure, () -> "Failed to dispatch remaining events to test execution listeners");
+		}
+	}
+
+	private void joinDispatcher() {
+		boolean interrupted = false;
+		while (this.dispatcher.isAlive()) {
+			try {
+				this.dispatcher.join();
+			}
+			catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	enum OverflowStrategy {
+
+		BLOCK, DROP;
+
+		private static @Nullable OverflowStrategy parse(String value) {
+			try {
+				return valueOf(value.strip().toUpperCase(Locale.ROOT));
+			}
+			catch (Exception e) {
+				logger.warn(() -> "Ignoring invalid overflow strategy '%s' set via the '%s' configuration parameter.".formatted(
+					value, ASYNC_LISTENER_DISPATCH_OVERFLOW_PROPERTY_NAME));
+				return null;
+			}
+		}
+
+	}
+
+	private enum EventType {
+
+		TEST_PLAN_EXECUTION_STARTED(false),
+
+		TEST_PLAN_EXECUTION_FINISHED(false),
+
+		DYNAMIC_TEST_REGISTERED(false),
+
+		EXECUTION_SKIPPED(false),
+
+		EXECUTION_STARTED(false),
+
+		EXECUTION_FINISHED(false),
+
+		REPORTING_ENTRY_PUBLISHED(true),
+
+		FILE_ENTRY_PUBLISHED(true);
+
+		private final boolean droppable;
+
+		EventType(boolean droppable) {
+			this.droppable = droppable;
+		}
+
+	}
+
+	/**
+	 * Mutable slot of the ring buffer.
+	 */
+	private static final class Event {
+
+		private @Nullable EventType type;
+		private @Nullable TestIdentifier testIdentifier;
+		private @Nullable Object payload;
+
+		void set(@Nullable EventType type, @Nullable TestIdentifier testIdentifier, @Nullable Object payload) {
+			this.type = type;
+			this.testIdentifier = testIdentifier;
+			this.payload = payload;
+		}
+
+		void clear() {
+			set(null, null, null);
+		}
+
+		void dispatchTo(TestExecutionListener listener) {
+			Object payload = this.payload;
+			switch (requireNonNull(this.type)) {
+				case TEST_PLAN_EXECUTION_STARTED -> listener.testPlanExecutionStarted((TestPlan) requireNonNull(payload));
+				case TEST_PLAN_EXECUTION_FINISHED -> listener.testPlanExecutionFinished(
+					(TestPlan) requireNonNull(payload));
+				case DYNAMIC_TEST_REGISTERED -> listener.dynamicTestRegistered(testIdentifier());
+				case EXECUTION_SKIPPED -> listener.executionSkipped(testIdentifier(), (String) requireNonNull(payload));
+				case EXECUTION_STARTED -> listener.executionStarted(testIdentifier());
+				case EXECUTION_FINISHED -> listener.executionFinished(testIdentifier(),
+					(TestExecutionResult) requireNonNull(payload));
+				case REPORTING_ENTRY_PUBLISHED -> listener.reportingEntryPublished(testIdentifier(),
+					(ReportEntry) requireNonNull(payload));
+				case FILE_ENTRY_PUBLISHED -> listener.fileEntryPublished(testIdentifier(),
+					(FileEntry) requireNonNull(payload));
+			}
+		}
+
+		private TestIdentifier testIdentifier() {
+			return requireNonNull(this.testIdentifier);
+		}
+
+	}
+
+}
@@ -40,6 +40,7 @@ import org.junit.platform.launcher.LauncherDiscoveryListener;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
 import org.junit.platform.launcher.PostDiscoveryFilter;
 import org.junit.platform.launcher.core.LauncherDiscoveryResult.EngineResultInfo;
+import org.junit.platform.launcher.impact.TestImpactFilter;
 
 /**
  * Orchestrates test discovery using the configured test engines.
@@ -179,13 +180,50 @@ public class EngineDiscoveryOrchestrator {
 
 		List<PostDiscoveryFilter> filters = new LinkedList<>(postDiscoveryFilters);
 		filters.addAll(request.getPostDiscoveryFilters());
+		TestImpactFilter.fromConfigurationParameters(request.getConfigurationParameters()).ifPresent(filters::add);
+
+		FailedTests.Mode failedTestsMode = FailedTests.getMode(request.getConfigurationParameters());
+		Optional<FailedTests> failedTests = readFailedTests(request, failedTestsMode);
+		if (failedTestsMode == FailedTests.Mode.ONLY) {
+			failedTests.map(FailedTests::toFilter).ifPresent(filters::add);
+		}
 
 		applyPostDiscoveryFilters(testEngineDescriptors, filters);
 		prune(testEngineDescriptors);
 
+		if (failedTests.isPresent() && failedTestsMode == FailedTests.Mode.FIRST) {
+			return orderFailedTestsFirst(testEngineDescriptors, failedTests.get());
+		}
 		return testEngineDescriptors;
 	}
 
+	private static Optional<FailedTests> readFailedTests(LauncherDiscoveryRequest request,
+			FailedTests.Mode failedTestsMode) {
+		if (failedTestsMode == FailedTests.Mode.NONE) {
+			return Optional.empty();
+		}
+		FailedTests failedTests = FailedTests.read(FailedTests.getFile(request.getOutputDirectoryProvider()));
+		if (failedTests.isEmpty()) {
+			logger.config(() -> "No tests failed previously; all discovered tests will be executed.");
+			return Optional.empty();
+		}
+		return Optional.of(failedTests);
+	}
+
+	private static Map<TestEngine, EngineResultInfo> orderFailedTestsFirst(
+			Map<TestEngine, EngineResultInfo> testEngineDescriptors, FailedTests failedTests) {
+		Map<TestEngine, EngineResultInfo> related = new LinkedHashMap<>();
+		Map<TestEngine, EngineResultInfo> unrelated = new LinkedHashMap<>();
+		testEngineDescriptors.forEach((testEngine, engineResult) -> {
+			TestDescriptor engineDescriptor = engineResult.getRootDescriptor();
+			failedTests.orderFirst(engineDescriptor);
+			boolean isRelated = failedTests.isRelated(engineDescriptor.getUniqueId());
+			(isRelated ? related : unrelated).put(testEngine, engineResult);
+		});
+		related.putAll(unrelated);
+		return related;
+	}
+
 	private EngineResultInfo discoverEngineRoot(TestEngine testEngine, LauncherDiscoveryRequest request,
 			DiscoveryIssueCollector issueCollector, Function<String, UniqueId> uniqueIdCreator) {
 		UniqueId uniqueEngineId = uniqueIdCreator.apply(testEngine.getId());
@@ -15,6 +15,7 @@ import static org.junit.platform.launcher.LauncherConstants.DRY_RUN_PROPERTY_NAM
 import static org.junit.platform.launcher.LauncherConstants.STACKTRACE_PRUNING_ENABLED_PROPERTY_NAME;
 import static org.junit.platform.launcher.core.LauncherPhase.getDiscoveryIssueFailurePhase;
 import static org.junit.platform.launcher.core.ListenerRegistry.forEngineExecutionListeners;
+import static org.junit.platform.launcher.core.ListenerRegistry.forTestExecutionListeners;
 
 import java.util.Collection;
 import java.util.Optional;
@@ -59,12 +60,18 @@ public class EngineExecutionOrchestrator {
 
 	void execute(InternalTestPlan internalTestPlan, NamespacedHierarchicalStore<Namespace> requestLevelStore,
 			Collection<? extends TestExecutionListener> listeners, CancellationToken cancellationToken) {
-		ConfigurationParameters configurationParameters = internalTestPlan.getConfigurationParameters();
 		ListenerRegistry<TestExecutionListener> testExecutionListenerListeners = buildListenerRegistryForExecution(
 			listeners);
-		withInterceptedStreams(configurationParameters, testExecutionListenerListeners,
+		Optional<FailedTestsTrackingListener> failedTestsTrackingListener = isDryRun(internalTestPlan) //
+				? Optional.empty() //
+				: FailedTestsTrackingListener.create(internalTestPlan.getConfigurationParameters(),
+					internalTestPlan.getDelegate().getOutputDirectoryProvider(), cancellationToken);
+		CancellationToken effectiveCancellationToken = failedTestsTrackingListener //
+				.map(FailedTestsTrackingListener::getCancellationToken) //
+				.orElse(cancellationToken);
+		withInterceptedStreams(internalTestPlan, testExecutionListenerListeners, failedTestsTrackingListener,
 			testExecutionListener -> execute(internalTestPlan, EngineExecutionListener.NOOP, testExecutionListener,
-				requestLevelStore, cancellationToken));
+				requestLevelStore, effectiveCancellationToken));
 	}
 
 	/**
@@ -146,18 +153,30 @@ public class EngineExecutionOrchestrator {
 		return engineExecutionListenerRegistry.getCompositeListener();
 	}
 
-	private void withInterceptedStreams(ConfigurationParameters configurationParameters,
-			ListenerRegistry<TestExecutionListener> listenerRegistry, Consumer<TestExecutionListener> action) {
+	private void withInterceptedStreams(InternalTestPlan internalTestPlan,
+			ListenerRegistry<TestExecutionListener> listenerRegistry,
+			Optional<? extends TestExecutionListener> failedTestsTrackingListener,
+			Consumer<TestExecutionListener> action) {
 
+		ConfigurationParameters configurationParameters = internalTestPlan.getConfigurationParameters();
+		Optional<AsyncDispatchingTestExecutionListener> asyncDispatchingTestExecutionListener = AsyncDispatchingTestExecutionListener.create(
+			configurationParameters, listenerRegistry.getCompositeListener());
+		if (asyncDispatchingTestExecutionListener.isPresent()) {
+			// Eager listeners, such as the one intercepting streams, are added
+			// afterward so that they are still notified synchronously.
+			listenerRegistry = forTestExecutionListeners().add(asyncDispatchingTestExecutionListener.get());
+		}
+		failedTestsTrackingListener.ifPresent(listenerRegistry::add);
 		TestExecutionListener testExecutionListener = listenerRegistry.getCompositeListener();
 		Optional<StreamInterceptingTestExecutionListener> streamInterceptingTestExecutionListener = StreamInterceptingTestExecutionListener.create(
-			configurationParameters, testExecutionListener::reportingEntryPublished);
+			configurationParameters, testExecutionListener, internalTestPlan::createOutputDirectory);
 		streamInterceptingTestExecutionListener.ifPresent(listenerRegistry::add);
 		try {
 			action.accept(listenerRegistry.getCompositeListener());
 		}
 		finally {
 			streamInterceptingTestExecutionListener.ifPresent(StreamInterceptingTestExecutionListener::unregister);
+			asyncDispatchingTestExecutionListener.ifPresent(AsyncDispatchingTestExecutionListener::close);
 		}
 	}
 
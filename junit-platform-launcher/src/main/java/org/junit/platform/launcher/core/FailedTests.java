@@ -0,0 +1,215 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Comparator.comparing;
+import static org.junit.platform.launcher.LauncherConstants.FAILED_TESTS_MODE_PROPERTY_NAME;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.StringUtils;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.reporting.OutputDirectoryProvider;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+/**
+ * Unique IDs of tests and containers that failed in previous test runs.
+ *
+ * <p>The unique IDs are stored in a file in the
+ * {@linkplain OutputDirectoryProvider#getRootDirectory() root output directory}
+ * so that subsequent test runs can either execute only the tests that failed
+ * or execute them before all other tests.
+ *
+ * @since 6.0
+ * @see FailedTestsTrackingListener
+ * @see org.junit.platform.launcher.LauncherConstants#FAILED_TESTS_MODE_PROPERTY_NAME
+ */
+class FailedTests {
+
+	private static final Logger logger = LoggerFactory.getLogger(FailedTests.class);
+
+	static final String FILE_NAME = "junit-platform-failed-tests.txt";
+
+	static Mode getMode(ConfigurationParameters configurationParameters) {
+		return configurationParameters.get(FAILED_TESTS_MODE_PROPERTY_NAME, Mode::parse).orElse(Mode.NONE);
+	}
+
+	static Path getFile(OutputDirectoryProvider outputDirectoryProvider) {
+		return outputDirectoryProvider.getRootDirectory().resolve(FILE_NAME);
+	}
+
+	static FailedTests read(Path file) {
+		Set<UniqueId> uniqueIds = new LinkedHashSet<>();
+		if (Files.exists(file)) {
+			try {
+				for (String line : Files.readAllLines(file, UTF_8)) {
+					if (StringUtils.isNotBlank(line)) {
+						parse(line.strip(), file, uniqueIds);
+					}
+				}
+			}
+			catch (IOException ex) {
+				logger.warn(ex, () -> "Failed to read unique IDs of failed tests from " + file.toAbsolutePath());
+			}
+		}
+		return new FailedTests(uniqueIds);
+	}
+
+	private static void parse(String uniqueId, Path file, Set<UniqueId> uniqueIds) {
+		try {
+			uniqueIds.add(UniqueId.parse(uniqueId));
+		}
+		catch (Exception ex) {
+			logger.warn(ex, () -> "Ignoring invalid unique ID '%s' in %s".formatted(uniqueId, file.toAbsolutePath()));
+		}
+	}
+
+	/**
+	 * Remove the supplied executed unique IDs from the file and add the
+	 * supplied failed ones while holding a lock on a sibling file so that test
+	 * runs in concurrent JVMs do not lose each other's updates.
+	 */
+	static void update(Path file, Set<UniqueId> executed, Set<UniqueId> failed) throws IOException {
+		Path directory = file.toAbsolutePath().getParent();
+		Files.createDirectories(directory);
+		Path lockFile = directory.resolve(file.getFileName() + ".lock");
+		try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+				FileLock ignored = channel.lock()) {
+			Set<UniqueId> uniqueIds = new LinkedHashSet<>(read(file).uniqueIds);
+			uniqueIds.removeAll(executed);
+			uniqueIds.addAll(failed);
+			if (uniqueIds.isEmpty()) {
+				Files.deleteIfExists(file);
+				return;
+			}
+			Path tempFile = Files.createTempFile(directory, FILE_NAME, ".tmp");
+			try {
+				try (BufferedWriter writer = Files.newBufferedWriter(tempFile, UTF_8)) {
+					for (UniqueId uniqueId : uniqueIds) {
+						writer.write(uniqueId.toString());
+						writer.newLine();
+					}
+				}
+				Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			finally {
+				Files.deleteIfExists(tempFile);
+			}
+		}
+	}
+
+	private final Set<UniqueId> uniqueIds;
+	private final Set<UniqueId> ancestors = new HashSet<>();
+
+	private FailedTests(Set<UniqueId> uniqueIds) {
+		this.uniqueIds = uniqueIds;
+		for (UniqueId uniqueId : uniqueIds) {
+			UniqueId current = uniqueId;
+			while (current.getSegments().size() > 1) {
+				current = current.removeLastSegment();
+				this.ancestors.add(current);
+			}
+		}
+	}
+
+	boolean isEmpty() {
+		return this.uniqueIds.isEmpty();
+	}
+
+	/**
+	 * Determine if the test or container with the supplied unique ID failed
+	 * previously or is part of a container that failed previously.
+	 */
+	boolean contains(UniqueId uniqueId) {
+		UniqueId current = uniqueId;
+		while (true) {
+			if (this.uniqueIds.contains(current)) {
+				return true;
+			}
+			if (current.getSegments().size() == 1) {
+				return false;
+			}
+			current = current.removeLastSegment();
+		}
+	}
+
+	/**
+	 * Determine if the test or container with the supplied unique ID is
+	 * {@linkplain #contains contained} in this set or contains a test or
+	 * container that failed previously.
+	 */
+	boolean isRelated(UniqueId uniqueId) {
+		return this.ancestors.contains(uniqueId) || contains(uniqueId);
+	}
+
+	/**
+	 * Create a filter that only includes tests and containers that are
+	 * {@linkplain #isRelated related} to previously failed ones.
+	 */
+	PostDiscoveryFilter toFilter() {
+		return descriptor -> FilterResult.includedIf(isRelated(descriptor.getUniqueId()),
+			() -> "included because it failed previously", () -> "excluded because it did not fail previously");
+	}
+
+	/**
+	 * Order the children of the supplied descriptor and its descendants so
+	 * that those {@linkplain #isRelated related} to previously failed tests
+	 * and containers come first while retaining their relative order.
+	 */
+	void orderFirst(TestDescriptor rootDescriptor) {
+		rootDescriptor.accept(descriptor -> {
+			List<TestDescriptor> children = new ArrayList<>(descriptor.getChildren());
+			List<TestDescriptor> orderedChildren = new ArrayList<>(children);
+			orderedChildren.sort(comparing(child -> !isRelated(child.getUniqueId())));
+			if (!orderedChildren.equals(children)) {
+				descriptor.orderChildren(originalChildren -> orderedChildren);
+			}
+		});
+	}
+
+	enum Mode {
+
+		NONE, ONLY, FIRST;
+
+		private static @Nullable Mode parse(String value) {
+			try {
+				return valueOf(value.strip().toUpperCase(Locale.ROOT));
+			}
+			catch (Exception e) {
+				logger.warn(() -> "Ignoring invalid mode '%s' set via the '%s' configuration parameter.".formatted(
+					value, FAILED_TESTS_MODE_PROPERTY_NAME));
+				return null;
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static org.junit.platform.engine.TestExecutionResult.Status.FAILED;
+import static org.junit.platform.launcher.LauncherConstants.FAILED_TESTS_FAIL_FAST_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.FAILED_TESTS_TRACKING_ENABLED_PROPERTY_NAME;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.engine.CancellationToken;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.reporting.OutputDirectoryProvider;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * Records the unique IDs of tests and containers that failed so that
+ * subsequent test runs can execute them only or first.
+ *
+ * <p>Once execution of the test plan has finished, the unique IDs of all
+ * tests and containers that finished are removed from the file of
+ * {@link FailedTests} and those of the ones that failed are added to it.
+ * Previously failed tests that were not executed, for example, because they
+ * were not selected or execution was cancelled, are retained.
+ *
+ * <p>If fail-fast mode is enabled, execution is cancelled as soon as a test
+ * or container that failed previously fails again.
+ *
+ * @since 6.0
+ * @see FailedTests
+ */
+class FailedTestsTrackingListener implements TestExecutionListener {
+
+	private static final Logger logger = LoggerFactory.getLogger(FailedTestsTrackingListener.class);
+
+	static Optional<FailedTestsTrackingListener> create(ConfigurationParameters configurationParameters,
+			OutputDirectoryProvider outputDirectoryProvider, CancellationToken cancellationToken) {
+
+		FailedTests.Mode mode = FailedTests.getMode(configurationParameters);
+		boolean enabled = mode != FailedTests.Mode.NONE
+				|| configurationParameters.getBoolean(FAILED_TESTS_TRACKING_ENABLED_PROPERTY_NAME).orElse(false);
+		if (!enabled) {
+			return Optional.empty();
+		}
+		Path file = FailedTests.getFile(outputDirectoryProvider);
+		boolean failFast = mode != FailedTests.Mode.NONE
+				&& configurationParameters.getBoolean(FAILED_TESTS_FAIL_FAST_PROPERTY_NAME).orElse(false);
+		if (!failFast) {
+			return Optional.of(new FailedTestsTrackingListener(file, null, cancellationToken));
+		}
+		CancellationToken cancellableToken = cancellationToken == CancellationToken.disabled() //
+				? CancellationToken.create() //
+				: cancellationToken;
+		return Optional.of(new FailedTestsTrackingListener(file, FailedTests.read(file), cancellableToken));
+	}
+
+	private final Set<UniqueId> executed = ConcurrentHashMap.newKeySet();
+	private final Set<UniqueId> failed = ConcurrentHashMap.newKeySet();
+
+	private final Path file;
+	private final @Nullable FailedTests previouslyFailed;
+	private final CancellationToken cancellationToken;
+
+	private FailedTestsTrackingListener(Path file, @Nullable FailedTests previouslyFailed,
+			CancellationToken cancellationToken) {
+		this.file = file;
+		this.previouslyFailed = previouslyFailed;
+		this.cancellationToken = cancellationToken;
+	}
+
+	/**
+	 * {@return the cancellation token to use for the test execution}
+	 *
+	 * <p>If fail-fast mode is enabled and the supplied token cannot be
+	 * cancelled, a new token is returned.
+	 */
+	CancellationToken getCancellationToken() {
+		return this.cancellationToken;
+	}
+
+	@Override
+	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+		UniqueId uniqueId = testIdentifier.getUniqueIdObject();
+		this.executed.add(uniqueId);
+		if (testExecutionResult.getStatus() == FAILED) {
+			this.failed.add(uniqueId);
+			if (this.previouslyFailed != null && this.previouslyFailed.contains(uniqueId)) {
+				logger.info(() -> "Cancelling test execution since %s failed again.".formatted(uniqueId));
+				this.cancellationToken.cancel();
+			}
+		}
+	}
+
+	@Override
+	public void testPlanExecutionFinished(TestPlan testPlan) {
+		try {
+			FailedTests.update(this.file, this.executed, this.failed);
+		}
+		catch (IOException ex) {
+			logger.error(ex, () -> "Failed to write unique IDs of failed tests to " + this.file.toAbsolutePath());
+		}
+	}
+
+}
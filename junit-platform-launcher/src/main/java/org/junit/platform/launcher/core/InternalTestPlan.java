@@ -10,12 +10,15 @@
 
 package org.junit.platform.launcher.core;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
 
 import org.junit.platform.commons.PreconditionViolationException;
+import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.launcher.TestIdentifier;
 import org.junit.platform.launcher.TestPlan;
@@ -52,6 +55,23 @@ class InternalTestPlan extends TestPlan {
 		return discoveryResult;
 	}
 
+	/**
+	 * Create the output directory for the test descriptor identified by the
+	 * supplied test identifier using this test plan's output directory
+	 * provider.
+	 *
+	 * @since 6.0
+	 */
+	Path createOutputDirectory(TestIdentifier testIdentifier) throws IOException {
+		UniqueId uniqueId = testIdentifier.getUniqueIdObject();
+		TestDescriptor testDescriptor = discoveryResult.getEngineTestDescriptors().stream() //
+				.map(engineDescriptor -> engineDescriptor.findByUniqueId(uniqueId)) //
+				.flatMap(Optional::stream) //
+				.findFirst() //
+				.orElseThrow(() -> new PreconditionViolationException("No such test descriptor: " + uniqueId));
+		return getOutputDirectoryProvider().createOutputDirectory(testDescriptor);
+	}
+
 	public TestPlan getDelegate() {
 		return delegate;
 	}
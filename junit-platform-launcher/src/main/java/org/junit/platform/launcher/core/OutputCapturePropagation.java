@@ -0,0 +1,126 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.stream.Stream;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.launcher.LauncherConstants;
+import org.junit.platform.launcher.core.StreamInterceptor.Scope;
+import org.junit.platform.launcher.core.StreamInterceptor.Snapshot;
+
+/**
+ * Utility for attributing output of tasks executed by other threads to the
+ * test or container that submitted them if output capturing is enabled.
+ *
+ * <p>By default, only output written by the thread executing a test or
+ * container is reliably attributed to it. Wrapping a task or an
+ * {@link Executor}, for example, one passed to
+ * {@link java.util.concurrent.CompletableFuture#supplyAsync(java.util.function.Supplier, Executor)
+ * CompletableFuture.supplyAsync()}, via the methods of this class ensures
+ * that output written while executing the task is captured for the test or
+ * container that wrapped it.
+ *
+ * <p>If output capturing is disabled or the current thread is not executing
+ * a test or container, the supplied task or executor is returned as is.
+ *
+ * @since 6.0
+ * @see LauncherConstants#CAPTURE_STDOUT_PROPERTY_NAME
+ * @see LauncherConstants#CAPTURE_STDERR_PROPERTY_NAME
+ * @see LauncherConstants#CAPTURE_CHILD_THREADS_PROPERTY_NAME
+ */
+@API(status = EXPERIMENTAL, since = "6.0")
+public final class OutputCapturePropagation {
+
+	private OutputCapturePropagation() {
+		/* no-op */
+	}
+
+	/**
+	 * Wrap the supplied task so that output it writes is attributed to the
+	 * test or container executed by the current thread.
+	 *
+	 * @param task the task to wrap; never {@code null}
+	 * @return the wrapped task; never {@code null}
+	 */
+	public static Runnable wrap(Runnable task) {
+		Preconditions.notNull(task, "task must not be null");
+		List<Snapshot> snapshots = snapshots();
+		if (snapshots.isEmpty()) {
+			return task;
+		}
+		return () -> {
+			try (Scope ignored = activate(snapshots)) {
+				task.run();
+			}
+		};
+	}
+
+	/**
+	 * Wrap the supplied task so that output it writes is attributed to the
+	 * test or container executed by the current thread.
+	 *
+	 * @param task the task to wrap; never {@code null}
+	 * @return the wrapped task; never {@code null}
+	 */
+	public static <T extends @Nullable Object> Callable<T> wrap(Callable<T> task) {
+		Preconditions.notNull(task, "task must not be null");
+		List<Snapshot> snapshots = snapshots();
+		if (snapshots.isEmpty()) {
+			return task;
+		}
+		return () -> {
+			try (Scope ignored = activate(snapshots)) {
+				return task.call();
+			}
+		};
+	}
+
+	/**
+	 * Wrap the supplied executor so that output written by tasks submitted to
+	 * it is attributed to the test or container executed by the thread that
+	 * submitted them.
+	 *
+	 * <p>Other than the methods for wrapping tasks, the returned executor
+	 * determines the test or container when a task is submitted rather than
+	 * when this method is called.
+	 *
+	 * @param executor the executor to wrap; never {@code null}
+	 * @return the wrapped executor; never {@code null}
+	 */
+	public static Executor wrap(Executor executor) {
+		Preconditions.notNull(executor, "executor must not be null");
+		return task -> executor.execute(wrap(task));
+	}
+
+	private static List<Snapshot> snapshots() {
+		return Stream.of(System.out, System.err) //
+				.filter(StreamInterceptor.class::isInstance) //
+				.map(StreamInterceptor.class::cast) //
+				.map(StreamInterceptor::snapshot) //
+				.flatMap(Optional::stream) //
+				.toList();
+	}
+
+	private static Scope activate(List<Snapshot> snapshots) {
+		List<Scope> scopes = snapshots.stream().map(Snapshot::activate).toList();
+		return () -> scopes.forEach(Scope::close);
+	}
+
+}
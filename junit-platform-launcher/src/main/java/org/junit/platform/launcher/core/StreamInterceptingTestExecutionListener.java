@@ -10,36 +10,49 @@
 
 package org.junit.platform.launcher.core;
 
+import static org.junit.platform.launcher.LauncherConstants.CAPTURE_CHILD_THREADS_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.CAPTURE_MAX_BUFFER_DEFAULT;
 import static org.junit.platform.launcher.LauncherConstants.CAPTURE_MAX_BUFFER_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.CAPTURE_SPILL_THRESHOLD_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.CAPTURE_STDERR_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.CAPTURE_STDOUT_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.STDERR_REPORT_ENTRY_KEY;
 import static org.junit.platform.launcher.LauncherConstants.STDOUT_REPORT_ENTRY_KEY;
 
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.function.BiConsumer;
 
 import org.junit.platform.commons.util.StringUtils;
 import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.reporting.FileEntry;
 import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.launcher.TestExecutionListener;
 import org.junit.platform.launcher.TestIdentifier;
 import org.junit.platform.launcher.core.CompositeTestExecutionListener.EagerTestExecutionListener;
+import org.junit.platform.launcher.core.StreamInterceptor.CapturedOutput;
+import org.junit.platform.launcher.core.StreamInterceptor.OutputFileFactory;
 
 /**
  * @since 1.3
  */
 class StreamInterceptingTestExecutionListener implements EagerTestExecutionListener {
 
+	private static final String MEDIA_TYPE = "text/plain; charset=" + Charset.defaultCharset().name();
+
 	private final Optional<StreamInterceptor> stdoutInterceptor;
 	private final Optional<StreamInterceptor> stderrInterceptor;
-	private final BiConsumer<TestIdentifier, ReportEntry> reporter;
+	private final TestExecutionListener reporter;
+	private final OutputDirectoryCreator outputDirectoryCreator;
 
 	static Optional<StreamInterceptingTestExecutionListener> create(ConfigurationParameters configurationParameters,
-			BiConsumer<TestIdentifier, ReportEntry> reporter) {
+			TestExecutionListener reporter, OutputDirectoryCreator outputDirectoryCreator) {
 
 		boolean captureStdout = configurationParameters.getBoolean(CAPTURE_STDOUT_PROPERTY_NAME).orElse(false);
 		boolean captureStderr = configurationParameters.getBoolean(CAPTURE_STDERR_PROPERTY_NAME).orElse(false);
@@ -49,10 +62,16 @@ class StreamInterceptingTestExecutionListener implements EagerTestExecutionListe
 
 		int maxSize = configurationParameters.get(CAPTURE_MAX_BUFFER_PROPERTY_NAME, Integer::valueOf) //
 				.orElse(CAPTURE_MAX_BUFFER_DEFAULT);
+		int spillThreshold = configurationParameters.get(CAPTURE_SPILL_THRESHOLD_PROPERTY_NAME, Integer::valueOf) //
+				.orElse(StreamInterceptor.NO_SPILLING);
+		boolean captureChildThreads = configurationParameters.getBoolean(CAPTURE_CHILD_THREADS_PROPERTY_NAME) //
+				.orElse(false);
 
-		Optional<StreamInterceptor> stdoutInterceptor = captureStdout ? StreamInterceptor.registerStdout(maxSize)
+		Optional<StreamInterceptor> stdoutInterceptor = captureStdout
+				? StreamInterceptor.registerStdout(maxSize, spillThreshold, captureChildThreads)
 				: Optional.empty();
-		Optional<StreamInterceptor> stderrInterceptor = captureStderr ? StreamInterceptor.registerStderr(maxSize)
+		Optional<StreamInterceptor> stderrInterceptor = captureStderr
+				? StreamInterceptor.registerStderr(maxSize, spillThreshold, captureChildThreads)
 				: Optional.empty();
 
 		if ((stdoutInterceptor.isEmpty() && captureStdout) || (stderrInterceptor.isEmpty() && captureStderr)) {
@@ -60,14 +79,17 @@ class StreamInterceptingTestExecutionListener implements EagerTestExecutionListe
 			stderrInterceptor.ifPresent(StreamInterceptor::unregister);
 			return Optional.empty();
 		}
-		return Optional.of(new StreamInterceptingTestExecutionListener(stdoutInterceptor, stderrInterceptor, reporter));
+		return Optional.of(new StreamInterceptingTestExecutionListener(stdoutInterceptor, stderrInterceptor, reporter,
+			outputDirectoryCreator));
 	}
 
 	private StreamInterceptingTestExecutionListener(Optional<StreamInterceptor> stdoutInterceptor,
-			Optional<StreamInterceptor> stderrInterceptor, BiConsumer<TestIdentifier, ReportEntry> reporter) {
+			Optional<StreamInterceptor> stderrInterceptor, TestExecutionListener reporter,
+			OutputDirectoryCreator outputDirectoryCreator) {
 		this.stdoutInterceptor = stdoutInterceptor;
 		this.stderrInterceptor = stderrInterceptor;
 		this.reporter = reporter;
+		this.outputDirectoryCreator = outputDirectoryCreator;
 	}
 
 	void unregister() {
@@ -84,16 +106,41 @@ class StreamInterceptingTestExecutionListener implements EagerTestExecutionListe
 	@Override
 	public void executionJustFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
 		Map<String, String> map = new HashMap<>();
-		String out = stdoutInterceptor.map(StreamInterceptor::consume).orElse("");
-		if (StringUtils.isNotBlank(out)) {
-			map.put(STDOUT_REPORT_ENTRY_KEY, out);
+		List<Path> files = new ArrayList<>(2);
+		stdoutInterceptor.ifPresent(
+			interceptor -> collect(testIdentifier, interceptor, STDOUT_REPORT_ENTRY_KEY, map, files));
+		stderrInterceptor.ifPresent(
+			interceptor -> collect(testIdentifier, interceptor, STDERR_REPORT_ENTRY_KEY, map, files));
+		if (!map.isEmpty()) {
+			reporter.reportingEntryPublished(testIdentifier, ReportEntry.from(map));
 		}
-		String err = stderrInterceptor.map(StreamInterceptor::consume).orElse("");
-		if (StringUtils.isNotBlank(err)) {
-			map.put(STDERR_REPORT_ENTRY_KEY, err);
+		files.forEach(file -> reporter.fileEntryPublished(testIdentifier, FileEntry.from(file, MEDIA_TYPE)));
+	}
+
+	private void collect(TestIdentifier testIdentifier, StreamInterceptor interceptor, String key,
+			Map<String, String> map, List<Path> files) {
+		OutputFileFactory fileFactory = () -> outputDirectoryCreator.createOutputDirectory(testIdentifier) //
+				.resolve(key + ".txt");
+		CapturedOutput output = interceptor.consume(fileFactory);
+		Path file = output.file();
+		if (file != null) {
+			files.add(file);
 		}
-		if (!map.isEmpty()) {
-			reporter.accept(testIdentifier, ReportEntry.from(map));
+		else if (StringUtils.isNotBlank(output.text())) {
+			map.put(key, output.text());
 		}
 	}
+
+	/**
+	 * Creates the output directory for a test or container that captured
+	 * output exceeding the spill threshold is written to.
+	 *
+	 * @since 6.0
+	 */
+	@FunctionalInterface
+	interface OutputDirectoryCreator {
+
+		Path createOutputDirectory(TestIdentifier testIdentifier) throws IOException;
+
+	}
 }
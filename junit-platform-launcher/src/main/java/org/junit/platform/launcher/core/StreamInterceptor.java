@@ -10,79 +10,160 @@
 
 package org.junit.platform.launcher.core;
 
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayDeque;
+import java.util.Comparator;
 import java.util.Deque;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 
 import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
 
 /**
  * @since 1.3
  */
 class StreamInterceptor extends PrintStream {
 
-	private final Deque<RewindableByteArrayOutputStream> mostRecentOutputs = new ConcurrentLinkedDeque<>();
+	private static final Logger logger = LoggerFactory.getLogger(StreamInterceptor.class);
+
+	/**
+	 * Spill threshold that effectively disables spilling captured output to
+	 * temporary files.
+	 */
+	static final int NO_SPILLING = Integer.MAX_VALUE;
+
+	/**
+	 * Outputs that have been written to while being marked; the most recent
+	 * one is used for output of threads that are not capturing themselves.
+	 */
+	private final Set<RewindableByteArrayOutputStream> activeOutputs = ConcurrentHashMap.newKeySet();
+	private final AtomicLong recencySequence = new AtomicLong();
+	private volatile @Nullable RewindableByteArrayOutputStream mostRecentOutput;
 
 	private final PrintStream originalStream;
 	private final Consumer<PrintStream> unregisterAction;
 	private final int maxNumberOfBytesPerThread;
 
-	private final ThreadLocal<RewindableByteArrayOutputStream> output = ThreadLocal.withInitial(
-		RewindableByteArrayOutputStream::new);
+	private final ThreadLocal<RewindableByteArrayOutputStream> output;
+
+	/**
+	 * Output of another thread that output of the current thread is
+	 * attributed to, either because the current thread was started by it or
+	 * because it is executing a task submitted by it.
+	 */
+	private final ThreadLocal<@Nullable RewindableByteArrayOutputStream> propagatedOutput;
 
 	static Optional<StreamInterceptor> registerStdout(int maxNumberOfBytesPerThread) {
-		return register(System.out, System::setOut, maxNumberOfBytesPerThread);
+		return registerStdout(maxNumberOfBytesPerThread, NO_SPILLING, false);
+	}
+
+	static Optional<StreamInterceptor> registerStdout(int maxNumberOfBytesPerThread, int spillThreshold,
+			boolean captureChildThreads) {
+		return register(System.out, System::setOut, maxNumberOfBytesPerThread, spillThreshold, captureChildThreads);
 	}
 
 	static Optional<StreamInterceptor> registerStderr(int maxNumberOfBytesPerThread) {
-		return register(System.err, System::setErr, maxNumberOfBytesPerThread);
+		return registerStderr(maxNumberOfBytesPerThread, NO_SPILLING, false);
+	}
+
+	static Optional<StreamInterceptor> registerStderr(int maxNumberOfBytesPerThread, int spillThreshold,
+			boolean captureChildThreads) {
+		return register(System.err, System::setErr, maxNumberOfBytesPerThread, spillThreshold, captureChildThreads);
 	}
 
 	static Optional<StreamInterceptor> register(PrintStream originalStream, Consumer<PrintStream> streamSetter,
 			int maxNumberOfBytesPerThread) {
+		return register(originalStream, streamSetter, maxNumberOfBytesPerThread, NO_SPILLING, false);
+	}
+
+	static Optional<StreamInterceptor> register(PrintStream originalStream, Consumer<PrintStream> streamSetter,
+			int maxNumberOfBytesPerThread, int spillThreshold, boolean captureChildThreads) {
 		if (originalStream instanceof StreamInterceptor) {
 			return Optional.empty();
 		}
-		StreamInterceptor interceptor = new StreamInterceptor(originalStream, streamSetter, maxNumberOfBytesPerThread);
+		StreamInterceptor interceptor = new StreamInterceptor(originalStream, streamSetter, maxNumberOfBytesPerThread,
+			spillThreshold, captureChildThreads);
 		streamSetter.accept(interceptor);
 		return Optional.of(interceptor);
 	}
 
 	private StreamInterceptor(PrintStream originalStream, Consumer<PrintStream> unregisterAction,
-			int maxNumberOfBytesPerThread) {
+			int maxNumberOfBytesPerThread, int spillThreshold, boolean captureChildThreads) {
 		super(originalStream);
 		this.originalStream = originalStream;
 		this.unregisterAction = unregisterAction;
 		this.maxNumberOfBytesPerThread = maxNumberOfBytesPerThread;
+		this.output = ThreadLocal.withInitial(() -> new RewindableByteArrayOutputStream(spillThreshold));
+		this.propagatedOutput = captureChildThreads ? new InheritableThreadLocal<>() : new ThreadLocal<>();
 	}
 
 	void capture() {
 		RewindableByteArrayOutputStream out = output.get();
 		out.mark();
+		propagatedOutput.set(out);
 		pushToTop(out);
 	}
 
 	String consume() {
+		return consume(null).text();
+	}
+
+	/**
+	 * Consume the output captured by the current thread since the
+	 * corresponding call to {@link #capture()}.
+	 *
+	 * <p>If the captured output exceeds the spill threshold and a file
+	 * factory is supplied, the output is transferred to the file it creates
+	 * instead of being read into memory.
+	 */
+	CapturedOutput consume(@Nullable OutputFileFactory fileFactory) {
 		RewindableByteArrayOutputStream out = output.get();
-		String result = out.rewind();
+		CapturedOutput result = out.rewind(fileFactory);
 		if (!out.isMarked()) {
-			mostRecentOutputs.remove(out);
+			propagatedOutput.remove();
+			activeOutputs.remove(out);
+			if (mostRecentOutput == out) {
+				mostRecentOutput = activeOutputs.stream() //
+						.max(Comparator.comparingLong(RewindableByteArrayOutputStream::getRecency)) //
+						.orElse(null);
+			}
 		}
 		return result;
 	}
 
+	/**
+	 * Create a snapshot of the output the current thread is capturing, if
+	 * any, so that output written by other threads can be attributed to it.
+	 */
+	Optional<Snapshot> snapshot() {
+		return Optional.ofNullable(getCapturingOutput()).map(Snapshot::new);
+	}
+
 	void unregister() {
 		unregisterAction.accept(originalStream);
+		activeOutputs.forEach(RewindableByteArrayOutputStream::discardSpillFile);
 	}
 
 	@Override
 	public void write(int b) {
 		RewindableByteArrayOutputStream out = getOutput();
-		if (out != null && out.size() < maxNumberOfBytesPerThread) {
+		if (out != null && out.length() < maxNumberOfBytesPerThread) {
 			pushToTop(out);
 			out.write(b);
 		}
@@ -98,7 +179,7 @@ class StreamInterceptor extends PrintStream {
 	public void write(byte[] buf, int off, int len) {
 		RewindableByteArrayOutputStream out = getOutput();
 		if (out != null) {
-			int actualLength = Math.max(0, Math.min(len, maxNumberOfBytesPerThread - out.size()));
+			int actualLength = (int) Math.max(0, Math.min(len, maxNumberOfBytesPerThread - out.length()));
 			if (actualLength > 0) {
 				pushToTop(out);
 				out.write(buf, off, actualLength);
@@ -108,37 +189,297 @@ class StreamInterceptor extends PrintStream {
 	}
 
 	private void pushToTop(RewindableByteArrayOutputStream out) {
-		if (!out.equals(mostRecentOutputs.peek())) {
-			mostRecentOutputs.remove(out);
-			mostRecentOutputs.push(out);
+		if (mostRecentOutput != out) {
+			out.recency = recencySequence.incrementAndGet();
+			activeOutputs.add(out);
+			mostRecentOutput = out;
 		}
 	}
 
 	private @Nullable RewindableByteArrayOutputStream getOutput() {
+		RewindableByteArrayOutputStream out = getCapturingOutput();
+		return out != null ? out : mostRecentOutput;
+	}
+
+	private @Nullable RewindableByteArrayOutputStream getCapturingOutput() {
 		RewindableByteArrayOutputStream out = output.get();
-		return out.isMarked() ? out : mostRecentOutputs.peek();
+		if (out.isMarked()) {
+			return out;
+		}
+		RewindableByteArrayOutputStream propagated = propagatedOutput.get();
+		return propagated != null && propagated.isMarked() ? propagated : null;
 	}
 
+	/**
+	 * Snapshot of the output a thread is capturing.
+	 *
+	 * @see #snapshot()
+	 */
+	final class Snapshot {
+
+		private final RewindableByteArrayOutputStream output;
+
+		private Snapshot(RewindableByteArrayOutputStream output) {
+			this.output = output;
+		}
+
+		/**
+		 * Attribute output written by the current thread to the output of
+		 * this snapshot until the returned scope is closed.
+		 */
+		Scope activate() {
+			RewindableByteArrayOutputStream previous = propagatedOutput.get();
+			propagatedOutput.set(this.output);
+			return () -> {
+				if (previous == null) {
+					propagatedOutput.remove();
+				}
+				else {
+					propagatedOutput.set(previous);
+				}
+			};
+		}
+	}
+
+	@FunctionalInterface
+	interface Scope extends AutoCloseable {
+
+		@Override
+		void close();
+
+	}
+
+	/**
+	 * Factory for the file that captured output exceeding the spill threshold
+	 * is transferred to.
+	 */
+	@FunctionalInterface
+	interface OutputFileFactory {
+
+		Path createOutputFile() throws IOException;
+
+	}
+
+	/**
+	 * Output captured between a call to {@link #capture()} and the
+	 * corresponding call to {@link #consume(OutputFileFactory)}, either as
+	 * text or, if it exceeded the spill threshold, as a file.
+	 */
+	record CapturedOutput(String text, @Nullable Path file) {
+
+		static final CapturedOutput EMPTY = new CapturedOutput("", null);
+
+		static CapturedOutput text(String text) {
+			return new CapturedOutput(text, null);
+		}
+
+		static CapturedOutput file(Path file) {
+			return new CapturedOutput("", file);
+		}
+
+	}
+
+	/**
+	 * Buffers captured output in memory until it exceeds the spill threshold
+	 * and appends it to a temporary file from then on so that large amounts
+	 * of captured output don't have to be retained on the heap.
+	 */
 	static class RewindableByteArrayOutputStream extends ByteArrayOutputStream {
 
-		private final Deque<Integer> markedPositions = new ArrayDeque<>();
+		private final Deque<Long> markedPositions = new ArrayDeque<>();
+		private final int spillThreshold;
+
+		private @Nullable SpillFile spillFile;
+		private boolean spillingFailed;
+
+		private volatile long recency;
+
+		RewindableByteArrayOutputStream(int spillThreshold) {
+			this.spillThreshold = spillThreshold;
+		}
+
+		long getRecency() {
+			return recency;
+		}
+
+		synchronized long length() {
+			return spillFile == null ? count : spillFile.size;
+		}
 
-		boolean isMarked() {
+		synchronized boolean isMarked() {
 			return !markedPositions.isEmpty();
 		}
 
-		void mark() {
-			markedPositions.addFirst(count);
+		synchronized void mark() {
+			markedPositions.addFirst(length());
+		}
+
+		@Override
+		public synchronized void write(int b) {
+			SpillFile spillFile = spillIfNecessary(1);
+			if (spillFile == null) {
+				super.write(b);
+			}
+			else {
+				spillFile.append(new byte[] { (byte) b }, 0, 1);
+			}
+		}
+
+		@Override
+		public synchronized void write(byte[] b, int off, int len) {
+			SpillFile spillFile = spillIfNecessary(len);
+			if (spillFile == null) {
+				super.write(b, off, len);
+			}
+			else {
+				spillFile.append(b, off, len);
+			}
+		}
+
+		private @Nullable SpillFile spillIfNecessary(int len) {
+			if (spillFile == null && !spillingFailed && (long) count + len > spillThreshold) {
+				spillFile = SpillFile.create(buf, count);
+				if (spillFile == null) {
+					spillingFailed = true;
+				}
+				else {
+					reset();
+				}
+			}
+			return spillFile;
+		}
+
+		synchronized CapturedOutput rewind(@Nullable OutputFileFactory fileFactory) {
+			Long position = markedPositions.pollFirst();
+			if (position == null || position == length()) {
+				return CapturedOutput.EMPTY;
+			}
+			if (spillFile == null) {
+				int length = count - position.intValue();
+				count -= length;
+				return CapturedOutput.text(new String(buf, position.intValue(), length));
+			}
+			try {
+				return spillFile.rewind(position, spillThreshold, fileFactory);
+			}
+			finally {
+				if (position == 0) {
+					discardSpillFile();
+				}
+			}
+		}
+
+		synchronized void discardSpillFile() {
+			if (spillFile != null) {
+				spillFile.delete();
+				spillFile = null;
+			}
+		}
+	}
+
+	private static final class SpillFile {
+
+		private final Path path;
+		private final FileChannel channel;
+		private long size;
+		private boolean failed;
+
+		static @Nullable SpillFile create(byte[] buf, int count) {
+			Path path = null;
+			try {
+				path = Files.createTempFile("junit-output-capture-", ".tmp");
+				SpillFile spillFile = new SpillFile(path, FileChannel.open(path, READ, WRITE));
+				spillFile.append(buf, 0, count);
+				return spillFile;
+			}
+			catch (IOException e) {
+				logger.warn(e, () -> "Failed to create temporary file for captured output; "
+						+ "continuing to buffer it in memory.");
+				deleteQuietly(path);
+				return null;
+			}
+		}
+
+		private SpillFile(Path path, FileChannel channel) {
+			this.path = path;
+			this.channel = channel;
+		}
+
+		void append(byte[] b, int off, int len) {
+			if (failed) {
+				return;
+			}
+			try {
+				ByteBuffer buffer = ByteBuffer.wrap(b, off, len);
+				while (buffer.hasRemaining()) {
+					size += channel.write(buffer, size);
+				}
+			}
+			catch (IOException e) {
+				failed = true;
+				logger.warn(e, () -> "Failed to write captured output to " + path + "; discarding further output.");
+			}
+		}
+
+		CapturedOutput rewind(long position, int spillThreshold, @Nullable OutputFileFactory fileFactory) {
+			long length = size - position;
+			try {
+				if (fileFactory != null && length > spillThreshold) {
+					Path target = fileFactory.createOutputFile();
+					try (FileChannel out = FileChannel.open(target, CREATE, WRITE, TRUNCATE_EXISTING)) {
+						long transferred = 0;
+						while (transferred < length) {
+							transferred += channel.transferTo(position + transferred, length - transferred, out);
+						}
+					}
+					return CapturedOutput.file(target);
+				}
+				ByteBuffer buffer = ByteBuffer.allocate(Math.toIntExact(length));
+				while (buffer.hasRemaining()) {
+					if (channel.read(buffer, position + buffer.position()) < 0) {
+						break;
+					}
+				}
+				return CapturedOutput.text(new String(buffer.array(), 0, buffer.position()));
+			}
+			catch (IOException e) {
+				logger.warn(e, () -> "Failed to read captured output from " + path);
+				return CapturedOutput.EMPTY;
+			}
+			finally {
+				truncate(position);
+			}
+		}
+
+		private void truncate(long position) {
+			size = position;
+			try {
+				channel.truncate(position);
+			}
+			catch (IOException ignore) {
+				// subsequent output overwrites the stale bytes
+			}
+		}
+
+		void delete() {
+			try {
+				channel.close();
+			}
+			catch (IOException ignore) {
+				// ignore
+			}
+			deleteQuietly(path);
 		}
 
-		String rewind() {
-			Integer position = markedPositions.pollFirst();
-			if (position == null || position == count) {
-				return "";
+		private static void deleteQuietly(@Nullable Path path) {
+			if (path != null) {
+				try {
+					Files.deleteIfExists(path);
+				}
+				catch (IOException ignore) {
+					// ignore
+				}
 			}
-			int length = count - position;
-			count -= length;
-			return new String(buf, position, length);
 		}
 	}
 }
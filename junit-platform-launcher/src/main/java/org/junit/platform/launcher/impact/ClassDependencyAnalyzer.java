@@ -0,0 +1,373 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.impact;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+
+/**
+ * Collects the classes a test class transitively depends on by reading the
+ * constant pools of their class files.
+ *
+ * <p>Only classes that were loaded from class files in a directory, such as
+ * the output directories of the project under test, are taken into account.
+ * Classes of the JDK and classes contained in JAR files are neither reported
+ * nor analyzed any further. Dependencies are reported by the names of their
+ * top-level classes.
+ *
+ * <p>The constant pools of analyzed classes are cached so that classes shared
+ * by several test classes are only read once.
+ *
+ * @since 6.0
+ */
+class ClassDependencyAnalyzer {
+
+	private static final Logger logger = LoggerFactory.getLogger(ClassDependencyAnalyzer.class);
+
+	private static final int MAGIC = 0xCAFEBABE;
+
+	private final Map<String, @Nullable Set<String>> referencedClassesByInternalName = new HashMap<>();
+
+	/**
+	 * Collect the names of the top-level classes the supplied test class
+	 * transitively depends on, including the test class itself.
+	 */
+	Set<String> collectDependencies(Class<?> testClass) {
+		Set<String> dependencies = new TreeSet<>();
+		dependencies.add(toTopLevelClassName(testClass.getName()));
+		ClassLoader classLoader = testClass.getClassLoader();
+		if (classLoader == null) {
+			return dependencies;
+		}
+		Set<String> visited = new HashSet<>();
+		Deque<String> queue = new ArrayDeque<>();
+		queue.add(testClass.getName().replace('.', '/'));
+		String internalName;
+		while ((internalName = queue.poll()) != null) {
+			if (visited.add(internalName)) {
+				Set<String> referencedClasses = getReferencedClasses(classLoader, internalName);
+				if (referencedClasses != null) {
+					dependencies.add(toTopLevelClassName(internalName.replace('/', '.')));
+					queue.addAll(referencedClasses);
+				}
+			}
+		}
+		return dependencies;
+	}
+
+	private @Nullable Set<String> getReferencedClasses(ClassLoader classLoader, String internalName) {
+		if (this.referencedClassesByInternalName.containsKey(internalName)) {
+			return this.referencedClassesByInternalName.get(internalName);
+		}
+		Set<String> referencedClasses = readReferencedClasses(classLoader, internalName);
+		this.referencedClassesByInternalName.put(internalName, referencedClasses);
+		return referencedClasses;
+	}
+
+	private static @Nullable Set<String> readReferencedClasses(ClassLoader classLoader, String internalName) {
+		URL resource = classLoader.getResource(internalName + ".class");
+		if (resource == null || !"file".equals(resource.getProtocol())) {
+			return null;
+		}
+		try (InputStream inputStream = resource.openStream()) {
+			return readReferencedClasses(inputStream);
+		}
+		catch (IOException ex) {
+			logger.debug(ex, () -> "Failed to read class file " + resource);
+			return null;
+		}
+	}
+
+	/**
+	 * Read the internal names of all classes referenced by the constant pool
+	 * of the class file provided by the supplied stream.
+	 *
+	 * <p>In addition to {@code CONSTANT_Class} entries, all {@code CONSTANT_Utf8}
+	 * entries that are valid descriptors or generic signatures are taken into
+	 * account. This includes the descriptors of fields and methods as well as
+	 * annotation types and class values of annotations, such as the ones
+	 * declared via {@code @ExtendWith(MyExtension.class)}, which are only
+	 * referenced via their descriptors. Moreover, strings that refer to a
+	 * method or field of a fully qualified class, such as
+	 * {@code "example.Factory#arguments"}, are attributed to that class.
+	 */
+	static Set<String> readReferencedClasses(InputStream inputStream) throws IOException {
+		DataInputStream in = new DataInputStream(new BufferedInputStream(inputStream));
+		if (in.readInt() != MAGIC) {
+			throw new IOException("Not a class file");
+		}
+		in.skipNBytes(4); // minor and major version
+		int constantPoolCount = in.readUnsignedShort();
+		String[] utf8Entries = new String[constantPoolCount];
+		List<Integer> classNameIndexes = new ArrayList<>();
+		for (int i = 1; i < constantPoolCount; i++) {
+			int tag = in.readUnsignedByte();
+			switch (tag) {
+				case 1 -> utf8Entries[i] = in.readUTF();
+				case 7 -> classNameIndexes.add(in.readUnsignedShort());
+				case 8, 16, 19, 20 -> in.skipNBytes(2);
+				case 15 -> in.skipNBytes(3);
+				case 3, 4, 9, 10, 11, 12, 17, 18 -> in.skipNBytes(4);
+				case 5, 6 -> {
+					in.skipNBytes(8);
+					i++; // 8-byte constants take up two entries
+				}
+				default -> throw new IOException("Unsupported constant pool tag: " + tag);
+			}
+		}
+		Set<String> referencedClasses = new HashSet<>();
+		for (int index : classNameIndexes) {
+			String name = utf8Entries[index];
+			if (name.startsWith("[")) {
+				addClassesOfSignature(name, referencedClasses);
+			}
+			else {
+				referencedClasses.add(name);
+			}
+		}
+		for (String entry : utf8Entries) {
+			if (entry != null) {
+				addClassesOfSignature(entry, referencedClasses);
+				addClassOfMemberReference(entry, referencedClasses);
+			}
+		}
+		return referencedClasses;
+	}
+
+	/**
+	 * Add the internal names of all classes referenced by the supplied
+	 * string if it is a valid field or method descriptor or a valid class,
+	 * field, or method signature; otherwise, ignore it.
+	 */
+	private static void addClassesOfSignature(String signature, Set<String> referencedClasses) {
+		if (signature.isEmpty()) {
+			return;
+		}
+		Set<String> classes = new HashSet<>();
+		SignatureParser parser = new SignatureParser(signature, classes);
+		if (parser.parse()) {
+			referencedClasses.addAll(classes);
+		}
+	}
+
+	/**
+	 * Add the internal name of the class referenced by the supplied string if
+	 * it has the form {@code "fully.qualified.ClassName#member"}.
+	 */
+	private static void addClassOfMemberReference(String value, Set<String> referencedClasses) {
+		int separator = value.indexOf('#');
+		if (separator <= 0) {
+			return;
+		}
+		String className = value.substring(0, separator).strip();
+		if (className.indexOf('.') > 0 && isQualifiedName(className)) {
+			referencedClasses.add(className.replace('.', '/'));
+		}
+	}
+
+	private static boolean isQualifiedName(String name) {
+		for (String identifier : name.split("\\.", -1)) {
+			if (identifier.isEmpty() || !Character.isJavaIdentifierStart(identifier.charAt(0))) {
+				return false;
+			}
+			for (int i = 1; i < identifier.length(); i++) {
+				if (!Character.isJavaIdentifierPart(identifier.charAt(i))) {
+					return false;
+				}
+			}
+		}
+		return true;
+	}
+
+	static String toTopLevelClassName(String className) {
+		int nestedClassSeparator = className.indexOf('$', className.lastIndexOf('.') + 1);
+		return nestedClassSeparator < 0 ? className : className.substring(0, nestedClassSeparator);
+	}
+
+	/**
+	 * Parser for descriptors and generic signatures as specified in JVMS 4.3
+	 * and 4.7.9.1 that collects the internal names of referenced classes.
+	 */
+	private static class SignatureParser {
+
+		private final String signature;
+		private final Set<String> classes;
+		private int position;
+
+		SignatureParser(String signature, Set<String> classes) {
+			this.signature = signature;
+			this.classes = classes;
+		}
+
+		/**
+		 * {@return whether the entire signature was parsed successfully}
+		 */
+		boolean parse() {
+			try {
+				if (peek() == '<' && !parseTypeParameters()) {
+					return false;
+				}
+				if (peek() == '(') {
+					return parseMethodSignature();
+				}
+				while (this.position < this.signature.length()) {
+					if (!parseType()) {
+						return false;
+					}
+				}
+				return true;
+			}
+			catch (IndexOutOfBoundsException ex) {
+				return false;
+			}
+		}
+
+		private boolean parseTypeParameters() {
+			this.position++; // '<'
+			while (peek() != '>') {
+				if (!skipIdentifier(":")) {
+					return false;
+				}
+				while (peek() == ':') {
+					this.position++;
+					char next = peek();
+					if (next != ':' && next != '>' && isTypeStart(next) && !parseType()) {
+						return false;
+					}
+				}
+			}
+			this.position++; // '>'
+			return true;
+		}
+
+		private boolean parseMethodSignature() {
+			this.position++; // '('
+			while (peek() != ')') {
+				if (!parseType()) {
+					return false;
+				}
+			}
+			this.position++; // ')'
+			if (!parseType()) {
+				return false;
+			}
+			while (this.position < this.signature.length()) {
+				if (next() != '^' || !parseType()) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private boolean parseType() {
+			return switch (next()) {
+				case 'B', 'C', 'D', 'F', 'I', 'J', 'S', 'Z', 'V' -> true;
+				case '[' -> parseType();
+				case 'T' -> skipIdentifier(";") && next() == ';';
+				case 'L' -> parseClassType();
+				default -> false;
+			};
+		}
+
+		private boolean parseClassType() {
+			int start = this.position;
+			while (true) {
+				char c = next();
+				if (c == ';' || c == '<' || c == '.') {
+					if (this.position - 1 == start) {
+						return false;
+					}
+					this.classes.add(this.signature.substring(start, this.position - 1));
+					this.position--;
+					break;
+				}
+				if (c == '[' || c == '>' || c == ':' || Character.isWhitespace(c)) {
+					return false;
+				}
+			}
+			while (true) {
+				char c = next();
+				if (c == ';') {
+					return true;
+				}
+				if (c == '<') {
+					if (!parseTypeArguments()) {
+						return false;
+					}
+				}
+				else if (c != '.' || !skipIdentifier(";<.")) {
+					return false;
+				}
+			}
+		}
+
+		private boolean parseTypeArguments() {
+			while (peek() != '>') {
+				char c = peek();
+				if (c == '*') {
+					this.position++;
+				}
+				else {
+					if (c == '+' || c == '-') {
+						this.position++;
+					}
+					if (!parseType()) {
+						return false;
+					}
+				}
+			}
+			this.position++; // '>'
+			return true;
+		}
+
+		private boolean skipIdentifier(String terminators) {
+			int start = this.position;
+			while (terminators.indexOf(peek()) < 0) {
+				char c = next();
+				if (c == '/' || c == '[' || c == '<' || c == '>' || c == ';' || c == ':' || c == '.'
+						|| Character.isWhitespace(c)) {
+					return false;
+				}
+			}
+			return this.position > start;
+		}
+
+		private static boolean isTypeStart(char c) {
+			return c == 'L' || c == 'T' || c == '[';
+		}
+
+		private char peek() {
+			return this.signature.charAt(this.position);
+		}
+
+		private char next() {
+			return this.signature.charAt(this.position++);
+		}
+
+	}
+
+}
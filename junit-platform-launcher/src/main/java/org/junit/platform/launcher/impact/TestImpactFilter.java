@@ -0,0 +1,188 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.impact;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.commons.util.StringUtils;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+/**
+ * Factory methods for creating {@link PostDiscoveryFilter PostDiscoveryFilters}
+ * that only include tests impacted by a set of changes according to a
+ * {@link TestImpactIndex}.
+ *
+ * <p>Tests are attributed to the top-level class of the closest
+ * {@link ClassSource} or {@link MethodSource} of their test descriptors or
+ * their ancestors. Tests of classes that are not contained in the index, for
+ * example, because they have been added since the index was last updated, and
+ * tests without such a source are always included. If any of the changes
+ * cannot be attributed to a class contained in the index, all tests are
+ * included.
+ *
+ * <p>In addition to applying a filter created by this class explicitly, the
+ * launcher applies it automatically if the
+ * {@value #CHANGES_PROPERTY_NAME} or {@value #CHANGES_FILE_PROPERTY_NAME}
+ * configuration parameter is set and the index file configured via the
+ * {@value TestImpactIndex#INDEX_FILE_PROPERTY_NAME} configuration parameter
+ * exists.
+ *
+ * @since 6.0
+ * @see TestImpactIndex
+ * @see TestImpactTrackingListener
+ */
+@API(status = EXPERIMENTAL, since = "6.0")
+public final class TestImpactFilter {
+
+	/**
+	 * Property name used to supply a comma-separated list of changed classes
+	 * or files: {@value}
+	 *
+	 * @see TestImpactIndex#findImpactedTestClasses(Collection)
+	 */
+	public static final String CHANGES_PROPERTY_NAME = "junit.platform.impact.changes";
+
+	/**
+	 * Property name used to supply the path of a file that lists changed
+	 * classes or files, one per line: {@value}
+	 *
+	 * <p>For example, such a file can be generated via
+	 * {@code git diff --name-only}.
+	 *
+	 * @see TestImpactIndex#findImpactedTestClasses(Collection)
+	 */
+	public static final String CHANGES_FILE_PROPERTY_NAME = "junit.platform.impact.changes.file";
+
+	private static final Logger logger = LoggerFactory.getLogger(TestImpactFilter.class);
+
+	private TestImpactFilter() {
+		/* no-op */
+	}
+
+	/**
+	 * Create a {@code PostDiscoveryFilter} that only includes tests that are
+	 * impacted by the supplied changes according to the supplied index.
+	 *
+	 * @param index the index to consult; never {@code null}
+	 * @param changes the changed classes or files; never {@code null}
+	 * @return a new filter; never {@code null}
+	 * @see TestImpactIndex#findImpactedTestClasses(Collection)
+	 */
+	public static PostDiscoveryFilter includeImpactedTests(TestImpactIndex index, Collection<String> changes) {
+		Preconditions.notNull(index, "index must not be null");
+		Preconditions.notNull(changes, "changes must not be null");
+		Set<String> indexedTestClasses = index.getTestClassNames();
+		Set<String> impactedTestClasses = index.findImpactedTestClasses(changes);
+		return descriptor -> {
+			String testClassName = findTestClassName(descriptor);
+			boolean included = testClassName == null || !indexedTestClasses.contains(testClassName)
+					|| impactedTestClasses.contains(testClassName);
+			return FilterResult.includedIf(included, () -> "included because impacted by changes",
+				() -> "excluded because not impacted by changes");
+		};
+	}
+
+	/**
+	 * Create a filter based on the supplied configuration parameters, if
+	 * changes have been configured and the configured index file exists.
+	 *
+	 * @param configurationParameters the configuration parameters of the
+	 * discovery request; never {@code null}
+	 * @return an {@code Optional} containing the filter; never {@code null}
+	 * but potentially empty
+	 */
+	@API(status = INTERNAL, since = "6.0")
+	public static Optional<PostDiscoveryFilter> fromConfigurationParameters(
+			ConfigurationParameters configurationParameters) {
+		Optional<String> changesProperty = configurationParameters.get(CHANGES_PROPERTY_NAME) //
+				.filter(StringUtils::isNotBlank);
+		Optional<String> changesFileProperty = configurationParameters.get(CHANGES_FILE_PROPERTY_NAME) //
+				.filter(StringUtils::isNotBlank);
+		if (changesProperty.isEmpty() && changesFileProperty.isEmpty()) {
+			return Optional.empty();
+		}
+
+		List<String> changes = new ArrayList<>();
+		changesProperty.ifPresent(value -> changes.addAll(Arrays.asList(value.split(","))));
+		changesFileProperty.map(Path::of).ifPresent(file -> changes.addAll(readChanges(file)));
+		changes.removeIf(StringUtils::isBlank);
+
+		Path indexFile = TestImpactIndex.resolveFile(configurationParameters);
+		if (!Files.exists(indexFile)) {
+			logger.warn(() -> "Test impact index file %s does not exist; all tests will be included.".formatted(
+				indexFile.toAbsolutePath()));
+			return Optional.empty();
+		}
+		try {
+			return Optional.of(includeImpactedTests(TestImpactIndex.read(indexFile), changes));
+		}
+		catch (IOException ex) {
+			throw new JUnitException("Failed to read test impact index file: " + indexFile.toAbsolutePath(), ex);
+		}
+	}
+
+	private static List<String> readChanges(Path file) {
+		try {
+			return Files.readAllLines(file, UTF_8);
+		}
+		catch (IOException ex) {
+			throw new JUnitException("Failed to read changes file: " + file.toAbsolutePath(), ex);
+		}
+	}
+
+	private static @Nullable String findTestClassName(TestDescriptor descriptor) {
+		TestDescriptor current = descriptor;
+		while (current != null) {
+			Optional<TestSource> source = current.getSource();
+			String className = source.isPresent() ? getClassName(source.get()) : null;
+			if (className != null) {
+				return ClassDependencyAnalyzer.toTopLevelClassName(className);
+			}
+			current = current.getParent().orElse(null);
+		}
+		return null;
+	}
+
+	private static @Nullable String getClassName(TestSource source) {
+		if (source instanceof ClassSource classSource) {
+			return classSource.getClassName();
+		}
+		if (source instanceof MethodSource methodSource) {
+			return methodSource.getClassName();
+		}
+		return null;
+	}
+
+}
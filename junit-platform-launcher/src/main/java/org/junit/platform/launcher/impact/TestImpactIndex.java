@@ -0,0 +1,306 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.impact;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.unmodifiableSet;
+import static java.util.Collections.unmodifiableSortedSet;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+import static org.junit.platform.launcher.LauncherConstants.OUTPUT_DIR_PROPERTY_NAME;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.commons.util.StringUtils;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.launcher.listeners.OutputDir;
+
+/**
+ * {@code TestImpactIndex} maps the names of test classes to the names of the
+ * classes they depend on.
+ *
+ * <p>An index is generated by the {@link TestImpactTrackingListener} and
+ * used by the {@link TestImpactFilter} to determine which test classes are
+ * impacted by a set of changes. Test classes and their dependencies are
+ * identified by the fully qualified names of their top-level classes.
+ *
+ * <p>The index is stored as a UTF-8 encoded text file that lists the name of
+ * each test class on a separate line, followed by the names of its
+ * dependencies on separate lines that are indented by a tab character. Lines
+ * starting with {@code #} are ignored.
+ *
+ * @since 6.0
+ * @see TestImpactTrackingListener
+ * @see TestImpactFilter
+ */
+@API(status = EXPERIMENTAL, since = "6.0")
+public final class TestImpactIndex {
+
+	/**
+	 * Property name used to set the path of the index file: {@value}
+	 *
+	 * <p>Relative paths are resolved against the current working directory.
+	 * If not set, the index file is named {@value #DEFAULT_INDEX_FILE_NAME}
+	 * and resides in the directory configured via the
+	 * {@value org.junit.platform.launcher.LauncherConstants#OUTPUT_DIR_PROPERTY_NAME}
+	 * configuration parameter or, if not set either, in the build directory
+	 * of the project determined by the current working directory.
+	 */
+	public static final String INDEX_FILE_PROPERTY_NAME = "junit.platform.impact.index.file";
+
+	/**
+	 * The default name of the index file: {@value}
+	 *
+	 * @see #INDEX_FILE_PROPERTY_NAME
+	 */
+	public static final String DEFAULT_INDEX_FILE_NAME = "junit-platform-test-impact-index.txt";
+
+	private static final String COMMENT_PREFIX = "#";
+	private static final String DEPENDENCY_PREFIX = "\t";
+	private static final Set<String> CLASS_FILE_EXTENSIONS = Set.of(".java", ".class", ".kt", ".groovy", ".scala");
+
+	private static final Logger logger = LoggerFactory.getLogger(TestImpactIndex.class);
+
+	/**
+	 * Create an empty index.
+	 *
+	 * @return a new, empty index; never {@code null}
+	 */
+	public static TestImpactIndex empty() {
+		return new TestImpactIndex(new TreeMap<>());
+	}
+
+	/**
+	 * Read the index stored in the supplied file.
+	 *
+	 * @param file the index file to read; never {@code null}
+	 * @return the index; never {@code null}
+	 * @throws IOException if the file cannot be read
+	 */
+	public static TestImpactIndex read(Path file) throws IOException {
+		Preconditions.notNull(file, "file must not be null");
+		SortedMap<String, SortedSet<String>> dependencies = new TreeMap<>();
+		try (BufferedReader reader = Files.newBufferedReader(file, UTF_8)) {
+			SortedSet<String> current = null;
+			String line;
+			while ((line = reader.readLine()) != null) {
+				if (line.isBlank() || line.startsWith(COMMENT_PREFIX)) {
+					continue;
+				}
+				if (line.startsWith(DEPENDENCY_PREFIX)) {
+					if (current == null) {
+						throw new IOException("Dependency without test class in index file " + file + ": " + line);
+					}
+					current.add(line.strip());
+				}
+				else {
+					current = dependencies.computeIfAbsent(line.strip(), key -> new TreeSet<>());
+				}
+			}
+		}
+		return new TestImpactIndex(dependencies);
+	}
+
+	static Path resolveFile(ConfigurationParameters configurationParameters) {
+		return configurationParameters.get(INDEX_FILE_PROPERTY_NAME) //
+				.filter(StringUtils::isNotBlank) //
+				.map(Path::of) //
+				.orElseGet(() -> OutputDir.create(configurationParameters.get(OUTPUT_DIR_PROPERTY_NAME)) //
+						.toPath().resolve(DEFAULT_INDEX_FILE_NAME));
+	}
+
+	/**
+	 * Replace the entries of the index stored in the supplied file with the
+	 * supplied dependencies while holding a lock on a sibling file so that
+	 * test runs in concurrent JVMs do not lose each other's updates.
+	 */
+	static void update(Path file, Map<String, Set<String>> dependencies) throws IOException {
+		Path directory = file.toAbsolutePath().getParent();
+		Files.createDirectories(directory);
+		Path lockFile = directory.resolve(file.getFileName() + ".lock");
+		try (FileChannel channel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+				FileLock ignored = channel.lock()) {
+			TestImpactIndex index = Files.exists(file) ? read(file) : empty();
+			dependencies.forEach(index::put);
+			Path tempFile = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+			try {
+				index.write(tempFile);
+				Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			finally {
+				Files.deleteIfExists(tempFile);
+			}
+		}
+	}
+
+	private final SortedMap<String, SortedSet<String>> dependencies;
+
+	private TestImpactIndex(SortedMap<String, SortedSet<String>> dependencies) {
+		this.dependencies = dependencies;
+	}
+
+	/**
+	 * Get the names of all test classes contained in this index.
+	 *
+	 * @return an unmodifiable set of test class names; never {@code null}
+	 */
+	public Set<String> getTestClassNames() {
+		return unmodifiableSet(this.dependencies.keySet());
+	}
+
+	/**
+	 * Get the names of the classes the supplied test class depends on.
+	 *
+	 * @param testClassName the name of the test class; never {@code null}
+	 * @return an {@code Optional} containing an unmodifiable set of class
+	 * names, or an empty {@code Optional} if this index does not contain the
+	 * test class
+	 */
+	public Optional<Set<String>> getDependencies(String testClassName) {
+		Preconditions.notNull(testClassName, "testClassName must not be null");
+		return Optional.ofNullable(this.dependencies.get(testClassName)) //
+				.map(testClassDependencies -> unmodifiableSortedSet(testClassDependencies));
+	}
+
+	/**
+	 * Determine the names of all test classes contained in this index that
+	 * depend on at least one of the supplied changes.
+	 *
+	 * <p>Each change may either be the fully qualified name of a class or
+	 * the path of a source or class file, for example, as reported by
+	 * {@code git diff --name-only}. Only the paths of {@code .java},
+	 * {@code .class}, {@code .kt}, {@code .groovy}, and {@code .scala} files
+	 * are matched against the names of known classes by ignoring their
+	 * extension and any leading directories that are not part of the package
+	 * name, such as {@code src/main/java}.
+	 *
+	 * <p>If any change cannot be attributed to a class contained in this
+	 * index &mdash; for example, because it is a resource, a build file, a
+	 * class contained in a JAR file, or a class that has been deleted &mdash;
+	 * all test classes contained in this index are considered impacted.
+	 *
+	 * @param changes the changed classes or files; never {@code null}
+	 * @return the names of impacted test classes; never {@code null}
+	 */
+	public Set<String> findImpactedTestClasses(Collection<String> changes) {
+		Preconditions.notNull(changes, "changes must not be null");
+		Set<String> knownClassNames = new HashSet<>();
+		this.dependencies.values().forEach(knownClassNames::addAll);
+		Set<String> changedClassNames = new HashSet<>();
+		for (String change : changes) {
+			if (StringUtils.isBlank(change)) {
+				continue;
+			}
+			if (!addChangedClassNames(change, knownClassNames, changedClassNames)) {
+				logger.warn(() -> "Including all tests since change '%s' is not an indexed class.".formatted(
+					change.strip()));
+				return new TreeSet<>(this.dependencies.keySet());
+			}
+		}
+		Set<String> impactedTestClasses = new TreeSet<>();
+		this.dependencies.forEach((testClassName, testClassDependencies) -> {
+			if (testClassDependencies.stream().anyMatch(changedClassNames::contains)) {
+				impactedTestClasses.add(testClassName);
+			}
+		});
+		return impactedTestClasses;
+	}
+
+	private static boolean addChangedClassNames(String change, Set<String> knownClassNames, Set<String> result) {
+		String path = toClassPath(change);
+		if (path == null) {
+			return false;
+		}
+		boolean attributed = false;
+		int start = 0;
+		while (start >= 0) {
+			String candidate = path.substring(start).replace('/', '.');
+			if (knownClassNames.contains(candidate)) {
+				result.add(candidate);
+				attributed = true;
+			}
+			int separator = path.indexOf('/', start);
+			start = separator < 0 ? -1 : separator + 1;
+		}
+		return attributed;
+	}
+
+	/**
+	 * Convert the supplied change to the path of a class relative to an
+	 * arbitrary directory, or {@code null} if it is the path of a file that
+	 * does not contain classes, such as a resource.
+	 */
+	private static @Nullable String toClassPath(String change) {
+		String path = change.strip().replace('\\', '/');
+		int lastSeparator = path.lastIndexOf('/');
+		int extension = path.lastIndexOf('.');
+		if (extension > lastSeparator && CLASS_FILE_EXTENSIONS.contains(path.substring(extension))) {
+			path = path.substring(0, extension);
+		}
+		else if (lastSeparator >= 0) {
+			return null;
+		}
+		else {
+			path = path.replace('.', '/');
+		}
+		int nestedClassSeparator = path.indexOf('$', path.lastIndexOf('/') + 1);
+		return nestedClassSeparator < 0 ? path : path.substring(0, nestedClassSeparator);
+	}
+
+	void put(String testClassName, Set<String> dependencies) {
+		this.dependencies.put(testClassName, new TreeSet<>(dependencies));
+	}
+
+	/**
+	 * Write this index to the supplied file.
+	 *
+	 * @param file the file to write; never {@code null}
+	 * @throws IOException if the file cannot be written
+	 */
+	public void write(Path file) throws IOException {
+		Preconditions.notNull(file, "file must not be null");
+		try (BufferedWriter writer = Files.newBufferedWriter(file, UTF_8)) {
+			writer.write(COMMENT_PREFIX + " JUnit Platform test impact index");
+			writer.newLine();
+			for (Map.Entry<String, SortedSet<String>> entry : this.dependencies.entrySet()) {
+				writer.write(entry.getKey());
+				writer.newLine();
+				for (String dependency : entry.getValue()) {
+					writer.write(DEPENDENCY_PREFIX);
+					writer.write(dependency);
+					writer.newLine();
+				}
+			}
+		}
+	}
+
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.impact;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * {@code TestImpactTrackingListener} is a {@link TestExecutionListener} that
+ * records the classes each executed test class depends on in a
+ * {@link TestImpactIndex}.
+ *
+ * <p>Once execution of the {@link TestPlan} has finished, the dependencies of
+ * all test classes whose tests or containers were executed are determined by
+ * transitively analyzing the classes referenced by their class files.
+ * Only classes loaded from directories, such as the output directories of the
+ * project under test, are taken into account; classes of the JDK and of JAR
+ * files are not. The entries of the executed test classes in the index file
+ * are then replaced while all other entries are retained. Thus, the index can
+ * be updated incrementally by subsequent runs that only execute a subset of
+ * all tests, for example, those selected by a {@link TestImpactFilter}.
+ *
+ * <p>Since dependencies are determined statically, classes that are only
+ * accessed via reflection, for example, by dependency injection frameworks,
+ * or that are only referenced by the implementation of an interface the test
+ * class uses are not recorded.
+ *
+ * <p>This listener is registered automatically via Java's
+ * {@link java.util.ServiceLoader} mechanism but disabled by default. Set the
+ * {@value #ENABLED_PROPERTY_NAME} configuration parameter to {@code true} to
+ * enable it. The location of the index file is determined by the
+ * {@value TestImpactIndex#INDEX_FILE_PROPERTY_NAME} configuration parameter.
+ *
+ * @since 6.0
+ * @see TestImpactIndex
+ * @see TestImpactFilter
+ */
+@API(status = EXPERIMENTAL, since = "6.0")
+public class TestImpactTrackingListener implements TestExecutionListener {
+
+	/**
+	 * Property name used to enable the {@code TestImpactTrackingListener}: {@value}
+	 *
+	 * <p>Set the value of this property to {@code true} to enable this
+	 * listener.
+	 */
+	public static final String ENABLED_PROPERTY_NAME = "junit.platform.impact.tracking.enabled";
+
+	private static final Logger logger = LoggerFactory.getLogger(TestImpactTrackingListener.class);
+
+	private final Map<String, Class<?>> testClasses = new ConcurrentHashMap<>();
+
+	private boolean enabled;
+
+	public TestImpactTrackingListener() {
+		// to avoid missing-explicit-ctor warning
+	}
+
+	@Override
+	public void testPlanExecutionStarted(TestPlan testPlan) {
+		this.testClasses.clear();
+		this.enabled = testPlan.getConfigurationParameters().getBoolean(ENABLED_PROPERTY_NAME).orElse(false);
+	}
+
+	@Override
+	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+		if (this.enabled) {
+			testIdentifier.getSource().ifPresent(this::track);
+		}
+	}
+
+	private void track(TestSource source) {
+		if (source instanceof ClassSource classSource) {
+			track(classSource.getClassName(), classSource::getJavaClass);
+		}
+		else if (source instanceof MethodSource methodSource) {
+			track(methodSource.getClassName(), methodSource::getJavaClass);
+		}
+	}
+
+	private void track(String className, Supplier<Class<?>> testClassSupplier) {
+		String testClassName = ClassDependencyAnalyzer.toTopLevelClassName(className);
+		if (!this.testClasses.containsKey(testClassName)) {
+			try {
+				this.testClasses.putIfAbsent(testClassName, testClassSupplier.get());
+			}
+			catch (Exception ex) {
+				logger.debug(ex, () -> "Failed to load test class " + className);
+			}
+		}
+	}
+
+	@Override
+	public void testPlanExecutionFinished(TestPlan testPlan) {
+		if (this.enabled && !this.testClasses.isEmpty()) {
+			ClassDependencyAnalyzer analyzer = new ClassDependencyAnalyzer();
+			Map<String, Set<String>> dependencies = new TreeMap<>();
+			this.testClasses.forEach(
+				(testClassName, testClass) -> dependencies.put(testClassName, analyzer.collectDependencies(testClass)));
+
+			Path indexFile;
+			try {
+				indexFile = TestImpactIndex.resolveFile(testPlan.getConfigurationParameters());
+			}
+			catch (Exception ex) {
+				logger.error(ex, () -> "Failed to determine test impact index file");
+				return;
+			}
+
+			logger.debug(() -> "Writing test impact index file " + indexFile.toAbsolutePath());
+			try {
+				TestImpactIndex.update(indexFile, dependencies);
+			}
+			catch (IOException ex) {
+				logger.error(ex, () -> "Failed to write test impact index file " + indexFile.toAbsolutePath());
+			}
+		}
+		this.testClasses.clear();
+	}
+
+}
@@ -0,0 +1,13 @@
+/**
+ * Support for selecting only those tests that are impacted by changes to the
+ * classes they depend on.
+ *
+ * @see org.junit.platform.launcher.impact.TestImpactTrackingListener
+ * @see org.junit.platform.launcher.impact.TestImpactFilter
+ * @since 6.0
+ */
+
+@NullMarked
+package org.junit.platform.launcher.impact;
+
+import org.jspecify.annotations.NullMarked;
@@ -25,12 +25,14 @@ module org.junit.platform.reporting {
 	requires org.opentest4j.reporting.tooling.spi;
 
 	// exports org.junit.platform.reporting; empty package
+	exports org.junit.platform.reporting.eventlog;
 	exports org.junit.platform.reporting.legacy;
 	exports org.junit.platform.reporting.legacy.xml;
 	exports org.junit.platform.reporting.open.xml;
 
 	provides org.junit.platform.launcher.TestExecutionListener
-			with org.junit.platform.reporting.open.xml.OpenTestReportGeneratingListener;
+			with org.junit.platform.reporting.eventlog.EventLogGeneratingListener,
+				org.junit.platform.reporting.open.xml.OpenTestReportGeneratingListener;
 
 	provides org.opentest4j.reporting.tooling.spi.htmlreport.Contributor
 			with org.junit.platform.reporting.open.xml.JUnitContributor;
@@ -0,0 +1,278 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.reporting.eventlog;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.READ;
+import static org.junit.platform.reporting.eventlog.EventLogFormat.BUFFER_SIZE;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.File;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.support.descriptor.FilePosition;
+
+/**
+ * Reads records of an event log sequentially from a {@link FileChannel}.
+ *
+ * <p>This class is not thread-safe.
+ *
+ * @since 6.0
+ * @see EventLogFormat
+ * @see EventLogEncoder
+ */
+class EventLogDecoder implements AutoCloseable {
+
+	private static final int MAX_SERIAL_DEPTH = 100;
+	private static final int MAX_SERIAL_REFERENCES = 100_000;
+	private static final int MAX_SERIAL_ARRAY_LENGTH = 100_000;
+
+	/**
+	 * Names of serializable classes that may be referenced by test sources,
+	 * such as {@link FilePosition}, or throwables, such as the expected and
+	 * actual values of {@link org.opentest4j.AssertionFailedError}.
+	 */
+	private static final Set<String> ALLOWED_SERIAL_CLASS_NAMES = Set.of( //
+		FilePosition.class.getName(), //
+		StackTraceElement.class.getName(), //
+		String.class.getName(), //
+		Boolean.class.getName(), //
+		Character.class.getName(), //
+		Number.class.getName(), //
+		Byte.class.getName(), //
+		Short.class.getName(), //
+		Integer.class.getName(), //
+		Long.class.getName(), //
+		Float.class.getName(), //
+		Double.class.getName(), //
+		BigInteger.class.getName(), //
+		BigDecimal.class.getName(), //
+		File.class.getName(), //
+		URI.class.getName(), //
+		"java.util.ArrayList", //
+		"java.util.Arrays$ArrayList", //
+		"java.util.CollSer", //
+		"java.util.Collections$EmptyList", //
+		"java.util.Collections$SingletonList", //
+		"java.util.Collections$UnmodifiableCollection", //
+		"java.util.Collections$UnmodifiableList", //
+		"java.util.Collections$UnmodifiableRandomAccessList", //
+		"org.opentest4j.FileInfo", //
+		"org.opentest4j.ValueWrapper" //
+	);
+
+	private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE).limit(0);
+	private final List<String> internedStrings = new ArrayList<>();
+
+	private final FileChannel channel;
+
+	EventLogDecoder(Path file) throws IOException {
+		this.channel = FileChannel.open(file, READ);
+	}
+
+	/**
+	 * {@return the byte offset of the next byte to read}
+	 */
+	long position() throws IOException {
+		return this.channel.position() - this.buffer.remaining();
+	}
+
+	/**
+	 * {@return whether there are more bytes to read}
+	 */
+	boolean hasRemaining() throws IOException {
+		return fill(1);
+	}
+
+	boolean readBoolean() throws IOException {
+		return readByte() != 0;
+	}
+
+	byte readByte() throws IOException {
+		require(1);
+		return this.buffer.get();
+	}
+
+	long readVarLong() throws IOException {
+		long result = 0;
+		for (int shift = 0; shift < 64; shift += 7) {
+			byte b = readByte();
+			result |= (long) (b & 0x7F) << shift;
+			if ((b & 0x80) == 0) {
+				return result;
+			}
+		}
+		throw new IOException("Malformed variable-length quantity");
+	}
+
+	int readVarInt() throws IOException {
+		long value = readVarLong();
+		if (value < 0 || value > Integer.MAX_VALUE) {
+			throw new IOException("Invalid integer: " + value);
+		}
+		return (int) value;
+	}
+
+	/**
+	 * Read the number of subsequent elements, each of which takes up at least
+	 * one byte, and verify that it does not exceed the number of remaining
+	 * bytes so that a corrupt event log cannot cause excessive allocations.
+	 */
+	int readLength() throws IOException {
+		int length = readVarInt();
+		checkLength(length);
+		return length;
+	}
+
+	long readSignedVarLong() throws IOException {
+		long value = readVarLong();
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	String readString() throws IOException {
+		return new String(readBytes(readLength()), UTF_8);
+	}
+
+	String readInternedString() throws IOException {
+		int reference = readVarInt();
+		if (reference == 0) {
+			String value = readString();
+			this.internedStrings.add(value);
+			return value;
+		}
+		if (reference > this.internedStrings.size()) {
+			throw new IOException("Invalid string reference: " + reference);
+		}
+		return this.internedStrings.get(reference - 1);
+	}
+
+	/**
+	 * Read an object written via {@link EventLogEncoder#writeSerialized}.
+	 *
+	 * <p>Deserialization is restricted by {@link #checkSerialInput} so that
+	 * event logs from untrusted sources cannot instantiate arbitrary classes.
+	 *
+	 * @return the deserialized object or {@code null} if none was written
+	 * @throws java.io.InvalidClassException if the serialized object graph
+	 * contains a class that is not allowed or exceeds the configured limits
+	 */
+	<T> @Nullable T readSerialized(Class<T> type) throws IOException, ClassNotFoundException {
+		int length = readLength();
+		if (length == 0) {
+			return null;
+		}
+		try (var in = new ObjectInputStream(new ByteArrayInputStream(readBytes(length)))) {
+			in.setObjectInputFilter(EventLogDecoder::checkSerialInput);
+			return type.cast(in.readObject());
+		}
+	}
+
+	/**
+	 * Only allow the classes required to deserialize {@link TestSource} and
+	 * {@link Throwable} instances and limit the depth, number of references,
+	 * and array lengths of deserialized object graphs.
+	 *
+	 * <p>Classes that do not implement {@link Serializable} are allowed since
+	 * they cannot be instantiated during deserialization but may be
+	 * referenced as {@link Class} objects, for example, by
+	 * {@link org.junit.platform.engine.support.descriptor.ClassSource ClassSource}.
+	 */
+	private static ObjectInputFilter.Status checkSerialInput(ObjectInputFilter.FilterInfo filterInfo) {
+		if (filterInfo.depth() > MAX_SERIAL_DEPTH || filterInfo.references() > MAX_SERIAL_REFERENCES
+				|| filterInfo.arrayLength() > MAX_SERIAL_ARRAY_LENGTH) {
+			return ObjectInputFilter.Status.REJECTED;
+		}
+		Class<?> serialClass = filterInfo.serialClass();
+		if (serialClass == null) {
+			return ObjectInputFilter.Status.UNDECIDED;
+		}
+		while (serialClass.isArray()) {
+			serialClass = serialClass.getComponentType();
+		}
+		return isAllowedSerialClass(serialClass) ? ObjectInputFilter.Status.ALLOWED
+				: ObjectInputFilter.Status.REJECTED;
+	}
+
+	private static boolean isAllowedSerialClass(Class<?> serialClass) {
+		return serialClass.isPrimitive() //
+				|| !Serializable.class.isAssignableFrom(serialClass) //
+				|| TestSource.class.isAssignableFrom(serialClass) //
+				|| Throwable.class.isAssignableFrom(serialClass) //
+				|| Enum.class.isAssignableFrom(serialClass) //
+				|| ALLOWED_SERIAL_CLASS_NAMES.contains(serialClass.getName());
+	}
+
+	byte[] readBytes(int length) throws IOException {
+		checkLength(length);
+		byte[] bytes = new byte[length];
+		int offset = 0;
+		while (offset < length) {
+			require(1);
+			int chunk = Math.min(length - offset, this.buffer.remaining());
+			this.buffer.get(bytes, offset, chunk);
+			offset += chunk;
+		}
+		return bytes;
+	}
+
+	private void checkLength(int length) throws IOException {
+		long remaining = this.buffer.remaining() + this.channel.size() - this.channel.position();
+		if (length < 0 || length > remaining) {
+			throw new IOException("Invalid length %d exceeds remaining %d bytes of event log".formatted(length,
+				remaining));
+		}
+	}
+
+	private void require(int length) throws IOException {
+		if (!fill(length)) {
+			throw new EOFException("Unexpected end of event log");
+		}
+	}
+
+	private boolean fill(int length) throws IOException {
+		if (this.buffer.remaining() >= length) {
+			return true;
+		}
+		this.buffer.compact();
+		try {
+			while (this.buffer.position() < length) {
+				if (this.channel.read(this.buffer) < 0) {
+					return false;
+				}
+			}
+			return true;
+		}
+		finally {
+			this.buffer.flip();
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		this.channel.close();
+	}
+
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.reporting.eventlog;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.junit.platform.reporting.eventlog.EventLogFormat.BUFFER_SIZE;
+import static org.junit.platform.reporting.eventlog.EventLogFormat.FIRST_PARENT_INDEX;
+import static org.junit.platform.reporting.eventlog.EventLogFormat.MAGIC;
+import static org.junit.platform.reporting.eventlog.EventLogFormat.NO_PARENT;
+import static org.junit.platform.reporting.eventlog.EventLogFormat.UNKNOWN_PARENT;
+import static org.junit.platform.reporting.eventlog.EventLogFormat.VERSION;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.launcher.TestIdentifier;
+
+/**
+ * Writes records of an event log sequentially to a {@link FileChannel}.
+ *
+ * <p>This class is not thread-safe.
+ *
+ * @since 6.0
+ * @see EventLogFormat
+ */
+class EventLogEncoder implements AutoCloseable {
+
+	private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+	private final Map<String, Integer> internedStrings = new HashMap<>();
+	private final Map<UniqueId, Integer> identifierIndexes = new HashMap<>();
+
+	private final FileChannel channel;
+	private long lastTimestamp;
+
+	EventLogEncoder(Path file, Instant start) throws IOException {
+		this.channel = FileChannel.open(file, CREATE, WRITE, TRUNCATE_EXISTING);
+		this.lastTimestamp = toMicros(start);
+		writeBytes(MAGIC);
+		writeVarLong(VERSION);
+		writeVarLong(start.getEpochSecond());
+		writeVarLong(start.getNano());
+	}
+
+	void startRecord(byte tag, Instant timestamp) throws IOException {
+		long micros = toMicros(timestamp);
+		writeByte(tag);
+		writeSignedVarLong(micros - this.lastTimestamp);
+		this.lastTimestamp = micros;
+	}
+
+	/**
+	 * Write the supplied test identifier and assign it the next index so that
+	 * subsequent records may refer to it via {@link #writeReference}.
+	 */
+	void writeIdentifier(TestIdentifier testIdentifier) throws IOException {
+		UniqueId uniqueId = testIdentifier.getUniqueIdObject();
+		UniqueId parentId = testIdentifier.getParentIdObject().orElse(null);
+		int sharedSegments = 0;
+		if (parentId == null) {
+			writeVarLong(NO_PARENT);
+		}
+		else {
+			Integer parentIndex = this.identifierIndexes.get(parentId);
+			if (parentIndex == null) {
+				// Parent is not part of the test plan, e.g. for engines executed by a suite
+				writeVarLong(UNKNOWN_PARENT);
+				writeSegments(parentId.getSegments());
+			}
+			else {
+				writeVarLong(parentIndex + FIRST_PARENT_INDEX);
+			}
+			sharedSegments = countSharedSegments(uniqueId.getSegments(), parentId.getSegments());
+		}
+
+		// Only write the segments that are not shared with the parent
+		List<UniqueId.Segment> segments = uniqueId.getSegments();
+		writeVarLong(sharedSegments);
+		writeSegments(segments.subList(sharedSegments, segments.size()));
+
+		writeByte((byte) testIdentifier.getType().ordinal());
+		writeString(testIdentifier.getDisplayName());
+		String legacyReportingName = testIdentifier.getLegacyReportingName();
+		writeBoolean(legacyReportingName.equals(testIdentifier.getDisplayName()));
+		if (!legacyReportingName.equals(testIdentifier.getDisplayName())) {
+			writeString(legacyReportingName);
+		}
+		writeVarLong(testIdentifier.getTags().size());
+		for (var tag : testIdentifier.getTags()) {
+			writeInternedString(tag.getName());
+		}
+		writeSerialized(testIdentifier.getSource().map(EventLogEncoder::serialize).orElse(null));
+
+		this.identifierIndexes.put(uniqueId, this.identifierIndexes.size());
+	}
+
+	private void writeSegments(List<UniqueId.Segment> segments) throws IOException {
+		writeVarLong(segments.size());
+		for (UniqueId.Segment segment : segments) {
+			writeInternedString(segment.getType());
+			writeInternedString(segment.getValue());
+		}
+	}
+
+	void writeReference(TestIdentifier testIdentifier) throws IOException {
+		Integer index = this.identifierIndexes.get(testIdentifier.getUniqueIdObject());
+		if (index == null) {
+			// Unknown identifiers are recorded in place
+			writeVarLong(0);
+			writeIdentifier(testIdentifier);
+		}
+		else {
+			writeVarLong(index + 1);
+		}
+	}
+
+	void writeBoolean(boolean value) throws IOException {
+		writeByte((byte) (value ? 1 : 0));
+	}
+
+	void writeByte(byte value) throws IOException {
+		ensureRemaining(1);
+		this.buffer.put(value);
+	}
+
+	void writeVarLong(long value) throws IOException {
+		ensureRemaining(10);
+		long remaining = value;
+		while ((remaining & ~0x7FL) != 0) {
+			this.buffer.put((byte) ((remaining & 0x7F) | 0x80));
+			remaining >>>= 7;
+		}
+		this.buffer.put((byte) remaining);
+	}
+
+	private void writeSignedVarLong(long value) throws IOException {
+		writeVarLong((value << 1) ^ (value >> 63));
+	}
+
+	void writeString(String value) throws IOException {
+		byte[] bytes = value.getBytes(UTF_8);
+		writeVarLong(bytes.length);
+		writeBytes(bytes);
+	}
+
+	void writeNullableString(@Nullable String value) throws IOException {
+		writeBoolean(value != null);
+		if (value != null) {
+			writeString(value);
+		}
+	}
+
+	void writeInternedString(String value) throws IOException {
+		Integer index = this.internedStrings.get(value);
+		if (index == null) {
+			writeVarLong(0);
+			writeString(value);
+			this.internedStrings.put(value, this.internedStrings.size());
+		}
+		else {
+			writeVarLong(index + 1);
+		}
+	}
+
+	void writeSerialized(byte @Nullable [] bytes) throws IOException {
+		if (bytes == null) {
+			writeVarLong(0);
+			return;
+		}
+		writeVarLong(bytes.length);
+		writeBytes(bytes);
+	}
+
+	private void writeBytes(byte[] bytes) throws IOException {
+		if (bytes.length > this.buffer.remaining()) {
+			flush();
+		}
+		if (bytes.length > this.buffer.capacity()) {
+			writeFully(ByteBuffer.wrap(bytes));
+		}
+		else {
+			this.buffer.put(bytes);
+		}
+	}
+
+	private void ensureRemaining(int length) throws IOException {
+		if (this.buffer.remaining() < length) {
+			flush();
+		}
+	}
+
+	void flush() throws IOException {
+		this.buffer.flip();
+		writeFully(this.buffer);
+		this.buffer.clear();
+	}
+
+	private void writeFully(ByteBuffer source) throws IOException {
+		while (source.hasRemaining()) {
+			this.channel.write(source);
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			flush();
+		}
+		finally {
+			this.channel.close();
+		}
+	}
+
+	private static int countSharedSegments(List<UniqueId.Segment> segments, List<UniqueId.Segment> parentSegments) {
+		int max = Math.min(segments.size(), parentSegments.size());
+		int count = 0;
+		while (count < max && segments.get(count).equals(parentSegments.get(count))) {
+			count++;
+		}
+		return count;
+	}
+
+	/**
+	 * Serialize the supplied value using Java serialization.
+	 *
+	 * @return the serialized form or {@code null} if the value or one of the
+	 * objects it references is not serializable
+	 */
+	static byte @Nullable [] serialize(Serializable value) {
+		var bytes = new ByteArrayOutputStream();
+		try (var out = new ObjectOutputStream(bytes)) {
+			out.writeObject(value);
+		}
+		catch (IOException e) {
+			return null;
+		}
+		return bytes.toByteArray();
+	}
+
+	static long toMicros(Instant instant) {
+		return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), 1_000_000L), instant.getNano() / 1_000);
+	}
+
+}
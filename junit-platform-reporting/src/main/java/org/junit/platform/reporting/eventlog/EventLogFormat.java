@@ -0,0 +1,58 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.reporting.eventlog;
+
+import static java.nio.charset.StandardCharsets.US_ASCII;
+
+/**
+ * Constants describing the binary format of event logs.
+ *
+ * <p>An event log starts with a header consisting of {@link #MAGIC}, the
+ * format {@link #VERSION}, and the instant the log was started at. It is
+ * followed by a sequence of records, each of which starts with a tag byte
+ * and the number of microseconds elapsed since the previous record.
+ *
+ * <p>Integers are encoded as variable-length quantities. Strings that are
+ * likely to recur, such as the types and values of unique ID segments, are
+ * interned: the first occurrence is written in full and assigned the next
+ * index; subsequent occurrences are written as a reference to that index.
+ *
+ * @since 6.0
+ */
+final class EventLogFormat {
+
+	static final byte[] MAGIC = "JUNITLOG".getBytes(US_ASCII);
+	static final int VERSION = 1;
+
+	static final byte TEST_PLAN_EXECUTION_STARTED = 1;
+	static final byte DYNAMIC_TEST_REGISTERED = 2;
+	static final byte EXECUTION_SKIPPED = 3;
+	static final byte EXECUTION_STARTED = 4;
+	static final byte EXECUTION_FINISHED = 5;
+	static final byte REPORTING_ENTRY_PUBLISHED = 6;
+	static final byte FILE_ENTRY_PUBLISHED = 7;
+	static final byte TEST_PLAN_EXECUTION_FINISHED = 8;
+
+	/**
+	 * Parent references of test identifiers are encoded as one of the
+	 * following constants or as the index of the parent's test identifier
+	 * plus {@link #FIRST_PARENT_INDEX}.
+	 */
+	static final int NO_PARENT = 0;
+	static final int UNKNOWN_PARENT = 1;
+	static final int FIRST_PARENT_INDEX = 2;
+
+	static final int BUFFER_SIZE = 64 * 1024;
+
+	private EventLogFormat() {
+	}
+
+}
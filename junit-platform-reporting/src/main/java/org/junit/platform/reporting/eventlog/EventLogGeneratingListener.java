@@ -0,0 +1,275 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.reporting.eventlog;
+
+import static java.util.Objects.requireNonNull;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+import static org.junit.platform.reporting.eventlog.EventLogFormat.DYNAMIC_TEST_REGISTERED;
+import static org.junit.platform.reporting.eventlog.EventLogFormat.EXECUTION_FINISHED;
+import static org.junit.platform.reporting.eventlog.EventLogFormat.EXECUTION_SKIPPED;
+import static org.junit.platform.reporting.eventlog.EventLogFormat.EXECUTION_STARTED;
+import static org.junit.platform.reporting.eventlog.EventLogFormat.FILE_ENTRY_PUBLISHED;
+import static org.junit.platform.reporting.eventlog.EventLogFormat.REPORTING_ENTRY_PUBLISHED;
+import static org.junit.platform.reporting.eventlog.EventLogFormat.TEST_PLAN_EXECUTION_FINISHED;
+import static org.junit.platform.reporting.eventlog.EventLogFormat.TEST_PLAN_EXECUTION_STARTED;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.reporting.FileEntry;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * {@link TestExecutionListener} that records all execution events in a
+ * compact, append-only binary event log.
+ *
+ * <p>The listener is registered automatically via the
+ * {@link java.util.ServiceLoader ServiceLoader} mechanism but is only active
+ * if the {@value #ENABLED_PROPERTY_NAME} configuration parameter is set to
+ * {@code true}. The event log is written to a file named
+ * {@value #FILE_NAME} in the root directory of the test plan's
+ * {@link org.junit.platform.engine.reporting.OutputDirectoryProvider
+ * OutputDirectoryProvider}.
+ *
+ * <p>Recorded event logs may be replayed to any other
+ * {@code TestExecutionListener} via {@link EventLogReader}, for example, to
+ * generate reports after the test run has finished or in another process.
+ *
+ * @since 6.0
+ * @see EventLogReader
+ */
+@API(status = EXPERIMENTAL, since = "6.0")
+public class EventLogGeneratingListener implements TestExecutionListener {
+
+	/**
+	 * Property name used to enable writing an event log: {@value}
+	 */
+	public static final String ENABLED_PROPERTY_NAME = "junit.platform.reporting.eventlog.enabled";
+
+	/**
+	 * Name of the event log file: {@value}
+	 */
+	public static final String FILE_NAME = "junit-platform-events.bin";
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Clock clock;
+
+	private @Nullable EventLogEncoder encoder;
+
+	@SuppressWarnings("unused") // Used via ServiceLoader
+	public EventLogGeneratingListener() {
+		this(Clock.systemUTC());
+	}
+
+	EventLogGeneratingListener(Clock clock) {
+		this.clock = clock;
+	}
+
+	@Override
+	public void testPlanExecutionStarted(TestPlan testPlan) {
+		ConfigurationParameters configurationParameters = testPlan.getConfigurationParameters();
+		if (!configurationParameters.getBoolean(ENABLED_PROPERTY_NAME).orElse(false)) {
+			return;
+		}
+		Path outputDir = testPlan.getOutputDirectoryProvider().getRootDirectory();
+		Path eventLog = outputDir.resolve(FILE_NAME);
+		Instant start = this.clock.instant();
+		this.lock.lock();
+		try {
+			EventLogEncoder encoder = new EventLogEncoder(eventLog, start);
+			this.encoder = encoder;
+			encoder.startRecord(TEST_PLAN_EXECUTION_STARTED, start);
+			encoder.writeBoolean(testPlan.containsTests());
+			encoder.writeString(outputDir.toString());
+			List<String> keys = getRecordedConfigurationParameterKeys(configurationParameters);
+			encoder.writeVarLong(keys.size());
+			for (String key : keys) {
+				encoder.writeInternedString(key);
+				encoder.writeString(configurationParameters.get(key).orElse(""));
+			}
+			encoder.writeVarLong(testPlan.countTestIdentifiers(testIdentifier -> true));
+			testPlan.accept(new TestPlan.Visitor() {
+				@Override
+				public void visit(TestIdentifier testIdentifier) {
+					try {
+						encoder.writeIdentifier(testIdentifier);
+					}
+					catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				}
+			});
+		}
+		catch (IOException | UncheckedIOException e) {
+			closeQuietly();
+			throw new JUnitException("Failed to initialize event log: " + eventLog, e);
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Only record configuration parameters that start with {@code junit.} or
+	 * were supplied explicitly or via a properties file rather than as JVM
+	 * system properties since the latter may include sensitive values, such as
+	 * credentials or tokens.
+	 */
+	private static List<String> getRecordedConfigurationParameterKeys(
+			ConfigurationParameters configurationParameters) {
+		return configurationParameters.keySet().stream() //
+				.filter(key -> key.startsWith("junit.") || System.getProperty(key) == null) //
+				.sorted() //
+				.toList();
+	}
+
+	@Override
+	public void dynamicTestRegistered(TestIdentifier testIdentifier) {
+		record(DYNAMIC_TEST_REGISTERED, encoder -> encoder.writeIdentifier(testIdentifier));
+	}
+
+	@Override
+	public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+		record(EXECUTION_SKIPPED, encoder -> {
+			encoder.writeReference(testIdentifier);
+			encoder.writeString(reason);
+		});
+	}
+
+	@Override
+	public void executionStarted(TestIdentifier testIdentifier) {
+		record(EXECUTION_STARTED, encoder -> encoder.writeReference(testIdentifier));
+	}
+
+	@Override
+	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+		record(EXECUTION_FINISHED, encoder -> {
+			encoder.writeReference(testIdentifier);
+			encoder.writeByte((byte) testExecutionResult.getStatus().ordinal());
+			encoder.writeSerialized(testExecutionResult.getThrowable() //
+					.map(EventLogGeneratingListener::serialize) //
+					.orElse(null));
+		});
+	}
+
+	@Override
+	public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+		record(REPORTING_ENTRY_PUBLISHED, encoder -> {
+			encoder.writeReference(testIdentifier);
+			Map<String, String> keyValuePairs = entry.getKeyValuePairs();
+			encoder.writeVarLong(keyValuePairs.size());
+			for (Map.Entry<String, String> keyValuePair : keyValuePairs.entrySet()) {
+				encoder.writeInternedString(keyValuePair.getKey());
+				encoder.writeString(keyValuePair.getValue());
+			}
+		});
+	}
+
+	@Override
+	public void fileEntryPublished(TestIdentifier testIdentifier, FileEntry file) {
+		record(FILE_ENTRY_PUBLISHED, encoder -> {
+			encoder.writeReference(testIdentifier);
+			encoder.writeString(file.getPath().toString());
+			encoder.writeBoolean(file.getMediaType().isPresent());
+			if (file.getMediaType().isPresent()) {
+				encoder.writeInternedString(file.getMediaType().get());
+			}
+		});
+	}
+
+	@Override
+	public void testPlanExecutionFinished(TestPlan testPlan) {
+		this.lock.lock();
+		try {
+			EventLogEncoder encoder = this.encoder;
+			if (encoder != null) {
+				this.encoder = null;
+				try (encoder) {
+					encoder.startRecord(TEST_PLAN_EXECUTION_FINISHED, this.clock.instant());
+				}
+				catch (IOException e) {
+					throw new UncheckedIOException("Failed to close event log", e);
+				}
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private void record(byte tag, RecordWriter writer) {
+		this.lock.lock();
+		try {
+			EventLogEncoder encoder = this.encoder;
+			if (encoder != null) {
+				encoder.startRecord(tag, this.clock.instant());
+				writer.write(encoder);
+			}
+		}
+		catch (IOException e) {
+			closeQuietly();
+			throw new UncheckedIOException("Failed to write to event log", e);
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	private void closeQuietly() {
+		EventLogEncoder encoder = this.encoder;
+		this.encoder = null;
+		if (encoder != null) {
+			try {
+				encoder.close();
+			}
+			catch (IOException ignore) {
+				// ignore
+			}
+		}
+	}
+
+	/**
+	 * Serialize the supplied throwable, replacing it with a
+	 * {@link RuntimeException} that retains its string representation and
+	 * stack trace if it cannot be serialized.
+	 */
+	private static byte[] serialize(Throwable throwable) {
+		byte[] bytes = EventLogEncoder.serialize(throwable);
+		if (bytes == null) {
+			RuntimeException substitute = new RuntimeException(throwable.toString());
+			substitute.setStackTrace(throwable.getStackTrace());
+			bytes = EventLogEncoder.serialize(substitute);
+		}
+		return requireNonNull(bytes);
+	}
+
+	@FunctionalInterface
+	private interface RecordWriter {
+
+		void write(EventLogEncoder encoder) throws IOException;
+
+	}
+
+}
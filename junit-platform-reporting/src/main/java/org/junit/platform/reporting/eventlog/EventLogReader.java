@@ -0,0 +1,480 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.reporting.eventlog;
+
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+import static org.junit.platform.reporting.eventlog.EventLogFormat.DYNAMIC_TEST_REGISTERED;
+import static org.junit.platform.reporting.eventlog.EventLogFormat.EXECUTION_FINISHED;
+import static org.junit.platform.reporting.eventlog.EventLogFormat.EXECUTION_SKIPPED;
+import static org.junit.platform.reporting.eventlog.EventLogFormat.EXECUTION_STARTED;
+import static org.junit.platform.reporting.eventlog.EventLogFormat.FILE_ENTRY_PUBLISHED;
+import static org.junit.platform.reporting.eventlog.EventLogFormat.FIRST_PARENT_INDEX;
+import static org.junit.platform.reporting.eventlog.EventLogFormat.MAGIC;
+import static org.junit.platform.reporting.eventlog.EventLogFormat.NO_PARENT;
+import static org.junit.platform.reporting.eventlog.EventLogFormat.REPORTING_ENTRY_PUBLISHED;
+import static org.junit.platform.reporting.eventlog.EventLogFormat.TEST_PLAN_EXECUTION_FINISHED;
+import static org.junit.platform.reporting.eventlog.EventLogFormat.TEST_PLAN_EXECUTION_STARTED;
+import static org.junit.platform.reporting.eventlog.EventLogFormat.UNKNOWN_PARENT;
+import static org.junit.platform.reporting.eventlog.EventLogFormat.VERSION;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+import org.apiguardian.api.API;
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.TestSource;
+import org.junit.platform.engine.TestTag;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.reporting.FileEntry;
+import org.junit.platform.engine.reporting.OutputDirectoryProvider;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * Reader for event logs written by {@link EventLogGeneratingListener} that
+ * replays the recorded events to a {@link TestExecutionListener}.
+ *
+ * <p>The {@link TestPlan} passed to the listener is reconstructed from the
+ * event log, including the configuration parameters and the root of the
+ * output directory the test plan was executed with. Listeners that measure
+ * durations should use the {@linkplain #getClock() clock} of the reader
+ * which reflects the time each replayed event was originally recorded at.
+ * The timestamps of replayed report and file entries, however, reflect the
+ * time they were replayed at.
+ *
+ * <p>If the event log is incomplete, for example, because the JVM that
+ * wrote it was terminated abruptly, all complete events are replayed,
+ * followed by {@link TestExecutionListener#testPlanExecutionFinished(TestPlan)
+ * testPlanExecutionFinished()}.
+ *
+ * <p>Since test sources and throwables are recorded using Java serialization,
+ * event logs should only be read if they originate from a trusted source.
+ *
+ * <pre class="code">
+ * try (EventLogReader reader = EventLogReader.open(eventLog)) {
+ *     reader.replay(new LegacyXmlReportGeneratingListener(reportsDir, out, reader.getClock()));
+ * }
+ * </pre>
+ *
+ * @since 6.0
+ * @see EventLogGeneratingListener
+ */
+@API(status = EXPERIMENTAL, since = "6.0")
+public final class EventLogReader implements AutoCloseable {
+
+	/**
+	 * Open the supplied event log for reading.
+	 *
+	 * @param eventLog the event log to read; never {@code null}
+	 * @return a new reader for the event log; never {@code null}
+	 * @throws IOException if the event log could not be read
+	 * @throws JUnitException if the supplied file is not an event log or was
+	 * written using an unsupported version of its format
+	 */
+	public static EventLogReader open(Path eventLog) throws IOException {
+		Preconditions.notNull(eventLog, "eventLog must not be null");
+		EventLogDecoder decoder = new EventLogDecoder(eventLog);
+		try {
+			if (!Arrays.equals(MAGIC, decoder.readBytes(MAGIC.length))) {
+				throw new JUnitException("Not an event log: " + eventLog);
+			}
+			long version = decoder.readVarLong();
+			if (version != VERSION) {
+				throw new JUnitException("Unsupported event log version " + version + ": " + eventLog);
+			}
+			Instant start = Instant.ofEpochSecond(decoder.readVarLong(), decoder.readVarLong());
+			return new EventLogReader(decoder, start);
+		}
+		catch (EOFException e) {
+			decoder.close();
+			throw new JUnitException("Not an event log: " + eventLog, e);
+		}
+		catch (IOException | RuntimeException e) {
+			decoder.close();
+			throw e;
+		}
+	}
+
+	private final List<TestDescriptor> descriptors = new ArrayList<>();
+	private final List<TestIdentifier> identifiers = new ArrayList<>();
+	private final EventLogDecoder decoder;
+	private final ReplayClock clock;
+
+	private @Nullable TestPlan testPlan;
+	private boolean replayed;
+
+	private EventLogReader(EventLogDecoder decoder, Instant start) {
+		this.decoder = decoder;
+		this.clock = new ReplayClock(new AtomicReference<>(start), ZoneId.systemDefault());
+	}
+
+	/**
+	 * Get the clock that reflects the time the event currently being replayed
+	 * was recorded at.
+	 *
+	 * @return the clock; never {@code null}
+	 */
+	public Clock getClock() {
+		return this.clock;
+	}
+
+	/**
+	 * Replay all events recorded in the event log to the supplied listener.
+	 *
+	 * <p>This method may only be called once per reader.
+	 *
+	 * @param listener the listener to notify; never {@code null}
+	 * @throws IOException if the event log could not be read
+	 */
+	public void replay(TestExecutionListener listener) throws IOException {
+		Preconditions.notNull(listener, "listener must not be null");
+		Preconditions.condition(!this.replayed, "Event log has already been replayed");
+		this.replayed = true;
+
+		boolean finished = false;
+		try {
+			while (!finished && this.decoder.hasRemaining()) {
+				byte tag = this.decoder.readByte();
+				this.clock.advance(this.decoder.readSignedVarLong());
+				finished = replay(tag, listener);
+			}
+		}
+		catch (EOFException e) {
+			// Incomplete event log: stop replaying at the last complete event
+		}
+		if (!finished && this.testPlan != null) {
+			listener.testPlanExecutionFinished(this.testPlan);
+		}
+	}
+
+	private boolean replay(byte tag, TestExecutionListener listener) throws IOException {
+		switch (tag) {
+			case TEST_PLAN_EXECUTION_STARTED -> {
+				TestPlan testPlan = readTestPlan();
+				this.testPlan = testPlan;
+				listener.testPlanExecutionStarted(testPlan);
+			}
+			case DYNAMIC_TEST_REGISTERED -> listener.dynamicTestRegistered(readIdentifier());
+			case EXECUTION_SKIPPED -> {
+				TestIdentifier testIdentifier = readReference();
+				String reason = this.decoder.readString();
+				listener.executionSkipped(testIdentifier, reason);
+			}
+			case EXECUTION_STARTED -> listener.executionStarted(readReference());
+			case EXECUTION_FINISHED -> {
+				TestIdentifier testIdentifier = readReference();
+				TestExecutionResult result = readTestExecutionResult();
+				listener.executionFinished(testIdentifier, result);
+			}
+			case REPORTING_ENTRY_PUBLISHED -> {
+				TestIdentifier testIdentifier = readReference();
+				int size = this.decoder.readLength();
+				Map<String, String> keyValuePairs = new LinkedHashMap<>(size);
+				for (int i = 0; i < size; i++) {
+					keyValuePairs.put(this.decoder.readInternedString(), this.decoder.readString());
+				}
+				listener.reportingEntryPublished(testIdentifier, ReportEntry.from(keyValuePairs));
+			}
+			case FILE_ENTRY_PUBLISHED -> {
+				TestIdentifier testIdentifier = readReference();
+				Path path = Path.of(this.decoder.readString());
+				String mediaType = this.decoder.readBoolean() ? this.decoder.readInternedString() : null;
+				listener.fileEntryPublished(testIdentifier, FileEntry.from(path, mediaType));
+			}
+			case TEST_PLAN_EXECUTION_FINISHED -> {
+				listener.testPlanExecutionFinished(requireTestPlan());
+				return true;
+			}
+			default -> throw new JUnitException("Unknown event log record type: " + tag);
+		}
+		return false;
+	}
+
+	private TestPlan readTestPlan() throws IOException {
+		boolean containsTests = this.decoder.readBoolean();
+		Path outputDir = Path.of(this.decoder.readString());
+		int size = this.decoder.readLength();
+		Map<String, String> configurationParameters = new LinkedHashMap<>(size);
+		for (int i = 0; i < size; i++) {
+			configurationParameters.put(this.decoder.readInternedString(), this.decoder.readString());
+		}
+		TestPlan testPlan = TestPlan.from(containsTests, List.of(),
+			new ReplayedConfigurationParameters(configurationParameters), new ReplayedOutputDirectoryProvider(outputDir));
+		this.testPlan = testPlan;
+		long count = this.decoder.readVarLong();
+		for (long i = 0; i < count; i++) {
+			readIdentifier();
+		}
+		return testPlan;
+	}
+
+	private TestIdentifier readIdentifier() throws IOException {
+		TestPlan testPlan = requireTestPlan();
+
+		long offset = this.decoder.position();
+		int parentReference = this.decoder.readVarInt();
+		TestDescriptor parent = switch (parentReference) {
+			case NO_PARENT -> null;
+			case UNKNOWN_PARENT -> new ReplayedTestDescriptor(readUniqueId(null), "parent",
+				TestDescriptor.Type.CONTAINER, null, null, Set.of());
+			default -> get(this.descriptors, parentReference - FIRST_PARENT_INDEX, "parent reference",
+				parentReference, offset);
+		};
+		offset = this.decoder.position();
+		int sharedSegments = this.decoder.readVarInt();
+		UniqueId prefix = null;
+		if (parent != null && sharedSegments > 0) {
+			prefix = parent.getUniqueId();
+			int parentSegments = prefix.getSegments().size();
+			if (sharedSegments > parentSegments) {
+				throw invalid("number of shared segments", sharedSegments, offset);
+			}
+			for (int i = sharedSegments; i < parentSegments; i++) {
+				prefix = prefix.removeLastSegment();
+			}
+		}
+		UniqueId uniqueId = readUniqueId(prefix);
+
+		TestDescriptor.Type type = readEnum(TestDescriptor.Type.values(), "test descriptor type");
+		String displayName = this.decoder.readString();
+		String legacyReportingName = this.decoder.readBoolean() ? displayName : this.decoder.readString();
+		int tagCount = this.decoder.readLength();
+		Set<TestTag> tags = new LinkedHashSet<>(tagCount);
+		for (int i = 0; i < tagCount; i++) {
+			tags.add(TestTag.create(this.decoder.readInternedString()));
+		}
+		TestSource source = readSerialized(TestSource.class, e -> null);
+
+		TestDescriptor descriptor = new ReplayedTestDescriptor(uniqueId, displayName, type, legacyReportingName,
+			source, tags);
+		if (parent != null) {
+			descriptor.setParent(parent);
+		}
+		TestIdentifier testIdentifier = TestIdentifier.from(descriptor);
+		this.descriptors.add(descriptor);
+		this.identifiers.add(testIdentifier);
+		testPlan.addInternal(testIdentifier);
+		return testIdentifier;
+	}
+
+	private UniqueId readUniqueId(@Nullable UniqueId prefix) throws IOException {
+		int count = this.decoder.readLength();
+		UniqueId uniqueId = prefix;
+		for (int i = 0; i < count; i++) {
+			String segmentType = this.decoder.readInternedString();
+			String value = this.decoder.readInternedString();
+			uniqueId = uniqueId == null ? UniqueId.root(segmentType, value) : uniqueId.append(segmentType, value);
+		}
+		if (uniqueId == null) {
+			throw new JUnitException("Invalid unique ID without segments");
+		}
+		return uniqueId;
+	}
+
+	private TestIdentifier readReference() throws IOException {
+		long offset = this.decoder.position();
+		int reference = this.decoder.readVarInt();
+		if (reference == 0) {
+			return readIdentifier();
+		}
+		return get(this.identifiers, reference - 1, "test identifier reference", reference, offset);
+	}
+
+	private TestExecutionResult readTestExecutionResult() throws IOException {
+		TestExecutionResult.Status status = readEnum(TestExecutionResult.Status.values(),
+			"test execution result status");
+		Throwable throwable = readSerialized(Throwable.class,
+			e -> new JUnitException("Failed to deserialize recorded throwable", e));
+		return switch (status) {
+			case SUCCESSFUL -> TestExecutionResult.successful();
+			case ABORTED -> TestExecutionResult.aborted(throwable);
+			case FAILED -> TestExecutionResult.failed(throwable);
+		};
+	}
+
+	private <E extends Enum<E>> E readEnum(E[] values, String description) throws IOException {
+		long offset = this.decoder.position();
+		byte ordinal = this.decoder.readByte();
+		return get(Arrays.asList(values), ordinal, description, ordinal, offset);
+	}
+
+	/**
+	 * Get the element at the supplied index of the supplied list or throw an
+	 * {@link IOException} if the index, which was decoded from the supplied
+	 * value read at the supplied byte offset, is out of bounds.
+	 */
+	private static <T> T get(List<T> list, int index, String description, long value, long offset)
+			throws IOException {
+		if (index < 0 || index >= list.size()) {
+			throw invalid(description, value, offset);
+		}
+		return list.get(index);
+	}
+
+	private static IOException invalid(String description, long value, long offset) {
+		return new IOException("Invalid %s %d at byte offset %d of event log".formatted(description, value, offset));
+	}
+
+	private <T> @Nullable T readSerialized(Class<T> type, Function<Exception, @Nullable T> fallback)
+			throws IOException {
+		try {
+			return this.decoder.readSerialized(type);
+		}
+		catch (ClassNotFoundException | InvalidClassException e) {
+			return fallback.apply(e);
+		}
+	}
+
+	private TestPlan requireTestPlan() {
+		TestPlan testPlan = this.testPlan;
+		if (testPlan == null) {
+			throw new JUnitException("Event log does not start with a test plan");
+		}
+		return testPlan;
+	}
+
+	/**
+	 * Close the underlying event log.
+	 *
+	 * @throws IOException if the event log could not be closed
+	 */
+	@Override
+	public void close() throws IOException {
+		this.decoder.close();
+	}
+
+	private static final class ReplayClock extends Clock {
+
+		private final AtomicReference<Instant> instant;
+		private final ZoneId zone;
+
+		ReplayClock(AtomicReference<Instant> instant, ZoneId zone) {
+			this.instant = instant;
+			this.zone = zone;
+		}
+
+		void advance(long micros) {
+			this.instant.updateAndGet(current -> current.plusNanos(Math.multiplyExact(micros, 1_000L)));
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return this.zone;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return new ReplayClock(this.instant, zone);
+		}
+
+		@Override
+		public Instant instant() {
+			return this.instant.get();
+		}
+	}
+
+	private static final class ReplayedTestDescriptor extends AbstractTestDescriptor {
+
+		private final Type type;
+		private final String legacyReportingName;
+		private final Set<TestTag> tags;
+
+		ReplayedTestDescriptor(UniqueId uniqueId, String displayName, Type type,
+				@Nullable String legacyReportingName, @Nullable TestSource source, Set<TestTag> tags) {
+			super(uniqueId, displayName, source);
+			this.type = type;
+			this.legacyReportingName = legacyReportingName == null ? displayName : legacyReportingName;
+			this.tags = tags;
+		}
+
+		@Override
+		public Type getType() {
+			return this.type;
+		}
+
+		@Override
+		public String getLegacyReportingName() {
+			return this.legacyReportingName;
+		}
+
+		@Override
+		public Set<TestTag> getTags() {
+			return this.tags;
+		}
+	}
+
+	private record ReplayedConfigurationParameters(Map<String, String> values) implements ConfigurationParameters {
+
+		@Override
+		public Optional<String> get(String key) {
+			return Optional.ofNullable(this.values.get(key));
+		}
+
+		@Override
+		public Optional<Boolean> getBoolean(String key) {
+			return get(key).map(Boolean::parseBoolean);
+		}
+
+		@Override
+		public Set<String> keySet() {
+			return this.values.keySet();
+		}
+	}
+
+	/**
+	 * Output directory provider for the root directory of the recorded test
+	 * plan that creates output directories based on unique ID segments.
+	 */
+	private record ReplayedOutputDirectoryProvider(Path rootDirectory) implements OutputDirectoryProvider {
+
+		private static final Pattern FORBIDDEN_CHARS = Pattern.compile("[^a-z0-9.,_\\-() ]", Pattern.CASE_INSENSITIVE);
+
+		@Override
+		public Path getRootDirectory() {
+			return this.rootDirectory;
+		}
+
+		@Override
+		public Path createOutputDirectory(TestDescriptor testDescriptor) throws IOException {
+			Path directory = this.rootDirectory;
+			for (UniqueId.Segment segment : testDescriptor.getUniqueId().getSegments()) {
+				directory = directory.resolve(FORBIDDEN_CHARS.matcher(segment.getValue()).replaceAll("_"));
+			}
+			return Files.createDirectories(directory);
+		}
+	}
+
+}
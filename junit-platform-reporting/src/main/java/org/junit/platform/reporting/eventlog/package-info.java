@@ -0,0 +1,9 @@
+/**
+ * Support for recording test executions in a compact binary event log and
+ * replaying them to arbitrary test execution listeners.
+ */
+
+@NullMarked
+package org.junit.platform.reporting.eventlog;
+
+import org.jspecify.annotations.NullMarked;
@@ -11,6 +11,7 @@
 package org.junit.platform.reporting.legacy.xml;
 
 import static java.util.Objects.requireNonNull;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
 import java.io.IOException;
@@ -19,12 +20,15 @@ import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.stream.XMLStreamException;
 
 import org.apiguardian.api.API;
 import org.jspecify.annotations.Nullable;
 import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.reporting.ReportEntry;
 import org.junit.platform.launcher.TestExecutionListener;
 import org.junit.platform.launcher.TestIdentifier;
@@ -39,6 +43,15 @@ import org.junit.platform.launcher.TestPlan;
  * de facto standard for JUnit 4 based test reports that was made popular by the
  * Ant build system.
  *
+ * <p>By default, the results of all tests below a root are retained until the
+ * root has finished. If the {@value #STREAMING_ENABLED_PROPERTY_NAME}
+ * configuration parameter is set to {@code true}, the {@code testcase}
+ * elements for each child of a root, such as a test class, are written to a
+ * temporary file in the reports directory as soon as the child has finished.
+ * Results of the root itself that are reported after some of its children
+ * have been written are then reported as a separate {@code testcase}
+ * element for the root instead of being attributed to each test.
+ *
  * @since 1.4
  * @see org.junit.platform.launcher.listeners.LoggingListener
  * @see org.junit.platform.launcher.listeners.SummaryGeneratingListener
@@ -46,11 +59,16 @@ import org.junit.platform.launcher.TestPlan;
 @API(status = STABLE, since = "1.7")
 public class LegacyXmlReportGeneratingListener implements TestExecutionListener {
 
+	static final String STREAMING_ENABLED_PROPERTY_NAME = "junit.platform.reporting.legacy.xml.streaming.enabled";
+
+	private final Map<UniqueId, StreamingXmlReport> streamingReports = new ConcurrentHashMap<>();
+
 	private final Path reportsDir;
 	private final PrintWriter out;
 	private final Clock clock;
 
 	private @Nullable XmlReportData reportData;
+	private boolean streamingEnabled;
 
 	public LegacyXmlReportGeneratingListener(Path reportsDir, PrintWriter out) {
 		this(reportsDir, out, Clock.systemDefaultZone());
@@ -61,7 +79,20 @@ public class LegacyXmlReportGeneratingListener implements TestExecutionListener
 		this(Path.of(reportsDir), out, clock);
 	}
 
-	private LegacyXmlReportGeneratingListener(Path reportsDir, PrintWriter out, Clock clock) {
+	/**
+	 * Create a new listener that uses the supplied clock to determine the
+	 * timestamps and durations written to the reports.
+	 *
+	 * <p>This is useful, for example, to generate reports for events replayed
+	 * by an {@link org.junit.platform.reporting.eventlog.EventLogReader}.
+	 *
+	 * @param reportsDir the directory to write the reports to; never {@code null}
+	 * @param out the writer to print diagnostic messages to; never {@code null}
+	 * @param clock the clock to use; never {@code null}
+	 * @since 6.0
+	 */
+	@API(status = EXPERIMENTAL, since = "6.0")
+	public LegacyXmlReportGeneratingListener(Path reportsDir, PrintWriter out, Clock clock) {
 		this.reportsDir = reportsDir;
 		this.out = out;
 		this.clock = clock;
@@ -70,6 +101,8 @@ public class LegacyXmlReportGeneratingListener implements TestExecutionListener
 	@Override
 	public void testPlanExecutionStarted(TestPlan testPlan) {
 		this.reportData = new XmlReportData(testPlan, clock);
+		this.streamingEnabled = testPlan.getConfigurationParameters().getBoolean(
+			STREAMING_ENABLED_PROPERTY_NAME).orElse(false);
 		try {
 			Files.createDirectories(this.reportsDir);
 		}
@@ -81,17 +114,23 @@ public class LegacyXmlReportGeneratingListener implements TestExecutionListener
 	@Override
 	public void testPlanExecutionFinished(TestPlan testPlan) {
 		this.reportData = null;
+		this.streamingReports.values().forEach(this::discardSafely);
+		this.streamingReports.clear();
 	}
 
 	@Override
 	public void executionSkipped(TestIdentifier testIdentifier, String reason) {
 		requiredReportData().markSkipped(testIdentifier, reason);
+		spillInCaseOfChildOfRoot(testIdentifier);
 		writeXmlReportInCaseOfRoot(testIdentifier);
 	}
 
 	@Override
 	public void executionStarted(TestIdentifier testIdentifier) {
 		requiredReportData().markStarted(testIdentifier);
+		if (this.streamingEnabled && isRoot(testIdentifier)) {
+			startStreamingReport(testIdentifier);
+		}
 	}
 
 	@Override
@@ -102,26 +141,65 @@ public class LegacyXmlReportGeneratingListener implements TestExecutionListener
 	@Override
 	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult result) {
 		requiredReportData().markFinished(testIdentifier, result);
+		spillInCaseOfChildOfRoot(testIdentifier);
 		writeXmlReportInCaseOfRoot(testIdentifier);
 	}
 
+	private void startStreamingReport(TestIdentifier root) {
+		try {
+			this.streamingReports.put(root.getUniqueIdObject(),
+				StreamingXmlReport.create(requiredReportData(), root, this.reportsDir));
+		}
+		catch (IOException e) {
+			printException("Could not create temporary file for streaming XML report in: " + this.reportsDir, e);
+		}
+	}
+
+	private void spillInCaseOfChildOfRoot(TestIdentifier testIdentifier) {
+		testIdentifier.getParentIdObject() //
+				.map(this.streamingReports::get) //
+				.ifPresent(streamingReport -> {
+					try {
+						streamingReport.spill(testIdentifier);
+					}
+					catch (XMLStreamException e) {
+						printException("Could not write XML report for: " + testIdentifier.getDisplayName(), e);
+					}
+				});
+	}
+
 	private void writeXmlReportInCaseOfRoot(TestIdentifier testIdentifier) {
 		if (isRoot(testIdentifier)) {
-			String rootName = testIdentifier.getUniqueIdObject().getSegments().get(0).getValue();
+			String rootName = testIdentifier.getUniqueIdObject().getRoot().orElseThrow().getValue();
 			writeXmlReportSafely(testIdentifier, rootName);
 		}
 	}
 
 	private void writeXmlReportSafely(TestIdentifier testIdentifier, String rootName) {
 		Path xmlFile = this.reportsDir.resolve("TEST-" + rootName + ".xml");
+		StreamingXmlReport streamingReport = this.streamingReports.remove(testIdentifier.getUniqueIdObject());
 		try (Writer fileWriter = Files.newBufferedWriter(xmlFile)) {
-			new XmlReportWriter(requiredReportData()).writeXmlReport(testIdentifier, fileWriter);
+			if (streamingReport != null) {
+				streamingReport.writeXmlReport(fileWriter);
+			}
+			else {
+				new XmlReportWriter(requiredReportData()).writeXmlReport(testIdentifier, fileWriter);
+			}
 		}
 		catch (XMLStreamException | IOException e) {
 			printException("Could not write XML report: " + xmlFile, e);
 		}
 	}
 
+	private void discardSafely(StreamingXmlReport streamingReport) {
+		try {
+			streamingReport.discard();
+		}
+		catch (IOException e) {
+			printException("Could not delete temporary file for streaming XML report", e);
+		}
+	}
+
 	private XmlReportData requiredReportData() {
 		return requireNonNull(this.reportData);
 	}
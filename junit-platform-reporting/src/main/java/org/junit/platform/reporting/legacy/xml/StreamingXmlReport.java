@@ -0,0 +1,134 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.reporting.legacy.xml;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.reporting.legacy.xml.XmlReportWriter.AggregatedTestResult.Type;
+
+/**
+ * XML report for a single root that writes the {@code testcase} elements of
+ * each child of the root to a temporary spill file as soon as the child has
+ * finished and discards the data recorded for it.
+ *
+ * <p>Once the root has finished, the final report is written with the test
+ * counts accumulated while spilling, and the contents of the spill file are
+ * copied into it. Thus, the results, report entries, and captured output of
+ * a test only need to be retained until the child of the root that contains
+ * it has finished.
+ *
+ * @since 6.0
+ * @see LegacyXmlReportGeneratingListener#STREAMING_ENABLED_PROPERTY_NAME
+ */
+class StreamingXmlReport {
+
+	static StreamingXmlReport create(XmlReportData reportData, TestIdentifier root, Path reportsDir)
+			throws IOException {
+		Path spillFile = Files.createTempFile(reportsDir, "TEST-", ".xml.tmp");
+		return new StreamingXmlReport(reportData, root, spillFile, Files.newBufferedWriter(spillFile));
+	}
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Map<Type, Long> counts = new EnumMap<>(Type.class);
+	private final Set<TestIdentifier> spilledChildren = new HashSet<>();
+
+	private final XmlReportData reportData;
+	private final TestIdentifier root;
+	private final Path spillFile;
+	private final Writer spillWriter;
+
+	private StreamingXmlReport(XmlReportData reportData, TestIdentifier root, Path spillFile, Writer spillWriter) {
+		this.reportData = reportData;
+		this.root = root;
+		this.spillFile = spillFile;
+		this.spillWriter = spillWriter;
+	}
+
+	/**
+	 * Write the {@code testcase} elements of the supplied child of the root
+	 * and its descendants to the spill file and discard their data.
+	 */
+	void spill(TestIdentifier child) throws XMLStreamException {
+		this.lock.lock();
+		try {
+			if (this.spilledChildren.add(child)) {
+				writeTestcases(child);
+				TestPlan testPlan = this.reportData.getTestPlan();
+				Set<TestIdentifier> subtree = new HashSet<>(testPlan.getDescendants(child));
+				subtree.add(child);
+				this.reportData.discard(subtree);
+			}
+		}
+		finally {
+			this.lock.unlock();
+		}
+	}
+
+	/**
+	 * Write the final report to the supplied writer, including all children
+	 * of the root that have not been spilled yet, and delete the spill file.
+	 */
+	void writeXmlReport(Writer out) throws XMLStreamException, IOException {
+		this.lock.lock();
+		try {
+			XmlReportWriter writer = new XmlReportWriter(this.reportData);
+			for (TestIdentifier child : this.reportData.getTestPlan().getChildren(this.root)) {
+				if (!this.spilledChildren.contains(child)) {
+					writeTestcases(child);
+				}
+			}
+			if (!this.spilledChildren.isEmpty()) {
+				writer.writeRootTestcaseIfNotSuccessful(this.root, this.spillWriter) //
+						.ifPresent(this::count);
+			}
+			this.spillWriter.close();
+			writer.writeXmlReport(this.root, this.counts, this.spillFile, out);
+		}
+		finally {
+			this.lock.unlock();
+			discard();
+		}
+	}
+
+	private void writeTestcases(TestIdentifier child) throws XMLStreamException {
+		new XmlReportWriter(this.reportData).writeTestcases(child, this.spillWriter) //
+				.forEach((type, count) -> this.counts.merge(type, count, Long::sum));
+	}
+
+	private void count(Type type) {
+		this.counts.merge(type, 1L, Long::sum);
+	}
+
+	/**
+	 * Close and delete the spill file.
+	 */
+	void discard() throws IOException {
+		try {
+			this.spillWriter.close();
+		}
+		finally {
+			Files.deleteIfExists(this.spillFile);
+		}
+	}
+
+}
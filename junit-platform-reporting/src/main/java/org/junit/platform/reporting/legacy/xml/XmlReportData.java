@@ -17,6 +17,7 @@ import java.time.Clock;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -84,6 +85,21 @@ class XmlReportData {
 		entries.add(entry);
 	}
 
+	/**
+	 * Discard all data recorded for the supplied test identifiers.
+	 *
+	 * @since 6.0
+	 */
+	void discard(Collection<TestIdentifier> testIdentifiers) {
+		for (TestIdentifier testIdentifier : testIdentifiers) {
+			this.finishedTests.remove(testIdentifier);
+			this.skippedTests.remove(testIdentifier);
+			this.startInstants.remove(testIdentifier);
+			this.endInstants.remove(testIdentifier);
+			this.reportEntries.remove(testIdentifier);
+		}
+	}
+
 	boolean wasSkipped(TestIdentifier testIdentifier) {
 		return findSkippedAncestor(testIdentifier).isPresent();
 	}
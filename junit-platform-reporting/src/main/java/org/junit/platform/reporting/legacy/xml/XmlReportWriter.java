@@ -32,9 +32,12 @@ import static org.junit.platform.reporting.legacy.xml.XmlReportWriter.Aggregated
 import static org.junit.platform.reporting.legacy.xml.XmlReportWriter.AggregatedTestResult.Type.SUCCESS;
 
 import java.io.IOException;
+import java.io.Reader;
 import java.io.Writer;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.text.NumberFormat;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -49,6 +52,7 @@ import java.util.Optional;
 import java.util.Properties;
 import java.util.TreeSet;
 import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
 import javax.xml.stream.XMLOutputFactory;
 import javax.xml.stream.XMLStreamException;
@@ -98,6 +102,65 @@ class XmlReportWriter {
 		writeXmlReport(rootDescriptor, tests, out);
 	}
 
+	/**
+	 * Write the {@code testcase} elements for the supplied descriptor and its
+	 * descendants without any enclosing elements.
+	 *
+	 * @return the number of written test cases per type
+	 * @since 6.0
+	 * @see #writeXmlReport(TestIdentifier, Map, Path, Writer)
+	 */
+	Map<Type, Long> writeTestcases(TestIdentifier descriptor, Writer out) throws XMLStreamException {
+		TestPlan testPlan = this.reportData.getTestPlan();
+		Map<TestIdentifier, AggregatedTestResult> tests = Stream.concat(Stream.of(descriptor),
+			testPlan.getDescendants(descriptor).stream()) //
+				.filter(testIdentifier -> shouldInclude(testPlan, testIdentifier)) //
+				.collect(toMap(identity(), this::toAggregatedResult)); //
+		try (XmlReport report = new XmlReport(out)) {
+			report.writeTestcases(tests);
+		}
+		return countByType(tests.values());
+	}
+
+	/**
+	 * Write a {@code testcase} element for the supplied root if it did not
+	 * succeed.
+	 *
+	 * <p>This is used when the {@code testcase} elements of its descendants
+	 * have already been written so that the result of the root can no longer
+	 * be attributed to them.
+	 *
+	 * @return the type of the written test case, if any
+	 * @since 6.0
+	 */
+	Optional<Type> writeRootTestcaseIfNotSuccessful(TestIdentifier rootDescriptor, Writer out)
+			throws XMLStreamException {
+		AggregatedTestResult result = toAggregatedResult(rootDescriptor);
+		if (result.type == SUCCESS) {
+			return Optional.empty();
+		}
+		try (XmlReport report = new XmlReport(out)) {
+			report.writeTestcases(Map.of(rootDescriptor, result));
+		}
+		return Optional.of(result.type);
+	}
+
+	/**
+	 * Write an XML report for the supplied root that includes the
+	 * {@code testcase} elements previously written to the supplied file.
+	 *
+	 * @param counts the number of test cases per type in the supplied file
+	 * @since 6.0
+	 * @see #writeTestcases(TestIdentifier, Writer)
+	 */
+	void writeXmlReport(TestIdentifier rootDescriptor, Map<Type, Long> counts, Path testcases, Writer out)
+			throws XMLStreamException {
+
+		try (XmlReport report = new XmlReport(out)) {
+			report.write(rootDescriptor, counts, () -> report.copy(testcases));
+		}
+	}
+
 	private AggregatedTestResult toAggregatedResult(TestIdentifier testIdentifier) {
 		if (this.reportData.wasSkipped(testIdentifier)) {
 			return AggregatedTestResult.skipped();
@@ -130,13 +193,18 @@ class XmlReportWriter {
 
 		void write(TestIdentifier testIdentifier, Map<TestIdentifier, AggregatedTestResult> tests)
 				throws XMLStreamException {
+			write(testIdentifier, countByType(tests.values()), () -> writeTestcases(tests));
+		}
+
+		void write(TestIdentifier testIdentifier, Map<Type, Long> counts, XmlContent testcases)
+				throws XMLStreamException {
 			xml.writeStartDocument("UTF-8", "1.0");
 			newLine();
-			writeTestsuite(testIdentifier, tests);
+			writeTestsuite(testIdentifier, counts, testcases);
 			xml.writeEndDocument();
 		}
 
-		private void writeTestsuite(TestIdentifier testIdentifier, Map<TestIdentifier, AggregatedTestResult> tests)
+		private void writeTestsuite(TestIdentifier testIdentifier, Map<Type, Long> counts, XmlContent testcases)
 				throws XMLStreamException {
 
 			// NumberFormat is not thread-safe. Thus, we instantiate it here and pass it to
@@ -145,14 +213,12 @@ class XmlReportWriter {
 
 			xml.writeStartElement("testsuite");
 
-			writeSuiteAttributes(testIdentifier, tests.values(), numberFormat);
+			writeSuiteAttributes(testIdentifier, counts, numberFormat);
 
 			newLine();
 			writeSystemProperties();
 
-			for (Entry<TestIdentifier, AggregatedTestResult> entry : tests.entrySet()) {
-				writeTestcase(entry.getKey(), entry.getValue(), numberFormat);
-			}
+			testcases.write();
 
 			writeOutputElement("system-out", formatNonStandardAttributesAsString(testIdentifier));
 
@@ -160,19 +226,38 @@ class XmlReportWriter {
 			newLine();
 		}
 
-		private void writeSuiteAttributes(TestIdentifier testIdentifier, Collection<AggregatedTestResult> testResults,
+		void writeTestcases(Map<TestIdentifier, AggregatedTestResult> tests) throws XMLStreamException {
+			NumberFormat numberFormat = NumberFormat.getInstance(Locale.US);
+			for (Entry<TestIdentifier, AggregatedTestResult> entry : tests.entrySet()) {
+				writeTestcase(entry.getKey(), entry.getValue(), numberFormat);
+			}
+		}
+
+		/**
+		 * Copy the contents of the supplied file, which must consist of
+		 * well-formed XML elements, to the report.
+		 */
+		void copy(Path file) throws XMLStreamException {
+			xml.flush();
+			try (Reader reader = Files.newBufferedReader(file)) {
+				reader.transferTo(out);
+			}
+			catch (IOException e) {
+				throw new XMLStreamException("Failed to copy " + file, e);
+			}
+		}
+
+		private void writeSuiteAttributes(TestIdentifier testIdentifier, Map<Type, Long> counts,
 				NumberFormat numberFormat) throws XMLStreamException {
 
 			writeAttributeSafely("name", testIdentifier.getDisplayName());
-			writeTestCounts(testResults);
+			writeTestCounts(counts);
 			writeAttributeSafely("time", getTime(testIdentifier, numberFormat));
 			writeAttributeSafely("hostname", getHostname().orElse("<unknown host>"));
 			writeAttributeSafely("timestamp", ISO_LOCAL_DATE_TIME.format(getCurrentDateTime()));
 		}
 
-		private void writeTestCounts(Collection<AggregatedTestResult> testResults) throws XMLStreamException {
-			Map<Type, Long> counts = testResults.stream().map(it -> it.type).collect(
-				groupingBy(identity(), counting()));
+		private void writeTestCounts(Map<Type, Long> counts) throws XMLStreamException {
 			long total = counts.values().stream().mapToLong(Long::longValue).sum();
 			writeAttributeSafely("tests", String.valueOf(total));
 			writeAttributeSafely("skipped", counts.getOrDefault(SKIPPED, 0L).toString());
@@ -376,6 +461,17 @@ class XmlReportWriter {
 		}
 	}
 
+	private static Map<Type, Long> countByType(Collection<AggregatedTestResult> testResults) {
+		return testResults.stream().map(it -> it.type).collect(groupingBy(identity(), counting()));
+	}
+
+	@FunctionalInterface
+	private interface XmlContent {
+
+		void write() throws XMLStreamException;
+
+	}
+
 	static String replaceIllegalCharacters(String text) {
 		if (text.codePoints().allMatch(XmlReportWriter::isAllowedXmlCharacter)) {
 			return text;
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.reporting.open.xml;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.Preconditions;
+
+/**
+ * Executes write actions in order in a dedicated thread.
+ *
+ * <p>Actions are submitted to a bounded queue; when it is full, submitting
+ * threads block until the writer thread has caught up. The writer thread
+ * drains all queued actions at once and executes them as a batch.
+ *
+ * <p>Once an action has failed, subsequent actions are discarded and the
+ * failure is rethrown by {@link #close()}.
+ *
+ * @since 6.0
+ * @see OpenTestReportGeneratingListener#ASYNC_ENABLED_PROPERTY_NAME
+ */
+class BackgroundWriter implements AutoCloseable {
+
+	private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+
+	private static final Runnable CLOSE = () -> {
+	};
+
+	private final BlockingQueue<Runnable> queue;
+	private final Thread thread;
+
+	// only accessed by writer thread until it has terminated
+	private @Nullable Throwable failure;
+
+	private volatile boolean closed;
+
+	BackgroundWriter(int queueSize) {
+		Preconditions.condition(queueSize > 0, () -> "%s must be a positive integer".formatted(
+			OpenTestReportGeneratingListener.ASYNC_QUEUE_SIZE_PROPERTY_NAME));
+		this.queue = new ArrayBlockingQueue<>(queueSize);
+		this.thread = new Thread(this::processActions,
+			"junit-open-test-report-writer-" + THREAD_NUMBER.incrementAndGet());
+		this.thread.setDaemon(true);
+		this.thread.start();
+	}
+
+	/**
+	 * Submit the supplied action for execution in the writer thread, waiting
+	 * for space in the queue if necessary.
+	 */
+	void submit(Runnable action) {
+		Preconditions.condition(!this.closed, "Writer has already been closed");
+		putUninterruptibly(action);
+	}
+
+	private void processActions() {
+		List<Runnable> batch = new ArrayList<>();
+		while (true) {
+			batch.add(takeUninterruptibly());
+			this.queue.drainTo(batch);
+			for (Runnable action : batch) {
+				if (action == CLOSE) {
+					return;
+				}
+				if (this.failure == null) {
+					try {
+						action.run();
+					}
+					catch (Throwable t) {
+						this.failure = t;
+					}
+				}
+			}
+			batch.clear();
+		}
+	}
+
+	/**
+	 * Execute all submitted actions, stop the writer thread, and rethrow the
+	 * first failure of an action, if any.
+	 */
+	@Override
+	public void close() {
+		if (this.closed) {
+			return;
+		}
+		this.closed = true;
+		putUninterruptibly(CLOSE);
+		joinUninterruptibly();
+		Throwable failure = this.failure;
+		if (failure != null) {
+			throw ExceptionUtils.throwAsUncheckedException(failure);
+		}
+	}
+
+	private void putUninterruptibly(Runnable action) {
+		boolean interrupted = false;
+		while (true) {
+			try {
+				this.queue.put(action);
+				break;
+			}
+			catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private Runnable takeUninterruptibly() {
+		while (true) {
+			try {
+				return this.queue.take();
+			}
+			catch (InterruptedException ignored) {
+				// only stopped via CLOSE
+			}
+		}
+	}
+
+	private void joinUninterruptibly() {
+		boolean interrupted = false;
+		while (this.thread.isAlive()) {
+			try {
+				this.thread.join();
+			}
+			catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
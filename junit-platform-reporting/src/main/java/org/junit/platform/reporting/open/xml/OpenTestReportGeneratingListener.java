@@ -95,6 +95,12 @@ import org.opentest4j.reporting.schema.Namespace;
 /**
  * Open Test Reporting events XML generating test execution listener.
  *
+ * <p>By default, events are serialized to XML in the threads that report
+ * them. If the {@value #ASYNC_ENABLED_PROPERTY_NAME} configuration parameter
+ * is set to {@code true}, events are instead submitted to a bounded queue and
+ * serialized in order by a dedicated writer thread, which also collects the
+ * infrastructure and Git information written at the start of the report.
+ *
  * @since 1.9
  */
 @API(status = MAINTAINED, since = "1.13.3")
@@ -102,6 +108,9 @@ public class OpenTestReportGeneratingListener implements TestExecutionListener {
 
 	static final String ENABLED_PROPERTY_NAME = "junit.platform.reporting.open.xml.enabled";
 	static final String GIT_ENABLED_PROPERTY_NAME = "junit.platform.reporting.open.xml.git.enabled";
+	static final String ASYNC_ENABLED_PROPERTY_NAME = "junit.platform.reporting.open.xml.async.enabled";
+	static final String ASYNC_QUEUE_SIZE_PROPERTY_NAME = "junit.platform.reporting.open.xml.async.queue.size";
+	static final int ASYNC_QUEUE_SIZE_DEFAULT = 1024;
 
 	private final AtomicInteger idCounter = new AtomicInteger();
 	private final Map<UniqueId, String> inProgressIds = new ConcurrentHashMap<>();
@@ -109,6 +118,7 @@ public class OpenTestReportGeneratingListener implements TestExecutionListener {
 	private final Path workingDir;
 
 	private @Nullable Path outputDir;
+	private @Nullable BackgroundWriter backgroundWriter;
 
 	@SuppressWarnings("unused") // Used via ServiceLoader
 	public OpenTestReportGeneratingListener() {
@@ -131,9 +141,14 @@ public class OpenTestReportGeneratingListener implements TestExecutionListener {
 					.build();
 			outputDir = testPlan.getOutputDirectoryProvider().getRootDirectory();
 			Path eventsXml = outputDir.resolve("open-test-report.xml");
+			if (isAsyncEnabled(config)) {
+				int queueSize = config.get(ASYNC_QUEUE_SIZE_PROPERTY_NAME, Integer::valueOf) //
+						.orElse(ASYNC_QUEUE_SIZE_DEFAULT);
+				backgroundWriter = new BackgroundWriter(queueSize);
+			}
 			try {
 				eventsFileWriter = Events.createDocumentWriter(namespaceRegistry, eventsXml);
-				reportInfrastructure(config);
+				write(() -> reportInfrastructure(config));
 			}
 			catch (Exception e) {
 				throw new JUnitException("Failed to initialize XML events file: " + eventsXml, e);
@@ -141,10 +156,28 @@ public class OpenTestReportGeneratingListener implements TestExecutionListener {
 		}
 	}
 
+	/**
+	 * Execute the supplied write action directly or submit it to the
+	 * background writer, if enabled.
+	 */
+	private void write(Runnable action) {
+		BackgroundWriter backgroundWriter = this.backgroundWriter;
+		if (backgroundWriter == null) {
+			action.run();
+		}
+		else {
+			backgroundWriter.submit(action);
+		}
+	}
+
 	private boolean isEnabled(ConfigurationParameters config) {
 		return config.getBoolean(ENABLED_PROPERTY_NAME).orElse(false);
 	}
 
+	private boolean isAsyncEnabled(ConfigurationParameters config) {
+		return config.getBoolean(ASYNC_ENABLED_PROPERTY_NAME).orElse(false);
+	}
+
 	private boolean isGitEnabled(ConfigurationParameters config) {
 		return config.getBoolean(GIT_ENABLED_PROPERTY_NAME).orElse(false);
 	}
@@ -186,6 +219,19 @@ public class OpenTestReportGeneratingListener implements TestExecutionListener {
 
 	@Override
 	public void testPlanExecutionFinished(TestPlan testPlan) {
+		try {
+			BackgroundWriter backgroundWriter = this.backgroundWriter;
+			if (backgroundWriter != null) {
+				this.backgroundWriter = null;
+				backgroundWriter.close();
+			}
+		}
+		finally {
+			closeEventsFileWriter();
+		}
+	}
+
+	private void closeEventsFileWriter() {
 		try {
 			eventsFileWriter.close();
 		}
@@ -199,25 +245,31 @@ public class OpenTestReportGeneratingListener implements TestExecutionListener {
 
 	@Override
 	public void executionSkipped(TestIdentifier testIdentifier, String reason) {
-		String id = String.valueOf(idCounter.incrementAndGet());
-		reportStarted(testIdentifier, id);
-		eventsFileWriter.append(finished(id, Instant.now()), //
-			finished -> finished.append(result(Result.Status.SKIPPED), result -> {
-				if (isNotBlank(reason)) {
-					result.append(reason(reason));
-				}
-			}));
+		Instant now = Instant.now();
+		write(() -> {
+			String id = String.valueOf(idCounter.incrementAndGet());
+			reportStarted(testIdentifier, id, now);
+			eventsFileWriter.append(finished(id, now), //
+				finished -> finished.append(result(Result.Status.SKIPPED), result -> {
+					if (isNotBlank(reason)) {
+						result.append(reason(reason));
+					}
+				}));
+		});
 	}
 
 	@Override
 	public void executionStarted(TestIdentifier testIdentifier) {
-		String id = String.valueOf(idCounter.incrementAndGet());
-		inProgressIds.put(testIdentifier.getUniqueIdObject(), id);
-		reportStarted(testIdentifier, id);
+		Instant now = Instant.now();
+		write(() -> {
+			String id = String.valueOf(idCounter.incrementAndGet());
+			inProgressIds.put(testIdentifier.getUniqueIdObject(), id);
+			reportStarted(testIdentifier, id, now);
+		});
 	}
 
-	private void reportStarted(TestIdentifier testIdentifier, String id) {
-		eventsFileWriter.append(started(id, Instant.now(), testIdentifier.getDisplayName()), started -> {
+	private void reportStarted(TestIdentifier testIdentifier, String id, Instant time) {
+		eventsFileWriter.append(started(id, time, testIdentifier.getDisplayName()), started -> {
 			testIdentifier.getParentIdObject().ifPresent(parentId -> started.withParentId(inProgressIds.get(parentId)));
 			started.append(metadata(), metadata -> {
 				if (!testIdentifier.getTags().isEmpty()) {
@@ -273,23 +325,26 @@ public class OpenTestReportGeneratingListener implements TestExecutionListener {
 
 	@Override
 	public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
-		String id = inProgressIds.get(testIdentifier.getUniqueIdObject());
-		eventsFileWriter.append(reported(id, Instant.now()), //
-			reported -> reported.append(attachments(), //
-				attachments -> {
-					Map<String, String> keyValuePairs = entry.getKeyValuePairs();
-					if (keyValuePairs.containsKey(STDOUT_REPORT_ENTRY_KEY)
-							|| keyValuePairs.containsKey(STDERR_REPORT_ENTRY_KEY)) {
-						attachOutput(attachments, entry.getTimestamp(), keyValuePairs.get(STDOUT_REPORT_ENTRY_KEY),
-							"stdout");
-						attachOutput(attachments, entry.getTimestamp(), keyValuePairs.get(STDERR_REPORT_ENTRY_KEY),
-							"stderr");
-					}
-					else {
-						attachments.append(data(entry.getTimestamp()), //
-							data -> keyValuePairs.forEach(data::addEntry));
-					}
-				}));
+		Instant now = Instant.now();
+		write(() -> {
+			String id = inProgressIds.get(testIdentifier.getUniqueIdObject());
+			eventsFileWriter.append(reported(id, now), //
+				reported -> reported.append(attachments(), //
+					attachments -> {
+						Map<String, String> keyValuePairs = entry.getKeyValuePairs();
+						if (keyValuePairs.containsKey(STDOUT_REPORT_ENTRY_KEY)
+								|| keyValuePairs.containsKey(STDERR_REPORT_ENTRY_KEY)) {
+							attachOutput(attachments, entry.getTimestamp(),
+								keyValuePairs.get(STDOUT_REPORT_ENTRY_KEY), "stdout");
+							attachOutput(attachments, entry.getTimestamp(),
+								keyValuePairs.get(STDERR_REPORT_ENTRY_KEY), "stderr");
+						}
+						else {
+							attachments.append(data(entry.getTimestamp()), //
+								data -> keyValuePairs.forEach(data::addEntry));
+						}
+					}));
+		});
 	}
 
 	private static void attachOutput(Attachments attachments, LocalDateTime timestamp, @Nullable String content,
@@ -301,22 +356,29 @@ public class OpenTestReportGeneratingListener implements TestExecutionListener {
 
 	@Override
 	public void fileEntryPublished(TestIdentifier testIdentifier, FileEntry entry) {
-		String id = inProgressIds.get(testIdentifier.getUniqueIdObject());
-		eventsFileWriter.append(reported(id, Instant.now()), //
-			reported -> reported.append(attachments(), attachments -> attachments.append(file(entry.getTimestamp()), //
-				file -> {
-					file.withPath(requireNonNull(outputDir).relativize(entry.getPath()).toString());
-					entry.getMediaType().ifPresent(file::withMediaType);
-				})));
+		Instant now = Instant.now();
+		write(() -> {
+			String id = inProgressIds.get(testIdentifier.getUniqueIdObject());
+			eventsFileWriter.append(reported(id, now), //
+				reported -> reported.append(attachments(),
+					attachments -> attachments.append(file(entry.getTimestamp()), //
+						file -> {
+							file.withPath(requireNonNull(outputDir).relativize(entry.getPath()).toString());
+							entry.getMediaType().ifPresent(file::withMediaType);
+						})));
+		});
 	}
 
 	@Override
 	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
-		String id = inProgressIds.remove(testIdentifier.getUniqueIdObject());
-		eventsFileWriter.append(finished(id, Instant.now()), //
-			finished -> finished.append(result(convertStatus(testExecutionResult.getStatus())), //
-				result -> testExecutionResult.getThrowable() //
-						.ifPresent(throwable -> result.append(throwable(throwable)))));
+		Instant now = Instant.now();
+		write(() -> {
+			String id = inProgressIds.remove(testIdentifier.getUniqueIdObject());
+			eventsFileWriter.append(finished(id, now), //
+				finished -> finished.append(result(convertStatus(testExecutionResult.getStatus())), //
+					result -> testExecutionResult.getThrowable() //
+							.ifPresent(throwable -> result.append(throwable(throwable)))));
+		});
 	}
 
 	private Result.Status convertStatus(TestExecutionResult.Status status) {
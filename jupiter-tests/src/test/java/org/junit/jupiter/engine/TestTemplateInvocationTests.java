@@ -18,6 +18,8 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.engine.Constants.TEMPLATE_INVOCATIONS_LAZY_DISPLAY_NAMES_ENABLED_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.TEMPLATE_INVOCATIONS_PREFETCH_SIZE_PROPERTY_NAME;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectMethod;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
@@ -40,6 +42,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -190,6 +193,65 @@ class TestTemplateInvocationTests extends AbstractJupiterTestEngineTests {
 				event(container("templateWithTwoInvocationsFromSingleExtension"), finishedSuccessfully())));
 	}
 
+	@Test
+	void invocationsAreRegisteredAndExecutedInOrderWhenPrefetchingInvocations() {
+		LauncherDiscoveryRequest request = request() //
+				.selectors(selectMethod(MyTestTemplateTestCase.class, "templateWithTwoInvocationsFromSingleExtension")) //
+				.configurationParameter(TEMPLATE_INVOCATIONS_PREFETCH_SIZE_PROPERTY_NAME, "1") //
+				.build();
+
+		EngineExecutionResults executionResults = executeTests(request);
+
+		executionResults.allEvents().assertEventsMatchExactly( //
+			wrappedInContainerEvents(MyTestTemplateTestCase.class, //
+				event(container("templateWithTwoInvocationsFromSingleExtension"), started()), //
+				event(dynamicTestRegistered("test-template-invocation:#1"), displayName("[1]")), //
+				event(test("test-template-invocation:#1"), started()), //
+				event(test("test-template-invocation:#1"),
+					finishedWithFailure(message("invocation is expected to fail"))), //
+				event(dynamicTestRegistered("test-template-invocation:#2"), displayName("[2]")), //
+				event(test("test-template-invocation:#2"), started()), //
+				event(test("test-template-invocation:#2"),
+					finishedWithFailure(message("invocation is expected to fail"))), //
+				event(container("templateWithTwoInvocationsFromSingleExtension"), finishedSuccessfully())));
+	}
+
+	@Test
+	void invocationsProvidedBeforeStreamFailsAreExecutedWhenPrefetchingInvocations() {
+		LauncherDiscoveryRequest request = request() //
+				.selectors(selectMethod(MyTestTemplateTestCase.class, "templateWithFailingStream")) //
+				.configurationParameter(TEMPLATE_INVOCATIONS_PREFETCH_SIZE_PROPERTY_NAME, "1") //
+				.build();
+
+		EngineExecutionResults executionResults = executeTests(request);
+
+		executionResults.allEvents().assertEventsMatchExactly( //
+			wrappedInContainerEvents(MyTestTemplateTestCase.class, //
+				event(container("templateWithFailingStream"), started()), //
+				event(dynamicTestRegistered("test-template-invocation:#1")), //
+				event(test("test-template-invocation:#1"), started()), //
+				event(test("test-template-invocation:#1"), finishedSuccessfully()), //
+				event(container("templateWithFailingStream"), finishedWithFailure(message("stream failed")))));
+	}
+
+	@Test
+	void displayNamesOfInvocationsAreComputedWhenFirstRequestedIfLazyDisplayNamesAreEnabled() {
+		InvocationContextProviderCountingDisplayNames.displayNamesComputed.set(0);
+		LauncherDiscoveryRequest request = request() //
+				.selectors(selectMethod(MyTestTemplateTestCase.class, "templateWithCountedDisplayNames")) //
+				.configurationParameter(TEMPLATE_INVOCATIONS_LAZY_DISPLAY_NAMES_ENABLED_PROPERTY_NAME, "true") //
+				.build();
+
+		EngineExecutionResults executionResults = executeTests(request);
+
+		assertThat(InvocationContextProviderCountingDisplayNames.displayNamesComputed).hasValue(0);
+		executionResults.allEvents().dynamicallyRegistered().assertEventsMatchExactly( //
+			event(test("test-template-invocation:#1"), displayName("invocation 1")), //
+			event(test("test-template-invocation:#2"), displayName("invocation 2")));
+		executionResults.testEvents().assertStatistics(stats -> stats.started(2).succeeded(2));
+		assertThat(InvocationContextProviderCountingDisplayNames.displayNamesComputed).hasValue(2);
+	}
+
 	@Test
 	void singleInvocationIsExecutedWhenDiscoveredByUniqueId() {
 		UniqueId uniqueId = discoverUniqueId(MyTestTemplateTestCase.class,
@@ -532,6 +594,16 @@ class TestTemplateInvocationTests extends AbstractJupiterTestEngineTests {
 		@TestTemplate
 		void templateWithCloseableStream() {
 		}
+
+		@ExtendWith(InvocationContextProviderWithFailingStream.class)
+		@TestTemplate
+		void templateWithFailingStream() {
+		}
+
+		@ExtendWith(InvocationContextProviderCountingDisplayNames.class)
+		@TestTemplate
+		void templateWithCountedDisplayNames() {
+		}
 	}
 
 	@ExtendWith(StringParameterResolvingInvocationContextProvider.class)
@@ -861,6 +933,45 @@ class TestTemplateInvocationTests extends AbstractJupiterTestEngineTests {
 		}
 	}
 
+	private static class InvocationContextProviderWithFailingStream implements TestTemplateInvocationContextProvider {
+
+		@Override
+		public boolean supportsTestTemplate(ExtensionContext context) {
+			return true;
+		}
+
+		@Override
+		public Stream<TestTemplateInvocationContext> provideTestTemplateInvocationContexts(ExtensionContext context) {
+			return Stream.of(1, 2).map(i -> {
+				if (i == 2) {
+					throw new IllegalStateException("stream failed");
+				}
+				return emptyTestTemplateInvocationContext();
+			});
+		}
+	}
+
+	private static class InvocationContextProviderCountingDisplayNames implements TestTemplateInvocationContextProvider {
+
+		private static final AtomicInteger displayNamesComputed = new AtomicInteger();
+
+		@Override
+		public boolean supportsTestTemplate(ExtensionContext context) {
+			return true;
+		}
+
+		@Override
+		public Stream<TestTemplateInvocationContext> provideTestTemplateInvocationContexts(ExtensionContext context) {
+			return Stream.of(1, 2).map(__ -> new TestTemplateInvocationContext() {
+				@Override
+				public String getDisplayName(int invocationIndex) {
+					displayNamesComputed.incrementAndGet();
+					return "invocation " + invocationIndex;
+				}
+			});
+		}
+	}
+
 	private static TestTemplateInvocationContext emptyTestTemplateInvocationContext() {
 		return new TestTemplateInvocationContext() {
 		};
@@ -11,6 +11,7 @@
 package org.junit.jupiter.engine.descriptor;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -21,7 +22,11 @@ import static org.junit.jupiter.api.Named.named;
 import static org.junit.jupiter.api.TestInstance.Lifecycle.PER_METHOD;
 import static org.junit.platform.launcher.core.OutputDirectoryProviders.dummyOutputDirectoryProvider;
 import static org.junit.platform.launcher.core.OutputDirectoryProviders.hierarchicalOutputDirectoryProvider;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
@@ -35,6 +40,9 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
 import org.jspecify.annotations.Nullable;
@@ -47,6 +55,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.Extension;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ExtensionContextException;
 import org.junit.jupiter.api.extension.MediaType;
 import org.junit.jupiter.api.extension.PreInterruptCallback;
 import org.junit.jupiter.api.io.TempDir;
@@ -413,7 +422,7 @@ public class ExtensionContextTests {
 	void usingStore() {
 		var methodTestDescriptor = methodDescriptor();
 		var classTestDescriptor = outerClassDescriptor(methodTestDescriptor);
-		ExtensionContext parentContext = new ClassExtensionContext(mock(AbstractExtensionContext.class), mock(),
+		ExtensionContext parentContext = new ClassExtensionContext(engineExtensionContext(), mock(),
 			classTestDescriptor, PER_METHOD, configuration, extensionRegistry, launcherStoreFacade, mock());
 		var childContext = new MethodExtensionContext(parentContext, mock(), methodTestDescriptor, configuration,
 			extensionRegistry, launcherStoreFacade, new OpenTest4JAwareThrowableCollector());
@@ -448,6 +457,86 @@ public class ExtensionContextTests {
 		assertEquals(parentValue, childStore.get(parentKey));
 	}
 
+	@Test
+	@SuppressWarnings("resource")
+	void storeOfChildContextDelegatesToParentUntilValueIsStored() {
+		var methodTestDescriptor = methodDescriptor();
+		var classTestDescriptor = outerClassDescriptor(methodTestDescriptor);
+		var parentContext = new ClassExtensionContext(engineExtensionContext(), mock(), classTestDescriptor,
+			PER_METHOD, configuration, extensionRegistry, launcherStoreFacade, mock());
+		var childContext = new MethodExtensionContext(parentContext, mock(), methodTestDescriptor, configuration,
+			extensionRegistry, launcherStoreFacade, new OpenTest4JAwareThrowableCollector());
+
+		var childStore = childContext.getStore(Namespace.GLOBAL);
+		assertNull(childStore.get("key"));
+
+		parentContext.getStore(Namespace.GLOBAL).put("key", "parent value");
+		assertEquals("parent value", childStore.get("key"));
+
+		childStore.put("key", "child value");
+		assertEquals("child value", childStore.get("key"));
+		assertEquals("parent value", parentContext.getStore(Namespace.GLOBAL).get("key"));
+	}
+
+	@Test
+	@SuppressWarnings("resource")
+	void storeOfClosedContextRejectsModificationsEvenIfItWasNeverUsed() {
+		var methodTestDescriptor = methodDescriptor();
+		var classTestDescriptor = outerClassDescriptor(methodTestDescriptor);
+		var parentContext = new ClassExtensionContext(engineExtensionContext(), mock(), classTestDescriptor,
+			PER_METHOD, configuration, extensionRegistry, launcherStoreFacade, mock());
+		var childContext = new MethodExtensionContext(parentContext, mock(), methodTestDescriptor, configuration,
+			extensionRegistry, launcherStoreFacade, new OpenTest4JAwareThrowableCollector());
+
+		childContext.close();
+
+		var childStore = childContext.getStore(Namespace.GLOBAL);
+		assertThrows(ExtensionContextException.class, () -> childStore.put("key", "value"));
+	}
+
+	@Test
+	@SuppressWarnings("resource")
+	void storeComputesValuesAsynchronouslyAtMostOnce() throws Exception {
+		var store = engineExtensionContext().getStore(Namespace.GLOBAL);
+		var gate = new CompletableFuture<String>();
+		var counter = new AtomicInteger();
+
+		var future = store.getOrComputeIfAbsentAsync("key", __ -> gate.join() + counter.incrementAndGet(),
+			String.class);
+		var otherFuture = store.getOrComputeIfAbsentAsync("key", __ -> "other", String.class);
+
+		assertThat(future).isNotDone();
+
+		gate.complete("value");
+
+		assertEquals("value1", future.get(10, SECONDS));
+		assertEquals("value1", otherFuture.get(10, SECONDS));
+		assertEquals(1, counter.get());
+		assertEquals("value1", store.get("key", String.class));
+	}
+
+	@Test
+	void defaultAsyncComputationOfStoreValuesDelegatesToSynchronousComputation() throws Exception {
+		ExtensionContext.Store store = mock(ExtensionContext.Store.class, CALLS_REAL_METHODS);
+		doReturn("value").when(store).getOrComputeIfAbsent(eq("key"), any(), eq(String.class));
+		var exception = new IllegalStateException("failed");
+		doThrow(exception).when(store).getOrComputeIfAbsent(eq("failing"), any(), eq(String.class));
+
+		var future = store.getOrComputeIfAbsentAsync("key", __ -> "other", String.class);
+		var failedFuture = store.getOrComputeIfAbsentAsync("failing", __ -> "other", String.class);
+
+		assertEquals("value", future.getNow(null));
+		assertThat(failedFuture).isCompletedExceptionally();
+		var actual = assertThrows(ExecutionException.class, failedFuture::get);
+		assertThat(actual).hasCause(exception);
+	}
+
+	private JupiterEngineExtensionContext engineExtensionContext() {
+		var engineTestDescriptor = new JupiterEngineDescriptor(UniqueId.root("engine", "junit-jupiter"), configuration);
+		return new JupiterEngineExtensionContext(mock(), engineTestDescriptor, configuration, extensionRegistry,
+			launcherStoreFacade);
+	}
+
 	@ParameterizedTest
 	@MethodSource("extensionContextFactories")
 	void configurationParameter(Function<JupiterConfiguration, ? extends ExtensionContext> extensionContextFactory) {
@@ -14,6 +14,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
@@ -105,6 +107,29 @@ class ResourceAutoClosingTests {
 		assertThat(resource.closed).isTrue();
 	}
 
+	@Test
+	@SuppressWarnings("resource")
+	void shouldCloseIndependentlyCloseableResourcesConcurrently() throws Exception {
+		when(configuration.isClosingStoredAutoCloseablesEnabled()).thenReturn(true);
+		CountDownLatch latch = new CountDownLatch(2);
+		IndependentlyCloseableResource resource1 = new IndependentlyCloseableResource(latch);
+		IndependentlyCloseableResource resource2 = new IndependentlyCloseableResource(latch);
+		AutoCloseableResource dependentResource = new AutoCloseableResource();
+
+		ExtensionContext extensionContext = new JupiterEngineExtensionContext(mock(), testDescriptor, configuration,
+			extensionRegistry, launcherStoreFacade);
+		ExtensionContext.Store store = extensionContext.getStore(ExtensionContext.Namespace.GLOBAL);
+		store.put("dependentResource", dependentResource);
+		store.put("resource1", resource1);
+		store.put("resource2", resource2);
+
+		((AutoCloseable) extensionContext).close();
+
+		assertThat(resource1.closedConcurrently).isTrue();
+		assertThat(resource2.closedConcurrently).isTrue();
+		assertThat(dependentResource.closed).isTrue();
+	}
+
 	static class AutoCloseableResource implements AutoCloseable {
 		private boolean closed = false;
 
@@ -123,4 +148,19 @@ class ResourceAutoClosingTests {
 			closed = true;
 		}
 	}
+
+	static class IndependentlyCloseableResource implements ExtensionContext.Store.IndependentlyCloseable {
+		private final CountDownLatch latch;
+		private boolean closedConcurrently = false;
+
+		IndependentlyCloseableResource(CountDownLatch latch) {
+			this.latch = latch;
+		}
+
+		@Override
+		public void close() throws InterruptedException {
+			latch.countDown();
+			closedConcurrently = latch.await(10, TimeUnit.SECONDS);
+		}
+	}
 }
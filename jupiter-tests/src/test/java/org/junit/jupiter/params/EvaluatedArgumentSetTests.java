@@ -0,0 +1,54 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.params;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.provider.Arguments;
+
+/**
+ * @since 6.0
+ */
+class EvaluatedArgumentSetTests {
+
+	@Test
+	void doesNotCopyArgumentsWithoutSnapshot() {
+		Object[] values = { "foo", 42 };
+
+		var arguments = EvaluatedArgumentSet.of(Arguments.of(values), length -> length, false);
+
+		assertThat(arguments.getAllPayloads()).isSameAs(values);
+		assertThat(arguments.getConsumedNames()).isSameAs(values);
+	}
+
+	@Test
+	void doesNotCopyArgumentsOfSubtypeWithoutNamedArguments() {
+		String[] values = { "foo", "bar" };
+
+		var arguments = EvaluatedArgumentSet.of(Arguments.of((Object[]) values), length -> length, false);
+
+		assertThat(arguments.getAllPayloads()).isSameAs(values);
+		assertThat(arguments.getConsumedPayloads()).isSameAs(values);
+	}
+
+	@Test
+	void snapshotIsNotAffectedByModificationsOfSuppliedArguments() {
+		Object[] values = { "foo", 42 };
+
+		var arguments = EvaluatedArgumentSet.of(Arguments.of(values), length -> length, true);
+		values[0] = "bar";
+
+		assertThat(arguments.getAllPayloads()).containsExactly("foo", 42);
+		assertThat(arguments.getConsumedNames()).containsExactly("foo", 42);
+	}
+
+}
@@ -31,11 +31,16 @@ import static org.mockito.Mockito.when;
 import java.lang.reflect.Method;
 import java.math.BigDecimal;
 import java.sql.Date;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.ZoneId;
 import java.util.Arrays;
 import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
 
 import org.jspecify.annotations.NullUnmarked;
 import org.jspecify.annotations.Nullable;
@@ -235,6 +240,33 @@ class ParameterizedInvocationNameFormatterTests {
 			"[1] " + expectedValue + " even though " + ToStringThrowsException.class.getName() + "@");
 	}
 
+	@Test
+	void formatsQuotedTextAndFormatElementsLikeMessageFormat() {
+		Locale.setDefault(Locale.US);
+		var formatter = formatter("it''s '{0}' {0,number,#.##} {1} '{'{2}'}' {3}", "enigma");
+
+		var formattedName = format(formatter, 1, arguments(1234.567, "foo", null));
+
+		assertThat(formattedName).isEqualTo("it's {0} 1234.57 foo {null} {3}");
+	}
+
+	@Test
+	void formatsDisplayNamesConcurrently() throws Exception {
+		Locale.setDefault(Locale.US);
+		var formatter = formatter("[{index}] {0,number,#.##} {1}", "enigma");
+
+		try (var executorService = Executors.newFixedThreadPool(4)) {
+			var results = executorService.invokeAll(IntStream.range(0, 1000) //
+					.<Callable<String>> mapToObj(i -> () -> format(formatter, i, arguments(i + 0.125, "#" + i))) //
+					.toList());
+
+			for (int i = 0; i < results.size(); i++) {
+				assertThat(results.get(i).get()).isEqualTo("[%d] %s #%d".formatted(i,
+					new DecimalFormat("#.##", DecimalFormatSymbols.getInstance(Locale.US)).format(i + 0.125), i));
+			}
+		}
+	}
+
 	@Test
 	void ignoresExcessPlaceholders() {
 		var formatter = formatter("{0}, {1}", "enigma");
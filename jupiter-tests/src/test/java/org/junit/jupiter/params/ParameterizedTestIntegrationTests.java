@@ -42,6 +42,7 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
 import java.lang.reflect.Constructor;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -100,6 +101,7 @@ import org.junit.jupiter.params.converter.ArgumentConversionException;
 import org.junit.jupiter.params.converter.ArgumentConverter;
 import org.junit.jupiter.params.converter.ConvertWith;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.ArgumentsDimension;
 import org.junit.jupiter.params.provider.ArgumentsProvider;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 import org.junit.jupiter.params.provider.CsvFileSource;
@@ -110,6 +112,7 @@ import org.junit.jupiter.params.provider.FieldSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.junit.jupiter.params.provider.NullSource;
+import org.junit.jupiter.params.provider.PairwiseSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.junit.jupiter.params.support.ParameterDeclarations;
 import org.junit.platform.commons.PreconditionViolationException;
@@ -966,6 +969,26 @@ class ParameterizedTestIntegrationTests extends AbstractJupiterTestEngineTests {
 					.assertStatistics(stats -> stats.started(8).failed(0).finished(8));
 		}
 
+		@Test
+		void invokesFactoryMethodOnlyOnceIfArgumentsAreCached() {
+			CachedArgumentsTestCase.factoryMethodInvocations = 0;
+
+			executeTestsForClass(CachedArgumentsTestCase.class)//
+					.testEvents()//
+					.assertStatistics(stats -> stats.started(7).succeeded(7));
+
+			assertEquals(2, CachedArgumentsTestCase.factoryMethodInvocations);
+		}
+
+		@Test
+		void cachedArgumentsAreNotSupportedForFactoryMethodsWithParameters() {
+			execute(CachedArgumentsTestCase.class, "cachedFactoryMethodWithParameter", String.class)//
+					.containerEvents().assertThatEvents()//
+					.haveExactly(1, event(container(), finishedWithFailure( //
+						instanceOf(PreconditionViolationException.class), //
+						message(it -> it.contains("must not declare parameters")))));
+		}
+
 		private EngineExecutionResults execute(String methodName, Class<?>... methodParameterTypes) {
 			return ParameterizedTestIntegrationTests.this.execute(MethodSourceTestCase.class, methodName,
 				methodParameterTypes);
@@ -1101,6 +1124,17 @@ class ParameterizedTestIntegrationTests extends AbstractJupiterTestEngineTests {
 					.haveExactly(1, event(test(), finishedWithFailure(message("banana"))));
 		}
 
+		@Test
+		void callsSupplierOnlyOnceIfArgumentsAreCached() {
+			CachedArgumentsTestCase.supplierCalls = 0;
+
+			executeTestsForClass(CachedArgumentsTestCase.class)//
+					.testEvents()//
+					.assertStatistics(stats -> stats.started(7).succeeded(7));
+
+			assertEquals(1, CachedArgumentsTestCase.supplierCalls);
+		}
+
 		private EngineExecutionResults execute(String methodName, Class<?>... methodParameterTypes) {
 			return execute(FieldSourceTestCase.class, methodName, methodParameterTypes);
 		}
@@ -1389,6 +1423,41 @@ class ParameterizedTestIntegrationTests extends AbstractJupiterTestEngineTests {
 				.haveExactly(1, event(test(), displayName("[3] argument=5"), finishedWithFailure()));
 	}
 
+	@Test
+	void accessesOnlyArgumentsOfSelectedIterationsForRandomAccessSources() {
+		RandomAccessTestCase.accessedIndices.clear();
+		var methodId = uniqueIdForTestTemplateMethod(RandomAccessTestCase.class, "test(int)");
+		var results = executeTests(selectUniqueId(appendTestTemplateInvocationSegment(methodId, 900)),
+			selectIteration(selectMethod(RandomAccessTestCase.class, "test", "int"), 41));
+
+		results.testEvents().assertThatEvents() //
+				.haveExactly(2, event(test(), finishedSuccessfully())) //
+				.haveExactly(1, event(test(), displayName("[42] argument=41"), finishedSuccessfully())) //
+				.haveExactly(1, event(test(), displayName("[900] argument=899"), finishedSuccessfully()));
+		assertThat(RandomAccessTestCase.accessedIndices).containsExactlyInAnyOrder(41, 899);
+	}
+
+	@Test
+	void invokesFactoryMethodsOnlyOnceForSelectedIterationsIfNotAllSourcesSupportRandomAccess() {
+		RandomAccessTestCase.streamFactoryInvocations = 0;
+		var results = executeTests(selectIteration(selectMethod(RandomAccessTestCase.class, "mixed", "int"), 2));
+
+		results.testEvents().assertThatEvents() //
+				.haveExactly(1, event(test(), finishedSuccessfully())) //
+				.haveExactly(1, event(test(), displayName("[3] argument=3"), finishedSuccessfully()));
+		assertEquals(1, RandomAccessTestCase.streamFactoryInvocations);
+	}
+
+	@Test
+	void executesSelectedIterationOfPairwiseSource() {
+		var results = executeTests(
+			selectIteration(selectMethod(RandomAccessTestCase.class, "pairwise", "int, java.lang.String"), 2));
+
+		results.testEvents().assertThatEvents() //
+				.haveExactly(1, event(test(), finishedSuccessfully())) //
+				.haveExactly(1, event(test(), displayName("[3] number=2, letter=a"), finishedSuccessfully()));
+	}
+
 	@Nested
 	class SpiParameterInjectionIntegrationTests {
 
@@ -1521,6 +1590,53 @@ class ParameterizedTestIntegrationTests extends AbstractJupiterTestEngineTests {
 		}
 	}
 
+	static class RandomAccessTestCase {
+
+		static final Set<Integer> accessedIndices = new HashSet<>();
+
+		static int streamFactoryInvocations;
+
+		@ParameterizedTest
+		@MethodSource("integers")
+		void test(int argument) {
+			assertTrue(argument >= 0);
+		}
+
+		@ParameterizedTest
+		@ValueSource(ints = 1)
+		@MethodSource("stream")
+		void mixed(int argument) {
+			assertTrue(argument > 0);
+		}
+
+		@ParameterizedTest
+		@PairwiseSource({ @ArgumentsDimension(ints = { 1, 2 }), @ArgumentsDimension(strings = { "a", "b" }) })
+		void pairwise(int number, String letter) {
+			assertTrue(number > 0);
+			assertTrue(letter.length() == 1);
+		}
+
+		static List<Integer> integers() {
+			return new AbstractList<>() {
+				@Override
+				public Integer get(int index) {
+					accessedIndices.add(index);
+					return index;
+				}
+
+				@Override
+				public int size() {
+					return 1000;
+				}
+			};
+		}
+
+		static Stream<Integer> stream() {
+			streamFactoryInvocations++;
+			return Stream.of(2, 3);
+		}
+	}
+
 	@SuppressWarnings("JUnitMalformedDeclaration")
 	static class NullSourceTestCase {
 
@@ -1938,6 +2054,63 @@ class ParameterizedTestIntegrationTests extends AbstractJupiterTestEngineTests {
 	 * @since 5.9.1
 	 * @see https://github.com/junit-team/junit-framework/issues/3001
 	 */
+	static class CachedArgumentsTestCase {
+
+		static int factoryMethodInvocations;
+
+		static int supplierCalls;
+
+		static final Supplier<Stream<String>> cachedSupplier = () -> {
+			supplierCalls++;
+			return Stream.of("x", "y");
+		};
+
+		@ParameterizedTest
+		@MethodSource(value = "cachedFactoryMethod", cacheArguments = true)
+		void firstCachedMethodSource(String argument) {
+			assertEquals("apple", argument);
+		}
+
+		@ParameterizedTest
+		@MethodSource(value = "cachedFactoryMethod", cacheArguments = true)
+		void secondCachedMethodSource(String argument) {
+			assertEquals("apple", argument);
+		}
+
+		@ParameterizedTest
+		@MethodSource("cachedFactoryMethod")
+		void uncachedMethodSource(String argument) {
+			assertEquals("apple", argument);
+		}
+
+		@ParameterizedTest
+		@FieldSource(value = "cachedSupplier", cacheArguments = true)
+		void firstCachedFieldSource(String argument) {
+			assertTrue(argument.equals("x") || argument.equals("y"));
+		}
+
+		@ParameterizedTest
+		@FieldSource(value = "cachedSupplier", cacheArguments = true)
+		void secondCachedFieldSource(String argument) {
+			assertTrue(argument.equals("x") || argument.equals("y"));
+		}
+
+		static Stream<String> cachedFactoryMethod() {
+			factoryMethodInvocations++;
+			return Stream.of("apple");
+		}
+
+		@ParameterizedTest
+		@MethodSource(value = "cachedFactoryMethodWithParameter", cacheArguments = true)
+		void cachedFactoryMethodWithParameter(String argument) {
+			fail(argument);
+		}
+
+		static Stream<String> cachedFactoryMethodWithParameter(TestInfo testInfo) {
+			return Stream.of(testInfo.getDisplayName());
+		}
+	}
+
 	static class DuplicateMethodNamesMethodSourceTestCase {
 
 		@ParameterizedTest
@@ -49,6 +49,7 @@ import org.junit.jupiter.params.converter.ArgumentConversionException;
 import org.junit.jupiter.params.converter.ArgumentConverter;
 import org.junit.jupiter.params.converter.ConvertWith;
 import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.DiscoverySelector;
@@ -172,6 +173,20 @@ public class AggregatorIntegrationTests {
 		assertThat(testInfo.getDisplayName()).startsWith("Indexed Arguments, 2 ArgumentsAccessors, and TestInfo");
 	}
 
+	@ParameterizedTest
+	@MethodSource("stringRows")
+	void argumentsAccessorForStringArrayRows(ArgumentsAccessor arguments) {
+		assertThat(arguments.get(0, String.class)).isSameAs(arguments.get(0));
+
+		Object[] array = arguments.toArray();
+		array[1] = 42;
+		assertEquals(42, array[1]);
+	}
+
+	static String[][] stringRows() {
+		return new String[][] { { "foo", "bar" }, { "baz", "qux" } };
+	}
+
 	@ParameterizedTest
 	@CsvSource({ "foo, bar" })
 	void nullAggregator(@AggregateWith(NullAggregator.class) Person person) {
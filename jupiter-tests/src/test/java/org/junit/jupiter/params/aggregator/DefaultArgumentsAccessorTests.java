@@ -73,6 +73,13 @@ class DefaultArgumentsAccessorTests {
 		assertEquals(Character.valueOf('A'), defaultArgumentsAccessor(1, 'A').get(0, Character.class));
 	}
 
+	@Test
+	void getWithInstanceOfRequiredTypeReturnsArgumentAsIs() {
+		var argument = new StringBuilder("foo");
+
+		assertThat(defaultArgumentsAccessor(1, argument).get(0, CharSequence.class)).isSameAs(argument);
+	}
+
 	@Test
 	void getWithCastToPrimitiveType() {
 		Exception exception = assertThrows(ArgumentAccessException.class,
@@ -150,6 +157,17 @@ class DefaultArgumentsAccessorTests {
 		assertEquals("foo", arguments.toArray()[0]);
 	}
 
+	@Test
+	void toArrayReturnsObjectArrayForArgumentsOfSubtype() {
+		var arguments = defaultArgumentsAccessor(1, (Object[]) new String[] { "foo", "bar" });
+		var copy = arguments.toArray();
+		assertEquals(Object[].class, copy.getClass());
+
+		// Store element that is not of the original component type in local copy:
+		copy[0] = 42;
+		assertEquals("foo", arguments.get(0));
+	}
+
 	@Test
 	void toList() {
 		var arguments = defaultArgumentsAccessor(1, "foo", "bar");
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.params.provider;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.PreconditionViolationException;
+import org.junit.platform.commons.util.ReflectionUtils;
+
+/**
+ * @since 6.0
+ */
+class CartesianProductArgumentsProviderTests {
+
+	@Test
+	void providesAllCombinationsInLexicographicOrder() {
+		var arguments = provideArguments("twoDimensions");
+
+		assertThat(arguments).containsExactly( //
+			array(1, "a"), array(1, "b"), //
+			array(2, "a"), array(2, "b"), //
+			array(3, "a"), array(3, "b"));
+	}
+
+	@Test
+	void providesEnumConstantsAndBooleans() {
+		var arguments = provideArguments("enumAndBooleanDimensions");
+
+		assertThat(arguments).hasSize(TimeUnit.values().length * 2) //
+				.startsWith(array(TimeUnit.NANOSECONDS, true), array(TimeUnit.NANOSECONDS, false)) //
+				.endsWith(array(TimeUnit.DAYS, true), array(TimeUnit.DAYS, false));
+	}
+
+	@Test
+	void computesCombinationsLazily() {
+		var arguments = provideArguments("hugeProduct");
+
+		assertThat(arguments.findFirst()).contains(array(1L, 1L, 1L, 1L, 1, 1, 1, 1, 1, 1, 1));
+
+		var product = new CartesianProduct(ArgumentsDimensions.valuesOf(getAnnotation("hugeProduct").value(),
+			CartesianProductSource.class));
+
+		assertThat(product.size()).isGreaterThan(Integer.MAX_VALUE);
+		assertThat(product.get(product.size() - 1)).containsExactly(2L, 2L, 2L, 2L, 16, 16, 16, 16, 16, 16, 16);
+	}
+
+	@Test
+	void computesCombinationsFromTheirIndex() {
+		var product = new CartesianProduct(ArgumentsDimensions.valuesOf(
+			getAnnotation("twoDimensions").value(), CartesianProductSource.class));
+
+		assertThat(product.size()).isEqualTo(6);
+		assertThat(product.get(0)).containsExactly(1, "a");
+		assertThat(product.get(3)).containsExactly(2, "b");
+		assertThat(product.get(5)).containsExactly(3, "b");
+	}
+
+	@Test
+	void multipleInputsPerDimensionAreNotAllowed() {
+		var exception = assertThrows(PreconditionViolationException.class,
+			() -> provideArguments("multipleInputsInDimension").findAny());
+
+		assertThat(exception).hasMessageContaining(
+			"Exactly one type of input must be provided in each @ArgumentsDimension annotation, but there were 2");
+	}
+
+	@Test
+	void atLeastOneDimensionIsRequired() {
+		var exception = assertThrows(PreconditionViolationException.class,
+			() -> provideArguments("noDimensions").findAny());
+
+		assertThat(exception).hasMessageContaining(
+			"At least one @ArgumentsDimension must be declared in the @CartesianProductSource annotation");
+	}
+
+	private static Stream<Object[]> provideArguments(String methodName) {
+		var provider = new CartesianProductArgumentsProvider();
+		provider.accept(getAnnotation(methodName));
+		return provider.provideArguments(mock(), mock(ExtensionContext.class)).map(Arguments::get);
+	}
+
+	private static CartesianProductSource getAnnotation(String methodName) {
+		var method = ReflectionUtils.findMethod(TestCase.class, methodName).orElseThrow();
+		return requireNonNull(method.getAnnotation(CartesianProductSource.class));
+	}
+
+	private static Object[] array(Object... objects) {
+		return objects;
+	}
+
+	@SuppressWarnings("unused")
+	static class TestCase {
+
+		@CartesianProductSource({ @ArgumentsDimension(ints = { 1, 2, 3 }),
+				@ArgumentsDimension(strings = { "a", "b" }) })
+		void twoDimensions() {
+		}
+
+		@CartesianProductSource({ @ArgumentsDimension(enums = TimeUnit.class),
+				@ArgumentsDimension(booleans = { true, false }) })
+		void enumAndBooleanDimensions() {
+		}
+
+		@CartesianProductSource({ @ArgumentsDimension(longs = { 1, 2 }), @ArgumentsDimension(longs = { 1, 2 }),
+				@ArgumentsDimension(longs = { 1, 2 }), @ArgumentsDimension(longs = { 1, 2 }),
+				@ArgumentsDimension(ints = { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16 }),
+				@ArgumentsDimension(ints = { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16 }),
+				@ArgumentsDimension(ints = { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16 }),
+				@ArgumentsDimension(ints = { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16 }),
+				@ArgumentsDimension(ints = { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16 }),
+				@ArgumentsDimension(ints = { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16 }),
+				@ArgumentsDimension(ints = { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16 }) })
+		void hugeProduct() {
+		}
+
+		@CartesianProductSource(@ArgumentsDimension(ints = 1, strings = "a"))
+		void multipleInputsInDimension() {
+		}
+
+		@CartesianProductSource({})
+		void noDimensions() {
+		}
+	}
+
+}
@@ -23,6 +23,7 @@ import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Stream;
@@ -533,6 +534,92 @@ class CsvFileArgumentsProviderTests {
 		assertThat(arguments).containsExactly(array(" ab ", " cd"), array("ef ", "gh"));
 	}
 
+	@Test
+	void readsRecordsOfFileInParallelInEncounterOrder(@TempDir Path tempDir) throws Exception {
+		var csvFile = tempDir.resolve("parallel.csv");
+		var content = new StringBuilder("# comment with \"quote\n");
+		var expected = new ArrayList<Object[]>();
+		for (int i = 0; i < 1000; i++) {
+			if (i % 10 == 0) {
+				content.append("%d, \"multi\r\nline, \"\"%d\"\"\"\n".formatted(i, i));
+				expected.add(array(String.valueOf(i), "multi\r\nline, \"%d\"".formatted(i)));
+			}
+			else {
+				content.append("%d, value %d\r\n".formatted(i, i));
+				expected.add(array(String.valueOf(i), "value " + i));
+			}
+		}
+		Files.writeString(csvFile, content);
+		var annotation = csvFileSource()//
+				.files(csvFile.toAbsolutePath().toString())//
+				.numLinesToSkip(1)//
+				.build();
+
+		var arguments = provideArgumentsInParallel(annotation, 64);
+
+		assertThat(arguments).containsExactlyElementsOf(expected.subList(1, expected.size()));
+	}
+
+	@Test
+	void prependsHeaderToEachChunkWhenReadingFileInParallel(@TempDir Path tempDir) throws Exception {
+		var csvFile = tempDir.resolve("parallel.csv");
+		Files.writeString(csvFile, "# comment\n\nFRUIT; RANK\napple; 1\nbanana; 2\ncherry; 3\n# comment\ndate; 4\n");
+		var annotation = csvFileSource()//
+				.files(csvFile.toAbsolutePath().toString())//
+				.delimiter(';')//
+				.useHeadersInDisplayName(true)//
+				.build();
+
+		var arguments = provideArgumentsInParallel(annotation, 8);
+		Stream<String[]> argumentsAsStrings = arguments.map(
+			array -> new String[] { String.valueOf(array[0]), String.valueOf(array[1]) });
+
+		assertThat(argumentsAsStrings).containsExactly(array("FRUIT = apple", "RANK = 1"),
+			array("FRUIT = banana", "RANK = 2"), array("FRUIT = cherry", "RANK = 3"), array("FRUIT = date", "RANK = 4"));
+	}
+
+	@Test
+	void readsRecordsSpanningSeveralReadsWhenReadingFileInParallel(@TempDir Path tempDir) throws Exception {
+		var csvFile = tempDir.resolve("parallel.csv");
+		var longValue = "x".repeat(50_000);
+		Files.writeString(csvFile, "a, \"%s\"\r\nb, c\r\nd, e\r\n".formatted(longValue));
+		var annotation = csvFileSource()//
+				.files(csvFile.toAbsolutePath().toString())//
+				.build();
+
+		var arguments = provideArgumentsInParallel(annotation, 4);
+
+		assertThat(arguments).containsExactly(array("a", longValue), array("b", "c"), array("d", "e"));
+	}
+
+	@Test
+	void throwsExceptionForInvalidRecordWhenReadingFileInParallel(@TempDir Path tempDir) throws Exception {
+		var csvFile = tempDir.resolve("parallel.csv");
+		Files.writeString(csvFile, "a, b\nc, d\ne, %s\n".formatted("f".repeat(100)));
+		var annotation = csvFileSource()//
+				.files(csvFile.toAbsolutePath().toString())//
+				.maxCharsPerColumn(10)//
+				.build();
+
+		var arguments = provideArgumentsInParallel(annotation, 4).iterator();
+
+		assertThat(arguments.next()).containsExactly("a", "b");
+		assertThat(arguments.next()).containsExactly("c", "d");
+		var exception = assertThrows(CsvParsingException.class, arguments::next);
+		assertThat(exception)//
+				.hasMessageStartingWith("Failed to parse CSV input configured via Mock for CsvFileSource")//
+				.rootCause().satisfies(isCsvParseException());
+	}
+
+	private Stream<Object[]> provideArgumentsInParallel(CsvFileSource annotation, int chunkSize) {
+		var provider = new CsvFileArgumentsProvider(chunkSize);
+		provider.accept(annotation);
+		var context = mock(ExtensionContext.class);
+		when(context.getConfigurationParameter(CsvFileArgumentsProvider.PARALLEL_PARSING_ENABLED_KEY)).thenReturn(
+			Optional.of("true"));
+		return provider.provideArguments(mock(), context).map(Arguments::get);
+	}
+
 	private Stream<Object[]> provideArguments(CsvFileSource annotation, String content) {
 		return provideArguments(new ByteArrayInputStream(content.getBytes(UTF_8)), annotation);
 	}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.params.provider;
+
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.PreconditionViolationException;
+import org.junit.platform.commons.util.ReflectionUtils;
+
+/**
+ * @since 6.0
+ */
+class PairwiseArgumentsProviderTests {
+
+	@Test
+	void coversAllPairsOfValuesWithFewerCombinationsThanTheCartesianProduct() {
+		var arguments = provideArguments("fourDimensions").toList();
+
+		assertThat(arguments).hasSizeLessThan(3 * 3 * 3 * 2);
+		assertThat(coveredPairs(arguments)).isEqualTo(expectedPairs(List.of( //
+			List.of(1, 2, 3), List.of("a", "b", "c"), List.of('x', 'y', 'z'), List.of(true, false))));
+	}
+
+	@Test
+	void coversAllPairsOfManyBinaryDimensions() {
+		var arguments = provideArguments("tenBinaryDimensions").toList();
+
+		assertThat(arguments).hasSizeLessThanOrEqualTo(10);
+		assertThat(coveredPairs(arguments)).isEqualTo(expectedPairs(List.of(List.of(true, false),
+			List.of(true, false), List.of(true, false), List.of(true, false), List.of(true, false),
+			List.of(true, false), List.of(true, false), List.of(true, false), List.of(true, false),
+			List.of(true, false))));
+	}
+
+	@Test
+	void providesCartesianProductIfStrengthIsNotLessThanNumberOfDimensions() {
+		var arguments = provideArguments("strengthEqualToNumberOfDimensions").toList();
+
+		assertThat(arguments).hasSize(2 * 3) //
+				.containsExactlyInAnyOrder(array(1, "a"), array(1, "b"), array(1, "c"), array(2, "a"),
+					array(2, "b"), array(2, "c"));
+	}
+
+	@Test
+	void providesRandomAccessToGeneratedCombinations() {
+		var arguments = provideArguments("fourDimensions").toList();
+		var provider = createProvider("fourDimensions");
+
+		assertThat(provider.supportsRandomAccess(mock(), mock(ExtensionContext.class))).isTrue();
+		var argumentsList = provider.provideArgumentsList(mock(), mock(ExtensionContext.class));
+		assertThat(argumentsList).hasSize(arguments.size());
+		assertThat(argumentsList.get(3).get()).containsExactly(arguments.get(3));
+	}
+
+	@Test
+	void strengthMustBePositive() {
+		var exception = assertThrows(PreconditionViolationException.class,
+			() -> provideArguments("zeroStrength").findAny());
+
+		assertThat(exception).hasMessageContaining("strength must be positive, but was 0");
+	}
+
+	@Test
+	void multipleInputsPerDimensionAreNotAllowed() {
+		var exception = assertThrows(PreconditionViolationException.class,
+			() -> provideArguments("multipleInputsInDimension").findAny());
+
+		assertThat(exception).hasMessageContaining(
+			"Exactly one type of input must be provided in each @ArgumentsDimension annotation, but there were 2");
+	}
+
+	private static Set<List<Object>> coveredPairs(List<Object[]> arguments) {
+		Set<List<Object>> pairs = new HashSet<>();
+		for (Object[] combination : arguments) {
+			for (int i = 0; i < combination.length; i++) {
+				for (int j = i + 1; j < combination.length; j++) {
+					pairs.add(List.of(i, combination[i], j, combination[j]));
+				}
+			}
+		}
+		return pairs;
+	}
+
+	private static Set<List<Object>> expectedPairs(List<List<Object>> dimensions) {
+		Set<List<Object>> pairs = new HashSet<>();
+		for (int i = 0; i < dimensions.size(); i++) {
+			for (int j = i + 1; j < dimensions.size(); j++) {
+				for (Object first : dimensions.get(i)) {
+					for (Object second : dimensions.get(j)) {
+						pairs.add(List.of(i, first, j, second));
+					}
+				}
+			}
+		}
+		return pairs;
+	}
+
+	private static Stream<Object[]> provideArguments(String methodName) {
+		return createProvider(methodName).provideArguments(mock(), mock(ExtensionContext.class)).map(Arguments::get);
+	}
+
+	private static PairwiseArgumentsProvider createProvider(String methodName) {
+		var provider = new PairwiseArgumentsProvider();
+		provider.accept(getAnnotation(methodName));
+		return provider;
+	}
+
+	private static PairwiseSource getAnnotation(String methodName) {
+		var method = ReflectionUtils.findMethod(TestCase.class, methodName).orElseThrow();
+		return requireNonNull(method.getAnnotation(PairwiseSource.class));
+	}
+
+	private static Object[] array(Object... objects) {
+		return objects;
+	}
+
+	@SuppressWarnings("unused")
+	static class TestCase {
+
+		@PairwiseSource({ @ArgumentsDimension(ints = { 1, 2, 3 }), @ArgumentsDimension(strings = { "a", "b", "c" }),
+				@ArgumentsDimension(chars = { 'x', 'y', 'z' }), @ArgumentsDimension(booleans = { true, false }) })
+		void fourDimensions() {
+		}
+
+		@PairwiseSource({ @ArgumentsDimension(booleans = { true, false }),
+				@ArgumentsDimension(booleans = { true, false }), @ArgumentsDimension(booleans = { true, false }),
+				@ArgumentsDimension(booleans = { true, false }), @ArgumentsDimension(booleans = { true, false }),
+				@ArgumentsDimension(booleans = { true, false }), @ArgumentsDimension(booleans = { true, false }),
+				@ArgumentsDimension(booleans = { true, false }), @ArgumentsDimension(booleans = { true, false }),
+				@ArgumentsDimension(booleans = { true, false }) })
+		void tenBinaryDimensions() {
+		}
+
+		@PairwiseSource({ @ArgumentsDimension(ints = { 1, 2 }), @ArgumentsDimension(strings = { "a", "b", "c" }) })
+		void strengthEqualToNumberOfDimensions() {
+		}
+
+		@PairwiseSource(value = @ArgumentsDimension(ints = { 1, 2 }), strength = 0)
+		void zeroStrength() {
+		}
+
+		@PairwiseSource(@ArgumentsDimension(ints = 1, strings = "a"))
+		void multipleInputsInDimension() {
+		}
+	}
+
+}
@@ -77,6 +77,8 @@ dependencies {
 
 	// --- https://openjdk.java.net/projects/code-tools/jmh/ ----------------------
 	jmh(projects.junitJupiterApi)
+	jmh(projects.junitJupiterEngine)
+	jmh(projects.junitPlatformLauncher)
 	jmh(libs.junit4)
 
 	// --- ProcessStarter dependencies --------------------------------------------
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.jmh;
+
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.platform.launcher.core.LauncherExecutionRequestBuilder.request;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.LauncherDiscoveryRequest;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * JMH benchmarks for the per-test overhead of extension contexts.
+ *
+ * <p>Each benchmark discovers and executes a test class with 1000 trivial
+ * tests. Run them with the {@code gc} profiler (e.g., {@code -prof gc}) to
+ * compare the normalized allocation rate of tests that never access the
+ * {@link ExtensionContext.Store} with those that do.
+ *
+ * @since 6.0
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ExtensionContextAllocationBenchmarks {
+
+	private Launcher launcher;
+
+	private LauncherDiscoveryRequest requestWithoutStoreAccess;
+
+	private LauncherDiscoveryRequest requestWithStoreAccess;
+
+	@Setup
+	public void setUp() {
+		launcher = LauncherFactory.create();
+		requestWithoutStoreAccess = requestFor(TestCaseWithoutStoreAccess.class);
+		requestWithStoreAccess = requestFor(TestCaseWithStoreAccess.class);
+	}
+
+	@Benchmark
+	public void testsWithoutStoreAccess(Blackhole blackhole) {
+		blackhole.consume(execute(requestWithoutStoreAccess));
+	}
+
+	@Benchmark
+	public void testsWithStoreAccess(Blackhole blackhole) {
+		blackhole.consume(execute(requestWithStoreAccess));
+	}
+
+	private long execute(LauncherDiscoveryRequest discoveryRequest) {
+		var listener = new SummaryGeneratingListener();
+		launcher.execute(request(discoveryRequest).listeners(listener).build());
+		return listener.getSummary().getTestsSucceededCount();
+	}
+
+	private static LauncherDiscoveryRequest requestFor(Class<?> testClass) {
+		return request().selectors(selectClass(testClass)).build();
+	}
+
+	static class TestCaseWithoutStoreAccess {
+
+		int counter;
+
+		@BeforeEach
+		void beforeEach() {
+			counter++;
+		}
+
+		@RepeatedTest(1000)
+		void test() {
+		}
+	}
+
+	@ExtendWith(StoreAccessingExtension.class)
+	static class TestCaseWithStoreAccess extends TestCaseWithoutStoreAccess {
+	}
+
+	static class StoreAccessingExtension implements BeforeEachCallback {
+
+		private static final Namespace NAMESPACE = Namespace.create(StoreAccessingExtension.class);
+
+		@Override
+		public void beforeEach(ExtensionContext context) {
+			context.getStore(NAMESPACE).put("start", System.nanoTime());
+		}
+	}
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.support.conversion;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * JMH benchmarks for {@link ConversionSupport}.
+ *
+ * @since 6.0
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1, time = 2)
+@Measurement(iterations = 3, time = 2)
+public class ConversionSupportBenchmarks {
+
+	@Param({ "primitive", "enum", "java.time", "factory method" })
+	private String conversion;
+
+	private String source;
+
+	private Class<?> targetType;
+
+	private ClassLoader classLoader;
+
+	@Setup
+	public void setUp() {
+		switch (conversion) {
+			case "primitive" -> {
+				source = "42";
+				targetType = int.class;
+			}
+			case "enum" -> {
+				source = "SECONDS";
+				targetType = TimeUnit.class;
+			}
+			case "java.time" -> {
+				source = "2025-01-01";
+				targetType = LocalDate.class;
+			}
+			case "factory method" -> {
+				source = "title";
+				targetType = Book.class;
+			}
+			default -> throw new IllegalArgumentException("Unsupported conversion: " + conversion);
+		}
+		classLoader = getClass().getClassLoader();
+	}
+
+	@Benchmark
+	public Object convert() {
+		return ConversionSupport.convert(source, targetType, classLoader);
+	}
+
+	public static class Book {
+
+		private final String title;
+
+		private Book(String title) {
+			this.title = title;
+		}
+
+		public static Book factory(String title) {
+			return new Book(title);
+		}
+
+		@Override
+		public String toString() {
+			return title;
+		}
+	}
+
+}
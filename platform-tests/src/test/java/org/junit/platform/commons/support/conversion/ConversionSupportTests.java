@@ -238,6 +238,19 @@ class ConversionSupportTests {
 		}
 	}
 
+	@Test
+	void resolvesConverterPerTargetTypeRatherThanPerTypeName() throws Exception {
+		assertThat(convert("title", Book.class)).isInstanceOf(Book.class);
+
+		try (var testClassLoader = TestClassLoader.forClasses(Book.class)) {
+			var customType = testClassLoader.loadClass(Book.class.getName());
+			assertThat(customType).isNotEqualTo(Book.class);
+
+			assertThat(convert("title", customType)).isInstanceOf(customType);
+			assertThat(convert("title", Book.class)).isInstanceOf(Book.class);
+		}
+	}
+
 	// --- java.math -----------------------------------------------------------
 
 	@Test
@@ -344,4 +357,23 @@ class ConversionSupportTests {
 		}
 	}
 
+	static class Book {
+
+		private final String title;
+
+		private Book(String title) {
+			this.title = title;
+		}
+
+		@SuppressWarnings("unused")
+		static Book factory(String title) {
+			return new Book(title);
+		}
+
+		@Override
+		public String toString() {
+			return title;
+		}
+	}
+
 }
@@ -368,6 +368,43 @@ class CollectionUtilsTests {
 		}
 	}
 
+	@Nested
+	class Views {
+
+		@Test
+		void transformedViewAppliesMapperOnlyToAccessedElements() {
+			var mappedElements = new ArrayList<String>();
+			var view = CollectionUtils.transformedView(List.of("a", "b", "c"), element -> {
+				mappedElements.add(element);
+				return element.toUpperCase();
+			});
+
+			assertEquals(3, view.size());
+			assertEquals("B", view.get(1));
+			assertEquals(List.of("b"), mappedElements);
+			assertThrows(UnsupportedOperationException.class, () -> view.add("d"));
+		}
+
+		@Test
+		void concatenatedViewAccessesElementsOfContainingList() {
+			var view = CollectionUtils.concatenatedView(
+				List.of(List.of("a", "b"), List.of(), List.of(), List.of("c"), List.of("d", "e")));
+
+			assertEquals(5, view.size());
+			assertEquals(List.of("a", "b", "c", "d", "e"), view);
+			assertEquals("c", view.get(2));
+			assertEquals("d", view.get(3));
+			assertThrows(IndexOutOfBoundsException.class, () -> view.get(5));
+			assertThrows(IndexOutOfBoundsException.class, () -> view.get(-1));
+		}
+
+		@Test
+		void concatenatedViewOfNoLists() {
+			assertEquals(List.of(), CollectionUtils.concatenatedView(List.of()));
+			assertEquals(List.of(), CollectionUtils.concatenatedView(List.of(List.of(), List.of())));
+		}
+	}
+
 	/**
 	 * An interface that has a method with name 'iterator', returning a java.util/Iterator as a return type
 	 */
@@ -17,7 +17,11 @@ import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.platform.commons.util.SerializationUtils.deserialize;
+import static org.junit.platform.commons.util.SerializationUtils.serialize;
 
+import java.util.Base64;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Nested;
@@ -293,6 +297,72 @@ class UniqueIdTests {
 
 	}
 
+	@Nested
+	class SharedPrefix {
+
+		/**
+		 * Serialized form of the {@code UniqueId} used in
+		 * {@link #deserializesUniqueIdSerializedByListBasedImplementation()}
+		 * as written by the previous, list-based implementation.
+		 */
+		private static final String LIST_BASED_SERIALIZED_FORM = "" //
+				+ "rO0ABXNyACJvcmcuanVuaXQucGxhdGZvcm0uZW5naW5lLlVuaXF1ZUlkAAAAAAAAAAECAAJMAAhzZWdtZW50c3QAEExqYXZh" //
+				+ "L3V0aWwvTGlzdDtMAA51bmlxdWVJZEZvcm1hdHQAKkxvcmcvanVuaXQvcGxhdGZvcm0vZW5naW5lL1VuaXF1ZUlkRm9ybWF0" //
+				+ "O3hwc3IAEWphdmEudXRpbC5Db2xsU2VyV46rtjobqBEDAAFJAAN0YWd4cAAAAAF3BAAAAANzcgAqb3JnLmp1bml0LnBsYXRm" //
+				+ "b3JtLmVuZ2luZS5VbmlxdWVJZCRTZWdtZW50AAAAAAAAAAECAAJMAAR0eXBldAASTGphdmEvbGFuZy9TdHJpbmc7TAAFdmFs" //
+				+ "dWVxAH4AB3hwdAAGZW5naW5ldAANanVuaXQtanVwaXRlcnNxAH4ABnQABWNsYXNzdAAUb3JnLmV4YW1wbGUuRm9vVGVzdHNz" //
+				+ "cQB+AAZ0AAZtZXRob2R0AAViYXIoKXhzcgAob3JnLmp1bml0LnBsYXRmb3JtLmVuZ2luZS5VbmlxdWVJZEZvcm1hdAAAAAAA" //
+				+ "AAABAgAGQwAMY2xvc2VTZWdtZW50QwALb3BlblNlZ21lbnRDABBzZWdtZW50RGVsaW1pdGVyQwASdHlwZVZhbHVlU2VwYXJh" //
+				+ "dG9yTAATZW5jb2RlZENoYXJhY3Rlck1hcHQAE0xqYXZhL3V0aWwvSGFzaE1hcDtMAA5zZWdtZW50UGF0dGVybnQAGUxqYXZh" //
+				+ "L3V0aWwvcmVnZXgvUGF0dGVybjt4cABdAFsALwA6c3IAEWphdmEudXRpbC5IYXNoTWFwBQfawcMWYNEDAAJGAApsb2FkRmFj" //
+				+ "dG9ySQAJdGhyZXNob2xkeHA/QAAAAAAADHcIAAAAEAAAAAZzcgATamF2YS5sYW5nLkNoYXJhY3RlcjSLR9lrGiZ4AgABQwAF" //
+				+ "dmFsdWV4cAAldAADJTI1c3EAfgAXADp0AAMlM0FzcQB+ABcAW3QAAyU1QnNxAH4AFwArdAADJTJCc3EAfgAXAF10AAMlNURz" //
+				+ "cQB+ABcAL3QAAyUyRnhzcgAXamF2YS51dGlsLnJlZ2V4LlBhdHRlcm5GZ9VrbkkCDQIAAkkABWZsYWdzTAAHcGF0dGVybnEA" //
+				+ "fgAHeHAAAAAgdAAXXFFbXEUoLispXFE6XEUoLispXFFdXEU=";
+
+		@Test
+		void appendedUniqueIdsShareTheirPrefix() {
+			var parent = UniqueId.forEngine("foo").append("type", "bar");
+
+			assertSame(parent, parent.append("type", "baz").removeLastSegment());
+			assertSame(parent.getLastSegment(), parent.append("type", "baz").getSegments().get(1));
+		}
+
+		@Test
+		void hashCodeIsConsistentWithHashCodeOfSegments() {
+			var uniqueId = UniqueId.forEngine("foo").append("type", "bar").append("type", "baz");
+
+			assertEquals(uniqueId.getSegments().hashCode(), uniqueId.hashCode());
+			assertEquals(List.copyOf(uniqueId.getSegments()), uniqueId.getSegments());
+		}
+
+		@Test
+		void preservesValueWhenSerialized() throws Exception {
+			var uniqueId = UniqueId.forEngine("foo").append("type", "bar").append("type", "baz");
+
+			var deserialized = (UniqueId) deserialize(serialize(uniqueId));
+
+			assertEquals(uniqueId, deserialized);
+			assertEquals(uniqueId.hashCode(), deserialized.hashCode());
+			assertEquals(uniqueId.toString(), deserialized.toString());
+			assertEquals(uniqueId.removeLastSegment(), deserialized.removeLastSegment());
+		}
+
+		@Test
+		void deserializesUniqueIdSerializedByListBasedImplementation() throws Exception {
+			var uniqueId = UniqueId.forEngine("junit-jupiter").append("class", "org.example.FooTests").append("method",
+				"bar()");
+
+			var deserialized = (UniqueId) deserialize(Base64.getDecoder().decode(LIST_BASED_SERIALIZED_FORM));
+
+			assertEquals(uniqueId, deserialized);
+			assertEquals(uniqueId.hashCode(), deserialized.hashCode());
+			assertEquals(uniqueId.toString(), deserialized.toString());
+			assertEquals(uniqueId.removeLastSegment(), deserialized.removeLastSegment());
+		}
+
+	}
+
 	private void assertSegment(Segment segment, String expectedType, String expectedValue) {
 		assertEquals(expectedType, segment.getType(), "segment type");
 		assertEquals(expectedValue, segment.getValue(), "segment value");
@@ -24,6 +24,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.platform.commons.JUnitException;
+import org.junit.platform.commons.PreconditionViolationException;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.UniqueId;
 
@@ -162,6 +163,47 @@ class AbstractTestDescriptorTests implements TestDescriptorOrderChildrenTests {
 			UniqueId.forEngine("testEngine"));
 	}
 
+	@Test
+	void computesDeferredDisplayNameOnlyOnceWhenFirstRequested() {
+		var invocations = new AtomicInteger();
+		var descriptor = new AbstractTestDescriptor(UniqueId.root("leaf", "lazy"), () -> {
+			invocations.incrementAndGet();
+			return "lazy";
+		}, null) {
+			@Override
+			public Type getType() {
+				return Type.TEST;
+			}
+		};
+
+		assertEquals(0, invocations.get());
+		var deferredDisplayName = descriptor.getDeferredDisplayName().orElseThrow();
+		assertEquals(0, invocations.get());
+
+		assertEquals("lazy", descriptor.getDisplayName());
+		assertEquals("lazy", deferredDisplayName.get());
+		assertEquals("lazy", descriptor.getDisplayName());
+		assertEquals(1, invocations.get());
+		assertThat(descriptor.getDeferredDisplayName()).isEmpty();
+	}
+
+	@Test
+	void rejectsBlankDeferredDisplayNameWhenComputed() {
+		var descriptor = new AbstractTestDescriptor(UniqueId.root("leaf", "blank"), () -> " ", null) {
+			@Override
+			public Type getType() {
+				return Type.TEST;
+			}
+		};
+
+		assertThrows(PreconditionViolationException.class, descriptor::getDisplayName);
+	}
+
+	@Test
+	void doesNotDeferDisplayNamesPassedAsString() {
+		assertThat(leaf111.getDeferredDisplayName()).isEmpty();
+	}
+
 	private List<UniqueId> getAncestorsUniqueIds(TestDescriptor descriptor) {
 		return descriptor.getAncestors().stream().map(TestDescriptor::getUniqueId).toList();
 	}
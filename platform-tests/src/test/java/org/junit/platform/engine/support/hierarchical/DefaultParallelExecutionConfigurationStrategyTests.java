@@ -51,6 +51,7 @@ class DefaultParallelExecutionConfigurationStrategyTests {
 		assertThat(configuration.getKeepAliveSeconds()).isEqualTo(30);
 		assertThat(configuration.getSaturatePredicate()).isNotNull();
 		assertThat(configuration.getSaturatePredicate().test(null)).isTrue();
+		assertThat(configuration.getMaxUnfinishedDynamicTasks()).isEqualTo(256 + 42);
 	}
 
 	@Test
@@ -82,6 +83,7 @@ class DefaultParallelExecutionConfigurationStrategyTests {
 		assertThat(configuration.getKeepAliveSeconds()).isEqualTo(30);
 		assertThat(configuration.getSaturatePredicate()).isNotNull();
 		assertThat(configuration.getSaturatePredicate().test(null)).isTrue();
+		assertThat(configuration.getMaxUnfinishedDynamicTasks()).isEqualTo(256 + (availableProcessors * 2));
 	}
 
 	@Test
@@ -118,6 +120,30 @@ class DefaultParallelExecutionConfigurationStrategyTests {
 		assertThat(configuration.getKeepAliveSeconds()).isEqualTo(5);
 		assertThat(configuration.getSaturatePredicate()).isNotNull();
 		assertThat(configuration.getSaturatePredicate().test(null)).isTrue();
+		assertThat(configuration.getMaxUnfinishedDynamicTasks()).isEqualTo(Integer.MAX_VALUE);
+	}
+
+	@ParameterizedTest
+	@EnumSource(names = { "FIXED", "DYNAMIC" })
+	void usesConfiguredMaxUnfinishedDynamicTasks(DefaultParallelExecutionConfigurationStrategy strategy) {
+		when(configParams.get("fixed.parallelism")).thenReturn(Optional.of("42"));
+		when(configParams.get("max-unfinished-dynamic-tasks")).thenReturn(Optional.of("7"));
+
+		var configuration = strategy.createConfiguration(configParams);
+
+		assertThat(configuration.getMaxUnfinishedDynamicTasks()).isEqualTo(7);
+	}
+
+	@ParameterizedTest
+	@EnumSource(names = { "FIXED", "DYNAMIC" })
+	void throwsExceptionWhenMaxUnfinishedDynamicTasksIsNotPositive(
+			DefaultParallelExecutionConfigurationStrategy strategy) {
+		when(configParams.get("fixed.parallelism")).thenReturn(Optional.of("42"));
+		when(configParams.get("max-unfinished-dynamic-tasks")).thenReturn(Optional.of("0"));
+
+		var exception = assertThrows(JUnitException.class, () -> strategy.createConfiguration(configParams));
+
+		assertThat(exception).hasMessageContaining("max-unfinished-dynamic-tasks");
 	}
 
 	@ParameterizedTest
@@ -10,6 +10,7 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import static java.util.concurrent.CompletableFuture.completedFuture;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -29,11 +30,19 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mockito.quality.Strictness.LENIENT;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
+import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -598,6 +607,86 @@ class HierarchicalTestExecutorTests {
 		assertTrue(interrupted.get(), "dynamic node was interrupted");
 	}
 
+	@Test
+	void waitsForUnfinishedDynamicTasksWhenLimitIsReached() throws Exception {
+
+		var leafUniqueId = UniqueId.root("leaf", "child leaf");
+		var child = spy(new MyLeaf(leafUniqueId));
+		var dynamicTestDescriptor1 = spy(new MyLeaf(leafUniqueId.append("dynamic", "child1")));
+		var dynamicTestDescriptor2 = spy(new MyLeaf(leafUniqueId.append("dynamic", "child2")));
+		root.addChild(child);
+
+		var events = new CopyOnWriteArrayList<String>();
+		when(child.execute(any(), any())).thenAnswer(useDynamicTestExecutor(executor -> {
+			executor.execute(dynamicTestDescriptor1);
+			executor.execute(dynamicTestDescriptor2);
+			events.add("registered child2");
+			executor.awaitFinished();
+		}));
+		when(dynamicTestDescriptor1.execute(any(), any())).thenAnswer(invocation -> {
+			events.add("executed child1");
+			return invocation.getArgument(0);
+		});
+
+		try (var executorService = new AsynchronousDynamicTestExecutorService(1)) {
+			createExecutor(executorService).execute().get();
+		}
+
+		assertThat(events).containsExactly("executed child1", "registered child2");
+		verify(listener).executionFinished(dynamicTestDescriptor1, successful());
+		verify(listener).executionFinished(dynamicTestDescriptor2, successful());
+		verify(listener).executionFinished(child, successful());
+	}
+
+	@Test
+	void limitsUnfinishedDynamicTasksOfForkJoinPoolExecutorService() throws Exception {
+
+		var leafUniqueId = UniqueId.root("leaf", "child leaf");
+		var child = spy(new MyLeaf(leafUniqueId));
+		root.addChild(child);
+
+		var dynamicTestDescriptors = IntStream.range(0, 10) //
+				.mapToObj(i -> spy(new MyLeaf(leafUniqueId.append("dynamic", "child" + i)))) //
+				.toList();
+		for (var dynamicTestDescriptor : dynamicTestDescriptors) {
+			when(dynamicTestDescriptor.execute(any(), any())).thenAnswer(invocation -> {
+				Thread.sleep(10);
+				return invocation.getArgument(0);
+			});
+		}
+
+		var unfinishedTasks = new AtomicInteger();
+		var maxUnfinishedTasks = new AtomicInteger();
+		var countingListener = new EngineExecutionListener() {
+			@Override
+			public void dynamicTestRegistered(TestDescriptor testDescriptor) {
+				maxUnfinishedTasks.accumulateAndGet(unfinishedTasks.incrementAndGet(), Math::max);
+			}
+
+			@Override
+			public void executionFinished(TestDescriptor testDescriptor, TestExecutionResult testExecutionResult) {
+				unfinishedTasks.decrementAndGet();
+			}
+		};
+		when(child.execute(any(), any())).thenAnswer(useDynamicTestExecutor(executor -> {
+			for (var dynamicTestDescriptor : dynamicTestDescriptors) {
+				executor.execute(dynamicTestDescriptor, countingListener);
+			}
+			executor.awaitFinished();
+		}));
+
+		var configuration = new DefaultParallelExecutionConfiguration(2, 2, 2, 2, 1, __ -> true, 1);
+		try (var executorService = new ForkJoinPoolHierarchicalTestExecutorService(configuration)) {
+			createExecutor(executorService).execute().get();
+		}
+
+		assertThat(maxUnfinishedTasks).hasValue(1);
+		assertThat(unfinishedTasks).hasValue(0);
+		dynamicTestDescriptors.forEach(
+			dynamicTestDescriptor -> verify(dynamicTestDescriptor).execute(eq(rootContext), any()));
+		verify(listener).executionFinished(child, successful());
+	}
+
 	private Answer<Object> execute(TestDescriptor dynamicChild) {
 		return useDynamicTestExecutor(executor -> executor.execute(dynamicChild));
 	}
@@ -776,6 +865,44 @@ class HierarchicalTestExecutorTests {
 	private static class MyEngineExecutionContext implements EngineExecutionContext {
 	}
 
+	/**
+	 * Executes dynamic tasks asynchronously without limiting the amount of
+	 * queued work and all others in the calling thread.
+	 */
+	private static class AsynchronousDynamicTestExecutorService implements HierarchicalTestExecutorService {
+
+		private final ExecutorService executorService = Executors.newCachedThreadPool();
+		private final int maxUnfinishedDynamicTasks;
+
+		AsynchronousDynamicTestExecutorService(int maxUnfinishedDynamicTasks) {
+			this.maxUnfinishedDynamicTasks = maxUnfinishedDynamicTasks;
+		}
+
+		@Override
+		public Future<@Nullable Void> submit(TestTask testTask) {
+			if (testTask.getTestDescriptor().getUniqueId().getLastSegment().getType().equals("dynamic")) {
+				return CompletableFuture.runAsync(testTask::execute, executorService);
+			}
+			testTask.execute();
+			return completedFuture(null);
+		}
+
+		@Override
+		public void invokeAll(List<? extends TestTask> testTasks) {
+			testTasks.forEach(TestTask::execute);
+		}
+
+		@Override
+		public int getMaxUnfinishedDynamicTasks() {
+			return maxUnfinishedDynamicTasks;
+		}
+
+		@Override
+		public void close() {
+			executorService.shutdownNow();
+		}
+	}
+
 	private static class MyContainer extends AbstractTestDescriptor implements Node<MyEngineExecutionContext> {
 
 		MyContainer(UniqueId uniqueId) {
@@ -11,27 +11,37 @@
 package org.junit.platform.engine.support.store;
 
 import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.platform.commons.test.ConcurrencyTestingUtils.executeConcurrently;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 
+import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.ThrowingConsumer;
 
 /**
  * Unit tests for {@link NamespacedHierarchicalStore}.
@@ -316,6 +326,23 @@ public class NamespacedHierarchicalStoreTests {
 			assertNull(store.get(namespace, key));
 		}
 
+		@Test
+		void computesValueOncePerNamespaceForConcurrentLookups() throws Exception {
+			int threads = 10;
+			AtomicInteger threadCounter = new AtomicInteger();
+			AtomicInteger computationCounter = new AtomicInteger();
+			List<Object> values;
+
+			try (var localStore = new NamespacedHierarchicalStore<>(null)) {
+				values = executeConcurrently(threads, //
+					() -> requireNonNull(localStore.getOrComputeIfAbsent(threadCounter.getAndIncrement() % 2, key,
+						it -> "value-" + computationCounter.incrementAndGet())));
+			}
+
+			assertEquals(2, computationCounter.get());
+			assertThat(values).hasSize(threads).containsOnly("value-1", "value-2");
+		}
+
 		@Test
 		void simulateRaceConditionInGetOrComputeIfAbsent() throws Exception {
 			int threads = 10;
@@ -400,6 +427,22 @@ public class NamespacedHierarchicalStoreTests {
 			verifyNoMoreInteractions(closeAction);
 		}
 
+		@Test
+		void callsCloseActionInReverseInsertionOrderAcrossNamespacesWhenClosingStore() throws Throwable {
+			store.put(namespace, "key1", "value1");
+			store.put("other ns", "key2", "value2");
+			store.put(namespace, "key3", "value3");
+
+			store.close();
+
+			var inOrder = inOrder(closeAction);
+			inOrder.verify(closeAction).close(namespace, "key3", "value3");
+			inOrder.verify(closeAction).close("other ns", "key2", "value2");
+			inOrder.verify(closeAction).close(namespace, "key1", "value1");
+
+			verifyNoMoreInteractions(closeAction);
+		}
+
 		@Test
 		void doesNotCallCloseActionForRemovedValues() {
 			store.put(namespace, key, value);
@@ -565,6 +608,240 @@ public class NamespacedHierarchicalStoreTests {
 
 	}
 
+	@Nested
+	class AsyncComputationTests {
+
+		private final List<Runnable> tasks = new ArrayList<>();
+		private final Executor executor = tasks::add;
+
+		@Test
+		void computesValueUsingSuppliedExecutor() {
+			var future = store.getOrComputeIfAbsentAsync(namespace, key, __ -> value, executor);
+
+			assertThat(future).isNotDone();
+			assertThat(tasks).hasSize(1);
+
+			tasks.get(0).run();
+
+			assertThat(future).isCompletedWithValue(value);
+			assertThat(store.get(namespace, key)).isEqualTo(value);
+			assertThat(store.getOrComputeIfAbsent(namespace, key, __ -> "other")).isEqualTo(value);
+		}
+
+		@Test
+		void getRethrowsExceptionOfFailedComputation() {
+			var exception = new RuntimeException("boom");
+
+			store.getOrComputeIfAbsentAsync(namespace, key, __ -> {
+				throw exception;
+			}, executor);
+			tasks.get(0).run();
+
+			assertThatThrownBy(() -> store.get(namespace, key)).isSameAs(exception);
+		}
+
+		@Test
+		void computesValueAtMostOnce() {
+			var future = store.getOrComputeIfAbsentAsync(namespace, key, __ -> value, executor);
+			var otherFuture = store.getOrComputeIfAbsentAsync(namespace, key, __ -> "other", executor);
+			var childFuture = store.newChild().getOrComputeIfAbsentAsync(namespace, key, __ -> "other",
+				executor);
+
+			assertThat(tasks).hasSize(1);
+
+			tasks.get(0).run();
+
+			assertThat(future).isCompletedWithValue(value);
+			assertThat(otherFuture).isCompletedWithValue(value);
+			assertThat(childFuture).isCompletedWithValue(value);
+		}
+
+		@Test
+		void returnsFutureStoredInParentStore() {
+			parentStore.getOrComputeIfAbsentAsync(namespace, key, __ -> value, executor);
+
+			var future = store.getOrComputeIfAbsentAsync(namespace, key, __ -> "other", executor);
+			tasks.get(0).run();
+
+			assertThat(future).isCompletedWithValue(value);
+			assertThat(tasks).hasSize(1);
+		}
+
+		@Test
+		void completingOrCancellingReturnedFutureDoesNotAffectStoredValue() {
+			var future = store.getOrComputeIfAbsentAsync(namespace, key, __ -> value, executor);
+			var cancelledFuture = store.getOrComputeIfAbsentAsync(namespace, key, __ -> value, executor);
+
+			future.complete("tampered");
+			future.obtrudeValue("tampered");
+			cancelledFuture.cancel(true);
+			tasks.get(0).run();
+
+			assertThat(store.getOrComputeIfAbsentAsync(namespace, key, __ -> "other", executor)) //
+					.isCompletedWithValue(value);
+		}
+
+		@Test
+		void returnsCompletedFutureForValueThatWasStoredSynchronously() {
+			store.put(namespace, key, value);
+
+			var future = store.getOrComputeIfAbsentAsync(namespace, key, __ -> "other", executor);
+
+			assertThat(future).isCompletedWithValue(value);
+			assertThat(tasks).isEmpty();
+		}
+
+		@Test
+		void completesFutureExceptionallyIfValueIsNotOfRequiredType() {
+			store.put(namespace, key, value);
+
+			var future = store.getOrComputeIfAbsentAsync(namespace, key, __ -> 42, Integer.class, executor);
+
+			assertThat(future).isCompletedExceptionally();
+			assertThatThrownBy(future::join).hasCauseInstanceOf(NamespacedHierarchicalStoreException.class);
+		}
+
+		@Test
+		void completesFutureExceptionallyIfComputationFails() {
+			var exception = new RuntimeException("boom");
+
+			var future = store.getOrComputeIfAbsentAsync(namespace, key, __ -> {
+				throw exception;
+			}, executor);
+			tasks.get(0).run();
+
+			assertThat(future).isCompletedExceptionally();
+			assertThatThrownBy(future::join).hasCause(exception);
+		}
+
+		@Test
+		void closesComputedAutoCloseableWhenStoreIsClosed() throws Exception {
+			AutoCloseable closeable = mock();
+			var localStore = new NamespacedHierarchicalStore<String>(null,
+				NamespacedHierarchicalStore.CloseAction.closeAutoCloseables());
+
+			localStore.getOrComputeIfAbsentAsync(namespace, key, __ -> closeable, executor);
+			tasks.get(0).run();
+			localStore.close();
+
+			verify(closeable).close();
+		}
+
+		@Test
+		void cancelsUnfinishedComputationWhenStoreIsClosedAndClosesValueOnceComputed() throws Exception {
+			AutoCloseable closeable = mock();
+			var localStore = new NamespacedHierarchicalStore<String>(null,
+				NamespacedHierarchicalStore.CloseAction.closeAutoCloseables());
+
+			var future = localStore.getOrComputeIfAbsentAsync(namespace, key, __ -> closeable, executor);
+			localStore.close();
+
+			assertThat(future).isCompletedExceptionally();
+			verify(closeable, never()).close();
+
+			tasks.get(0).run();
+
+			verify(closeable).close();
+		}
+
+	}
+
+	@Nested
+	class GroupingCloseActionTests {
+
+		private final List<String> closedValues = new CopyOnWriteArrayList<>();
+
+		@Test
+		void closesValuesOfDifferentGroupsConcurrently() {
+			var latch = new CountDownLatch(1);
+			var closeAction = groupingCloseAction(value -> {
+				if (value.equals("a")) {
+					latch.countDown();
+				}
+				else if (value.equals("b")) {
+					assertTrue(latch.await(10, SECONDS), "value of other group was not closed concurrently");
+				}
+			});
+
+			try (var localStore = new NamespacedHierarchicalStore<>(null, closeAction)) {
+				localStore.put(namespace, "key1", "a");
+				localStore.put(namespace, "key2", "b");
+			}
+
+			assertThat(closedValues).containsExactlyInAnyOrder("a", "b");
+		}
+
+		@Test
+		void closesValuesOfSameGroupInReverseInsertionOrder() {
+			var closeAction = groupingCloseAction(__ -> {
+			});
+
+			try (var localStore = new NamespacedHierarchicalStore<>(null, closeAction)) {
+				localStore.put(namespace, "key1", "a1");
+				localStore.put(namespace, "key2", "a2");
+				localStore.put(namespace, "key3", "a3");
+			}
+
+			assertThat(closedValues).containsExactly("a3", "a2", "a1");
+		}
+
+		@Test
+		void closesUngroupedValuesAfterValuesStoredAfterThemAndBeforeValuesStoredBeforeThem() {
+			var closeAction = groupingCloseAction(__ -> {
+			});
+
+			try (var localStore = new NamespacedHierarchicalStore<>(null, closeAction)) {
+				localStore.put(namespace, "key1", "a1");
+				localStore.put(namespace, "key2", "b1");
+				localStore.put(namespace, "key3", "ungrouped");
+				localStore.put(namespace, "key4", "a2");
+				localStore.put(namespace, "key5", "b2");
+			}
+
+			assertThat(closedValues).hasSize(5);
+			assertThat(closedValues.subList(0, 2)).containsExactlyInAnyOrder("a2", "b2");
+			assertThat(closedValues.get(2)).isEqualTo("ungrouped");
+			assertThat(closedValues.subList(3, 5)).containsExactlyInAnyOrder("a1", "b1");
+		}
+
+		@Test
+		void collectsExceptionsOfAllGroups() {
+			var closeAction = groupingCloseAction(value -> {
+				throw new IllegalStateException(value);
+			});
+
+			var localStore = new NamespacedHierarchicalStore<>(null, closeAction);
+			localStore.put(namespace, "key1", "a");
+			localStore.put(namespace, "key2", "b");
+			localStore.put(namespace, "key3", "ungrouped");
+
+			var exception = assertThrows(IllegalStateException.class, localStore::close);
+
+			assertThat(localStore.isClosed()).isTrue();
+			assertThat(exception).hasMessage("ungrouped");
+			assertThat(exception.getSuppressed()).extracting(Throwable::getMessage) //
+					.containsExactlyInAnyOrder("a", "b");
+		}
+
+		private NamespacedHierarchicalStore.GroupingCloseAction<String> groupingCloseAction(
+				ThrowingConsumer<String> onClose) {
+			return new NamespacedHierarchicalStore.GroupingCloseAction<>() {
+
+				@Override
+				public void close(String namespace, Object key, Object value) throws Throwable {
+					onClose.accept((String) value);
+					closedValues.add((String) value);
+				}
+
+				@Override
+				public @Nullable Object getCloseGroup(String namespace, Object key, Object value) {
+					return value.equals("ungrouped") ? null : ((String) value).charAt(0);
+				}
+			};
+		}
+
+	}
+
 	private static Object createObject(String display) {
 		return new Object() {
 
@@ -17,6 +17,7 @@ import static org.junit.platform.commons.util.SerializationUtils.deserialize;
 import static org.junit.platform.commons.util.SerializationUtils.serialize;
 
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 import org.junit.platform.engine.TestDescriptor;
@@ -41,6 +42,35 @@ class TestIdentifierTests {
 		assertEquals("displayName", testIdentifier.getDisplayName());
 	}
 
+	@Test
+	void defersDisplayNameIfComputedLazilyByDescriptor() throws Exception {
+		var invocations = new AtomicInteger();
+		var testDescriptor = new AbstractTestDescriptor(UniqueId.root("aType", "uniqueId"), () -> {
+			invocations.incrementAndGet();
+			return "displayName";
+		}, null) {
+			@Override
+			public Type getType() {
+				return Type.TEST;
+			}
+
+			@Override
+			public String getLegacyReportingName() {
+				return "reportingName";
+			}
+		};
+
+		var testIdentifier = TestIdentifier.from(testDescriptor);
+		assertEquals(0, invocations.get());
+
+		assertEquals("displayName", testIdentifier.getDisplayName());
+		assertEquals("displayName", testDescriptor.getDisplayName());
+		assertEquals(1, invocations.get());
+
+		var deserializedIdentifier = (TestIdentifier) deserialize(serialize(testIdentifier));
+		assertEquals("displayName", deserializedIdentifier.getDisplayName());
+	}
+
 	@Test
 	void inheritsTypeFromDescriptor() {
 		TestDescriptor descriptor = new TestDescriptorStub(UniqueId.root("aType", "uniqueId"), "displayName");
@@ -10,6 +10,8 @@
 
 package org.junit.platform.launcher;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.platform.launcher.core.OutputDirectoryProviders.dummyOutputDirectoryProvider;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
@@ -17,6 +19,7 @@ import static org.mockito.Mockito.mock;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.PreconditionViolationException;
 import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.descriptor.EngineDescriptor;
@@ -64,4 +67,68 @@ class TestPlanTests {
 		inOrder.verify(visitor).postVisitContainer(TestIdentifier.from(engineDescriptor2));
 	}
 
+	@Test
+	void providesChildrenParentAndDescendantsOfDiscoveredIdentifiers() {
+		var container = new TestDescriptorStub(engineDescriptor.getUniqueId().append("container", "bar"), "Bar");
+		var test1 = new TestDescriptorStub(container.getUniqueId().append("test", "bar1"), "Bar");
+		var test2 = new TestDescriptorStub(container.getUniqueId().append("test", "bar2"), "Bar");
+		var test3 = new TestDescriptorStub(engineDescriptor.getUniqueId().append("test", "foo"), "Foo");
+		container.addChild(test1);
+		container.addChild(test2);
+		engineDescriptor.addChild(container);
+		engineDescriptor.addChild(test3);
+
+		var testPlan = TestPlan.from(true, List.of(engineDescriptor), configParams, dummyOutputDirectoryProvider());
+
+		var engineIdentifier = TestIdentifier.from(engineDescriptor);
+		var containerIdentifier = TestIdentifier.from(container);
+		assertThat(testPlan.getRoots()).containsExactly(engineIdentifier);
+		assertThat(testPlan.getChildren(engineIdentifier)) //
+				.containsExactly(containerIdentifier, TestIdentifier.from(test3)) //
+				.contains(TestIdentifier.from(test3)) //
+				.doesNotContain(TestIdentifier.from(test1));
+		assertThat(testPlan.getChildren(containerIdentifier)) //
+				.containsExactly(TestIdentifier.from(test1), TestIdentifier.from(test2));
+		assertThat(testPlan.getChildren(test1.getUniqueId())).isEmpty();
+		assertThat(testPlan.getParent(TestIdentifier.from(test2))).contains(containerIdentifier);
+		assertThat(testPlan.getParent(engineIdentifier)).isEmpty();
+		assertThat(testPlan.getDescendants(engineIdentifier)) //
+				.containsExactly(containerIdentifier, TestIdentifier.from(test1), TestIdentifier.from(test2),
+					TestIdentifier.from(test3)) //
+				.doesNotContain(engineIdentifier);
+		assertThat(testPlan.getTestIdentifier(test2.getUniqueId())).isEqualTo(TestIdentifier.from(test2));
+		assertThat(testPlan.countTestIdentifiers(TestIdentifier::isTest)).isEqualTo(3);
+		assertThatThrownBy(() -> testPlan.getTestIdentifier(engineDescriptor.getUniqueId().append("test", "baz"))) //
+				.isInstanceOf(PreconditionViolationException.class);
+	}
+
+	@Test
+	void includesIdentifiersAddedAfterDiscovery() {
+		var container = new TestDescriptorStub(engineDescriptor.getUniqueId().append("container", "bar"), "Bar");
+		var test1 = new TestDescriptorStub(container.getUniqueId().append("test", "bar1"), "Bar");
+		container.addChild(test1);
+		engineDescriptor.addChild(container);
+
+		var testPlan = TestPlan.from(true, List.of(engineDescriptor), configParams, dummyOutputDirectoryProvider());
+		var containerIdentifier = TestIdentifier.from(container);
+		var children = testPlan.getChildren(containerIdentifier);
+
+		var dynamicContainer = new TestDescriptorStub(container.getUniqueId().append("dynamic", "1"), "Dynamic");
+		var dynamicTest = new TestDescriptorStub(dynamicContainer.getUniqueId().append("test", "1"), "Test");
+		container.addChild(dynamicContainer);
+		dynamicContainer.addChild(dynamicTest);
+		testPlan.addInternal(TestIdentifier.from(dynamicContainer));
+		testPlan.addInternal(TestIdentifier.from(dynamicTest));
+
+		assertThat(children).containsExactly(TestIdentifier.from(test1), TestIdentifier.from(dynamicContainer));
+		assertThat(testPlan.getChildren(dynamicContainer.getUniqueId())) //
+				.containsExactly(TestIdentifier.from(dynamicTest));
+		assertThat(testPlan.getParent(TestIdentifier.from(dynamicTest))) //
+				.contains(TestIdentifier.from(dynamicContainer));
+		assertThat(testPlan.getDescendants(TestIdentifier.from(engineDescriptor))) //
+				.containsExactly(containerIdentifier, TestIdentifier.from(test1), TestIdentifier.from(dynamicContainer),
+					TestIdentifier.from(dynamicTest));
+		assertThat(testPlan.countTestIdentifiers(TestIdentifier::isTest)).isEqualTo(2);
+	}
+
 }
@@ -0,0 +1,219 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.platform.engine.TestExecutionResult.successful;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
+import static org.junit.platform.launcher.LauncherConstants.ASYNC_LISTENER_DISPATCH_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.CAPTURE_STDOUT_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.STDOUT_REPORT_ENTRY_KEY;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly.createLauncher;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.fixtures.TrackLogRecords;
+import org.junit.platform.commons.logging.LogRecordListener;
+import org.junit.platform.commons.util.ReflectionUtils;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.engine.support.descriptor.DemoMethodTestDescriptor;
+import org.junit.platform.engine.support.hierarchical.DemoHierarchicalTestEngine;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+import org.junit.platform.launcher.core.AsyncDispatchingTestExecutionListener.OverflowStrategy;
+import org.junit.platform.launcher.core.StreamInterceptingTestExecutionListenerIntegrationTests.HiddenSystemOutAndErr;
+
+/**
+ * @since 6.0
+ */
+class AsyncDispatchingTestExecutionListenerTests {
+
+	private final TestPlan testPlan = mock();
+	private final TestIdentifier testIdentifier = anyTestIdentifier();
+
+	@Test
+	void dispatchesEventsInOrderInSeparateThread() {
+		var listener = new RecordingListener();
+
+		try (var asyncListener = new AsyncDispatchingTestExecutionListener(listener, 2, OverflowStrategy.BLOCK)) {
+			asyncListener.testPlanExecutionStarted(testPlan);
+			asyncListener.executionStarted(testIdentifier);
+			asyncListener.reportingEntryPublished(testIdentifier, ReportEntry.from("key", "value"));
+			asyncListener.executionFinished(testIdentifier, successful());
+			asyncListener.testPlanExecutionFinished(testPlan);
+
+			assertThat(listener.events).containsExactly("testPlanExecutionStarted", "executionStarted",
+				"reportingEntryPublished", "executionFinished", "testPlanExecutionFinished");
+			assertThat(listener.threads).hasSize(1).doesNotContain(Thread.currentThread());
+		}
+	}
+
+	@Test
+	void dropsReportingEntriesButNoOtherEventsWhenBufferIsFull() {
+		var blocked = new CountDownLatch(1);
+		var unblock = new CountDownLatch(1);
+		var listener = new RecordingListener() {
+			@Override
+			public void testPlanExecutionStarted(TestPlan testPlan) {
+				super.testPlanExecutionStarted(testPlan);
+				blocked.countDown();
+				await(unblock);
+			}
+		};
+
+		try (var asyncListener = new AsyncDispatchingTestExecutionListener(listener, 1, OverflowStrategy.DROP)) {
+			asyncListener.testPlanExecutionStarted(testPlan);
+			await(blocked);
+			asyncListener.executionStarted(testIdentifier);
+			asyncListener.reportingEntryPublished(testIdentifier, ReportEntry.from("key", "value"));
+			unblock.countDown();
+			asyncListener.executionFinished(testIdentifier, successful());
+			asyncListener.testPlanExecutionFinished(testPlan);
+
+			assertThat(listener.events).containsExactly("testPlanExecutionStarted", "executionStarted",
+				"executionFinished", "testPlanExecutionFinished");
+		}
+	}
+
+	@Test
+	void rethrowsUnrecoverableExceptionsWhenTestPlanExecutionFinished() {
+		var listener = new RecordingListener() {
+			@Override
+			public void executionStarted(TestIdentifier testIdentifier) {
+				throw new OutOfMemoryError("test");
+			}
+		};
+
+		try (var asyncListener = new AsyncDispatchingTestExecutionListener(listener, 1, OverflowStrategy.BLOCK)) {
+			asyncListener.executionStarted(testIdentifier);
+			assertThatThrownBy(() -> asyncListener.testPlanExecutionFinished(testPlan)) //
+					.isInstanceOf(OutOfMemoryError.class) //
+					.hasMessage("test");
+			assertThat(listener.events).containsExactly("testPlanExecutionFinished");
+		}
+	}
+
+	@Test
+	void logsInsteadOfRethrowingUnrecoverableExceptionsWhenClosed(@TrackLogRecords LogRecordListener logRecords) {
+		var failure = new OutOfMemoryError("test");
+		var listener = new RecordingListener() {
+			@Override
+			public void executionStarted(TestIdentifier testIdentifier) {
+				throw failure;
+			}
+		};
+
+		var asyncListener = new AsyncDispatchingTestExecutionListener(listener, 1, OverflowStrategy.BLOCK);
+		asyncListener.executionStarted(testIdentifier);
+		asyncListener.executionFinished(testIdentifier, successful());
+		asyncListener.close();
+
+		assertThat(listener.events).containsExactly("executionFinished");
+		assertThat(logRecords.stream(AsyncDispatchingTestExecutionListener.class, Level.SEVERE)) //
+				.extracting(LogRecord::getThrown) //
+				.containsExactly(failure);
+	}
+
+	@Test
+	@ExtendWith(HiddenSystemOutAndErr.class)
+	void notifiesRegisteredListenersAsynchronouslyWhenEnabled() {
+		var engine = new DemoHierarchicalTestEngine("engine");
+		var test = engine.addTest("test", () -> System.out.print("output"));
+		var listener = new RecordingListener();
+
+		var executionRequest = request() //
+				.selectors(selectUniqueId(test.getUniqueId())) //
+				.configurationParameter(ASYNC_LISTENER_DISPATCH_ENABLED_PROPERTY_NAME, "true") //
+				.configurationParameter(CAPTURE_STDOUT_PROPERTY_NAME, "true") //
+				.forExecution() //
+				.listeners(listener) //
+				.build();
+		createLauncher(engine).execute(executionRequest);
+
+		assertThat(listener.events).containsExactly("testPlanExecutionStarted", "executionStarted",
+			"executionStarted", "reportingEntryPublished", "executionFinished", "executionFinished",
+			"testPlanExecutionFinished");
+		assertThat(listener.reportEntries).extracting(ReportEntry::getKeyValuePairs) //
+				.containsExactly(Map.of(STDOUT_REPORT_ENTRY_KEY, "output"));
+		assertThat(listener.threads).hasSize(1).doesNotContain(Thread.currentThread());
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+		}
+		catch (InterruptedException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	private static TestIdentifier anyTestIdentifier() {
+		var testClass = AsyncDispatchingTestExecutionListenerTests.class;
+		var method = ReflectionUtils.findMethod(testClass, "anyTestIdentifier", new Class<?>[0]).orElseThrow();
+		return TestIdentifier.from(new DemoMethodTestDescriptor(UniqueId.root("method", "unique_id"), method));
+	}
+
+	private static class RecordingListener implements TestExecutionListener {
+
+		final List<String> events = new ArrayList<>();
+		final List<ReportEntry> reportEntries = new ArrayList<>();
+		final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+
+		private void record(String event) {
+			this.threads.add(Thread.currentThread());
+			this.events.add(event);
+		}
+
+		@Override
+		public void testPlanExecutionStarted(TestPlan testPlan) {
+			record("testPlanExecutionStarted");
+		}
+
+		@Override
+		public void testPlanExecutionFinished(TestPlan testPlan) {
+			record("testPlanExecutionFinished");
+		}
+
+		@Override
+		public void executionStarted(TestIdentifier testIdentifier) {
+			record("executionStarted");
+		}
+
+		@Override
+		public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+			record("executionFinished");
+		}
+
+		@Override
+		public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+			this.reportEntries.add(entry);
+			record("reportingEntryPublished");
+		}
+
+	}
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
+import static org.junit.platform.launcher.LauncherConstants.FAILED_TESTS_FAIL_FAST_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.FAILED_TESTS_MODE_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.FAILED_TESTS_TRACKING_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.OUTPUT_DIR_PROPERTY_NAME;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly.createLauncher;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.hierarchical.DemoHierarchicalTestEngine;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+
+/**
+ * Integration tests for {@link FailedTestsTrackingListener} and
+ * {@link FailedTests}.
+ *
+ * @since 6.0
+ */
+class FailedTestsTrackingTests {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void recordsFailedTestsAndRemovesThemOnceTheyPass() throws Exception {
+		var file = tempDir.resolve(FailedTests.FILE_NAME);
+
+		executeTests(Map.of(FAILED_TESTS_TRACKING_ENABLED_PROPERTY_NAME, "true"), Set.of("b", "c"));
+
+		assertThat(Files.readAllLines(file)).containsExactly(uniqueId("b"), uniqueId("c"));
+
+		executeTests(Map.of(FAILED_TESTS_TRACKING_ENABLED_PROPERTY_NAME, "true"), Set.of("c"));
+
+		assertThat(Files.readAllLines(file)).containsExactly(uniqueId("c"));
+
+		executeTests(Map.of(FAILED_TESTS_TRACKING_ENABLED_PROPERTY_NAME, "true"), Set.of());
+
+		assertThat(file).doesNotExist();
+	}
+
+	@Test
+	void doesNotRecordFailedTestsByDefault() {
+		executeTests(Map.of(), Set.of("b"));
+
+		assertThat(tempDir.resolve(FailedTests.FILE_NAME)).doesNotExist();
+	}
+
+	@Test
+	void executesOnlyPreviouslyFailedTests() {
+		executeTests(Map.of(FAILED_TESTS_TRACKING_ENABLED_PROPERTY_NAME, "true"), Set.of("b"));
+
+		var executedTests = executeTests(Map.of(FAILED_TESTS_MODE_PROPERTY_NAME, "only"), Set.of());
+
+		assertThat(executedTests).containsExactly("b");
+		assertThat(tempDir.resolve(FailedTests.FILE_NAME)).doesNotExist();
+	}
+
+	@Test
+	void executesPreviouslyFailedTestsFirst() {
+		executeTests(Map.of(FAILED_TESTS_TRACKING_ENABLED_PROPERTY_NAME, "true"), Set.of("c"));
+
+		var executedTests = executeTests(Map.of(FAILED_TESTS_MODE_PROPERTY_NAME, "first"), Set.of());
+
+		assertThat(executedTests).containsExactly("c", "a", "b");
+	}
+
+	@Test
+	void executesAllTestsIfNoTestsFailedPreviously() {
+		var executedTests = executeTests(Map.of(FAILED_TESTS_MODE_PROPERTY_NAME, "only"), Set.of());
+
+		assertThat(executedTests).containsExactly("a", "b", "c");
+	}
+
+	@Test
+	void cancelsExecutionWhenPreviouslyFailedTestFailsAgainInFailFastMode() throws Exception {
+		executeTests(Map.of(FAILED_TESTS_TRACKING_ENABLED_PROPERTY_NAME, "true"), Set.of("b"));
+
+		var executedTests = executeTests(
+			Map.of(FAILED_TESTS_MODE_PROPERTY_NAME, "first", FAILED_TESTS_FAIL_FAST_PROPERTY_NAME, "true"),
+			Set.of("a", "b", "c"));
+
+		assertThat(executedTests).containsExactly("b");
+		assertThat(Files.readAllLines(tempDir.resolve(FailedTests.FILE_NAME))).containsExactly(uniqueId("b"));
+	}
+
+	private List<String> executeTests(Map<String, String> configurationParameters, Set<String> failingTests) {
+		var engine = new DemoHierarchicalTestEngine("engine");
+		for (var name : List.of("a", "b", "c")) {
+			engine.addTest(name, () -> {
+				if (failingTests.contains(name)) {
+					throw new AssertionError(name);
+				}
+			});
+		}
+		List<String> executedTests = new ArrayList<>();
+		var listener = new TestExecutionListener() {
+			@Override
+			public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+				if (testIdentifier.isTest()) {
+					executedTests.add(testIdentifier.getUniqueIdObject().getLastSegment().getValue());
+				}
+			}
+		};
+		var request = request() //
+				.selectors(selectUniqueId(engine.getEngineDescriptor().getUniqueId())) //
+				.configurationParameters(configurationParameters) //
+				.configurationParameter(OUTPUT_DIR_PROPERTY_NAME, tempDir.toString()) //
+				.forExecution() //
+				.listeners(listener) //
+				.build();
+		createLauncher(engine).execute(request);
+		return executedTests;
+	}
+
+	private static String uniqueId(String name) {
+		return UniqueId.forEngine("engine").append("test", name).toString();
+	}
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @since 6.0
+ */
+class OutputCapturePropagationTests {
+
+	private final PrintStream originalOut = System.out;
+	private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+	private final StreamInterceptor streamInterceptor = StreamInterceptor.register(
+		new PrintStream(OutputStream.nullOutputStream()), System::setOut, 100).orElseThrow();
+
+	@AfterEach
+	void restoreSystemOut() {
+		System.setOut(originalOut);
+		executor.shutdownNow();
+	}
+
+	@Test
+	void attributesOutputOfWrappedRunnableToCapturingThread() throws Exception {
+		streamInterceptor.capture();
+		executor.submit(OutputCapturePropagation.wrap(() -> System.out.print("from task"))).get();
+
+		assertThat(streamInterceptor.consume()).isEqualTo("from task");
+	}
+
+	@Test
+	void attributesOutputOfWrappedCallableToCapturingThread() throws Exception {
+		streamInterceptor.capture();
+		var result = executor.submit(OutputCapturePropagation.wrap(() -> {
+			System.out.print("from task");
+			return 42;
+		})).get();
+
+		assertThat(result).isEqualTo(42);
+		assertThat(streamInterceptor.consume()).isEqualTo("from task");
+	}
+
+	@Test
+	void attributesOutputOfTasksSubmittedToWrappedExecutorToSubmittingThread() {
+		var wrappedExecutor = OutputCapturePropagation.wrap(executor);
+
+		streamInterceptor.capture();
+		CompletableFuture.runAsync(() -> System.out.print("from task"), wrappedExecutor).join();
+
+		assertThat(streamInterceptor.consume()).isEqualTo("from task");
+	}
+
+	@Test
+	void returnsTaskAsIsWhenNotCapturing() {
+		Runnable task = () -> {
+		};
+
+		assertThat(OutputCapturePropagation.wrap(task)).isSameAs(task);
+	}
+
+}
@@ -31,6 +31,7 @@ import static org.mockito.Mockito.verify;
 
 import java.io.ByteArrayOutputStream;
 import java.io.PrintStream;
+import java.nio.file.Path;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -39,10 +40,12 @@ import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.reporting.FileEntry;
 import org.junit.platform.engine.reporting.ReportEntry;
 import org.junit.platform.engine.support.hierarchical.DemoHierarchicalTestEngine;
 import org.junit.platform.launcher.LauncherConstants;
@@ -119,6 +122,42 @@ class StreamInterceptingTestExecutionListenerIntegrationTests {
 		verify(listener, never()).reportingEntryPublished(any(), any());
 	}
 
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("systemStreams")
+	@ExtendWith(HiddenSystemOutAndErr.class)
+	void publishesOutputExceedingSpillThresholdAsFileEntry(String configParam,
+			Supplier<PrintStream> printStreamSupplier, String reportKey, @TempDir Path tempDir) throws Exception {
+		var engine = new DemoHierarchicalTestEngine("engine");
+		TestDescriptor test = engine.addTest("test", () -> printStreamSupplier.get().print("1234567890"));
+
+		var launcher = createLauncher(engine);
+		var listener = mock(TestExecutionListener.class);
+		var executionRequest = request()//
+				.selectors(selectUniqueId(test.getUniqueId()))//
+				.configurationParameter(configParam, String.valueOf(true))//
+				.configurationParameter(LauncherConstants.CAPTURE_SPILL_THRESHOLD_PROPERTY_NAME, String.valueOf(5))//
+				.configurationParameter(LauncherConstants.OUTPUT_DIR_PROPERTY_NAME, tempDir.toString())//
+				.forExecution()//
+				.listeners(listener)//
+				.build();
+		launcher.execute(executionRequest);
+
+		var testPlanArgumentCaptor = ArgumentCaptor.forClass(TestPlan.class);
+		var inOrder = inOrder(listener);
+		inOrder.verify(listener).testPlanExecutionStarted(testPlanArgumentCaptor.capture());
+		var testIdentifier = testPlanArgumentCaptor.getValue().getTestIdentifier(test.getUniqueId());
+
+		var fileEntryArgumentCaptor = ArgumentCaptor.forClass(FileEntry.class);
+		inOrder.verify(listener).fileEntryPublished(same(testIdentifier), fileEntryArgumentCaptor.capture());
+		inOrder.verify(listener).executionFinished(testIdentifier, successful());
+		verify(listener, never()).reportingEntryPublished(same(testIdentifier), any());
+		var fileEntry = fileEntryArgumentCaptor.getValue();
+
+		assertThat(fileEntry.getPath()).startsWith(tempDir).hasFileName(reportKey + ".txt");
+		assertThat(fileEntry.getPath()).hasContent("1234567890");
+		assertThat(fileEntry.getMediaType().orElseThrow()).startsWith("text/plain");
+	}
+
 	@SuppressWarnings("unused") // used via @MethodSource("systemStreams")
 	private static Stream<Arguments> systemStreams() {
 		return Stream.of(//
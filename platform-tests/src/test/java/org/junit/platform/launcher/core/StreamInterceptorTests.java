@@ -12,17 +12,27 @@ package org.junit.platform.launcher.core;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.IntStream;
 
 import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.AutoClose;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.launcher.core.StreamInterceptor.CapturedOutput;
 
 /**
  * @since 1.3
@@ -120,4 +130,128 @@ class StreamInterceptorTests {
 
 		assertEquals("from non-test thread", streamInterceptor.consume().strip());
 	}
+
+	@Test
+	void spillsOutputExceedingThresholdToFile(@TempDir Path tempDir) throws Exception {
+		streamInterceptor = StreamInterceptor.register(targetStream, newStream -> this.targetStream = newStream, 100,
+			10, false).orElseThrow(RuntimeException::new);
+		var outputFile = tempDir.resolve("stdout.txt");
+
+		String outer;
+		CapturedOutput inner;
+
+		streamInterceptor.capture();
+		streamInterceptor.print("outer - ");
+		{
+			streamInterceptor.capture();
+			streamInterceptor.print("inner output exceeding threshold");
+			inner = streamInterceptor.consume(() -> outputFile);
+		}
+		streamInterceptor.print("after");
+		outer = streamInterceptor.consume();
+
+		assertAll(//
+			() -> assertEquals("", inner.text()), //
+			() -> assertEquals(outputFile, inner.file()), //
+			() -> assertEquals("inner output exceeding threshold", Files.readString(outputFile)), //
+			() -> assertEquals("outer - after", outer) //
+		);
+	}
+
+	@Test
+	void returnsOutputNotExceedingThresholdAsTextEvenIfSpilled(@TempDir Path tempDir) {
+		streamInterceptor = StreamInterceptor.register(targetStream, newStream -> this.targetStream = newStream, 100,
+			10, false).orElseThrow(RuntimeException::new);
+
+		streamInterceptor.capture();
+		streamInterceptor.print("0123456789");
+		{
+			streamInterceptor.capture();
+			streamInterceptor.print("inner");
+			var inner = streamInterceptor.consume(() -> tempDir.resolve("unused.txt"));
+
+			assertNull(inner.file());
+			assertEquals("inner", inner.text());
+		}
+		assertEquals("0123456789", streamInterceptor.consume());
+		assertFalse(Files.exists(tempDir.resolve("unused.txt")));
+	}
+
+	@Test
+	void limitsSpilledOutputToMaxNumberOfBytes(@TempDir Path tempDir) throws Exception {
+		streamInterceptor = StreamInterceptor.register(targetStream, newStream -> this.targetStream = newStream, 15,
+			5, false).orElseThrow(RuntimeException::new);
+		var outputFile = tempDir.resolve("stdout.txt");
+
+		streamInterceptor.capture();
+		streamInterceptor.print("0123456789");
+		streamInterceptor.print("abcdefghij");
+		var output = streamInterceptor.consume(() -> outputFile);
+
+		assertEquals(outputFile, output.file());
+		assertEquals("0123456789abcde", Files.readString(outputFile));
+		assertEquals("0123456789abcdefghij", originalOut.toString());
+	}
+
+	@Test
+	void attributesOutputOfChildThreadsToCapturingThreadWhenEnabled() throws Exception {
+		streamInterceptor = StreamInterceptor.register(targetStream, newStream -> this.targetStream = newStream, 100,
+			StreamInterceptor.NO_SPILLING, true).orElseThrow(RuntimeException::new);
+
+		streamInterceptor.capture();
+		var otherThreadCapturing = new CountDownLatch(1);
+		var childThreadFinished = new CountDownLatch(1);
+		var otherOutput = new AtomicReference<String>();
+		var otherThread = new Thread(() -> {
+			streamInterceptor.capture();
+			targetStream.print("from other thread");
+			otherThreadCapturing.countDown();
+			await(childThreadFinished);
+			otherOutput.set(streamInterceptor.consume());
+		});
+		otherThread.start();
+		await(otherThreadCapturing);
+
+		var childThread = new Thread(() -> targetStream.print("from child thread"));
+		childThread.start();
+		childThread.join();
+		childThreadFinished.countDown();
+		otherThread.join();
+
+		assertEquals("from child thread", streamInterceptor.consume());
+		assertEquals("from other thread", otherOutput.get());
+	}
+
+	@Test
+	void attributesOutputOfTasksToThreadTheSnapshotWasTakenFrom() throws Exception {
+		streamInterceptor = StreamInterceptor.register(targetStream, newStream -> this.targetStream = newStream,
+			100).orElseThrow(RuntimeException::new);
+		var executor = Executors.newSingleThreadExecutor();
+		try {
+			executor.submit(() -> targetStream.print("before capture")).get();
+
+			streamInterceptor.capture();
+			var snapshot = streamInterceptor.snapshot().orElseThrow();
+			executor.submit(() -> {
+				try (var ignored = snapshot.activate()) {
+					targetStream.print("from task");
+				}
+			}).get();
+
+			assertEquals("from task", streamInterceptor.consume());
+			assertTrue(streamInterceptor.snapshot().isEmpty());
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await();
+		}
+		catch (InterruptedException e) {
+			throw new RuntimeException(e);
+		}
+	}
 }
@@ -0,0 +1,236 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.impact;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.EngineFilter.includeEngines;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.platform.launcher.impact.TestImpactFilter.CHANGES_FILE_PROPERTY_NAME;
+import static org.junit.platform.launcher.impact.TestImpactFilter.CHANGES_PROPERTY_NAME;
+import static org.junit.platform.launcher.impact.TestImpactIndex.INDEX_FILE_PROPERTY_NAME;
+import static org.junit.platform.launcher.impact.TestImpactTrackingListener.ENABLED_PROPERTY_NAME;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.engine.DiscoverySelector;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.core.LauncherFactory;
+
+/**
+ * Integration tests for {@link TestImpactTrackingListener},
+ * {@link TestImpactIndex}, and {@link TestImpactFilter}.
+ *
+ * @since 6.0
+ */
+class TestImpactIntegrationTests {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void recordsDependenciesOfExecutedTestClasses() throws Exception {
+		var indexFile = tempDir.resolve("index.txt");
+
+		executeTests(Map.of(ENABLED_PROPERTY_NAME, "true", INDEX_FILE_PROPERTY_NAME, indexFile.toString()),
+			CalculatorTestCase.class, FormatterTestCase.class);
+
+		var index = TestImpactIndex.read(indexFile);
+		assertThat(index.getTestClassNames()) //
+				.containsExactly(CalculatorTestCase.class.getName(), FormatterTestCase.class.getName());
+		assertThat(index.getDependencies(CalculatorTestCase.class.getName()).orElseThrow()) //
+				.contains(CalculatorTestCase.class.getName(), Calculator.class.getName()) //
+				.doesNotContain(Formatter.class.getName(), Object.class.getName());
+		assertThat(index.getDependencies(FormatterTestCase.class.getName()).orElseThrow()) //
+				.contains(FormatterTestCase.class.getName(), Formatter.class.getName()) //
+				.doesNotContain(Calculator.class.getName());
+	}
+
+	@Test
+	void executesOnlyTestsImpactedByChangedFiles() throws Exception {
+		var indexFile = tempDir.resolve("index.txt");
+		executeTests(Map.of(ENABLED_PROPERTY_NAME, "true", INDEX_FILE_PROPERTY_NAME, indexFile.toString()),
+			CalculatorTestCase.class, FormatterTestCase.class);
+
+		var changesFile = Files.writeString(tempDir.resolve("changes.txt"),
+			"src/main/java/org/junit/platform/launcher/impact/Calculator.java\n");
+		var executedTestClasses = executeTests(
+			Map.of(CHANGES_FILE_PROPERTY_NAME, changesFile.toString(), INDEX_FILE_PROPERTY_NAME, indexFile.toString()),
+			CalculatorTestCase.class, FormatterTestCase.class);
+
+		assertThat(executedTestClasses).containsExactly(CalculatorTestCase.class.getName());
+	}
+
+	@Test
+	void executesTestsOfClassesNotContainedInIndex() throws Exception {
+		var indexFile = tempDir.resolve("index.txt");
+		executeTests(Map.of(ENABLED_PROPERTY_NAME, "true", INDEX_FILE_PROPERTY_NAME, indexFile.toString()),
+			CalculatorTestCase.class, FormatterTestCase.class);
+
+		var executedTestClasses = executeTests(
+			Map.of(CHANGES_PROPERTY_NAME, Formatter.class.getName(), INDEX_FILE_PROPERTY_NAME, indexFile.toString()),
+			CalculatorTestCase.class, FormatterTestCase.class, ExtendedTestCase.class);
+
+		assertThat(executedTestClasses) //
+				.containsExactly(FormatterTestCase.class.getName(), ExtendedTestCase.class.getName());
+	}
+
+	@Test
+	void executesTestsThatRegisterChangedExtension() throws Exception {
+		var indexFile = tempDir.resolve("index.txt");
+		executeTests(Map.of(ENABLED_PROPERTY_NAME, "true", INDEX_FILE_PROPERTY_NAME, indexFile.toString()),
+			CalculatorTestCase.class, ExtendedTestCase.class);
+
+		assertThat(TestImpactIndex.read(indexFile).getDependencies(ExtendedTestCase.class.getName()).orElseThrow()) //
+				.contains(NoOpExtension.class.getName());
+
+		var executedTestClasses = executeTests(
+			Map.of(CHANGES_PROPERTY_NAME, NoOpExtension.class.getName(), INDEX_FILE_PROPERTY_NAME,
+				indexFile.toString()),
+			CalculatorTestCase.class, ExtendedTestCase.class);
+
+		assertThat(executedTestClasses).containsExactly(ExtendedTestCase.class.getName());
+	}
+
+	@Test
+	void executesAllTestsWhenChangesCannotBeAttributedToIndexedClasses() throws Exception {
+		var indexFile = tempDir.resolve("index.txt");
+		executeTests(Map.of(ENABLED_PROPERTY_NAME, "true", INDEX_FILE_PROPERTY_NAME, indexFile.toString()),
+			CalculatorTestCase.class, FormatterTestCase.class);
+
+		var changesFile = Files.writeString(tempDir.resolve("changes.txt"),
+			"src/test/resources/junit-platform.properties\n");
+		var executedTestClasses = executeTests(
+			Map.of(CHANGES_FILE_PROPERTY_NAME, changesFile.toString(), INDEX_FILE_PROPERTY_NAME, indexFile.toString()),
+			CalculatorTestCase.class, FormatterTestCase.class);
+
+		assertThat(executedTestClasses) //
+				.containsExactly(CalculatorTestCase.class.getName(), FormatterTestCase.class.getName());
+	}
+
+	@Test
+	void executesAllTestsWhenResourceIsNamedLikeIndexedClass() throws Exception {
+		var indexFile = tempDir.resolve("index.txt");
+		executeTests(Map.of(ENABLED_PROPERTY_NAME, "true", INDEX_FILE_PROPERTY_NAME, indexFile.toString()),
+			CalculatorTestCase.class, FormatterTestCase.class);
+
+		var changesFile = Files.writeString(tempDir.resolve("changes.txt"),
+			"src/main/resources/org/junit/platform/launcher/impact/Calculator.properties\n");
+		var executedTestClasses = executeTests(
+			Map.of(CHANGES_FILE_PROPERTY_NAME, changesFile.toString(), INDEX_FILE_PROPERTY_NAME, indexFile.toString()),
+			CalculatorTestCase.class, FormatterTestCase.class);
+
+		assertThat(executedTestClasses) //
+				.containsExactly(CalculatorTestCase.class.getName(), FormatterTestCase.class.getName());
+	}
+
+	@Test
+	void executesAllTestsWhenIndexFileDoesNotExist() {
+		var executedTestClasses = executeTests(Map.of(CHANGES_PROPERTY_NAME, Formatter.class.getName(),
+			INDEX_FILE_PROPERTY_NAME, tempDir.resolve("index.txt").toString()), CalculatorTestCase.class,
+			FormatterTestCase.class);
+
+		assertThat(executedTestClasses) //
+				.containsExactly(CalculatorTestCase.class.getName(), FormatterTestCase.class.getName());
+	}
+
+	private static List<String> executeTests(Map<String, String> configurationParameters, Class<?>... testClasses) {
+		List<String> executedTestClasses = new ArrayList<>();
+		var listener = new TestExecutionListener() {
+			@Override
+			public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+				if (testIdentifier.isTest()
+						&& testIdentifier.getSource().orElseThrow() instanceof MethodSource methodSource) {
+					executedTestClasses.add(methodSource.getClassName());
+				}
+			}
+		};
+		var selectors = new ArrayList<DiscoverySelector>();
+		for (Class<?> testClass : testClasses) {
+			selectors.add(selectClass(testClass));
+		}
+		var request = request() //
+				.selectors(selectors) //
+				.filters(includeEngines("junit-jupiter")) //
+				.configurationParameters(new HashMap<>(configurationParameters)) //
+				.forExecution() //
+				.listeners(listener) //
+				.build();
+		LauncherFactory.create().execute(request);
+		return executedTestClasses;
+	}
+
+}
+
+class Calculator {
+
+	int add(int a, int b) {
+		return a + b;
+	}
+
+}
+
+class Formatter {
+
+	String format(int value) {
+		return String.valueOf(value);
+	}
+
+}
+
+class CalculatorTestCase {
+
+	@Test
+	void add() {
+		assertEquals(3, new Calculator().add(1, 2));
+	}
+
+}
+
+class FormatterTestCase {
+
+	@Test
+	void format() {
+		assertEquals("1", new Formatter().format(1));
+	}
+
+}
+
+class NoOpExtension implements BeforeEachCallback {
+
+	@Override
+	public void beforeEach(ExtensionContext context) {
+	}
+
+}
+
+@ExtendWith(NoOpExtension.class)
+class ExtendedTestCase {
+
+	@Test
+	void test() {
+	}
+
+}
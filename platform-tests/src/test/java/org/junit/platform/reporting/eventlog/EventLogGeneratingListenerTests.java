@@ -0,0 +1,403 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.reporting.eventlog;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
+import static org.junit.platform.launcher.LauncherConstants.OUTPUT_DIR_PROPERTY_NAME;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly.createLauncher;
+import static org.junit.platform.reporting.eventlog.EventLogGeneratingListener.ENABLED_PROPERTY_NAME;
+import static org.junit.platform.reporting.eventlog.EventLogGeneratingListener.FILE_NAME;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.commons.JUnitException;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.hierarchical.DemoHierarchicalTestEngine;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * Tests for {@link EventLogGeneratingListener} and {@link EventLogReader}.
+ *
+ * @since 6.0
+ */
+class EventLogGeneratingListenerTests {
+
+	@TempDir
+	Path tempDirectory;
+
+	@Test
+	void replaysRecordedEvents() throws Exception {
+		var engine = new DemoHierarchicalTestEngine("dummy");
+		engine.addContainer("container", "Container", ClassSource.from(EventLogGeneratingListenerTests.class));
+		engine.addTest("succeedingTest", "succeeding test", (context, descriptor) -> context.request() //
+				.getEngineExecutionListener() //
+				.reportingEntryPublished(descriptor, ReportEntry.from("key", "value")));
+		engine.addTest("failingTest", () -> fail("failure message"));
+
+		var recordingListener = new RecordingListener();
+		executeTests(engine, recordingListener);
+
+		var replayedEvents = replay();
+
+		assertThat(replayedEvents).isEqualTo(recordingListener.events);
+		assertThat(replayedEvents).contains( //
+			"executionStarted [engine:dummy]/[container:container] Container ClassSource", //
+			"reportingEntryPublished [engine:dummy]/[test:succeedingTest] {key=value}", //
+			"executionFinished [engine:dummy]/[test:failingTest] FAILED AssertionFailedError: failure message");
+	}
+
+	@Test
+	void replaysCompleteEventsOfTruncatedEventLog() throws Exception {
+		var engine = new DemoHierarchicalTestEngine("dummy");
+		engine.addTest("test", () -> {
+		});
+
+		executeTests(engine, new RecordingListener());
+
+		var eventLog = tempDirectory.resolve(FILE_NAME);
+		try (var channel = FileChannel.open(eventLog, StandardOpenOption.WRITE)) {
+			channel.truncate(channel.size() - 1);
+		}
+
+		assertThat(replay()) //
+				.last().isEqualTo("testPlanExecutionFinished");
+	}
+
+	@Test
+	void reportsFilesThatAreNoEventLogs() throws Exception {
+		var file = Files.writeString(tempDirectory.resolve("file.txt"), "not an event log");
+
+		assertThatThrownBy(() -> EventLogReader.open(file)) //
+				.isInstanceOf(JUnitException.class) //
+				.hasMessage("Not an event log: " + file);
+	}
+
+	@Test
+	void doesNotRecordSystemPropertiesThatAreNoJUnitConfigurationParameters() throws Exception {
+		var engine = new DemoHierarchicalTestEngine("dummy");
+		engine.addTest("test", () -> {
+		});
+
+		var configurationParameters = new AtomicReference<ConfigurationParameters>();
+		System.setProperty("event.log.test.secret", "secret");
+		try {
+			var request = request() //
+					.selectors(selectUniqueId(UniqueId.forEngine(engine.getId()))) //
+					.configurationParameter(ENABLED_PROPERTY_NAME, "true") //
+					.configurationParameter(OUTPUT_DIR_PROPERTY_NAME, tempDirectory.toString()) //
+					.configurationParameter("event.log.test.explicit", "value") //
+					.forExecution() //
+					.listeners(new EventLogGeneratingListener()) //
+					.build();
+			createLauncher(engine).execute(request);
+		}
+		finally {
+			System.clearProperty("event.log.test.secret");
+		}
+		try (var reader = EventLogReader.open(tempDirectory.resolve(FILE_NAME))) {
+			reader.replay(new TestExecutionListener() {
+				@Override
+				public void testPlanExecutionStarted(TestPlan testPlan) {
+					configurationParameters.set(testPlan.getConfigurationParameters());
+				}
+			});
+		}
+
+		assertThat(configurationParameters.get().get(ENABLED_PROPERTY_NAME)).contains("true");
+		assertThat(configurationParameters.get().get("event.log.test.explicit")).contains("value");
+		assertThat(configurationParameters.get().get("event.log.test.secret")).isEmpty();
+		assertThat(configurationParameters.get().get("java.home")).isEmpty();
+	}
+
+	@Test
+	void doesNotDeserializeClassesThatAreNotAllowed() throws Exception {
+		var engine = new DemoHierarchicalTestEngine("dummy");
+		engine.addTest("test", () -> {
+			throw new PayloadException(new AtomicLong(42));
+		});
+
+		executeTests(engine, new RecordingListener());
+
+		assertThat(replay()).contains("executionFinished [engine:dummy]/[test:test] FAILED JUnitException: "
+				+ "Failed to deserialize recorded throwable");
+	}
+
+	@Test
+	void reportsLengthsExceedingRemainingBytesOfEventLog() throws Exception {
+		var eventLog = tempDirectory.resolve(FILE_NAME);
+		try (var out = Files.newOutputStream(eventLog)) {
+			out.write(EventLogFormat.MAGIC);
+			out.write(new byte[] { EventLogFormat.VERSION, 0, 0 }); // version and start
+			out.write(new byte[] { EventLogFormat.TEST_PLAN_EXECUTION_STARTED, 0, 1 }); // tag, time, containsTests
+			out.write(new byte[] { (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07 }); // length of outputDir
+		}
+
+		try (var reader = EventLogReader.open(eventLog)) {
+			assertThatThrownBy(() -> reader.replay(new TestExecutionListener() {
+			})) //
+					.isInstanceOf(IOException.class) //
+					.hasMessageContaining("Invalid length 2147483647");
+		}
+	}
+
+	@Test
+	void reportsInvalidTestDescriptorTypes() throws Exception {
+		var out = startTestPlan(1);
+		writeIdentifierUpToType(out, EventLogFormat.NO_PARENT, 0, "dummy");
+		out.write(42);
+
+		assertReplayFails(out, "Invalid test descriptor type 42");
+	}
+
+	@Test
+	void reportsInvalidParentReferences() throws Exception {
+		var out = startTestPlan(1);
+		out.write(EventLogFormat.FIRST_PARENT_INDEX);
+
+		assertReplayFails(out, "Invalid parent reference " + EventLogFormat.FIRST_PARENT_INDEX);
+	}
+
+	@Test
+	void reportsNumbersOfSharedSegmentsExceedingSegmentsOfParent() throws Exception {
+		var out = startTestPlan(2);
+		writeIdentifier(out, EventLogFormat.NO_PARENT, 0, "dummy");
+		out.write(EventLogFormat.FIRST_PARENT_INDEX);
+		out.write(2);
+
+		assertReplayFails(out, "Invalid number of shared segments 2");
+	}
+
+	@Test
+	void reportsInvalidTestIdentifierReferences() throws Exception {
+		var out = startTestPlan(1);
+		writeIdentifier(out, EventLogFormat.NO_PARENT, 0, "dummy");
+		out.write(new byte[] { EventLogFormat.EXECUTION_STARTED, 0, 2 }); // tag, time, reference
+
+		assertReplayFails(out, "Invalid test identifier reference 2");
+	}
+
+	@Test
+	void reportsInvalidTestExecutionResultStatuses() throws Exception {
+		var out = startTestPlan(1);
+		writeIdentifier(out, EventLogFormat.NO_PARENT, 0, "dummy");
+		out.write(new byte[] { EventLogFormat.EXECUTION_FINISHED, 0, 1, 3 }); // tag, time, reference, status
+
+		assertReplayFails(out, "Invalid test execution result status 3");
+	}
+
+	@Test
+	void providesClockThatReflectsRecordedTimestamps() throws Exception {
+		var engine = new DemoHierarchicalTestEngine("dummy");
+		engine.addTest("test", () -> {
+		});
+
+		var instants = new ArrayList<Instant>();
+		var clock = new Clock() {
+
+			@Override
+			public ZoneId getZone() {
+				return ZoneOffset.UTC;
+			}
+
+			@Override
+			public Clock withZone(ZoneId zone) {
+				return this;
+			}
+
+			@Override
+			public Instant instant() {
+				var instant = Instant.parse("2025-01-01T00:00:00Z").plusSeconds(instants.size());
+				instants.add(instant);
+				return instant;
+			}
+		};
+
+		var request = request() //
+				.selectors(selectUniqueId(UniqueId.forEngine(engine.getId()))) //
+				.enableImplicitConfigurationParameters(false) //
+				.configurationParameter(ENABLED_PROPERTY_NAME, "true") //
+				.configurationParameter(OUTPUT_DIR_PROPERTY_NAME, tempDirectory.toString()) //
+				.forExecution() //
+				.listeners(new EventLogGeneratingListener(clock)) //
+				.build();
+		createLauncher(engine).execute(request);
+
+		var replayedInstants = new ArrayList<Instant>();
+		try (var reader = EventLogReader.open(tempDirectory.resolve(FILE_NAME))) {
+			reader.replay(new TestExecutionListener() {
+				@Override
+				public void executionStarted(TestIdentifier testIdentifier) {
+					replayedInstants.add(reader.getClock().instant());
+				}
+
+				@Override
+				public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult result) {
+					replayedInstants.add(reader.getClock().instant());
+				}
+			});
+		}
+
+		// The first instant is the start of the test plan execution
+		assertThat(replayedInstants).isEqualTo(instants.subList(1, instants.size() - 1));
+	}
+
+	private void executeTests(DemoHierarchicalTestEngine engine, TestExecutionListener listener) {
+		var request = request() //
+				.selectors(selectUniqueId(UniqueId.forEngine(engine.getId()))) //
+				.enableImplicitConfigurationParameters(false) //
+				.configurationParameter(ENABLED_PROPERTY_NAME, "true") //
+				.configurationParameter(OUTPUT_DIR_PROPERTY_NAME, tempDirectory.toString()) //
+				.forExecution() //
+				.listeners(new EventLogGeneratingListener(), listener) //
+				.build();
+		createLauncher(engine).execute(request);
+	}
+
+	/**
+	 * Start an event log with a test plan that contains the supplied number
+	 * of test identifiers.
+	 */
+	private static ByteArrayOutputStream startTestPlan(int identifierCount) throws IOException {
+		var out = new ByteArrayOutputStream();
+		out.write(EventLogFormat.MAGIC);
+		out.write(new byte[] { EventLogFormat.VERSION, 0, 0 }); // version and start
+		out.write(new byte[] { EventLogFormat.TEST_PLAN_EXECUTION_STARTED, 0, 1 }); // tag, time, containsTests
+		out.write(new byte[] { 0, 0 }); // outputDir and configuration parameters
+		out.write(identifierCount);
+		return out;
+	}
+
+	private static void writeIdentifier(ByteArrayOutputStream out, int parentReference, int sharedSegments,
+			String engineId) throws IOException {
+		writeIdentifierUpToType(out, parentReference, sharedSegments, engineId);
+		out.write(TestDescriptor.Type.CONTAINER.ordinal());
+		writeString(out, engineId); // display name
+		out.write(new byte[] { 1, 0, 0 }); // legacy reporting name, tags, and source
+	}
+
+	private static void writeIdentifierUpToType(ByteArrayOutputStream out, int parentReference, int sharedSegments,
+			String engineId) throws IOException {
+		out.write(new byte[] { (byte) parentReference, (byte) sharedSegments, 1 }); // number of segments
+		out.write(0); // new interned string
+		writeString(out, "engine");
+		out.write(0); // new interned string
+		writeString(out, engineId);
+	}
+
+	private static void writeString(ByteArrayOutputStream out, String value) throws IOException {
+		var bytes = value.getBytes(UTF_8);
+		out.write(bytes.length);
+		out.write(bytes);
+	}
+
+	/**
+	 * Assert that replaying the supplied event log fails due to the value
+	 * encoded by its last byte.
+	 */
+	private void assertReplayFails(ByteArrayOutputStream out, String message) throws IOException {
+		var eventLog = Files.write(tempDirectory.resolve(FILE_NAME), out.toByteArray());
+
+		try (var reader = EventLogReader.open(eventLog)) {
+			assertThatThrownBy(() -> reader.replay(new TestExecutionListener() {
+			})) //
+					.isInstanceOf(IOException.class) //
+					.hasMessage(message + " at byte offset " + (out.size() - 1) + " of event log");
+		}
+	}
+
+	private List<String> replay() throws IOException {
+		var replayingListener = new RecordingListener();
+		try (var reader = EventLogReader.open(tempDirectory.resolve(FILE_NAME))) {
+			reader.replay(replayingListener);
+		}
+		return replayingListener.events;
+	}
+
+	@SuppressWarnings("unused")
+	private static class PayloadException extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		private final Serializable payload;
+
+		PayloadException(Serializable payload) {
+			super("payload");
+			this.payload = payload;
+		}
+	}
+
+	private static class RecordingListener implements TestExecutionListener {
+
+		final List<String> events = new ArrayList<>();
+
+		@Override
+		public void testPlanExecutionStarted(TestPlan testPlan) {
+			events.add("testPlanExecutionStarted " + testPlan.getRoots().size() + " "
+					+ testPlan.getConfigurationParameters().get(ENABLED_PROPERTY_NAME).orElse(null));
+		}
+
+		@Override
+		public void testPlanExecutionFinished(TestPlan testPlan) {
+			events.add("testPlanExecutionFinished");
+		}
+
+		@Override
+		public void executionStarted(TestIdentifier testIdentifier) {
+			events.add("executionStarted " + describe(testIdentifier));
+		}
+
+		@Override
+		public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult result) {
+			events.add("executionFinished " + testIdentifier.getUniqueIdObject() + " " + result.getStatus()
+					+ result.getThrowable().map(t -> " " + t.getClass().getSimpleName() + ": " + t.getMessage()) //
+							.orElse(""));
+		}
+
+		@Override
+		public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+			events.add("reportingEntryPublished " + testIdentifier.getUniqueIdObject() + " " + entry.getKeyValuePairs());
+		}
+
+		private String describe(TestIdentifier testIdentifier) {
+			return testIdentifier.getUniqueIdObject() + " " + testIdentifier.getDisplayName()
+					+ testIdentifier.getSource().map(source -> " " + source.getClass().getSimpleName()).orElse("");
+		}
+	}
+
+}
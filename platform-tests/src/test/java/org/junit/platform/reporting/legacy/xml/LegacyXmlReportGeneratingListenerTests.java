@@ -22,6 +22,7 @@ import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposes
 import static org.junit.platform.launcher.core.OutputDirectoryProviders.dummyOutputDirectoryProvider;
 import static org.junit.platform.reporting.legacy.xml.XmlReportAssertions.assertValidAccordingToJenkinsSchema;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import java.io.File;
 import java.io.PrintWriter;
@@ -38,12 +39,15 @@ import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 import org.joox.Match;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.TestEngine;
+import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.reporting.ReportEntry;
 import org.junit.platform.engine.support.descriptor.EngineDescriptor;
@@ -423,17 +427,90 @@ class LegacyXmlReportGeneratingListenerTests {
 					"Report Entry #2 (timestamp: " + Year.now(), "- bar: baz\n", "- qux: foo\n");
 	}
 
+	@Test
+	void writesTestcasesOfChildrenOfRootToTemporaryFileWhenStreamingIsEnabled() throws Exception {
+		var engine = new DemoHierarchicalTestEngine("dummy");
+		engine.addTest("succeedingTest", () -> {
+		});
+		engine.addTest("failingTest", () -> fail("expected to fail"));
+		var container = engine.addChild("failingContainer",
+			uniqueId -> new DemoHierarchicalContainerDescriptor(uniqueId, "failingContainer", null, null) {
+				@Override
+				public void after(DemoEngineExecutionContext context) {
+					throw new RuntimeException("boom");
+				}
+			}, "child");
+		container.addChild(new DemoHierarchicalTestDescriptor(container.getUniqueId().append("test", "someTest"),
+			"someTest", (c, t) -> {
+			}));
+
+		executeTests(engine, Clock.systemDefaultZone(),
+			Map.of(LegacyXmlReportGeneratingListener.STREAMING_ENABLED_PROPERTY_NAME, "true"));
+
+		var testsuite = readValidXmlFile(tempDirectory.resolve("TEST-dummy.xml"));
+
+		assertThat(testsuite.attr("tests", int.class)).isEqualTo(3);
+		assertThat(testsuite.attr("skipped", int.class)).isEqualTo(0);
+		assertThat(testsuite.attr("failures", int.class)).isEqualTo(1);
+		assertThat(testsuite.attr("errors", int.class)).isEqualTo(1);
+		assertThat(testsuite.children("testcase").attrs("name")) //
+				.containsExactlyInAnyOrder("succeedingTest", "failingTest", "someTest");
+		assertThat(testsuite.find("error").attr("message")).isEqualTo("boom");
+		assertThat(testsuite.child("system-out").text()) //
+				.containsSubsequence("unique-id: [engine:dummy]", "display-name: dummy");
+
+		try (var files = Files.list(tempDirectory)) {
+			assertThat(files).containsExactly(tempDirectory.resolve("TEST-dummy.xml"));
+		}
+	}
+
+	@Test
+	void writesSeparateTestcaseForRootFailingAfterItsChildrenWhenStreamingIsEnabled() throws Exception {
+		var engineDescriptor = new EngineDescriptor(UniqueId.forEngine("engine"), "Engine");
+		var childUniqueId = UniqueId.root("child", "test");
+		engineDescriptor.addChild(new TestDescriptorStub(childUniqueId, "test"));
+		ConfigurationParameters configurationParameters = mock();
+		when(configurationParameters.getBoolean(LegacyXmlReportGeneratingListener.STREAMING_ENABLED_PROPERTY_NAME)) //
+				.thenReturn(Optional.of(true));
+		var testPlan = TestPlan.from(true, Set.of(engineDescriptor), configurationParameters,
+			dummyOutputDirectoryProvider());
+
+		var listener = new LegacyXmlReportGeneratingListener(tempDirectory, new PrintWriter(new StringWriter()));
+
+		listener.testPlanExecutionStarted(testPlan);
+		var engineIdentifier = testPlan.getTestIdentifier(engineDescriptor.getUniqueId());
+		var testIdentifier = testPlan.getTestIdentifier(childUniqueId);
+		listener.executionStarted(engineIdentifier);
+		listener.executionStarted(testIdentifier);
+		listener.executionFinished(testIdentifier, successful());
+		listener.executionFinished(engineIdentifier, TestExecutionResult.failed(new RuntimeException("boom")));
+		listener.testPlanExecutionFinished(testPlan);
+
+		var testsuite = readValidXmlFile(tempDirectory.resolve("TEST-engine.xml"));
+
+		assertThat(testsuite.attr("tests", int.class)).isEqualTo(2);
+		assertThat(testsuite.attr("errors", int.class)).isEqualTo(1);
+		assertThat(testsuite.children("testcase").attrs("name")).containsExactly("test", "Engine");
+		assertThat(testsuite.children("testcase").eq(0).find("error")).isEmpty();
+		assertThat(testsuite.children("testcase").eq(1).child("error").attr("message")).isEqualTo("boom");
+	}
+
 	private void executeTests(TestEngine engine) {
 		executeTests(engine, Clock.systemDefaultZone());
 	}
 
 	private void executeTests(TestEngine engine, Clock clock) {
+		executeTests(engine, clock, Map.of());
+	}
+
+	private void executeTests(TestEngine engine, Clock clock, Map<String, String> configurationParameters) {
 		var out = new PrintWriter(new StringWriter());
 		var reportListener = new LegacyXmlReportGeneratingListener(tempDirectory.toString(), out, clock);
 		var launcher = createLauncher(engine);
 		launcher.registerTestExecutionListeners(reportListener);
 		var request = request() //
 				.configurationParameter(LauncherConstants.STACKTRACE_PRUNING_ENABLED_PROPERTY_NAME, "false") //
+				.configurationParameters(configurationParameters) //
 				.selectors(selectUniqueId(UniqueId.forEngine(engine.getId()))) //
 				.forExecution() //
 				.build();
@@ -22,6 +22,8 @@ import static org.junit.platform.launcher.LauncherConstants.OUTPUT_DIR_PROPERTY_
 import static org.junit.platform.launcher.LauncherConstants.OUTPUT_DIR_UNIQUE_NUMBER_PLACEHOLDER;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
 import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly.createLauncher;
+import static org.junit.platform.reporting.open.xml.OpenTestReportGeneratingListener.ASYNC_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.reporting.open.xml.OpenTestReportGeneratingListener.ASYNC_QUEUE_SIZE_PROPERTY_NAME;
 import static org.junit.platform.reporting.open.xml.OpenTestReportGeneratingListener.ENABLED_PROPERTY_NAME;
 import static org.junit.platform.reporting.open.xml.OpenTestReportGeneratingListener.GIT_ENABLED_PROPERTY_NAME;
 import static org.junit.platform.reporting.testutil.FileUtils.findPath;
@@ -177,6 +179,34 @@ public class OpenTestReportGeneratingListenerTests {
 				.areIdentical();
 	}
 
+	@Test
+	void writesValidXmlReportInBackgroundWhenAsyncIsEnabled(@TempDir Path tempDirectory) throws Exception {
+		var engine = new DemoHierarchicalTestEngine("dummy");
+		for (int i = 0; i < 10; i++) {
+			engine.addTest("test" + i, (context, descriptor) -> context.request().getEngineExecutionListener() //
+					.reportingEntryPublished(descriptor, ReportEntry.from("thread", Thread.currentThread().getName())));
+		}
+
+		executeTests(tempDirectory, engine, tempDirectory.resolve("junit-reports"),
+			Map.of(ASYNC_ENABLED_PROPERTY_NAME, "true", ASYNC_QUEUE_SIZE_PROPERTY_NAME, "1"));
+
+		var xmlFile = findPath(tempDirectory, "glob:**/open-test-report.xml");
+		assertThat(validate(xmlFile)).isEmpty();
+
+		assertThatXml(xmlFile) //
+				.valueByXPath("count(/e:events/e:started)") //
+				.asInt().isEqualTo(11);
+		assertThatXml(xmlFile) //
+				.valueByXPath("count(/e:events/e:reported)") //
+				.asInt().isEqualTo(10);
+		assertThatXml(xmlFile) //
+				.valueByXPath("count(/e:events/e:finished/core:result[@status='SUCCESSFUL'])") //
+				.asInt().isEqualTo(11);
+		assertThatXml(xmlFile) //
+				.valueByXPath("/e:events/e:started[2]/@parentId") //
+				.isEqualTo("1");
+	}
+
 	@ParameterizedTest
 	@ValueSource(strings = { "https://github.com/junit-team/junit-framework.git",
 			"git@github.com:junit-team/junit-framework.git" })